@@ -52,6 +52,7 @@ public enum Capability {
     HIBERNATE_ORM,
     HIBERNATE_REACTIVE,
     HIBERNATE_VALIDATOR,
+    INFINISPAN_CLIENT,
     /**
      * Presence of an io.opentracing tracer (for example, Jaeger).
      */
@@ -61,7 +62,11 @@ public enum Capability {
      */
     SMALLRYE_OPENTRACING,
     SPRING_WEB,
-    SMALLRYE_OPENAPI;
+    SMALLRYE_OPENAPI,
+    /**
+     * The HTTP server of Vert.x, serving the routes of the application.
+     */
+    VERTX_HTTP;
 
     /**
      *
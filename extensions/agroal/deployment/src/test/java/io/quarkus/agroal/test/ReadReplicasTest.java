@@ -0,0 +1,105 @@
+package io.quarkus.agroal.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.agroal.ReadOnly;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.agroal.runtime.ReadReplicas;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicasTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(UrlService.class))
+            .withConfigurationResource("application-read-replicas.properties");
+
+    @Inject
+    UrlService urlService;
+
+    @Test
+    public void testReadOnlyWorkIsBalancedOnReplicas() throws SQLException {
+        Set<String> urls = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            urls.add(urlService.readOnlyUrl(DataSourceUtil.DEFAULT_DATASOURCE_NAME));
+        }
+        assertEquals(2, urls.size());
+        assertTrue(urls.stream().allMatch(url -> url.contains("mem:replica")), urls::toString);
+    }
+
+    @Test
+    public void testReadOnlyTransaction() throws SQLException {
+        assertTrue(urlService.readOnlyTransactionUrl().contains("mem:replica"));
+    }
+
+    @Test
+    public void testOtherWorkUsesPrimary() throws SQLException {
+        assertTrue(urlService.url(DataSourceUtil.DEFAULT_DATASOURCE_NAME).contains("mem:primary"));
+        // a transaction started outside of the read-only work may already use the primary datasource
+        assertTrue(urlService.readOnlyInTransactionUrl().contains("mem:primary"));
+    }
+
+    @Test
+    public void testLaggingReplicaFailsOver() throws SQLException {
+        // the replicas are checked in the background
+        ReadReplicas.Replica replica = DataSources.readReplicasFromName("lagging").getReplicas().get(0);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !replica.isHealthy());
+        assertTrue(replica.getStatus().contains("lagging"), replica.getStatus());
+
+        assertTrue(urlService.readOnlyUrl("lagging").contains("mem:lagging-primary"));
+    }
+
+    @Test
+    public void testNoReplicas() {
+        assertNull(DataSources.readReplicasFromName("unknown-replicas"));
+    }
+
+    @ApplicationScoped
+    public static class UrlService {
+
+        @Inject
+        UrlService self;
+
+        public String url(String dataSourceName) throws SQLException {
+            try (Connection connection = DataSources.readReplicasFromName(dataSourceName).getConnection()) {
+                return connection.getMetaData().getURL();
+            }
+        }
+
+        @ReadOnly
+        public String readOnlyUrl(String dataSourceName) throws SQLException {
+            return url(dataSourceName);
+        }
+
+        @ReadOnly
+        @Transactional
+        public String readOnlyTransactionUrl() throws SQLException {
+            return url(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        }
+
+        @Transactional
+        public String readOnlyInTransactionUrl() throws SQLException {
+            return self.readOnlyUrl(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        }
+    }
+}
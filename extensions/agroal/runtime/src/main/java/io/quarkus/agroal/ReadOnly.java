@@ -0,0 +1,31 @@
+package io.quarkus.agroal;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Marks a method, or all the methods of a bean, as only reading from the datasources.
+ * <p>
+ * The connections obtained by Hibernate ORM during the execution of such a method are taken from the read replicas of
+ * the datasource, if it has replicas configured with {@code quarkus.datasource.jdbc.replicas.urls}.
+ * <p>
+ * The read-only work must not be part of a transaction which already writes to the primary datasource: when a
+ * transaction is already active on entering the method, the connections keep being taken from the primary datasource.
+ * A read-only method which needs a transaction can be annotated with {@code @Transactional} too, the transaction being
+ * started after entering the read-only work.
+ */
+@Inherited
+@InterceptorBinding
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+@Documented
+public @interface ReadOnly {
+}
@@ -0,0 +1,43 @@
+package io.quarkus.agroal.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class DataSourceJdbcReplicasRuntimeConfig {
+
+    /**
+     * The URLs of the read replicas of the datasource.
+     * <p>
+     * The work done in a {@link io.quarkus.agroal.ReadOnly} method is routed to these replicas, balanced in a round-robin
+     * fashion, and falls back to the primary datasource when no replica is healthy.
+     * Each replica has its own pool, configured like the pool of the primary datasource.
+     */
+    @ConfigItem
+    public Optional<List<String>> urls = Optional.empty();
+
+    /**
+     * Query returning the replication lag of a replica, in seconds,
+     * e.g. {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())} for PostgreSQL.
+     * <p>
+     * If not set, the replicas are only checked for their connectivity.
+     */
+    @ConfigItem
+    public Optional<String> lagQuerySql = Optional.empty();
+
+    /**
+     * The maximum replication lag of a replica, beyond which the replica is no longer used until it catches up.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * The interval at which the health and the lag of the replicas are checked.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration checkInterval = Duration.ofSeconds(10);
+}
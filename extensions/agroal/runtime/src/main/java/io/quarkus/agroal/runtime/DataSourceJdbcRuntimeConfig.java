@@ -103,4 +103,10 @@ public class DataSourceJdbcRuntimeConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean poolingEnabled = true;
+
+    /**
+     * The read replicas of the datasource.
+     */
+    @ConfigItem
+    public DataSourceJdbcReplicasRuntimeConfig replicas = new DataSourceJdbcReplicasRuntimeConfig();
 }
@@ -3,8 +3,11 @@ package io.quarkus.agroal.runtime;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -72,6 +75,7 @@ public class DataSources {
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<ReadReplicas>> readReplicas = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -105,6 +109,16 @@ public class DataSources {
                 .getDataSource(dataSourceName);
     }
 
+    /**
+     * Same as {@link #fromName(String)}, for the read replicas of the datasource.
+     *
+     * @return the read replicas of the datasource, or {@code null} if it has no replicas configured
+     */
+    public static ReadReplicas readReplicasFromName(String dataSourceName) {
+        return Arc.container().instance(DataSources.class).get()
+                .getReadReplicas(dataSourceName);
+    }
+
     public AgroalDataSource getDataSource(String dataSourceName) {
         return dataSources.computeIfAbsent(dataSourceName, new Function<String, AgroalDataSource>() {
             @Override
@@ -114,16 +128,24 @@ public class DataSources {
         });
     }
 
+    /**
+     * @return the read replicas of the datasource, or {@code null} if it has no replicas configured
+     */
+    public ReadReplicas getReadReplicas(String dataSourceName) {
+        return readReplicas.computeIfAbsent(dataSourceName, new Function<String, Optional<ReadReplicas>>() {
+            @Override
+            public Optional<ReadReplicas> apply(String s) {
+                return Optional.ofNullable(doCreateReadReplicas(s));
+            }
+        }).orElse(null);
+    }
+
     public AgroalDataSource doCreateDataSource(String dataSourceName) {
         if (!dataSourceSupport.entries.containsKey(dataSourceName)) {
             throw new IllegalArgumentException("No datasource named '" + dataSourceName + "' exists");
         }
 
-        DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig = getDataSourceJdbcBuildTimeConfig(dataSourceName);
-        DataSourceRuntimeConfig dataSourceRuntimeConfig = getDataSourceRuntimeConfig(dataSourceName);
         DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig = getDataSourceJdbcRuntimeConfig(dataSourceName);
-
-        DataSourceSupport.Entry matchingSupportEntry = dataSourceSupport.entries.get(dataSourceName);
         if (!dataSourceJdbcRuntimeConfig.url.isPresent()) {
             String errorMessage;
             // we don't have any URL configuration so using a standard message
@@ -135,6 +157,37 @@ public class DataSources {
             throw new ConfigurationException(errorMessage);
         }
 
+        return doCreateDataSource(dataSourceName, dataSourceJdbcRuntimeConfig.url.get());
+    }
+
+    private ReadReplicas doCreateReadReplicas(String dataSourceName) {
+        DataSourceJdbcReplicasRuntimeConfig replicasConfig = getDataSourceJdbcRuntimeConfig(dataSourceName).replicas;
+        if (!replicasConfig.urls.isPresent() || replicasConfig.urls.get().isEmpty()) {
+            return null;
+        }
+
+        AgroalDataSource primary = getDataSource(dataSourceName);
+
+        List<String> urls = replicasConfig.urls.get();
+        List<AgroalDataSource> replicaDataSources = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            replicaDataSources.add(doCreateDataSource(dataSourceName, url));
+        }
+        log.debugv("Datasource {0} has {1} read replica(s)", dataSourceName, urls.size());
+        return new ReadReplicas(dataSourceName, primary, ReadReplicas.replicas(urls, replicaDataSources), replicasConfig,
+                transactionManager);
+    }
+
+    /**
+     * Creates a pool for the datasource, connected to the given URL which is either the URL of the datasource or the URL
+     * of one of its read replicas.
+     */
+    private AgroalDataSource doCreateDataSource(String dataSourceName, String jdbcUrl) {
+        DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig = getDataSourceJdbcBuildTimeConfig(dataSourceName);
+        DataSourceRuntimeConfig dataSourceRuntimeConfig = getDataSourceRuntimeConfig(dataSourceName);
+        DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig = getDataSourceJdbcRuntimeConfig(dataSourceName);
+        DataSourceSupport.Entry matchingSupportEntry = dataSourceSupport.entries.get(dataSourceName);
+
         // we first make sure that all available JDBC drivers are loaded in the current TCCL
         loadDriversInTCCL();
 
@@ -164,7 +217,7 @@ public class DataSources {
                 .connectionFactoryConfiguration();
 
         boolean mpMetricsPresent = dataSourceSupport.mpMetricsPresent;
-        applyNewConfiguration(dataSourceConfiguration, poolConfiguration, connectionFactoryConfiguration, driver,
+        applyNewConfiguration(dataSourceConfiguration, poolConfiguration, connectionFactoryConfiguration, driver, jdbcUrl,
                 dataSourceJdbcBuildTimeConfig, dataSourceRuntimeConfig, dataSourceJdbcRuntimeConfig, mpMetricsPresent);
 
         if (dataSourceSupport.disableSslSupport) {
@@ -199,10 +252,10 @@ public class DataSources {
 
     private void applyNewConfiguration(AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
             AgroalConnectionPoolConfigurationSupplier poolConfiguration,
-            AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver,
+            AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver, String jdbcUrl,
             DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig, boolean mpMetricsPresent) {
-        connectionFactoryConfiguration.jdbcUrl(dataSourceJdbcRuntimeConfig.url.get());
+        connectionFactoryConfiguration.jdbcUrl(jdbcUrl);
         connectionFactoryConfiguration.connectionProviderClass(driver);
         connectionFactoryConfiguration.trackJdbcResources(dataSourceJdbcRuntimeConfig.detectStatementLeaks);
 
@@ -354,6 +407,9 @@ public class DataSources {
 
     @PreDestroy
     public void stop() {
+        for (Optional<ReadReplicas> replicas : readReplicas.values()) {
+            replicas.ifPresent(ReadReplicas::close);
+        }
         for (AgroalDataSource dataSource : dataSources.values()) {
             if (dataSource != null) {
                 dataSource.close();
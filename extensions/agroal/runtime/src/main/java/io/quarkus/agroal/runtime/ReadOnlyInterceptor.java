@@ -0,0 +1,53 @@
+package io.quarkus.agroal.runtime;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.transaction.Status;
+import javax.transaction.SystemException;
+import javax.transaction.TransactionManager;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.agroal.ReadOnly;
+
+/**
+ * Routes the connections obtained during a {@link ReadOnly} method to the read replicas, see {@link ReadReplicas}.
+ * <p>
+ * Runs before the transactional interceptors, so that a transaction started for the read-only method uses the replicas.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class ReadOnlyInterceptor {
+
+    private static final Logger log = Logger.getLogger(ReadOnlyInterceptor.class);
+
+    @Inject
+    TransactionManager transactionManager;
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        if (ReadReplicas.isReadOnly()) {
+            return context.proceed();
+        }
+        if (isTransactionActive()) {
+            // connections may already be enlisted from the primary datasource, mixing them with replicas would break the
+            // transaction
+            log.debugv("Not routing {0} to the read replicas as a transaction is already active", context.getMethod());
+            return context.proceed();
+        }
+        ReadReplicas.setReadOnly(true);
+        try {
+            return context.proceed();
+        } finally {
+            ReadReplicas.setReadOnly(false);
+        }
+    }
+
+    private boolean isTransactionActive() throws SystemException {
+        return transactionManager.getStatus() != Status.STATUS_NO_TRANSACTION;
+    }
+}
@@ -0,0 +1,243 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.InvalidTransactionException;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+
+/**
+ * The read replicas of a datasource.
+ * <p>
+ * Connections are taken from the replicas when the current thread executes a {@link io.quarkus.agroal.ReadOnly} method,
+ * and from the primary datasource otherwise.
+ * The replicas are used in a round-robin fashion, skipping the ones which failed their last check, and the primary
+ * datasource is used when no replica can provide a connection.
+ * <p>
+ * The replicas are checked once per check interval by a background thread, the threads asking for a connection using
+ * the outcome of the last check.
+ */
+public class ReadReplicas {
+
+    private static final Logger log = Logger.getLogger(ReadReplicas.class);
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    private final String dataSourceName;
+    private final AgroalDataSource primary;
+    private final List<Replica> replicas;
+    private final DataSourceJdbcReplicasRuntimeConfig config;
+    private final TransactionManager transactionManager;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker;
+
+    ReadReplicas(String dataSourceName, AgroalDataSource primary, List<Replica> replicas,
+            DataSourceJdbcReplicasRuntimeConfig config, TransactionManager transactionManager) {
+        this.dataSourceName = dataSourceName;
+        this.primary = primary;
+        this.replicas = replicas;
+        this.config = config;
+        this.transactionManager = transactionManager;
+        this.checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "agroal-read-replicas-check-" + dataSourceName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, config.checkInterval.toMillis());
+        checker.scheduleWithFixedDelay(this::scheduledCheck, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return whether the current thread executes a {@link io.quarkus.agroal.ReadOnly} method
+     */
+    public static boolean isReadOnly() {
+        return READ_ONLY.get() != null;
+    }
+
+    static void setReadOnly(boolean readOnly) {
+        if (readOnly) {
+            READ_ONLY.set(Boolean.TRUE);
+        } else {
+            READ_ONLY.remove();
+        }
+    }
+
+    /**
+     * @return a connection to a replica when the current thread executes a {@link io.quarkus.agroal.ReadOnly} method,
+     *         to the primary datasource otherwise
+     */
+    public Connection getConnection() throws SQLException {
+        if (!isReadOnly()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.down("Unable to get a connection: " + e.getMessage());
+                log.warnv("Unable to get a connection from the read replica {0} of datasource {1}, failing over: {2}",
+                        replica.url, dataSourceName, e.getMessage());
+            }
+        }
+        log.debugv("No healthy read replica for datasource {0}, using the primary datasource", dataSourceName);
+        return primary.getConnection();
+    }
+
+    public AgroalDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return Collections.unmodifiableList(replicas);
+    }
+
+    /**
+     * Checks the connectivity and the replication lag of all the replicas.
+     * <p>
+     * The current transaction, if any, is suspended during the check so that the connections used by the check are not
+     * enlisted in it.
+     */
+    public void check() {
+        Transaction suspended;
+        try {
+            suspended = transactionManager.suspend();
+        } catch (SystemException e) {
+            throw new IllegalStateException("Unable to suspend the current transaction to check the read replicas", e);
+        }
+        try {
+            for (Replica replica : replicas) {
+                replica.check(config);
+            }
+        } finally {
+            if (suspended != null) {
+                try {
+                    transactionManager.resume(suspended);
+                } catch (InvalidTransactionException | SystemException e) {
+                    throw new IllegalStateException("Unable to resume the transaction after checking the read replicas", e);
+                }
+            }
+        }
+    }
+
+    private void scheduledCheck() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            // an exception would cancel the next checks
+            log.warnv(e, "Unable to check the read replicas of datasource {0}", dataSourceName);
+        }
+    }
+
+    void close() {
+        checker.shutdownNow();
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    static List<Replica> replicas(List<String> urls, List<AgroalDataSource> dataSources) {
+        List<Replica> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.add(new Replica(urls.get(i), dataSources.get(i)));
+        }
+        return replicas;
+    }
+
+    public static final class Replica {
+
+        private final String url;
+        private final AgroalDataSource dataSource;
+
+        private volatile boolean healthy = true;
+        private volatile String status = "not checked yet";
+
+        Replica(String url, AgroalDataSource dataSource) {
+            this.url = url;
+            this.dataSource = dataSource;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public AgroalDataSource getDataSource() {
+            return dataSource;
+        }
+
+        /**
+         * @return whether the replica passed its last check
+         */
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * @return a description of the outcome of the last check
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        void check(DataSourceJdbcReplicasRuntimeConfig config) {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(0)) {
+                    down("validation check failed");
+                    return;
+                }
+                if (!config.lagQuerySql.isPresent()) {
+                    up("up");
+                    return;
+                }
+                try (Statement statement = connection.createStatement();
+                        ResultSet resultSet = statement.executeQuery(config.lagQuerySql.get())) {
+                    // no row, or a null lag, usually means that the replica has nothing to replay
+                    double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                    if (lagSeconds * 1_000 > config.maxLag.toMillis()) {
+                        down("lagging by " + lagSeconds + "s");
+                    } else {
+                        up("up, lagging by " + lagSeconds + "s");
+                    }
+                }
+            } catch (SQLException e) {
+                down("Unable to execute the check: " + e.getMessage());
+            }
+        }
+
+        private void up(String status) {
+            if (!healthy) {
+                log.infov("Read replica {0} is back: {1}", url, status);
+            }
+            this.status = status;
+            this.healthy = true;
+        }
+
+        private void down(String status) {
+            if (healthy) {
+                log.warnv("Read replica {0} is no longer used: {1}", url, status);
+            }
+            this.status = status;
+            this.healthy = false;
+        }
+    }
+}
@@ -16,13 +16,17 @@ import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Readiness;
 
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.agroal.runtime.ReadReplicas;
 import io.quarkus.arc.Arc;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
 
 @Readiness
 @ApplicationScoped
 public class DataSourceHealthCheck implements HealthCheck {
     private static final String DEFAULT_DS = "__default__";
     private final Map<String, DataSource> dataSources = new HashMap<>();
+    private final Map<String, ReadReplicas> readReplicas = new HashMap<>();
 
     @PostConstruct
     protected void init() {
@@ -32,13 +36,22 @@ public class DataSourceHealthCheck implements HealthCheck {
                 // this is the default DataSource: retrieve it by type
                 DataSource defaultDs = Arc.container().instance(DataSource.class).get();
                 dataSources.put(DEFAULT_DS, defaultDs);
+                addReadReplicas(DEFAULT_DS, DataSourceUtil.DEFAULT_DATASOURCE_NAME);
             } else {
                 DataSource ds = (DataSource) Arc.container().instance(bean.getName()).get();
                 dataSources.put(bean.getName(), ds);
+                addReadReplicas(bean.getName(), bean.getName());
             }
         }
     }
 
+    private void addReadReplicas(String key, String dataSourceName) {
+        ReadReplicas replicas = DataSources.readReplicasFromName(dataSourceName);
+        if (replicas != null) {
+            readReplicas.put(key, replicas);
+        }
+    }
+
     @Override
     public HealthCheckResponse call() {
         HealthCheckResponseBuilder builder = HealthCheckResponse.named("Database connections health check").up();
@@ -59,6 +72,14 @@ public class DataSourceHealthCheck implements HealthCheck {
                 builder.down().withData(dsName, data + e.getMessage());
             }
         }
+        // the read-only work fails over to the primary datasource, so unhealthy replicas are reported without being fatal
+        for (Map.Entry<String, ReadReplicas> replicas : readReplicas.entrySet()) {
+            String dsName = DEFAULT_DS.equals(replicas.getKey()) ? "default" : replicas.getKey();
+            replicas.getValue().check();
+            for (ReadReplicas.Replica replica : replicas.getValue().getReplicas()) {
+                builder.withData(dsName + " read replica " + replica.getUrl(), replica.getStatus());
+            }
+        }
         return builder.build();
     }
 }
@@ -12,4 +12,10 @@ public class ArtemisBuildTimeConfig {
      */
     @ConfigItem(name = "health.enabled", defaultValue = "true")
     public boolean healthEnabled;
+
+    /**
+     * Whether or not the sends of the `ArtemisSender` are measured in case the micrometer extension is present
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "true")
+    public boolean metricsEnabled;
 }
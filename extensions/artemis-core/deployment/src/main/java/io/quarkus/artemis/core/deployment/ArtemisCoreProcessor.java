@@ -19,6 +19,7 @@ import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.artemis.core.runtime.ArtemisCoreProducer;
 import io.quarkus.artemis.core.runtime.ArtemisCoreRecorder;
 import io.quarkus.artemis.core.runtime.ArtemisRuntimeConfig;
+import io.quarkus.artemis.core.runtime.sender.ArtemisSender;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -28,6 +29,8 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 
 public class ArtemisCoreProcessor {
@@ -113,4 +116,20 @@ public class ArtemisCoreProcessor {
         recorder.setConfig(runtimeConfig, beanContainer.getValue());
         return new ArtemisCoreConfiguredBuildItem();
     }
+
+    @BuildStep
+    AdditionalBeanBuildItem sender() {
+        // also available along with JMS, which relies on the core client
+        return AdditionalBeanBuildItem.unremovableOf(ArtemisSender.class);
+    }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    void configureSender(ArtemisCoreRecorder recorder, ArtemisRuntimeConfig runtimeConfig,
+            ArtemisBuildTimeConfig buildConfig, BeanContainerBuildItem beanContainer,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        boolean micrometerMetrics = buildConfig.metricsEnabled && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+        recorder.configureSender(runtimeConfig, beanContainer.getValue(), micrometerMetrics);
+    }
 }
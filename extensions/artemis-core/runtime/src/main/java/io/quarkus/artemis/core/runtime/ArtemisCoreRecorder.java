@@ -1,6 +1,7 @@
 package io.quarkus.artemis.core.runtime;
 
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.artemis.core.runtime.sender.ArtemisSender;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -9,4 +10,15 @@ public class ArtemisCoreRecorder {
     public void setConfig(ArtemisRuntimeConfig config, BeanContainer container) {
         container.instance(ArtemisCoreProducer.class).setConfig(config);
     }
+
+    /**
+     * @param micrometerMetrics whether the sends are measured with Micrometer
+     */
+    public void configureSender(ArtemisRuntimeConfig config, BeanContainer container, boolean micrometerMetrics) {
+        ArtemisSender sender = container.instance(ArtemisSender.class);
+        sender.setConfig(config);
+        if (micrometerMetrics) {
+            sender.enableMicrometerMetrics();
+        }
+    }
 }
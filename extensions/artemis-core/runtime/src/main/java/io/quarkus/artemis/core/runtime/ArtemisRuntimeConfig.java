@@ -16,14 +16,20 @@ public class ArtemisRuntimeConfig {
     public String url;
 
     /**
-     * Username for authentication, only used with JMS
+     * Username for authentication, only used with JMS and by the `ArtemisSender`
      */
     @ConfigItem
     public Optional<String> username;
 
     /**
-     * Password for authentication, only used with JMS
+     * Password for authentication, only used with JMS and by the `ArtemisSender`
      */
     @ConfigItem
     public Optional<String> password;
+
+    /**
+     * The configuration of the `ArtemisSender`
+     */
+    @ConfigItem
+    public ArtemisSenderConfig sender;
 }
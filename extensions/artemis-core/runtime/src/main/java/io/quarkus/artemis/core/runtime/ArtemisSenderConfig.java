@@ -0,0 +1,56 @@
+package io.quarkus.artemis.core.runtime;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ArtemisSenderConfig {
+
+    /**
+     * The number of sessions sending the messages of the `ArtemisSender`, each with its own connection and thread.
+     * <p>
+     * The messages of an address are always sent by the same session, so that their order is kept, and the addresses
+     * are spread across the sessions.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int sessions;
+
+    /**
+     * The maximum number of messages sent by a session and not yet acknowledged by the broker.
+     * <p>
+     * Once reached, the session waits for acknowledgements before sending the next messages.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxInFlight;
+
+    /**
+     * The maximum number of messages waiting to be sent by a session, beyond which the sends are rejected.
+     */
+    @ConfigItem(defaultValue = "10000")
+    public int maxQueued;
+
+    /**
+     * The maximum number of messages sent in a transaction.
+     * <p>
+     * When set, the messages waiting to be sent by a session are sent in a transaction, which is committed once they
+     * have been sent, instead of being acknowledged one by one.
+     */
+    @ConfigItem
+    public OptionalInt transactionBatchSize;
+
+    /**
+     * The size in bytes of the window of the send acknowledgements, the broker acknowledging the sent messages once
+     * their size reaches it.
+     */
+    @ConfigItem(defaultValue = "1048576")
+    public int confirmationWindowSize;
+
+    /**
+     * The size in bytes of the credits of a session for an address, the broker granting new credits as it handles the
+     * messages. Defaults to the one of the Artemis client.
+     */
+    @ConfigItem
+    public OptionalInt producerWindowSize;
+}
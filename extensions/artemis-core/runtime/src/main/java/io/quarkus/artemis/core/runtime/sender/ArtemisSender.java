@@ -0,0 +1,154 @@
+package io.quarkus.artemis.core.runtime.sender;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+
+import io.quarkus.artemis.core.runtime.ArtemisRuntimeConfig;
+import io.quarkus.artemis.core.runtime.ArtemisSenderConfig;
+
+/**
+ * Sends durable messages without waiting for the broker, for high throughput producers.
+ * <p>
+ * The messages are queued and sent by a pool of sessions, each with its own connection and thread, the messages of an
+ * address being always sent by the same session so that their order is kept. A session sends the messages without
+ * blocking on the broker, up to {@code quarkus.artemis.sender.max-in-flight} messages not yet acknowledged, or in
+ * transactions of up to {@code quarkus.artemis.sender.transaction-batch-size} messages.
+ * <p>
+ * The returned stages are completed once the broker acknowledged the messages, on a thread of the Artemis client, so
+ * their callbacks must not block.
+ */
+@ApplicationScoped
+public class ArtemisSender {
+
+    private ArtemisRuntimeConfig config;
+    private SenderMetrics metrics = SenderMetrics.NONE;
+
+    private ServerLocator serverLocator;
+    private volatile SenderLane[] lanes;
+    private boolean closed;
+
+    /**
+     * Sends a durable message to an address
+     *
+     * @param initializer writes the body and the properties of the message
+     * @return a stage completed once the broker acknowledged the message, failed if it could not be sent
+     */
+    public CompletionStage<Void> send(String address, Consumer<ClientMessage> initializer) {
+        SenderLane[] current = lanes;
+        if (current == null) {
+            try {
+                current = start();
+            } catch (Exception e) {
+                CompletableFuture<Void> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+        }
+        return current[Math.floorMod(address.hashCode(), current.length)].send(address, initializer);
+    }
+
+    /**
+     * Sends a durable message with a string body to an address
+     *
+     * @return a stage completed once the broker acknowledged the message, failed if it could not be sent
+     */
+    public CompletionStage<Void> send(String address, String body) {
+        return send(address, new Consumer<ClientMessage>() {
+            @Override
+            public void accept(ClientMessage message) {
+                message.getBodyBuffer().writeString(body);
+            }
+        });
+    }
+
+    /**
+     * @return the number of messages sent and not yet acknowledged by the broker
+     */
+    public int getInFlight() {
+        int inFlight = 0;
+        SenderLane[] current = lanes;
+        if (current != null) {
+            for (SenderLane lane : current) {
+                inFlight += lane.getInFlight();
+            }
+        }
+        return inFlight;
+    }
+
+    /**
+     * @return the number of messages waiting to be sent
+     */
+    public int getQueued() {
+        int queued = 0;
+        SenderLane[] current = lanes;
+        if (current != null) {
+            for (SenderLane lane : current) {
+                queued += lane.getQueued();
+            }
+        }
+        return queued;
+    }
+
+    private synchronized SenderLane[] start() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("The Artemis sender is closed");
+        }
+        if (lanes != null) {
+            return lanes;
+        }
+        ArtemisSenderConfig senderConfig = config.sender;
+        serverLocator = ActiveMQClient.createServerLocator(config.url);
+        // the sends are acknowledged asynchronously instead
+        serverLocator.setBlockOnDurableSend(false);
+        serverLocator.setBlockOnNonDurableSend(false);
+        serverLocator.setConfirmationWindowSize(senderConfig.confirmationWindowSize);
+        if (senderConfig.producerWindowSize.isPresent()) {
+            serverLocator.setProducerWindowSize(senderConfig.producerWindowSize.getAsInt());
+        }
+        SenderLane[] started = new SenderLane[senderConfig.sessions];
+        for (int i = 0; i < started.length; i++) {
+            started[i] = new SenderLane(i, serverLocator, config, metrics);
+            started[i].start();
+        }
+        lanes = started;
+        return started;
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        closed = true;
+        if (lanes != null) {
+            for (SenderLane lane : lanes) {
+                lane.close();
+            }
+            lanes = null;
+        }
+        if (serverLocator != null) {
+            serverLocator.close();
+            serverLocator = null;
+        }
+    }
+
+    public ArtemisRuntimeConfig getConfig() {
+        return config;
+    }
+
+    public void setConfig(ArtemisRuntimeConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Measures the sends with Micrometer
+     */
+    public void enableMicrometerMetrics() {
+        this.metrics = new SenderMicrometerMetrics(this);
+    }
+}
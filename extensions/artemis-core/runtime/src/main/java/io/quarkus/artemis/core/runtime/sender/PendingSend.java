@@ -0,0 +1,50 @@
+package io.quarkus.artemis.core.runtime.sender;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.SendAcknowledgementHandler;
+
+/**
+ * A message waiting to be sent, then to be acknowledged by the broker.
+ */
+final class PendingSend implements SendAcknowledgementHandler {
+
+    final String address;
+    final Consumer<ClientMessage> initializer;
+    final long queuedAt = System.nanoTime();
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private final SenderLane lane;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    PendingSend(SenderLane lane, String address, Consumer<ClientMessage> initializer) {
+        this.lane = lane;
+        this.address = address;
+        this.initializer = initializer;
+    }
+
+    @Override
+    public void sendAcknowledged(Message message) {
+        complete(null);
+    }
+
+    @Override
+    public void sendFailed(Message message, Exception e) {
+        complete(e);
+    }
+
+    /**
+     * Completes the send, once, as a connection failure may fail sends whose acknowledgement arrives later
+     *
+     * @param failure the failure, {@code null} if the broker acknowledged the message
+     */
+    void complete(Throwable failure) {
+        if (completed.compareAndSet(false, true)) {
+            lane.completed(this, failure);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package io.quarkus.artemis.core.runtime.sender;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.api.core.client.SessionFailureListener;
+import org.jboss.logging.Logger;
+
+import io.quarkus.artemis.core.runtime.ArtemisRuntimeConfig;
+
+/**
+ * A session of the sender, with its own connection and thread, which is the only one using the session.
+ * <p>
+ * Without transactions, the messages are sent one by one without blocking, the session waiting once the maximum of
+ * messages in flight is reached. With transactions, the messages queued meanwhile are sent in a transaction, the
+ * session waiting for its commit before sending the next ones.
+ * <p>
+ * The session is created on the first send, and created again on the next send after a failure.
+ */
+final class SenderLane implements Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(SenderLane.class);
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final ServerLocator serverLocator;
+    private final ArtemisRuntimeConfig config;
+    private final SenderMetrics metrics;
+    private final int maxInFlight;
+    private final int transactionBatchSize;
+
+    private final BlockingQueue<PendingSend> queue;
+    private final Semaphore window;
+    private final Set<PendingSend> inFlight = ConcurrentHashMap.newKeySet();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    // only accessed by the thread of the lane
+    private ClientSessionFactory sessionFactory;
+    private ClientSession session;
+    private final Map<String, ClientProducer> producers = new HashMap<>();
+
+    SenderLane(int index, ServerLocator serverLocator, ArtemisRuntimeConfig config, SenderMetrics metrics) {
+        this.serverLocator = serverLocator;
+        this.config = config;
+        this.metrics = metrics;
+        this.maxInFlight = config.sender.maxInFlight;
+        this.transactionBatchSize = config.sender.transactionBatchSize.orElse(0);
+        this.queue = new LinkedBlockingQueue<>(config.sender.maxQueued);
+        this.window = new Semaphore(maxInFlight);
+        this.thread = new Thread(this, "artemis-sender-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    CompletionStage<Void> send(String address, Consumer<ClientMessage> initializer) {
+        PendingSend send = new PendingSend(this, address, initializer);
+        if (closed) {
+            send.result.completeExceptionally(new IllegalStateException("The Artemis sender is closed"));
+        } else if (!queue.offer(send)) {
+            send.result.completeExceptionally(new RejectedExecutionException(
+                    "Unable to send the message to " + address + ", " + queue.size() + " messages are already queued"));
+        } else if (closed && queue.remove(send)) {
+            // closed meanwhile, the thread of the lane may no longer take the queued messages
+            send.complete(new IllegalStateException("The Artemis sender is closed"));
+        }
+        return send.result;
+    }
+
+    int getInFlight() {
+        return inFlight.size();
+    }
+
+    int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public void run() {
+        List<PendingSend> batch = new ArrayList<>(Math.max(transactionBatchSize, 1));
+        while (!closed || !queue.isEmpty()) {
+            PendingSend first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            try {
+                openSession();
+                if (transactionBatchSize > 0) {
+                    queue.drainTo(batch, transactionBatchSize - 1);
+                    sendTransaction(batch);
+                } else {
+                    sendAsync(first);
+                }
+            } catch (ActiveMQException e) {
+                LOGGER.warnf(e, "Unable to send %d messages to Artemis", batch.size());
+                for (PendingSend send : batch) {
+                    send.complete(e);
+                }
+                closeSession();
+            } catch (InterruptedException e) {
+                for (PendingSend send : batch) {
+                    send.complete(e);
+                }
+                break;
+            }
+            batch.clear();
+        }
+        awaitInFlight();
+        closeSession();
+        failQueued();
+    }
+
+    private void sendAsync(PendingSend send) throws ActiveMQException, InterruptedException {
+        if (!window.tryAcquire()) {
+            long start = System.nanoTime();
+            window.acquire();
+            metrics.waitedForWindow(send.address, System.nanoTime() - start);
+        }
+        ClientMessage message = createMessage(send);
+        if (message == null) {
+            window.release();
+            return;
+        }
+        inFlight.add(send);
+        try {
+            produce(send.address, message, send);
+        } catch (ActiveMQException e) {
+            // completes the send and releases the window
+            send.complete(e);
+            throw e;
+        }
+    }
+
+    private void sendTransaction(List<PendingSend> batch) throws ActiveMQException {
+        List<PendingSend> sent = new ArrayList<>(batch.size());
+        try {
+            for (PendingSend send : batch) {
+                ClientMessage message = createMessage(send);
+                if (message != null) {
+                    produce(send.address, message, null);
+                    sent.add(send);
+                }
+            }
+            session.commit();
+        } catch (ActiveMQException e) {
+            try {
+                session.rollback();
+            } catch (ActiveMQException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            throw e;
+        }
+        for (PendingSend send : sent) {
+            send.complete(null);
+        }
+    }
+
+    /**
+     * @return the message, {@code null} if the initializer failed, the send being then completed
+     */
+    private ClientMessage createMessage(PendingSend send) {
+        ClientMessage message = session.createMessage(true);
+        try {
+            send.initializer.accept(message);
+            return message;
+        } catch (Throwable t) {
+            send.complete(t);
+            return null;
+        }
+    }
+
+    private void produce(String address, ClientMessage message, PendingSend handler) throws ActiveMQException {
+        ClientProducer producer = producers.get(address);
+        if (producer == null) {
+            producer = session.createProducer(address);
+            producers.put(address, producer);
+        }
+        long start = System.nanoTime();
+        // blocks while the broker does not grant credits for the address, and while the message is written
+        if (handler == null) {
+            producer.send(message);
+        } else {
+            producer.send(message, handler);
+        }
+        metrics.sendBlocked(address, System.nanoTime() - start);
+    }
+
+    void completed(PendingSend send, Throwable failure) {
+        if (inFlight.remove(send)) {
+            window.release();
+        }
+        metrics.sent(send.address, System.nanoTime() - send.queuedAt, failure == null);
+        if (failure == null) {
+            send.result.complete(null);
+        } else {
+            send.result.completeExceptionally(failure);
+        }
+    }
+
+    private void openSession() throws ActiveMQException {
+        if (session != null && !session.isClosed()) {
+            return;
+        }
+        closeSession();
+        try {
+            sessionFactory = serverLocator.createSessionFactory();
+        } catch (ActiveMQException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ActiveMQException("Unable to connect to " + config.url + ": " + e.getMessage());
+        }
+        boolean transacted = transactionBatchSize > 0;
+        session = sessionFactory.createSession(config.username.orElse(null), config.password.orElse(null), false,
+                !transacted, true, false, ActiveMQClient.DEFAULT_ACK_BATCH_SIZE);
+        session.addFailureListener(new SessionFailureListener() {
+            @Override
+            public void beforeReconnect(ActiveMQException exception) {
+            }
+
+            @Override
+            public void connectionFailed(ActiveMQException exception, boolean failedOver) {
+                // the acknowledgements of the messages in flight will not be received
+                for (PendingSend send : inFlight) {
+                    send.complete(exception);
+                }
+            }
+
+            @Override
+            public void connectionFailed(ActiveMQException exception, boolean failedOver,
+                    String scaleDownTargetNodeID) {
+                connectionFailed(exception, failedOver);
+            }
+        });
+    }
+
+    private void closeSession() {
+        producers.clear();
+        if (session != null) {
+            try {
+                session.close();
+            } catch (ActiveMQException e) {
+                LOGGER.debug("Unable to close the Artemis session of the sender", e);
+            }
+            session = null;
+        }
+        if (sessionFactory != null) {
+            sessionFactory.close();
+            sessionFactory = null;
+        }
+    }
+
+    private void awaitInFlight() {
+        try {
+            if (!window.tryAcquire(maxInFlight, CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warnf("%d messages sent to Artemis were not acknowledged before the sender was closed",
+                        inFlight.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void failQueued() {
+        IllegalStateException closedFailure = new IllegalStateException("The Artemis sender is closed");
+        PendingSend send;
+        while ((send = queue.poll()) != null) {
+            send.complete(closedFailure);
+        }
+        for (PendingSend unacknowledged : inFlight) {
+            unacknowledged.complete(closedFailure);
+        }
+    }
+
+    /**
+     * Stops accepting messages, then waits for the queued messages to be sent and acknowledged
+     */
+    void close() {
+        closed = true;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(2 * CLOSE_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.artemis.core.runtime.sender;
+
+/**
+ * The measures of the sends, kept apart from their implementation so that Micrometer is optional.
+ */
+interface SenderMetrics {
+
+    SenderMetrics NONE = new SenderMetrics() {
+        @Override
+        public void sent(String address, long nanos, boolean succeeded) {
+        }
+
+        @Override
+        public void waitedForWindow(String address, long nanos) {
+        }
+
+        @Override
+        public void sendBlocked(String address, long nanos) {
+        }
+    };
+
+    /**
+     * @param nanos the time from the call of the sender to the acknowledgement of the broker
+     */
+    void sent(String address, long nanos, boolean succeeded);
+
+    /**
+     * @param nanos the time waited for the acknowledgement of the messages in flight, once their maximum was reached
+     */
+    void waitedForWindow(String address, long nanos);
+
+    /**
+     * @param nanos the time the send of the message to the connection blocked the lane, which includes the time waited
+     *        for the broker to grant credits for the address, but also the encoding and the writing of the message
+     */
+    void sendBlocked(String address, long nanos);
+}
@@ -0,0 +1,93 @@
+package io.quarkus.artemis.core.runtime.sender;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Delay reference to micrometer dependencies
+ */
+final class SenderMicrometerMetrics implements SenderMetrics {
+
+    private static final String ADDRESS_TAG_NAME = "address";
+
+    // replaced when the application is restarted in dev mode, the gauges being registered once
+    private static volatile ArtemisSender current;
+
+    private final Map<String, Timer> succeededSends = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failedSends = new ConcurrentHashMap<>();
+    private final Map<String, Timer> windowWaits = new ConcurrentHashMap<>();
+    private final Map<String, Timer> blockedSends = new ConcurrentHashMap<>();
+
+    SenderMicrometerMetrics(ArtemisSender sender) {
+        current = sender;
+        Gauge.builder("artemis.sender.in.flight", SenderMicrometerMetrics.class, c -> inFlight())
+                .description("Number of messages sent and not yet acknowledged by the broker")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("artemis.sender.queued", SenderMicrometerMetrics.class, c -> queued())
+                .description("Number of messages waiting to be sent")
+                .register(Metrics.globalRegistry);
+    }
+
+    private static double inFlight() {
+        ArtemisSender sender = current;
+        return sender == null ? 0 : sender.getInFlight();
+    }
+
+    private static double queued() {
+        ArtemisSender sender = current;
+        return sender == null ? 0 : sender.getQueued();
+    }
+
+    @Override
+    public void sent(String address, long nanos, boolean succeeded) {
+        Map<String, Timer> timers = succeeded ? succeededSends : failedSends;
+        timers.computeIfAbsent(address, new Function<String, Timer>() {
+            @Override
+            public Timer apply(String key) {
+                return Timer.builder("artemis.sender.send.duration")
+                        .description("Time from the send of a message to its acknowledgement by the broker")
+                        .tags(Tags.of(ADDRESS_TAG_NAME, key, "result", succeeded ? "success" : "failure"))
+                        .publishPercentileHistogram()
+                        .register(Metrics.globalRegistry);
+            }
+        }).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void waitedForWindow(String address, long nanos) {
+        starvation(windowWaits, address, "in-flight-window").record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void sendBlocked(String address, long nanos) {
+        blockedSends.computeIfAbsent(address, new Function<String, Timer>() {
+            @Override
+            public Timer apply(String key) {
+                return Timer.builder("artemis.sender.send.blocked")
+                        .description("Time the send of a message to the connection blocked, including the wait for "
+                                + "credits of the broker")
+                        .tags(Tags.of(ADDRESS_TAG_NAME, key))
+                        .register(Metrics.globalRegistry);
+            }
+        }).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer starvation(Map<String, Timer> timers, String address, String cause) {
+        return timers.computeIfAbsent(address, new Function<String, Timer>() {
+            @Override
+            public Timer apply(String key) {
+                return Timer.builder("artemis.sender.starvation")
+                        .description("Time a message waited before being sent, for lack of room in the window")
+                        .tags(Tags.of(ADDRESS_TAG_NAME, key, "cause", cause))
+                        .register(Metrics.globalRegistry);
+            }
+        });
+    }
+}
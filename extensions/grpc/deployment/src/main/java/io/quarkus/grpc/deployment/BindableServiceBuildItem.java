@@ -1,5 +1,7 @@
 package io.quarkus.grpc.deployment;
 
+import java.util.List;
+
 import org.jboss.jandex.DotName;
 
 import io.quarkus.builder.item.MultiBuildItem;
@@ -7,9 +9,21 @@ import io.quarkus.builder.item.MultiBuildItem;
 public final class BindableServiceBuildItem extends MultiBuildItem {
 
     final DotName serviceClass;
+    final List<String> blockingMethods;
 
-    public BindableServiceBuildItem(DotName serviceClass) {
+    public BindableServiceBuildItem(DotName serviceClass, List<String> blockingMethods) {
         this.serviceClass = serviceClass;
+        this.blockingMethods = blockingMethods;
+    }
+
+    /**
+     * @return the names of the methods executed on a worker thread, because they are annotated with {@code Blocking}
+     */
+    public List<String> getBlockingMethods() {
+        return blockingMethods;
     }
 
+    public boolean hasBlockingMethods() {
+        return !blockingMethods.isEmpty();
+    }
 }
@@ -7,6 +7,7 @@ import static io.quarkus.grpc.deployment.GrpcDotNames.RETRIEVE_CHANNEL_METHOD;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import javax.enterprise.inject.spi.DeploymentException;
@@ -24,15 +25,25 @@ import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.processor.BeanConfigurator;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.grpc.runtime.GrpcClientInterceptorContainer;
+import io.quarkus.grpc.runtime.GrpcClientRecorder;
 import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.runtime.config.GrpcBuildTimeConfig;
+import io.quarkus.grpc.runtime.metrics.GrpcClientMetricsInterceptor;
 import io.quarkus.grpc.runtime.supports.GrpcClientConfigProvider;
+import io.quarkus.grpc.runtime.tracing.GrpcClientTracingInterceptor;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class GrpcClientProcessor {
 
@@ -45,6 +56,33 @@ public class GrpcClientProcessor {
         beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcClientInterceptorContainer.class));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerSubchannelMetrics(GrpcClientRecorder recorder, List<GrpcServiceBuildItem> services,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        // the meters are only registered for the subchannels of the balanced channels
+        if (!services.isEmpty() && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            recorder.registerSubchannelMicrometerMetrics();
+        }
+    }
+
+    @BuildStep
+    void registerInstrumentation(GrpcBuildTimeConfig config, List<GrpcServiceBuildItem> services,
+            Capabilities capabilities, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (services.isEmpty()) {
+            return;
+        }
+        if (config.metricsEnabled && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcClientMetricsInterceptor.class));
+        }
+        if (config.tracingEnabled && capabilities.isPresent(Capability.SMALLRYE_OPENTRACING)) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcClientTracingInterceptor.class));
+        }
+    }
+
     @BuildStep
     void discoverInjectedGrpcServices(
             BeanRegistrationPhaseBuildItem phase,
@@ -11,6 +11,8 @@ import io.grpc.NameResolverProvider;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.grpc.runtime.annotations.GrpcService;
 import io.quarkus.grpc.runtime.supports.Channels;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
 
 public class GrpcDotNames {
 
@@ -21,6 +23,8 @@ public class GrpcDotNames {
     static final DotName GENERATED_MESSAGE_V3 = DotName.createSimple(GeneratedMessageV3.class.getName());
     static final DotName NAME_RESOLVER_PROVIDER = DotName.createSimple(NameResolverProvider.class.getName());
     static final DotName LOAD_BALANCER_PROVIDER = DotName.createSimple(LoadBalancerProvider.class.getName());
+    static final DotName BLOCKING = DotName.createSimple(Blocking.class.getName());
+    static final DotName NON_BLOCKING = DotName.createSimple(NonBlocking.class.getName());
 
     static final MethodDescriptor CREATE_CHANNEL_METHOD = MethodDescriptor.ofMethod(Channels.class, "createChannel",
             Channel.class, String.class);
@@ -3,11 +3,16 @@ package io.quarkus.grpc.deployment;
 import static io.quarkus.deployment.Feature.GRPC_SERVER;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.logging.Logger;
 
 import io.grpc.internal.DnsNameResolverProvider;
@@ -16,6 +21,8 @@ import io.grpc.internal.ServerImpl;
 import io.grpc.netty.NettyChannelProvider;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.IsNormal;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -30,16 +37,23 @@ import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.grpc.deployment.devmode.FieldDefinalizingVisitor;
 import io.quarkus.grpc.runtime.GrpcContainer;
 import io.quarkus.grpc.runtime.GrpcServerRecorder;
+import io.quarkus.grpc.runtime.config.GrpcBuildTimeConfig;
 import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerBuildTimeConfig;
 import io.quarkus.grpc.runtime.health.GrpcHealthEndpoint;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
+import io.quarkus.grpc.runtime.metrics.GrpcServerMetricsInterceptor;
+import io.quarkus.grpc.runtime.tracing.GrpcServerTracingInterceptor;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
+import io.quarkus.vertx.http.deployment.RouteBuildItem;
+import io.quarkus.vertx.http.runtime.HandlerType;
 
 public class GrpcServerProcessor {
 
@@ -52,14 +66,35 @@ public class GrpcServerProcessor {
                 .getAllKnownImplementors(GrpcDotNames.BINDABLE_SERVICE);
         for (ClassInfo service : bindableServices) {
             if (!Modifier.isAbstract(service.flags()) && service.classAnnotation(DotNames.SINGLETON) != null) {
-                bindables.produce(new BindableServiceBuildItem(service.name()));
+                bindables.produce(new BindableServiceBuildItem(service.name(), gatherBlockingMethods(service)));
             }
         }
     }
 
+    /**
+     * The methods annotated with {@code Blocking}, or all the methods of a service annotated with {@code Blocking}
+     * except the ones annotated with {@code NonBlocking}.
+     */
+    private static List<String> gatherBlockingMethods(ClassInfo service) {
+        boolean blockingService = service.classAnnotation(GrpcDotNames.BLOCKING) != null;
+        List<String> blockingMethods = new ArrayList<>();
+        for (MethodInfo method : service.methods()) {
+            if (Modifier.isStatic(method.flags()) || method.name().startsWith("<")) {
+                continue;
+            }
+            if (method.hasAnnotation(GrpcDotNames.BLOCKING)
+                    || (blockingService && !method.hasAnnotation(GrpcDotNames.NON_BLOCKING))) {
+                blockingMethods.add(method.name());
+            }
+        }
+        return blockingMethods;
+    }
+
     @BuildStep(onlyIf = IsNormal.class)
-    public KubernetesPortBuildItem registerGrpcServiceInKubernetes(List<BindableServiceBuildItem> bindables) {
-        if (!bindables.isEmpty()) {
+    public KubernetesPortBuildItem registerGrpcServiceInKubernetes(List<BindableServiceBuildItem> bindables,
+            GrpcServerBuildTimeConfig config) {
+        // without a separate server, the services are exposed on the HTTP port
+        if (!bindables.isEmpty() && config.useSeparateServer) {
             int port = ConfigProvider.getConfig().getOptionalValue("quarkus.grpc-server.port", Integer.class)
                     .orElse(9000);
             return new KubernetesPortBuildItem(port, GRPC_SERVER);
@@ -82,14 +117,51 @@ public class GrpcServerProcessor {
     @Record(value = ExecutionTime.RUNTIME_INIT)
     ServiceStartBuildItem build(GrpcServerRecorder recorder, GrpcConfiguration config,
             ShutdownContextBuildItem shutdown, List<BindableServiceBuildItem> bindables,
-            VertxBuildItem vertx) {
+            VertxBuildItem vertx, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            GrpcServerBuildTimeConfig buildTimeConfig) {
         if (!bindables.isEmpty()) {
-            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown);
+            Map<String, List<String>> blockingMethodsPerService = new HashMap<>();
+            for (BindableServiceBuildItem bindable : bindables) {
+                if (bindable.hasBlockingMethods()) {
+                    blockingMethodsPerService.put(bindable.serviceClass.toString(), bindable.blockingMethods);
+                }
+            }
+            boolean micrometerMetrics = metricsCapability.isPresent()
+                    && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, blockingMethodsPerService,
+                    micrometerMetrics, buildTimeConfig.useSeparateServer);
             return new ServiceStartBuildItem(GRPC_SERVER);
         }
         return null;
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void registerHttpRoute(GrpcServerRecorder recorder, GrpcServerBuildTimeConfig config,
+            List<BindableServiceBuildItem> bindables, BuildProducer<RouteBuildItem> routes) {
+        if (bindables.isEmpty() || config.useSeparateServer) {
+            return;
+        }
+        // the calls are handled on the event loop, the blocking methods being dispatched to the blocking executor
+        routes.produce(new RouteBuildItem(recorder.grpcHttpRoute(), recorder.grpcHttpHandler(), HandlerType.NORMAL));
+    }
+
+    @BuildStep
+    void registerInstrumentation(GrpcBuildTimeConfig config, List<BindableServiceBuildItem> bindables,
+            Capabilities capabilities, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (bindables.isEmpty()) {
+            return;
+        }
+        if (config.metricsEnabled && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcServerMetricsInterceptor.class));
+        }
+        if (config.tracingEnabled && capabilities.isPresent(Capability.SMALLRYE_OPENTRACING)) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcServerTracingInterceptor.class));
+        }
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     void definializeGrpcFieldsForDevMode(BuildProducer<BytecodeTransformerBuildItem> transformers) {
         transformers.produce(new BytecodeTransformerBuildItem("io.grpc.internal.InternalHandlerRegistry",
@@ -0,0 +1,76 @@
+package io.quarkus.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LoadBalancedStubInjectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyConsumer.class, GreeterGrpc.class, GreeterGrpc.GreeterBlockingStub.class,
+                            HelloService.class, HelloRequest.class, HelloReply.class,
+                            HelloReplyOrBuilder.class, HelloRequestOrBuilder.class))
+            .overrideConfigKey("quarkus.grpc.clients.round-robin.addresses", "localhost:9000,127.0.0.1:9000")
+            .overrideConfigKey("quarkus.grpc.clients.round-robin.load-balancing.policy", "round-robin")
+            .overrideConfigKey("quarkus.grpc.clients.round-robin.load-balancing.subchannels-per-address", "2")
+            .overrideConfigKey("quarkus.grpc.clients.least-request.host", "localhost")
+            .overrideConfigKey("quarkus.grpc.clients.least-request.load-balancing.policy", "least-request")
+            .overrideConfigKey("quarkus.grpc.clients.least-request.load-balancing.subchannels-per-address", "3")
+            .overrideConfigKey("quarkus.grpc.clients.least-request.load-balancing.refresh-interval", "1s");
+
+    @Inject
+    MyConsumer service;
+
+    @Test
+    public void testRoundRobin() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(service.invokeRoundRobin("neo-" + i)).isEqualTo("Hello neo-" + i);
+        }
+    }
+
+    @Test
+    public void testLeastRequest() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(service.invokeLeastRequest("neo-" + i)).isEqualTo("Hello neo-" + i);
+        }
+    }
+
+    @ApplicationScoped
+    static class MyConsumer {
+
+        @Inject
+        @GrpcService("round-robin")
+        GreeterGrpc.GreeterBlockingStub roundRobin;
+
+        @Inject
+        @GrpcService("least-request")
+        GreeterGrpc.GreeterBlockingStub leastRequest;
+
+        public String invokeRoundRobin(String s) {
+            return roundRobin.sayHello(HelloRequest.newBuilder().setName(s).build())
+                    .getMessage();
+        }
+
+        public String invokeLeastRequest(String s) {
+            return leastRequest.sayHello(HelloRequest.newBuilder().setName(s).build())
+                    .getMessage();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.grpc.server.blocking;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.stub.StreamObserver;
+import io.smallrye.common.annotation.Blocking;
+import io.vertx.core.Context;
+
+@Singleton
+public class BlockingHelloService extends GreeterGrpc.GreeterImplBase {
+
+    @Inject
+    RequestScopedGreeting greeting;
+
+    @Override
+    @Blocking
+    public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+        String thread = Context.isOnEventLoopThread() ? "event-loop" : "worker";
+        responseObserver.onNext(HelloReply.newBuilder()
+                .setMessage(greeting.greet(request.getName()) + " from " + thread)
+                .build());
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.grpc.server.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BlockingServiceTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BlockingHelloService.class, RequestScopedGreeting.class,
+                            GreeterGrpc.class, HelloRequest.class, HelloReply.class,
+                            HelloRequestOrBuilder.class, HelloReplyOrBuilder.class))
+            .overrideConfigKey("quarkus.grpc.server.blocking.max-concurrency", "2");
+
+    protected ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9000)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBlockingMethodExecutedOnWorkerThreadWithRequestContext() {
+        for (int i = 0; i < 5; i++) {
+            HelloReply reply = GreeterGrpc.newBlockingStub(channel)
+                    .sayHello(HelloRequest.newBuilder().setName("neo-" + i).build());
+            assertThat(reply.getMessage()).isEqualTo("Hello neo-" + i + " from worker");
+        }
+    }
+}
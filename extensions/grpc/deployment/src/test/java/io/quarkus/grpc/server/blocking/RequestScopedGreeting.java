@@ -0,0 +1,11 @@
+package io.quarkus.grpc.server.blocking;
+
+import javax.enterprise.context.RequestScoped;
+
+@RequestScoped
+public class RequestScopedGreeting {
+
+    public String greet(String name) {
+        return "Hello " + name;
+    }
+}
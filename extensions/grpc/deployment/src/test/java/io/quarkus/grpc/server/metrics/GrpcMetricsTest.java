@@ -0,0 +1,113 @@
+package io.quarkus.grpc.server.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GrpcMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyConsumer.class, GreeterGrpc.class, GreeterGrpc.GreeterBlockingStub.class,
+                            HelloService.class, HelloRequest.class, HelloReply.class,
+                            HelloReplyOrBuilder.class, HelloRequestOrBuilder.class))
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.host", "localhost");
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    MyConsumer consumer;
+
+    @Test
+    public void testServerAndClientMetrics() {
+        ((CompositeMeterRegistry) registry).add(new SimpleMeterRegistry());
+
+        assertThat(consumer.invoke("neo")).isEqualTo("Hello neo");
+
+        Timer server = registry.find("grpc.server.processing.duration")
+                .tag("service", "helloworld.Greeter")
+                .tag("method", "SayHello")
+                .tag("methodType", "UNARY")
+                .tag("statusCode", "OK")
+                .timer();
+        assertThat(server).isNotNull();
+        assertThat(server.count()).isEqualTo(1);
+        assertThat(registry.find("grpc.server.requests.received").tag("method", "SayHello").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.find("grpc.server.responses.sent").tag("method", "SayHello").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.find("grpc.server.calls.active").tag("method", "SayHello").gauge().value()).isZero();
+
+        Timer client = registry.find("grpc.client.processing.duration")
+                .tag("method", "SayHello")
+                .tag("statusCode", "OK")
+                .timer();
+        assertThat(client).isNotNull();
+        assertThat(client.count()).isEqualTo(1);
+        assertThat(registry.find("grpc.client.request.size").tag("method", "SayHello").summary().totalAmount())
+                .isPositive();
+    }
+
+    @Test
+    public void testDeadlineExceeded() {
+        ((CompositeMeterRegistry) registry).add(new SimpleMeterRegistry());
+
+        try {
+            consumer.invokeWithExpiredDeadline("neo");
+        } catch (StatusRuntimeException e) {
+            assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+        }
+        Timer client = registry.find("grpc.client.processing.duration")
+                .tag("method", "SayHello")
+                .tag("statusCode", "DEADLINE_EXCEEDED")
+                .timer();
+        assertThat(client).isNotNull();
+        assertThat(client.count()).isEqualTo(1);
+    }
+
+    @ApplicationScoped
+    static class MyConsumer {
+
+        @Inject
+        @GrpcService("hello-service")
+        GreeterGrpc.GreeterBlockingStub service;
+
+        public String invoke(String s) {
+            return service.sayHello(HelloRequest.newBuilder().setName(s).build())
+                    .getMessage();
+        }
+
+        public String invokeWithExpiredDeadline(String s) {
+            return service.withDeadlineAfter(0, TimeUnit.NANOSECONDS)
+                    .sayHello(HelloRequest.newBuilder().setName(s).build())
+                    .getMessage();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.grpc.runtime;
+
+import io.quarkus.grpc.runtime.supports.loadbalancing.LoadBalancing;
+import io.quarkus.grpc.runtime.supports.loadbalancing.SubchannelMicrometerMetrics;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class GrpcClientRecorder {
+
+    public void registerSubchannelMicrometerMetrics() {
+        LoadBalancing.setSubchannelListener(new SubchannelMicrometerMetrics());
+    }
+}
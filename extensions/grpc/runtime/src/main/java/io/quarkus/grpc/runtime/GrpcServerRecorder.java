@@ -29,12 +29,18 @@ import io.grpc.BindableService;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.internal.GrpcUtil;
 import io.quarkus.arc.Arc;
+import io.quarkus.grpc.runtime.blocking.BlockingExecutor;
+import io.quarkus.grpc.runtime.blocking.BlockingMicrometerMetrics;
+import io.quarkus.grpc.runtime.blocking.BlockingServices;
 import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
 import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
+import io.quarkus.grpc.runtime.http.GrpcHttpHandler;
+import io.quarkus.grpc.runtime.http.GrpcHttpServices;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -48,6 +54,9 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.grpc.VertxServer;
 import io.vertx.grpc.VertxServerBuilder;
 
@@ -57,9 +66,17 @@ public class GrpcServerRecorder {
 
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
 
+    /**
+     * @param blockingMethodsPerService the names of the methods annotated with {@code Blocking}, per service class
+     * @param micrometerMetrics whether the blocking methods are instrumented with Micrometer
+     * @param useSeparateServer whether the services are served by a separate server, or by the main HTTP server
+     */
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
             GrpcConfiguration cfg,
-            ShutdownContext shutdown) {
+            ShutdownContext shutdown,
+            Map<String, List<String>> blockingMethodsPerService,
+            boolean micrometerMetrics,
+            boolean useSeparateServer) {
         GrpcContainer grpcContainer = Arc.container().instance(GrpcContainer.class).get();
         if (grpcContainer == null) {
             throw new IllegalStateException("gRPC not initialized, GrpcContainer not found");
@@ -71,25 +88,44 @@ public class GrpcServerRecorder {
         }
 
         GrpcServerConfiguration configuration = cfg.server;
+        BlockingServices blockingServices = null;
+        if (!blockingMethodsPerService.isEmpty()) {
+            BlockingExecutor blockingExecutor = new BlockingExecutor(vertx, configuration.blocking.maxConcurrency,
+                    configuration.blocking.queueSize);
+            if (micrometerMetrics) {
+                BlockingMicrometerMetrics.bind(blockingExecutor);
+            }
+            blockingServices = new BlockingServices(blockingMethodsPerService, blockingExecutor, micrometerMetrics);
+            shutdown.addShutdownTask(new Runnable() { // NOSONAR
+                @Override
+                public void run() {
+                    blockingExecutor.close();
+                }
+            });
+        }
         final boolean devMode = ProfileManager.getLaunchMode() == LaunchMode.DEVELOPMENT;
 
-        if (devMode) {
+        if (!useSeparateServer) {
+            // the server of the previous application, if any, was stopped on dev mode reload
+            httpServerStart(grpcContainer, configuration, blockingServices, shutdown);
+        } else if (devMode) {
             // start single server, not in a verticle, regardless of the configuration.instances
             // for reason unknown to me, verticles occasionally get undeployed on dev mode reload
             if (GrpcServerReloader.getServer() == null) {
-                devModeStart(grpcContainer, vertx, configuration, shutdown);
+                devModeStart(grpcContainer, vertx, configuration, blockingServices, shutdown);
             } else {
-                devModeReload(grpcContainer);
+                devModeReload(grpcContainer, blockingServices);
             }
         } else {
-            prodStart(grpcContainer, vertx, configuration);
+            prodStart(grpcContainer, vertx, configuration, blockingServices);
         }
     }
 
-    private void prodStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration) {
+    private void prodStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
+            BlockingServices blockingServices) {
         CompletableFuture<Void> startResult = new CompletableFuture<>();
 
-        vertx.deployVerticle(() -> new GrpcServerVerticle(configuration, grpcContainer),
+        vertx.deployVerticle(() -> new GrpcServerVerticle(configuration, grpcContainer, blockingServices),
                 new DeploymentOptions().setInstances(configuration.instances),
                 result -> {
                     if (result.failed()) {
@@ -113,7 +149,35 @@ public class GrpcServerRecorder {
         }
     }
 
+    private void httpServerStart(GrpcContainer grpcContainer, GrpcServerConfiguration configuration,
+            BlockingServices blockingServices, ShutdownContext shutdown) {
+        List<ServerServiceDefinition> definitions = gatherServices(grpcContainer.getServices(), blockingServices);
+        List<ServerServiceDefinition> served = new ArrayList<>(definitions);
+        if (configuration.enableReflectionService || ProfileManager.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            LOGGER.info("Registering gRPC reflection service");
+            served.add(new ReflectionService(definitions).bindService());
+        }
+        GrpcHttpServices services = new GrpcHttpServices(served, grpcContainer.getSortedInterceptors(),
+                configuration.maxInboundMessageSize.orElse(GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE));
+        GrpcHttpHandler.register(services);
+        shutdown.addShutdownTask(new Runnable() { // NOSONAR
+            @Override
+            public void run() {
+                GrpcHttpHandler.register(null);
+                services.close();
+            }
+        });
+        setServing(grpcContainer);
+        LOGGER.info("gRPC services served by the HTTP server");
+    }
+
     private void postStartup(GrpcContainer grpcContainer, GrpcServerConfiguration configuration) {
+        setServing(grpcContainer);
+        LOGGER.infof("gRPC Server started on %s:%d [SSL enabled: %s]",
+                configuration.host, configuration.port, !configuration.plainText);
+    }
+
+    private void setServing(GrpcContainer grpcContainer) {
         grpcContainer.getHealthStorage().stream().forEach(new Consumer<GrpcHealthStorage>() { //NOSONAR
             @Override
             public void accept(GrpcHealthStorage storage) {
@@ -130,15 +194,13 @@ public class GrpcServerRecorder {
                         });
             }
         });
-        LOGGER.infof("gRPC Server started on %s:%d [SSL enabled: %s]",
-                configuration.host, configuration.port, !configuration.plainText);
     }
 
     private void devModeStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
-            ShutdownContext shutdown) {
+            BlockingServices blockingServices, ShutdownContext shutdown) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
 
-        VertxServer vertxServer = buildServer(vertx, configuration, grpcContainer, true)
+        VertxServer vertxServer = buildServer(vertx, configuration, grpcContainer, blockingServices, true)
                 .start(new Handler<AsyncResult<Void>>() { // NOSONAR
                     @Override
                     public void handle(AsyncResult<Void> ar) {
@@ -203,13 +265,17 @@ public class GrpcServerRecorder {
                         && services.get().bindService().getServiceDescriptor().getName().equals("grpc.health.v1.Health");
     }
 
-    private static List<ServerServiceDefinition> gatherServices(Instance<BindableService> services) {
+    private static List<ServerServiceDefinition> gatherServices(Instance<BindableService> services,
+            BlockingServices blockingServices) {
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
         services.forEach(new Consumer<BindableService>() { // NOSONAR
             @Override
             public void accept(BindableService bindable) {
                 ServerServiceDefinition definition = bindable.bindService();
+                if (blockingServices != null) {
+                    definition = blockingServices.apply(bindable, definition);
+                }
                 LOGGER.debugf("Registered gRPC service '%s'", definition.getServiceDescriptor().getName());
                 definitions.add(definition);
             }
@@ -217,8 +283,8 @@ public class GrpcServerRecorder {
         return definitions;
     }
 
-    private static void devModeReload(GrpcContainer grpcContainer) {
-        List<ServerServiceDefinition> serviceDefinitions = gatherServices(grpcContainer.getServices());
+    private static void devModeReload(GrpcContainer grpcContainer, BlockingServices blockingServices) {
+        List<ServerServiceDefinition> serviceDefinitions = gatherServices(grpcContainer.getServices(), blockingServices);
 
         Map<String, ServerMethodDefinition<?, ?>> methods = new HashMap<>();
         for (ServerServiceDefinition service : serviceDefinitions) {
@@ -236,12 +302,29 @@ public class GrpcServerRecorder {
         GrpcServerReloader.reinitialize(serviceDefinitions, methods, grpcContainer.getSortedInterceptors());
     }
 
+    public Handler<RoutingContext> grpcHttpHandler() {
+        return new GrpcHttpHandler();
+    }
+
+    /**
+     * @return a route matching all the requests ahead of the other routes, the handler passing the requests which are
+     *         not gRPC calls to the next route
+     */
+    public Function<Router, Route> grpcHttpRoute() {
+        return new Function<Router, Route>() { // NOSONAR
+            @Override
+            public Route apply(Router router) {
+                return router.route().order(Integer.MIN_VALUE);
+            }
+        };
+    }
+
     public static int getVerticleCount() {
         return grpcVerticleCount.get();
     }
 
     private VertxServer buildServer(Vertx vertx, GrpcServerConfiguration configuration,
-            GrpcContainer grpcContainer, boolean devMode) {
+            GrpcContainer grpcContainer, BlockingServices blockingServices, boolean devMode) {
         VertxServerBuilder builder = VertxServerBuilder
                 .forAddress(vertx, configuration.host, configuration.port);
 
@@ -269,7 +352,7 @@ public class GrpcServerRecorder {
 
         boolean reflectionServiceEnabled = configuration.enableReflectionService
                 || ProfileManager.getLaunchMode() == LaunchMode.DEVELOPMENT;
-        List<ServerServiceDefinition> definitions = gatherServices(grpcContainer.getServices());
+        List<ServerServiceDefinition> definitions = gatherServices(grpcContainer.getServices(), blockingServices);
         for (ServerServiceDefinition definition : definitions) {
             builder.addService(definition);
         }
@@ -303,12 +386,15 @@ public class GrpcServerRecorder {
     private class GrpcServerVerticle extends AbstractVerticle {
         private final GrpcServerConfiguration configuration;
         private final GrpcContainer grpcContainer;
+        private final BlockingServices blockingServices;
 
         private VertxServer grpcServer;
 
-        GrpcServerVerticle(GrpcServerConfiguration configuration, GrpcContainer grpcContainer) {
+        GrpcServerVerticle(GrpcServerConfiguration configuration, GrpcContainer grpcContainer,
+                BlockingServices blockingServices) {
             this.configuration = configuration;
             this.grpcContainer = grpcContainer;
+            this.blockingServices = blockingServices;
         }
 
         @Override
@@ -318,7 +404,7 @@ public class GrpcServerRecorder {
                         "Unable to find bean exposing the `BindableService` interface - not starting the gRPC server");
                 return;
             }
-            grpcServer = buildServer(getVertx(), configuration, grpcContainer, false)
+            grpcServer = buildServer(getVertx(), configuration, grpcContainer, blockingServices, false)
                     .start(new Handler<AsyncResult<Void>>() { // NOSONAR
                         @Override
                         public void handle(AsyncResult<Void> ar) {
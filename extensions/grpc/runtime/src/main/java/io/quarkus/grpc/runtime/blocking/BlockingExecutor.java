@@ -0,0 +1,92 @@
+package io.quarkus.grpc.runtime.blocking;
+
+import java.util.OptionalInt;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * The worker pool executing the tasks of the blocking service methods, bounded by the configured concurrency.
+ * <p>
+ * The tasks waiting for a worker thread are counted, so that the new calls can be rejected when too many tasks are
+ * queued.
+ */
+public class BlockingExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(BlockingExecutor.class);
+
+    static final String POOL_NAME = "quarkus-grpc-blocking";
+
+    private static final Handler<AsyncResult<Void>> LOG_FAILURE = new Handler<AsyncResult<Void>>() {
+        @Override
+        public void handle(AsyncResult<Void> result) {
+            if (result.failed()) {
+                LOGGER.error("Unable to execute a task of a blocking gRPC method", result.cause());
+            }
+        }
+    };
+
+    private final WorkerExecutor workerExecutor;
+    private final OptionalInt queueSize;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public BlockingExecutor(Vertx vertx, int maxConcurrency, OptionalInt queueSize) {
+        this.workerExecutor = vertx.createSharedWorkerExecutor(POOL_NAME, maxConcurrency);
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * @return whether a new call can be accepted, i.e. the queue is not full
+     */
+    boolean accepts() {
+        return !queueSize.isPresent() || queued.get() < queueSize.getAsInt();
+    }
+
+    /**
+     * @return the number of tasks waiting for a worker thread
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * @param queueTime notified of the time spent by each task in the queue, in nanoseconds, may be {@code null}
+     * @return an executor submitting its tasks to the worker pool
+     */
+    Executor executor(LongConsumer queueTime) {
+        return new Executor() {
+            @Override
+            public void execute(Runnable task) {
+                submit(task, queueTime);
+            }
+        };
+    }
+
+    private void submit(Runnable task, LongConsumer queueTime) {
+        long submitted = System.nanoTime();
+        queued.incrementAndGet();
+        workerExecutor.executeBlocking(new Handler<Promise<Void>>() {
+            @Override
+            public void handle(Promise<Void> promise) {
+                queued.decrementAndGet();
+                if (queueTime != null) {
+                    queueTime.accept(System.nanoTime() - submitted);
+                }
+                task.run();
+                promise.complete();
+            }
+        }, false, LOG_FAILURE);
+    }
+
+    public void close() {
+        workerExecutor.close();
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.grpc.runtime.blocking;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Delay reference to micrometer dependencies
+ */
+public class BlockingMicrometerMetrics {
+
+    private static final String METHOD_TAG_NAME = "method";
+
+    // replaced when the application is restarted in dev mode, the gauge being registered once
+    private static volatile BlockingExecutor current;
+
+    /**
+     * Registers the gauge of the tasks waiting for a worker thread
+     */
+    public static void bind(BlockingExecutor blockingExecutor) {
+        current = blockingExecutor;
+        Gauge.builder("grpc.server.blocking.queued", BlockingMicrometerMetrics.class, c -> queued())
+                .description("Number of tasks of blocking gRPC methods waiting for a worker thread")
+                .register(Metrics.globalRegistry);
+    }
+
+    private static double queued() {
+        BlockingExecutor blockingExecutor = current;
+        return blockingExecutor == null ? 0 : blockingExecutor.getQueued();
+    }
+
+    /**
+     * @return a consumer recording the time spent in the queue by the tasks of the given method, in nanoseconds
+     */
+    static LongConsumer queueTime(String fullMethodName) {
+        Timer timer = Timer.builder("grpc.server.blocking.queue")
+                .description("Time spent by the tasks of blocking gRPC methods waiting for a worker thread")
+                .tags(Tags.of(METHOD_TAG_NAME, fullMethodName))
+                .register(Metrics.globalRegistry);
+        return new LongConsumer() {
+            @Override
+            public void accept(long nanos) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
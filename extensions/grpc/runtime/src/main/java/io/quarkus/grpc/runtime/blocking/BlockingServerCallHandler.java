@@ -0,0 +1,154 @@
+package io.quarkus.grpc.runtime.blocking;
+
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.grpc.internal.SerializingExecutor;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * Executes a blocking service method on the worker pool instead of the event loop.
+ * <p>
+ * The start of each call and the events of its listener are executed in order, one at a time, on the worker pool, with
+ * the gRPC context of the call attached and a request context active. The request context is kept across the events of
+ * the call, and destroyed once the call is completed or cancelled.
+ */
+public class BlockingServerCallHandler<ReqT, RespT> implements ServerCallHandler<ReqT, RespT> {
+
+    private final ServerCallHandler<ReqT, RespT> delegate;
+    private final BlockingExecutor blockingExecutor;
+    private final LongConsumer queueTime;
+
+    /**
+     * @param queueTime notified of the time spent by each task in the queue, in nanoseconds, may be {@code null}
+     */
+    public BlockingServerCallHandler(ServerCallHandler<ReqT, RespT> delegate, BlockingExecutor blockingExecutor,
+            LongConsumer queueTime) {
+        this.delegate = delegate;
+        this.blockingExecutor = blockingExecutor;
+        this.queueTime = queueTime;
+    }
+
+    @Override
+    public ServerCall.Listener<ReqT> startCall(ServerCall<ReqT, RespT> call, Metadata headers) {
+        if (!blockingExecutor.accepts()) {
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("Too many calls of blocking methods are queued"),
+                    new Metadata());
+            return new ServerCall.Listener<ReqT>() {
+            };
+        }
+        return new BlockingListener(call, headers);
+    }
+
+    private final class BlockingListener extends ServerCall.Listener<ReqT> {
+
+        private final ServerCall<ReqT, RespT> call;
+        private final Executor serializingExecutor;
+        private final Context context;
+
+        // only accessed by the serialized tasks
+        private ServerCall.Listener<ReqT> listener;
+        private InjectableContext.ContextState requestState;
+        private boolean failed;
+
+        BlockingListener(ServerCall<ReqT, RespT> call, Metadata headers) {
+            this.call = call;
+            this.serializingExecutor = new SerializingExecutor(blockingExecutor.executor(queueTime));
+            this.context = Context.current();
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener = delegate.startCall(call, headers);
+                }
+            }, false);
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onMessage(message);
+                }
+            }, false);
+        }
+
+        @Override
+        public void onHalfClose() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onHalfClose();
+                }
+            }, false);
+        }
+
+        @Override
+        public void onReady() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onReady();
+                }
+            }, false);
+        }
+
+        @Override
+        public void onCancel() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onCancel();
+                }
+            }, true);
+        }
+
+        @Override
+        public void onComplete() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onComplete();
+                }
+            }, true);
+        }
+
+        /**
+         * @param last whether the call is over after the task, destroying the request context
+         */
+        private void execute(Runnable task, boolean last) {
+            serializingExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ManagedContext requestContext = Arc.container().requestContext();
+                    requestContext.activate(requestState);
+                    Context previous = context.attach();
+                    try {
+                        // once the call failed, only the request context is left to destroy
+                        if (!failed) {
+                            task.run();
+                        }
+                    } catch (Throwable t) {
+                        failed = true;
+                        call.close(Status.fromThrowable(t), new Metadata());
+                    } finally {
+                        context.detach(previous);
+                        if (last) {
+                            requestContext.terminate();
+                        } else {
+                            requestState = requestContext.getState();
+                            requestContext.deactivate();
+                        }
+                    }
+                }
+            });
+        }
+    }
+}
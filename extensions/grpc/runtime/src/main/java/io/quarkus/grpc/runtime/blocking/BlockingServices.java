@@ -0,0 +1,97 @@
+package io.quarkus.grpc.runtime.blocking;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.BindableService;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+
+/**
+ * Makes the blocking methods of the services, detected at build time, execute on the worker pool.
+ */
+public class BlockingServices {
+
+    private static final Logger LOGGER = Logger.getLogger(BlockingServices.class);
+
+    private final Map<String, List<String>> blockingMethodsPerService;
+    private final BlockingExecutor blockingExecutor;
+    private final boolean micrometerMetrics;
+
+    /**
+     * @param blockingMethodsPerService the names of the Java methods annotated with {@code Blocking}, per service class
+     * @param micrometerMetrics whether the time spent by the tasks in the queue is recorded with Micrometer
+     */
+    public BlockingServices(Map<String, List<String>> blockingMethodsPerService, BlockingExecutor blockingExecutor,
+            boolean micrometerMetrics) {
+        this.blockingMethodsPerService = blockingMethodsPerService;
+        this.blockingExecutor = blockingExecutor;
+        this.micrometerMetrics = micrometerMetrics;
+    }
+
+    public BlockingExecutor getBlockingExecutor() {
+        return blockingExecutor;
+    }
+
+    /**
+     * @return the definition of the service, with the handlers of its blocking methods executing on the worker pool
+     */
+    public ServerServiceDefinition apply(BindableService service, ServerServiceDefinition definition) {
+        List<String> blockingMethods = blockingMethodsOf(service.getClass());
+        if (blockingMethods == null) {
+            return definition;
+        }
+        Set<String> normalizedBlockingMethods = new HashSet<>();
+        for (String blockingMethod : blockingMethods) {
+            normalizedBlockingMethods.add(normalize(blockingMethod));
+        }
+
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(definition.getServiceDescriptor());
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            String fullMethodName = method.getMethodDescriptor().getFullMethodName();
+            String bareMethodName = fullMethodName.substring(fullMethodName.lastIndexOf('/') + 1);
+            if (normalizedBlockingMethods.contains(normalize(bareMethodName))) {
+                LOGGER.debugf("gRPC method '%s' is blocking, it will be executed on a worker thread", fullMethodName);
+                builder.addMethod(blocking(method));
+            } else {
+                builder.addMethod(method);
+            }
+        }
+        return builder.build();
+    }
+
+    private <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> blocking(ServerMethodDefinition<ReqT, RespT> method) {
+        LongConsumer queueTime = micrometerMetrics
+                ? BlockingMicrometerMetrics.queueTime(method.getMethodDescriptor().getFullMethodName())
+                : null;
+        ServerCallHandler<ReqT, RespT> handler = new BlockingServerCallHandler<>(method.getServerCallHandler(),
+                blockingExecutor, queueTime);
+        return method.withServerCallHandler(handler);
+    }
+
+    private List<String> blockingMethodsOf(Class<?> serviceClass) {
+        // the instance may be a subclass of the service class, e.g. when the service has interceptors
+        for (Class<?> current = serviceClass; current != null; current = current.getSuperclass()) {
+            List<String> blockingMethods = blockingMethodsPerService.get(current.getName());
+            if (blockingMethods != null) {
+                return blockingMethods;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The Java methods are named after the gRPC methods in lower camel case, e.g. {@code sayHello} for {@code SayHello}
+     * or {@code say_hello}.
+     */
+    private static String normalize(String methodName) {
+        return methodName.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.grpc.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME, name = "grpc")
+public class GrpcBuildTimeConfig {
+
+    /**
+     * Whether the gRPC server and clients calls are measured, in case the micrometer extension is present.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "true")
+    public boolean metricsEnabled;
+
+    /**
+     * Whether the gRPC server and clients calls are traced, in case the smallrye-opentracing extension is present.
+     */
+    @ConfigItem(name = "tracing.enabled", defaultValue = "true")
+    public boolean tracingEnabled;
+}
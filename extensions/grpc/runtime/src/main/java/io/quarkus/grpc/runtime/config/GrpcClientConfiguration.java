@@ -1,6 +1,7 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -24,6 +25,20 @@ public class GrpcClientConfiguration {
     @ConfigItem
     public String host;
 
+    /**
+     * The addresses of the service instances, as {@code host:port}, used instead of the host and the port.
+     * Configure the load balancing to balance the calls across them.
+     */
+    @ConfigItem
+    public Optional<List<String>> addresses;
+
+    /**
+     * The client-side load balancing across the addresses of the service.
+     * All the addresses the host resolves to are balanced, e.g. the pods behind a headless Kubernetes service.
+     */
+    @ConfigItem
+    public LoadBalancingConfig loadBalancing;
+
     /**
      * The SSL/TLS config.
      */
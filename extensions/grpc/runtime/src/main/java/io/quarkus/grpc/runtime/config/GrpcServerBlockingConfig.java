@@ -0,0 +1,25 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class GrpcServerBlockingConfig {
+
+    /**
+     * The maximum number of worker threads executing the methods annotated with
+     * {@code io.smallrye.common.annotation.Blocking} concurrently.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int maxConcurrency;
+
+    /**
+     * The maximum number of tasks of the blocking methods waiting for a worker thread.
+     * When it is reached, the new calls of the blocking methods are rejected with the `RESOURCE_EXHAUSTED` status.
+     * By default, the tasks are queued without limit.
+     */
+    @ConfigItem
+    public OptionalInt queueSize;
+}
@@ -17,4 +17,13 @@ public class GrpcServerBuildTimeConfig {
      */
     @ConfigItem(name = "grpc-health.enabled", defaultValue = "true")
     public boolean grpcHealthEnabled;
+
+    /**
+     * Whether the gRPC services are served by a separate server, listening on {@code quarkus.grpc.server.port}.
+     * <p>
+     * When disabled, the gRPC services are served by the main HTTP server, over HTTP/2, along with the other HTTP
+     * endpoints: the requests with a {@code application/grpc} content type are routed to the gRPC services.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean useSeparateServer;
 }
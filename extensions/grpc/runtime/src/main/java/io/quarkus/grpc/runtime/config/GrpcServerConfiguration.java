@@ -73,4 +73,10 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem(defaultValue = "1")
     public int instances;
+
+    /**
+     * Configures the execution of the service methods annotated with {@code io.smallrye.common.annotation.Blocking}.
+     */
+    @ConfigItem
+    public GrpcServerBlockingConfig blocking;
 }
@@ -0,0 +1,44 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class LoadBalancingConfig {
+
+    /**
+     * The load balancing policy.
+     * With {@code pick-first}, all the calls are sent to the first reachable address.
+     * With {@code round-robin}, the calls are sent to the ready subchannels in turn.
+     * With {@code least-request}, each call is sent to the subchannel with the fewest calls in progress, out of two
+     * random ready subchannels.
+     */
+    @ConfigItem(defaultValue = "pick-first")
+    public Policy policy;
+
+    /**
+     * The number of subchannels, i.e. HTTP/2 connections, opened to each address.
+     * Only used with the {@code round-robin} and {@code least-request} policies.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int subchannelsPerAddress;
+
+    /**
+     * The interval at which the addresses are resolved again, so that new instances of the service, e.g. new pods
+     * behind a headless Kubernetes service, receive calls.
+     * By default, the addresses are only resolved again when a connection fails.
+     * Only used with the {@code round-robin} and {@code least-request} policies.
+     */
+    @ConfigItem
+    public Optional<Duration> refreshInterval;
+
+    public enum Policy {
+        PICK_FIRST,
+        ROUND_ROBIN,
+        LEAST_REQUEST
+    }
+}
@@ -0,0 +1,156 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Context;
+import io.grpc.InternalMetadata;
+import io.grpc.Metadata;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.TransportFrameUtil;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the gRPC calls received by the main HTTP server, the requests with a {@code application/grpc} content type,
+ * passing the other requests to the next routes.
+ */
+public class GrpcHttpHandler implements Handler<RoutingContext> {
+
+    private static volatile GrpcHttpServices services;
+
+    /**
+     * @param services the served methods, replacing the previous ones on dev mode reloads
+     */
+    public static void register(GrpcHttpServices services) {
+        GrpcHttpHandler.services = services;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        String contentType = request.getHeader("content-type");
+        if (!isGrpc(contentType)) {
+            ctx.next();
+            return;
+        }
+        if (request.version() != HttpVersion.HTTP_2) {
+            ctx.response().setStatusCode(505).end("gRPC requires HTTP/2");
+            return;
+        }
+        if (request.method() != HttpMethod.POST) {
+            ctx.response().setStatusCode(405).end();
+            return;
+        }
+
+        GrpcHttpServices current = services;
+        String fullMethodName = request.path().substring(1);
+        ServerMethodDefinition<?, ?> method = current == null ? null : current.lookupMethod(fullMethodName);
+        if (method == null) {
+            reject(request, Status.UNIMPLEMENTED.withDescription("Method not found: " + fullMethodName));
+            return;
+        }
+        String encoding = request.getHeader(GrpcUtil.MESSAGE_ENCODING);
+        if (encoding != null && !"identity".equals(encoding)) {
+            reject(request, Status.UNIMPLEMENTED.withDescription("Unsupported message encoding: " + encoding));
+            return;
+        }
+        Context.CancellableContext context;
+        try {
+            context = createContext(request.getHeader(GrpcUtil.TIMEOUT), current);
+        } catch (IllegalArgumentException e) {
+            reject(request, Status.INTERNAL.withDescription(e.getMessage()));
+            return;
+        }
+        start(request, method, context, current.getMaxInboundMessageSize());
+    }
+
+    /**
+     * @return whether the content type is {@code application/grpc}, possibly followed by a message format or parameters,
+     *         which excludes gRPC-Web
+     */
+    private static boolean isGrpc(String contentType) {
+        if (contentType == null || !contentType.startsWith(HttpServerCall.CONTENT_TYPE)) {
+            return false;
+        }
+        if (contentType.length() == HttpServerCall.CONTENT_TYPE.length()) {
+            return true;
+        }
+        char next = contentType.charAt(HttpServerCall.CONTENT_TYPE.length());
+        return next == '+' || next == ';';
+    }
+
+    private static <ReqT, RespT> void start(HttpServerRequest request, ServerMethodDefinition<ReqT, RespT> method,
+            Context.CancellableContext context, int maxInboundMessageSize) {
+        HttpServerCall<ReqT, RespT> call = new HttpServerCall<>(request, method.getMethodDescriptor(), context,
+                maxInboundMessageSize);
+        call.start(method.getServerCallHandler(), metadata(request));
+    }
+
+    private static void reject(HttpServerRequest request, Status status) {
+        HttpServerCall.reject(request.response(), status);
+        // discard the body
+        request.resume();
+    }
+
+    private static Metadata metadata(HttpServerRequest request) {
+        List<byte[]> headers = new ArrayList<>();
+        for (Map.Entry<String, String> header : request.headers()) {
+            if (header.getKey().startsWith(":")) {
+                continue;
+            }
+            headers.add(header.getKey().getBytes(StandardCharsets.US_ASCII));
+            headers.add(header.getValue().getBytes(StandardCharsets.US_ASCII));
+        }
+        return InternalMetadata.newMetadata(TransportFrameUtil.toRawSerializedHeaders(headers.toArray(new byte[0][])));
+    }
+
+    private static Context.CancellableContext createContext(String timeout, GrpcHttpServices services) {
+        if (timeout == null) {
+            return Context.ROOT.withCancellation();
+        }
+        return Context.ROOT.withDeadlineAfter(parseTimeout(timeout), TimeUnit.NANOSECONDS, services.getTimer());
+    }
+
+    /**
+     * @return the nanoseconds of a {@code grpc-timeout} header, a value of at most 8 digits followed by a unit
+     */
+    static long parseTimeout(String timeout) {
+        if (timeout.length() < 2 || timeout.length() > 9) {
+            throw new IllegalArgumentException("Invalid grpc-timeout: " + timeout);
+        }
+        long value;
+        try {
+            value = Long.parseLong(timeout.substring(0, timeout.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid grpc-timeout: " + timeout);
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid grpc-timeout: " + timeout);
+        }
+        switch (timeout.charAt(timeout.length() - 1)) {
+            case 'n':
+                return value;
+            case 'u':
+                return TimeUnit.MICROSECONDS.toNanos(value);
+            case 'm':
+                return TimeUnit.MILLISECONDS.toNanos(value);
+            case 'S':
+                return TimeUnit.SECONDS.toNanos(value);
+            case 'M':
+                return TimeUnit.MINUTES.toNanos(value);
+            case 'H':
+                return TimeUnit.HOURS.toNanos(value);
+            default:
+                throw new IllegalArgumentException("Invalid grpc-timeout unit: " + timeout);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.SharedResourceHolder;
+
+/**
+ * The methods served by the main HTTP server, with the interceptors applied.
+ */
+public final class GrpcHttpServices {
+
+    private final Map<String, ServerMethodDefinition<?, ?>> methods = new HashMap<>();
+    private final int maxInboundMessageSize;
+    private final ScheduledExecutorService timer;
+
+    /**
+     * @param interceptors the interceptors, the last one being called first, as with a server builder
+     */
+    public GrpcHttpServices(List<ServerServiceDefinition> definitions, List<ServerInterceptor> interceptors,
+            int maxInboundMessageSize) {
+        for (ServerServiceDefinition definition : definitions) {
+            ServerServiceDefinition intercepted = ServerInterceptors.intercept(definition, interceptors);
+            for (ServerMethodDefinition<?, ?> method : intercepted.getMethods()) {
+                methods.put(method.getMethodDescriptor().getFullMethodName(), method);
+            }
+        }
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.timer = SharedResourceHolder.get(GrpcUtil.TIMER_SERVICE);
+    }
+
+    ServerMethodDefinition<?, ?> lookupMethod(String fullMethodName) {
+        return methods.get(fullMethodName);
+    }
+
+    int getMaxInboundMessageSize() {
+        return maxInboundMessageSize;
+    }
+
+    /**
+     * @return the timer enforcing the deadlines of the calls
+     */
+    ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    public void close() {
+        SharedResourceHolder.release(GrpcUtil.TIMER_SERVICE, timer);
+    }
+}
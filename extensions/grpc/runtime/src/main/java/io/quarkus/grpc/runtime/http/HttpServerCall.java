@@ -0,0 +1,488 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.Attributes;
+import io.grpc.Context;
+import io.grpc.Drainable;
+import io.grpc.Grpc;
+import io.grpc.InternalStatus;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.grpc.internal.TransportFrameUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.net.SocketAddress;
+
+/**
+ * A gRPC call served by an HTTP/2 request of the main HTTP server.
+ * <p>
+ * The request and the listener of the call are handled on the event loop of the request, and the methods of the call
+ * can be called from any thread. The request is paused while received messages are waiting for the call to request
+ * them, so that HTTP/2 flow control back-pressures the client.
+ */
+final class HttpServerCall<ReqT, RespT> extends ServerCall<ReqT, RespT> {
+
+    private static final Logger LOGGER = Logger.getLogger(HttpServerCall.class);
+
+    static final String CONTENT_TYPE = "application/grpc";
+    private static final int HEADER_LENGTH = 5;
+    private static final byte COMPRESSED_FLAG = 1;
+
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final io.vertx.core.Context vertxContext;
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final Context.CancellableContext context;
+    private final int maxInboundMessageSize;
+
+    // only accessed on the event loop
+    private Listener<ReqT> listener;
+    private Buffer pending = Buffer.buffer();
+    private final Deque<byte[]> messages = new ArrayDeque<>();
+    private int demand;
+    private boolean requestEnded;
+    private boolean halfClosed;
+    private boolean paused;
+    private boolean completed;
+
+    // guarded by this
+    private boolean headersSent;
+    private boolean closeCalled;
+    private volatile boolean cancelled;
+
+    HttpServerCall(HttpServerRequest request, MethodDescriptor<ReqT, RespT> method, Context.CancellableContext context,
+            int maxInboundMessageSize) {
+        this.request = request;
+        this.response = request.response();
+        this.vertxContext = Vertx.currentContext();
+        this.method = method;
+        this.context = context;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+    }
+
+    void start(ServerCallHandler<ReqT, RespT> handler, Metadata headers) {
+        request.handler(new Handler<Buffer>() {
+            @Override
+            public void handle(Buffer data) {
+                handleData(data);
+            }
+        });
+        request.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                requestEnded = true;
+                deliver();
+            }
+        });
+        request.exceptionHandler(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable failure) {
+                LOGGER.debugf(failure, "gRPC call %s failed", method.getFullMethodName());
+                handleCancel();
+            }
+        });
+        response.closeHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                handleCancel();
+            }
+        });
+        response.drainHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                callListener(new Runnable() {
+                    @Override
+                    public void run() {
+                        listener.onReady();
+                    }
+                });
+            }
+        });
+        context.addListener(new Context.CancellationListener() {
+            @Override
+            public void cancelled(Context cancelledContext) {
+                if (cancelledContext.cancellationCause() instanceof TimeoutException) {
+                    handleDeadlineExceeded();
+                }
+            }
+        }, new java.util.concurrent.Executor() {
+            @Override
+            public void execute(Runnable command) {
+                runOnContext(command);
+            }
+        });
+
+        Context previous = context.attach();
+        try {
+            listener = handler.startCall(this, headers);
+        } catch (Throwable t) {
+            applicationError(t);
+            return;
+        } finally {
+            context.detach(previous);
+        }
+        request.resume();
+        if (isReady()) {
+            callListener(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onReady();
+                }
+            });
+        }
+    }
+
+    // event loop
+
+    private void handleData(Buffer data) {
+        if (completed) {
+            return;
+        }
+        pending.appendBuffer(data);
+        int offset = 0;
+        while (pending.length() - offset >= HEADER_LENGTH) {
+            byte flags = pending.getByte(offset);
+            int length = pending.getInt(offset + 1);
+            if ((flags & COMPRESSED_FLAG) != 0) {
+                closeOnError(Status.UNIMPLEMENTED.withDescription("Compressed gRPC messages are not supported"));
+                return;
+            }
+            if (length < 0 || length > maxInboundMessageSize) {
+                closeOnError(Status.RESOURCE_EXHAUSTED.withDescription(
+                        "gRPC message exceeds maximum size " + maxInboundMessageSize + ": " + length));
+                return;
+            }
+            if (pending.length() - offset - HEADER_LENGTH < length) {
+                break;
+            }
+            messages.add(pending.getBytes(offset + HEADER_LENGTH, offset + HEADER_LENGTH + length));
+            offset += HEADER_LENGTH + length;
+        }
+        if (offset > 0) {
+            pending = pending.getBuffer(offset, pending.length());
+        }
+        deliver();
+    }
+
+    private void deliver() {
+        while (demand > 0 && !messages.isEmpty() && !completed) {
+            demand--;
+            ReqT message;
+            try {
+                message = method.parseRequest(new ByteArrayInputStream(messages.poll()));
+            } catch (Throwable t) {
+                closeOnError(Status.INTERNAL.withDescription("Invalid gRPC message").withCause(t));
+                return;
+            }
+            callListener(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onMessage(message);
+                }
+            });
+        }
+        if (completed) {
+            return;
+        }
+        if (requestEnded && messages.isEmpty() && !halfClosed) {
+            halfClosed = true;
+            if (pending.length() > 0) {
+                closeOnError(Status.INTERNAL.withDescription("Incomplete gRPC message at the end of the request"));
+                return;
+            }
+            callListener(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onHalfClose();
+                }
+            });
+        }
+        if (!requestEnded) {
+            if (!messages.isEmpty() && !paused) {
+                paused = true;
+                request.pause();
+            } else if (messages.isEmpty() && paused) {
+                paused = false;
+                request.resume();
+            }
+        }
+    }
+
+    private void callListener(Runnable callback) {
+        if (completed || listener == null) {
+            return;
+        }
+        Context previous = context.attach();
+        try {
+            callback.run();
+        } catch (Throwable t) {
+            applicationError(t);
+        } finally {
+            context.detach(previous);
+        }
+    }
+
+    private void applicationError(Throwable t) {
+        LOGGER.debugf(t, "gRPC call %s failed", method.getFullMethodName());
+        closeOnError(Status.UNKNOWN.withDescription("Application error processing RPC").withCause(t));
+    }
+
+    /**
+     * Closes the call on a failure of the transport or of the application, which is then told the call is cancelled
+     */
+    private void closeOnError(Status status) {
+        synchronized (this) {
+            if (closeCalled || cancelled) {
+                return;
+            }
+            cancelled = true;
+            writeTrailers(status, new Metadata());
+        }
+        cancelListener();
+    }
+
+    private void handleCancel() {
+        synchronized (this) {
+            if (closeCalled || cancelled) {
+                return;
+            }
+            cancelled = true;
+        }
+        cancelListener();
+    }
+
+    private void handleDeadlineExceeded() {
+        closeOnError(Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded"));
+    }
+
+    private void cancelListener() {
+        if (paused && !requestEnded) {
+            // let the remaining data be discarded
+            paused = false;
+            request.resume();
+        }
+        callListener(new Runnable() {
+            @Override
+            public void run() {
+                listener.onCancel();
+            }
+        });
+        completed = true;
+        context.cancel(null);
+    }
+
+    private void complete() {
+        callListener(new Runnable() {
+            @Override
+            public void run() {
+                listener.onComplete();
+            }
+        });
+        completed = true;
+        context.cancel(null);
+    }
+
+    private void runOnContext(Runnable task) {
+        if (Vertx.currentContext() == vertxContext) {
+            task.run();
+        } else {
+            vertxContext.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    task.run();
+                }
+            });
+        }
+    }
+
+    // any thread
+
+    @Override
+    public void request(int numMessages) {
+        runOnContext(new Runnable() {
+            @Override
+            public void run() {
+                demand = (int) Math.min(Integer.MAX_VALUE, (long) demand + numMessages);
+                deliver();
+            }
+        });
+    }
+
+    @Override
+    public synchronized void sendHeaders(Metadata headers) {
+        if (headersSent) {
+            throw new IllegalStateException("sendHeaders has already been called");
+        }
+        if (closeCalled) {
+            throw new IllegalStateException("call is closed");
+        }
+        writeHeaders(headers);
+    }
+
+    private void writeHeaders(Metadata headers) {
+        headersSent = true;
+        response.setStatusCode(200);
+        response.putHeader("content-type", CONTENT_TYPE);
+        byte[][] serialized = TransportFrameUtil.toHttp2Headers(headers);
+        for (int i = 0; i < serialized.length; i += 2) {
+            String name = new String(serialized[i], StandardCharsets.US_ASCII);
+            if (!"content-type".equals(name)) {
+                response.putHeader(name, new String(serialized[i + 1], StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void sendMessage(RespT message) {
+        if (closeCalled) {
+            throw new IllegalStateException("call is closed");
+        }
+        if (cancelled) {
+            return;
+        }
+        if (!headersSent) {
+            writeHeaders(new Metadata());
+        }
+        try {
+            response.write(frame(method.streamResponse(message)));
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Unable to serialize the gRPC message").withCause(e)
+                    .asRuntimeException();
+        }
+    }
+
+    private static Buffer frame(InputStream stream) throws IOException {
+        int length = stream.available();
+        ByteBuf frame = Unpooled.buffer(HEADER_LENGTH + Math.max(length, 0));
+        frame.writeByte(0);
+        frame.writeInt(0);
+        try (OutputStream output = new ByteBufOutputStream(frame)) {
+            if (stream instanceof Drainable) {
+                ((Drainable) stream).drainTo(output);
+            } else {
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = stream.read(chunk)) != -1) {
+                    output.write(chunk, 0, read);
+                }
+            }
+        }
+        frame.setInt(1, frame.readableBytes() - HEADER_LENGTH);
+        return Buffer.buffer(frame);
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+        synchronized (this) {
+            if (closeCalled) {
+                throw new IllegalStateException("call already closed");
+            }
+            closeCalled = true;
+            if (cancelled) {
+                return;
+            }
+            writeTrailers(status, trailers);
+        }
+        runOnContext(new Runnable() {
+            @Override
+            public void run() {
+                if (paused && !requestEnded) {
+                    paused = false;
+                    request.resume();
+                }
+                complete();
+            }
+        });
+    }
+
+    private void writeTrailers(Status status, Metadata trailers) {
+        if (!headersSent) {
+            writeHeaders(new Metadata());
+        }
+        trailers.discardAll(InternalStatus.CODE_KEY);
+        trailers.discardAll(InternalStatus.MESSAGE_KEY);
+        trailers.put(InternalStatus.CODE_KEY, status);
+        if (status.getDescription() != null) {
+            trailers.put(InternalStatus.MESSAGE_KEY, status.getDescription());
+        }
+        byte[][] serialized = TransportFrameUtil.toHttp2Headers(trailers);
+        for (int i = 0; i < serialized.length; i += 2) {
+            response.putTrailer(new String(serialized[i], StandardCharsets.US_ASCII),
+                    new String(serialized[i + 1], StandardCharsets.US_ASCII));
+        }
+        response.end();
+    }
+
+    @Override
+    public boolean isReady() {
+        return !closeCalled && !cancelled && !response.writeQueueFull();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public MethodDescriptor<ReqT, RespT> getMethodDescriptor() {
+        return method;
+    }
+
+    @Override
+    public String getAuthority() {
+        return request.host();
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        Attributes.Builder attributes = Attributes.newBuilder();
+        SocketAddress remote = request.remoteAddress();
+        if (remote != null && remote.host() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, new InetSocketAddress(remote.host(), remote.port()));
+        }
+        SocketAddress local = request.localAddress();
+        if (local != null && local.host() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_LOCAL_ADDR, new InetSocketAddress(local.host(), local.port()));
+        }
+        return attributes.build();
+    }
+
+    /**
+     * Rejects a request without starting a call
+     */
+    static void reject(HttpServerResponse response, Status status) {
+        response.setStatusCode(200);
+        response.putHeader("content-type", CONTENT_TYPE);
+        Metadata trailers = new Metadata();
+        trailers.put(InternalStatus.CODE_KEY, status);
+        if (status.getDescription() != null) {
+            trailers.put(InternalStatus.MESSAGE_KEY, status.getDescription());
+        }
+        byte[][] serialized = TransportFrameUtil.toHttp2Headers(trailers);
+        for (int i = 0; i < serialized.length; i += 2) {
+            response.putTrailer(new String(serialized[i], StandardCharsets.US_ASCII),
+                    new String(serialized[i + 1], StandardCharsets.US_ASCII));
+        }
+        response.end();
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.grpc.runtime.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.enterprise.inject.spi.Prioritized;
+import javax.inject.Singleton;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Measures the calls of the gRPC clients with Micrometer.
+ * <p>
+ * The calls whose deadline expired are recorded with the {@code DEADLINE_EXCEEDED} status code.
+ */
+@Singleton
+public class GrpcClientMetricsInterceptor implements ClientInterceptor, Prioritized {
+
+    private final Map<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        MethodMetrics methodMetrics = metricsOf(method);
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                long start = System.nanoTime();
+                methodMetrics.started();
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                    @Override
+                    public void onMessage(RespT message) {
+                        methodMetrics.inbound(message);
+                        super.onMessage(message);
+                    }
+
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        methodMetrics.completed(status.getCode(), start);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+
+            @Override
+            public void sendMessage(ReqT message) {
+                methodMetrics.outbound(message);
+                super.sendMessage(message);
+            }
+        };
+    }
+
+    private MethodMetrics metricsOf(MethodDescriptor<?, ?> method) {
+        return metrics.computeIfAbsent(method.getFullMethodName(), new Function<String, MethodMetrics>() {
+            @Override
+            public MethodMetrics apply(String fullMethodName) {
+                return new MethodMetrics(Metrics.globalRegistry, false, method);
+            }
+        });
+    }
+
+    @Override
+    public int getPriority() {
+        // measures the calls as a whole, including the other interceptors
+        return Integer.MAX_VALUE - 100;
+    }
+}
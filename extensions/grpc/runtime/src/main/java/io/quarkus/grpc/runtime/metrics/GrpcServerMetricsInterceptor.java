@@ -0,0 +1,100 @@
+package io.quarkus.grpc.runtime.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import javax.enterprise.inject.spi.Prioritized;
+import javax.inject.Singleton;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Measures the calls of the gRPC server with Micrometer.
+ * <p>
+ * The calls cancelled because their deadline expired are recorded with the {@code DEADLINE_EXCEEDED} status code.
+ */
+@Singleton
+public class GrpcServerMetricsInterceptor implements ServerInterceptor, Prioritized {
+
+    private final Map<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        MethodMetrics methodMetrics = metricsOf(call.getMethodDescriptor());
+        long start = System.nanoTime();
+        AtomicBoolean completed = new AtomicBoolean();
+        methodMetrics.started();
+
+        ServerCall<ReqT, RespT> measuredCall = new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                methodMetrics.outbound(message);
+                super.sendMessage(message);
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (completed.compareAndSet(false, true)) {
+                    methodMetrics.completed(status.getCode(), start);
+                }
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(measuredCall, headers);
+        } catch (RuntimeException e) {
+            if (completed.compareAndSet(false, true)) {
+                methodMetrics.completed(Status.Code.UNKNOWN, start);
+            }
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                methodMetrics.inbound(message);
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onCancel() {
+                if (completed.compareAndSet(false, true)) {
+                    Deadline deadline = Context.current().getDeadline();
+                    methodMetrics.completed(deadline != null && deadline.isExpired()
+                            ? Status.Code.DEADLINE_EXCEEDED
+                            : Status.Code.CANCELLED, start);
+                }
+                super.onCancel();
+            }
+        };
+    }
+
+    private MethodMetrics metricsOf(MethodDescriptor<?, ?> method) {
+        return metrics.computeIfAbsent(method.getFullMethodName(), new Function<String, MethodMetrics>() {
+            @Override
+            public MethodMetrics apply(String fullMethodName) {
+                return new MethodMetrics(Metrics.globalRegistry, true, method);
+            }
+        });
+    }
+
+    @Override
+    public int getPriority() {
+        // measures the calls as a whole, including the other interceptors
+        return Integer.MAX_VALUE - 100;
+    }
+}
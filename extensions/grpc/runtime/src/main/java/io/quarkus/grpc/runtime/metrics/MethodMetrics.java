@@ -0,0 +1,117 @@
+package io.quarkus.grpc.runtime.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.google.protobuf.MessageLite;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The meters of a gRPC method, on the server or the client side.
+ * <p>
+ * The meters are only tagged with the service, the method, the method type and the status code, whose values are
+ * bounded, so that their number does not grow with the traffic.
+ */
+final class MethodMetrics {
+
+    private final MeterRegistry registry;
+    private final String prefix;
+    private final Tags tags;
+
+    private final Counter inboundMessages;
+    private final Counter outboundMessages;
+    private final DistributionSummary inboundSize;
+    private final DistributionSummary outboundSize;
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private final Map<Status.Code, Timer> durations = new ConcurrentHashMap<>();
+
+    /**
+     * @param server whether the inbound messages are requests, and the outbound messages responses
+     */
+    MethodMetrics(MeterRegistry registry, boolean server, MethodDescriptor<?, ?> method) {
+        this.registry = registry;
+        this.prefix = server ? "grpc.server" : "grpc.client";
+        String fullMethodName = method.getFullMethodName();
+        this.tags = Tags.of("service", MethodDescriptor.extractFullServiceName(fullMethodName),
+                "method", fullMethodName.substring(fullMethodName.lastIndexOf('/') + 1),
+                "methodType", method.getType().name());
+
+        String inbound = server ? "requests.received" : "responses.received";
+        String outbound = server ? "responses.sent" : "requests.sent";
+        String inboundSizeName = server ? "request.size" : "response.size";
+        String outboundSizeName = server ? "response.size" : "request.size";
+        this.inboundMessages = Counter.builder(prefix + "." + inbound)
+                .description("Number of stream messages received")
+                .tags(tags)
+                .register(registry);
+        this.outboundMessages = Counter.builder(prefix + "." + outbound)
+                .description("Number of stream messages sent")
+                .tags(tags)
+                .register(registry);
+        this.inboundSize = DistributionSummary.builder(prefix + "." + inboundSizeName)
+                .description("Serialized size of the " + (server ? "requests" : "responses") + " received")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+        this.outboundSize = DistributionSummary.builder(prefix + "." + outboundSizeName)
+                .description("Serialized size of the " + (server ? "responses" : "requests") + " sent")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(prefix + ".calls.active", activeCalls, AtomicInteger::get)
+                .description("Number of calls in progress")
+                .tags(tags)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    void started() {
+        activeCalls.incrementAndGet();
+    }
+
+    void inbound(Object message) {
+        inboundMessages.increment();
+        record(inboundSize, message);
+    }
+
+    void outbound(Object message) {
+        outboundMessages.increment();
+        record(outboundSize, message);
+    }
+
+    /**
+     * @param startNanos the {@link System#nanoTime()} at the start of the call
+     */
+    void completed(Status.Code code, long startNanos) {
+        activeCalls.decrementAndGet();
+        durations.computeIfAbsent(code, new Function<Status.Code, Timer>() {
+            @Override
+            public Timer apply(Status.Code statusCode) {
+                return Timer.builder(prefix + ".processing.duration")
+                        .description("Duration of the calls, from their start to their completion")
+                        .tags(tags)
+                        .tag("statusCode", statusCode.name())
+                        .publishPercentileHistogram()
+                        .register(registry);
+            }
+        }).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static void record(DistributionSummary size, Object message) {
+        // the size is computed once by protobuf, and reused to serialize the message
+        if (message instanceof MessageLite) {
+            size.record(((MessageLite) message).getSerializedSize());
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.grpc.runtime.GrpcClientInterceptorContainer;
 import io.quarkus.grpc.runtime.annotations.GrpcServiceLiteral;
 import io.quarkus.grpc.runtime.config.GrpcClientConfiguration;
+import io.quarkus.grpc.runtime.supports.loadbalancing.LoadBalancing;
 
 @SuppressWarnings({ "OptionalIsPresent", "Convert2Lambda" })
 public class Channels {
@@ -39,8 +40,6 @@ public class Channels {
         }
 
         GrpcClientConfiguration config = instance.get().getConfiguration(name);
-        String host = config.host;
-        int port = config.port;
         boolean plainText = !config.ssl.trustStore.isPresent();
         Optional<Boolean> usePlainText = config.plainText;
         if (usePlainText.isPresent()) {
@@ -64,7 +63,7 @@ public class Channels {
             context = sslContextBuilder.build();
         }
 
-        NettyChannelBuilder builder = NettyChannelBuilder.forAddress(host, port)
+        NettyChannelBuilder builder = LoadBalancing.channelBuilder(name, config)
                 .flowControlWindow(config.flowControlWindow.orElse(DEFAULT_FLOW_CONTROL_WINDOW))
                 .keepAliveWithoutCalls(config.keepAliveWithoutCalls)
                 .maxHedgedAttempts(config.maxHedgedAttempts)
@@ -73,6 +72,8 @@ public class Channels {
                 .maxInboundMetadataSize(config.maxInboundMessageSize.orElse(DEFAULT_MAX_MESSAGE_SIZE))
                 .negotiationType(NegotiationType.valueOf(config.negotiationType.toUpperCase()));
 
+        LoadBalancing.configure(builder, name, config.loadBalancing);
+
         if (config.retry) {
             builder.enableRetry();
         } else {
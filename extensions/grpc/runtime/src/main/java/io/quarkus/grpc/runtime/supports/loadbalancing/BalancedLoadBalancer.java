@@ -0,0 +1,262 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.Attributes;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+import io.quarkus.grpc.runtime.config.LoadBalancingConfig;
+
+/**
+ * Balances the calls across several subchannels per address, with the round-robin or least-request policy.
+ * <p>
+ * All the methods are called from the synchronization context of the channel, except the pickers.
+ */
+final class BalancedLoadBalancer extends LoadBalancer {
+
+    private final Helper helper;
+    private final SubchannelListener listener;
+
+    private final Map<EquivalentAddressGroup, List<SubchannelStats>> subchannels = new LinkedHashMap<>();
+    private BalancedLoadBalancerProvider.Config config;
+    private SynchronizationContext.ScheduledHandle refreshTask;
+    private ConnectivityState currentState;
+    private Status lastFailure = Status.UNAVAILABLE.withDescription("No ready subchannel");
+
+    BalancedLoadBalancer(Helper helper, SubchannelListener listener) {
+        this.helper = helper;
+        this.listener = listener;
+    }
+
+    @Override
+    public void handleResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+        config = (BalancedLoadBalancerProvider.Config) resolvedAddresses.getLoadBalancingPolicyConfig();
+
+        // the attributes of the groups are ignored, so that they do not make the same address look different
+        Set<EquivalentAddressGroup> addresses = new HashSet<>();
+        for (EquivalentAddressGroup group : resolvedAddresses.getAddresses()) {
+            addresses.add(new EquivalentAddressGroup(group.getAddresses()));
+        }
+
+        Iterator<Map.Entry<EquivalentAddressGroup, List<SubchannelStats>>> iterator = subchannels.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<EquivalentAddressGroup, List<SubchannelStats>> entry = iterator.next();
+            if (!addresses.contains(entry.getKey())) {
+                iterator.remove();
+                for (SubchannelStats subchannel : entry.getValue()) {
+                    close(subchannel);
+                }
+            }
+        }
+        for (EquivalentAddressGroup address : addresses) {
+            if (!subchannels.containsKey(address)) {
+                List<SubchannelStats> group = new ArrayList<>(config.subchannelsPerAddress);
+                for (int i = 0; i < config.subchannelsPerAddress; i++) {
+                    group.add(open(address, i));
+                }
+                subchannels.put(address, group);
+            }
+        }
+
+        scheduleRefresh();
+        updateBalancingState();
+    }
+
+    private SubchannelStats open(EquivalentAddressGroup address, int index) {
+        Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                .setAddresses(address)
+                .setAttributes(Attributes.EMPTY)
+                .build());
+        SubchannelStats stats = new SubchannelStats(config.clientName, addressOf(address), index, subchannel);
+        subchannel.start(new SubchannelStateListener() {
+            @Override
+            public void onSubchannelState(ConnectivityStateInfo state) {
+                processSubchannelState(stats, state);
+            }
+        });
+        subchannel.requestConnection();
+        if (listener != null) {
+            listener.opened(stats);
+        }
+        return stats;
+    }
+
+    private void close(SubchannelStats subchannel) {
+        subchannel.subchannel.shutdown();
+        subchannel.state = ConnectivityState.SHUTDOWN;
+        if (listener != null) {
+            listener.closed(subchannel);
+        }
+    }
+
+    private static String addressOf(EquivalentAddressGroup address) {
+        String text = address.getAddresses().get(0).toString();
+        // InetSocketAddress.toString() is hostname/ip:port
+        return text.startsWith("/") ? text.substring(1) : text;
+    }
+
+    private void processSubchannelState(SubchannelStats subchannel, ConnectivityStateInfo stateInfo) {
+        if (subchannel.state == ConnectivityState.SHUTDOWN) {
+            return;
+        }
+        ConnectivityState state = stateInfo.getState();
+        if (state == ConnectivityState.TRANSIENT_FAILURE || state == ConnectivityState.IDLE) {
+            // the instance may be gone, or replaced
+            helper.refreshNameResolution();
+        }
+        if (state == ConnectivityState.TRANSIENT_FAILURE) {
+            lastFailure = stateInfo.getStatus();
+        }
+        if (state == ConnectivityState.IDLE) {
+            subchannel.subchannel.requestConnection();
+        }
+        subchannel.state = state;
+        updateBalancingState();
+    }
+
+    private void updateBalancingState() {
+        List<SubchannelStats> ready = new ArrayList<>();
+        boolean connecting = false;
+        for (List<SubchannelStats> group : subchannels.values()) {
+            for (SubchannelStats subchannel : group) {
+                if (subchannel.state == ConnectivityState.READY) {
+                    ready.add(subchannel);
+                } else if (subchannel.state == ConnectivityState.CONNECTING
+                        || subchannel.state == ConnectivityState.IDLE) {
+                    connecting = true;
+                }
+            }
+        }
+        if (!ready.isEmpty()) {
+            SubchannelPicker picker = config.policy == LoadBalancingConfig.Policy.LEAST_REQUEST
+                    ? new LeastRequestPicker(ready)
+                    : new RoundRobinPicker(ready);
+            updateBalancingState(ConnectivityState.READY, picker);
+        } else if (connecting) {
+            updateBalancingState(ConnectivityState.CONNECTING, new FixedPicker(PickResult.withNoResult()));
+        } else {
+            updateBalancingState(ConnectivityState.TRANSIENT_FAILURE, new FixedPicker(PickResult.withError(lastFailure)));
+        }
+    }
+
+    private void updateBalancingState(ConnectivityState state, SubchannelPicker picker) {
+        currentState = state;
+        helper.updateBalancingState(state, picker);
+    }
+
+    private void scheduleRefresh() {
+        if (config.refreshIntervalMillis <= 0 || refreshTask != null && refreshTask.isPending()) {
+            return;
+        }
+        refreshTask = helper.getSynchronizationContext().schedule(new Runnable() {
+            @Override
+            public void run() {
+                helper.refreshNameResolution();
+                scheduleRefresh();
+            }
+        }, config.refreshIntervalMillis, TimeUnit.MILLISECONDS, helper.getScheduledExecutorService());
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+        if (currentState != ConnectivityState.READY) {
+            updateBalancingState(ConnectivityState.TRANSIENT_FAILURE, new FixedPicker(PickResult.withError(error)));
+        }
+    }
+
+    @Override
+    public void requestConnection() {
+        for (List<SubchannelStats> group : subchannels.values()) {
+            for (SubchannelStats subchannel : group) {
+                subchannel.subchannel.requestConnection();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        for (List<SubchannelStats> group : subchannels.values()) {
+            for (SubchannelStats subchannel : group) {
+                close(subchannel);
+            }
+        }
+        subchannels.clear();
+    }
+
+    private static final class FixedPicker extends SubchannelPicker {
+
+        private final PickResult result;
+
+        FixedPicker(PickResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            return result;
+        }
+    }
+
+    private static final class RoundRobinPicker extends SubchannelPicker {
+
+        private final List<SubchannelStats> ready;
+        private final AtomicInteger next;
+
+        RoundRobinPicker(List<SubchannelStats> ready) {
+            this.ready = ready;
+            // so that the channels do not all start with the same subchannel
+            this.next = new AtomicInteger(ThreadLocalRandom.current().nextInt(ready.size()));
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            return ready.get(Math.floorMod(next.getAndIncrement(), ready.size())).pick();
+        }
+    }
+
+    /**
+     * Picks the subchannel with the fewest calls in progress out of two random ones, which avoids both the cost of
+     * scanning all the subchannels and sending all the calls to the same subchannel.
+     */
+    private static final class LeastRequestPicker extends SubchannelPicker {
+
+        private final List<SubchannelStats> ready;
+
+        LeastRequestPicker(List<SubchannelStats> ready) {
+            this.ready = ready;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            if (ready.size() == 1) {
+                return ready.get(0).pick();
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(ready.size());
+            int second = random.nextInt(ready.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            SubchannelStats a = ready.get(first);
+            SubchannelStats b = ready.get(second);
+            return (a.getActiveCalls() <= b.getActiveCalls() ? a : b).pick();
+        }
+    }
+}
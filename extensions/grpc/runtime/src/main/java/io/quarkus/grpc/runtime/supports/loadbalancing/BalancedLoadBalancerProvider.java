@@ -0,0 +1,102 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.quarkus.grpc.runtime.config.LoadBalancingConfig;
+
+/**
+ * Provides the {@link BalancedLoadBalancer}, configured by the load balancing config of the default service config of
+ * the channel.
+ */
+public class BalancedLoadBalancerProvider extends LoadBalancerProvider {
+
+    static final String POLICY_NAME = "quarkus_balanced";
+
+    private static final String CLIENT = "client";
+    private static final String POLICY = "policy";
+    private static final String SUBCHANNELS_PER_ADDRESS = "subchannelsPerAddress";
+    private static final String REFRESH_INTERVAL_MILLIS = "refreshIntervalMillis";
+
+    private volatile SubchannelListener listener;
+
+    void setListener(SubchannelListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the load balancing config of the given client, as expected in a service config
+     */
+    static Map<String, Object> config(String clientName, LoadBalancingConfig config) {
+        Map<String, Object> policyConfig = new HashMap<>();
+        policyConfig.put(CLIENT, clientName);
+        policyConfig.put(POLICY, config.policy.name());
+        // the numbers of a service config are doubles, like in JSON
+        policyConfig.put(SUBCHANNELS_PER_ADDRESS, (double) config.subchannelsPerAddress);
+        if (config.refreshInterval.isPresent()) {
+            policyConfig.put(REFRESH_INTERVAL_MILLIS, (double) config.refreshInterval.get().toMillis());
+        }
+        return policyConfig;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return POLICY_NAME;
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new BalancedLoadBalancer(helper, listener);
+    }
+
+    @Override
+    public NameResolver.ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+        try {
+            Config config = new Config((String) rawConfig.get(CLIENT),
+                    LoadBalancingConfig.Policy.valueOf((String) rawConfig.get(POLICY)),
+                    ((Number) rawConfig.get(SUBCHANNELS_PER_ADDRESS)).intValue(),
+                    rawConfig.containsKey(REFRESH_INTERVAL_MILLIS)
+                            ? ((Number) rawConfig.get(REFRESH_INTERVAL_MILLIS)).longValue()
+                            : 0);
+            if (config.subchannelsPerAddress < 1) {
+                return NameResolver.ConfigOrError.fromError(Status.INVALID_ARGUMENT.withDescription(
+                        "The number of subchannels per address of the gRPC client " + config.clientName
+                                + " must be positive"));
+            }
+            return NameResolver.ConfigOrError.fromConfig(config);
+        } catch (RuntimeException e) {
+            return NameResolver.ConfigOrError.fromError(Status.INVALID_ARGUMENT.withCause(e)
+                    .withDescription("Invalid load balancing config: " + rawConfig));
+        }
+    }
+
+    static final class Config {
+
+        final String clientName;
+        final LoadBalancingConfig.Policy policy;
+        final int subchannelsPerAddress;
+        final long refreshIntervalMillis;
+
+        Config(String clientName, LoadBalancingConfig.Policy policy, int subchannelsPerAddress,
+                long refreshIntervalMillis) {
+            this.clientName = clientName;
+            this.policy = policy;
+            this.subchannelsPerAddress = subchannelsPerAddress;
+            this.refreshIntervalMillis = refreshIntervalMillis;
+        }
+    }
+}
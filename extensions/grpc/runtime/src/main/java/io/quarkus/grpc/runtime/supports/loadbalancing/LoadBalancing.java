@@ -0,0 +1,65 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.grpc.LoadBalancerRegistry;
+import io.grpc.NameResolverRegistry;
+import io.grpc.netty.NettyChannelBuilder;
+import io.quarkus.grpc.runtime.config.GrpcClientConfiguration;
+import io.quarkus.grpc.runtime.config.LoadBalancingConfig;
+
+/**
+ * Configures the client-side load balancing of the channels.
+ * <p>
+ * The providers are registered programmatically rather than as services, as the services are not loaded in native
+ * mode.
+ */
+public final class LoadBalancing {
+
+    private static final StaticNameResolverProvider NAME_RESOLVER_PROVIDER = new StaticNameResolverProvider();
+    private static final BalancedLoadBalancerProvider LOAD_BALANCER_PROVIDER = new BalancedLoadBalancerProvider();
+
+    static {
+        NameResolverRegistry.getDefaultRegistry().register(NAME_RESOLVER_PROVIDER);
+        LoadBalancerRegistry.getDefaultRegistry().register(LOAD_BALANCER_PROVIDER);
+    }
+
+    private LoadBalancing() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * @param listener notified of the subchannels of the balanced channels
+     */
+    public static void setSubchannelListener(SubchannelListener listener) {
+        LOAD_BALANCER_PROVIDER.setListener(listener);
+    }
+
+    /**
+     * @return a builder of a channel to the addresses of the given client, or to its host and port
+     */
+    public static NettyChannelBuilder channelBuilder(String name, GrpcClientConfiguration config) {
+        if (config.addresses.isPresent()) {
+            List<String> addresses = config.addresses.get();
+            return NettyChannelBuilder.forTarget(NAME_RESOLVER_PROVIDER.target(name, addresses));
+        }
+        return NettyChannelBuilder.forAddress(config.host, config.port);
+    }
+
+    /**
+     * Makes the channel balance its calls with the configured policy, if not {@code pick-first}
+     */
+    public static void configure(NettyChannelBuilder builder, String name, LoadBalancingConfig config) {
+        if (config.policy == LoadBalancingConfig.Policy.PICK_FIRST) {
+            return;
+        }
+        Map<String, Object> serviceConfig = new HashMap<>();
+        serviceConfig.put("loadBalancingConfig", Collections.singletonList(
+                Collections.singletonMap(BalancedLoadBalancerProvider.POLICY_NAME,
+                        BalancedLoadBalancerProvider.config(name, config))));
+        builder.defaultServiceConfig(serviceConfig);
+    }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.Status;
+
+/**
+ * Resolves the {@code static://<client name>} targets to the addresses configured for the client.
+ */
+public class StaticNameResolverProvider extends NameResolverProvider {
+
+    static final String SCHEME = "static";
+
+    private final Map<String, List<String>> addressesPerClient = new ConcurrentHashMap<>();
+
+    /**
+     * @return the target resolved to the given addresses
+     */
+    String target(String clientName, List<String> addresses) {
+        addressesPerClient.put(clientName, addresses);
+        return SCHEME + "://" + clientName;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String clientName = targetUri.getAuthority();
+        List<String> addresses = addressesPerClient.get(clientName);
+        if (addresses == null) {
+            return null;
+        }
+        return new StaticNameResolver(clientName, addresses);
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+
+    private static final class StaticNameResolver extends NameResolver {
+
+        private final String clientName;
+        private final List<String> addresses;
+
+        StaticNameResolver(String clientName, List<String> addresses) {
+            this.clientName = clientName;
+            this.addresses = addresses;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            return clientName;
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            List<EquivalentAddressGroup> groups = new ArrayList<>(addresses.size());
+            for (String address : addresses) {
+                int separator = address.lastIndexOf(':');
+                if (separator < 0) {
+                    listener.onError(Status.INVALID_ARGUMENT.withDescription(
+                            "The address " + address + " of the gRPC client " + clientName + " is not host:port"));
+                    return;
+                }
+                String host = address.substring(0, separator);
+                if (host.startsWith("[") && host.endsWith("]")) {
+                    host = host.substring(1, host.length() - 1);
+                }
+                int port;
+                try {
+                    port = Integer.parseInt(address.substring(separator + 1));
+                } catch (NumberFormatException e) {
+                    listener.onError(Status.INVALID_ARGUMENT.withDescription(
+                            "The address " + address + " of the gRPC client " + clientName + " has an invalid port"));
+                    return;
+                }
+                groups.add(new EquivalentAddressGroup(new InetSocketAddress(host, port)));
+            }
+            listener.onResult(ResolutionResult.newBuilder()
+                    .setAddresses(groups)
+                    .setAttributes(Attributes.EMPTY)
+                    .build());
+        }
+
+        @Override
+        public void shutdown() {
+            // nothing to release
+        }
+    }
+}
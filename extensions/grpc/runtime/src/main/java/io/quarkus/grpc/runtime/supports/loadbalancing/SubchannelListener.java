@@ -0,0 +1,11 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+/**
+ * Notified of the subchannels opened and closed by the balanced channels, e.g. to export their statistics.
+ */
+public interface SubchannelListener {
+
+    void opened(SubchannelStats subchannel);
+
+    void closed(SubchannelStats subchannel);
+}
@@ -0,0 +1,60 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Delay reference to micrometer dependencies
+ */
+public class SubchannelMicrometerMetrics implements SubchannelListener {
+
+    private final MeterRegistry registry = Metrics.globalRegistry;
+    private final Map<SubchannelStats, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public void opened(SubchannelStats subchannel) {
+        Tags tags = Tags.of("client", subchannel.getClientName(),
+                "address", subchannel.getAddress(),
+                "subchannel", Integer.toString(subchannel.getIndex()));
+        List<Meter> subchannelMeters = new ArrayList<>();
+        subchannelMeters.add(Gauge.builder("grpc.client.subchannel.ready", subchannel, s -> s.isReady() ? 1 : 0)
+                .description("Whether the subchannel is connected and ready to send calls")
+                .tags(tags)
+                .register(registry));
+        subchannelMeters.add(Gauge.builder("grpc.client.subchannel.active.calls", subchannel,
+                SubchannelStats::getActiveCalls)
+                .description("Number of calls in progress on the subchannel")
+                .tags(tags)
+                .register(registry));
+        subchannelMeters.add(FunctionCounter.builder("grpc.client.subchannel.calls", subchannel,
+                SubchannelStats::getCalls)
+                .description("Number of calls sent on the subchannel")
+                .tags(tags)
+                .register(registry));
+        subchannelMeters.add(FunctionCounter.builder("grpc.client.subchannel.failed.calls", subchannel,
+                SubchannelStats::getFailedCalls)
+                .description("Number of calls sent on the subchannel which failed")
+                .tags(tags)
+                .register(registry));
+        meters.put(subchannel, subchannelMeters);
+    }
+
+    @Override
+    public void closed(SubchannelStats subchannel) {
+        List<Meter> subchannelMeters = meters.remove(subchannel);
+        if (subchannelMeters != null) {
+            for (Meter meter : subchannelMeters) {
+                registry.remove(meter);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.grpc.runtime.supports.loadbalancing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.Status;
+
+/**
+ * A subchannel of a balanced channel, with the statistics of its calls.
+ */
+public final class SubchannelStats {
+
+    private final String clientName;
+    private final String address;
+    private final int index;
+    final LoadBalancer.Subchannel subchannel;
+
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+    volatile ConnectivityState state = ConnectivityState.IDLE;
+
+    private final ClientStreamTracer.Factory tracerFactory = new ClientStreamTracer.Factory() {
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            return new ClientStreamTracer() {
+                @Override
+                public void streamClosed(Status status) {
+                    activeCalls.decrementAndGet();
+                    if (!status.isOk()) {
+                        failedCalls.incrementAndGet();
+                    }
+                }
+            };
+        }
+    };
+
+    SubchannelStats(String clientName, String address, int index, LoadBalancer.Subchannel subchannel) {
+        this.clientName = clientName;
+        this.address = address;
+        this.index = index;
+        this.subchannel = subchannel;
+    }
+
+    /**
+     * Counts a call sent to the subchannel, until the returned tracer is notified that the call is closed
+     */
+    LoadBalancer.PickResult pick() {
+        activeCalls.incrementAndGet();
+        calls.incrementAndGet();
+        return LoadBalancer.PickResult.withSubchannel(subchannel, tracerFactory);
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * @return the index of the subchannel among the subchannels of its address
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isReady() {
+        return state == ConnectivityState.READY;
+    }
+
+    /**
+     * @return the number of calls in progress
+     */
+    public int getActiveCalls() {
+        return activeCalls.get();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.get();
+    }
+}
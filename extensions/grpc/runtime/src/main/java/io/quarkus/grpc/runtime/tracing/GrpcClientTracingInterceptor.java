@@ -0,0 +1,72 @@
+package io.quarkus.grpc.runtime.tracing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.enterprise.inject.spi.Prioritized;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.propagation.Format;
+import io.opentracing.tag.Tags;
+
+/**
+ * Traces the calls of the gRPC clients, as children of the active span, and propagates the trace to the server.
+ */
+@Singleton
+public class GrpcClientTracingInterceptor implements ClientInterceptor, Prioritized {
+
+    @Inject
+    Tracer tracer;
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+
+            private Span span;
+            private final AtomicBoolean finished = new AtomicBoolean();
+
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                span = tracer.buildSpan(method.getFullMethodName())
+                        .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_CLIENT)
+                        .withTag(Tags.COMPONENT.getKey(), GrpcServerTracingInterceptor.COMPONENT)
+                        .withTag(Tags.PEER_SERVICE.getKey(), next.authority())
+                        .start();
+                tracer.inject(span.context(), Format.Builtin.HTTP_HEADERS, new MetadataTextMap(headers));
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        GrpcServerTracingInterceptor.finish(span, finished, status.getCode());
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+
+            @Override
+            public void cancel(String message, Throwable cause) {
+                if (span != null) {
+                    span.log(message != null ? message : "cancelled");
+                }
+                super.cancel(message, cause);
+            }
+        };
+    }
+
+    @Override
+    public int getPriority() {
+        // traces the calls as a whole, including the other interceptors
+        return Integer.MAX_VALUE - 50;
+    }
+}
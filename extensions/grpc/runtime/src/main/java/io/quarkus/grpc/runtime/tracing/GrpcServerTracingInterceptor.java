@@ -0,0 +1,120 @@
+package io.quarkus.grpc.runtime.tracing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.enterprise.inject.spi.Prioritized;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.SpanContext;
+import io.opentracing.Tracer;
+import io.opentracing.propagation.Format;
+import io.opentracing.tag.Tags;
+
+/**
+ * Traces the calls of the gRPC server, continuing the trace propagated by the client if any.
+ * <p>
+ * The span is active while the listener of the call is notified, so that the spans started by the service methods,
+ * e.g. by the calls they make, are its children.
+ */
+@Singleton
+public class GrpcServerTracingInterceptor implements ServerInterceptor, Prioritized {
+
+    static final String COMPONENT = "grpc";
+    static final String STATUS_TAG = "grpc.status";
+
+    @Inject
+    Tracer tracer;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        SpanContext parent = tracer.extract(Format.Builtin.HTTP_HEADERS, new MetadataTextMap(headers));
+        Span span = tracer.buildSpan(call.getMethodDescriptor().getFullMethodName())
+                .asChildOf(parent)
+                .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_SERVER)
+                .withTag(Tags.COMPONENT.getKey(), COMPONENT)
+                .start();
+        AtomicBoolean finished = new AtomicBoolean();
+
+        ServerCall<ReqT, RespT> tracedCall = new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                finish(span, finished, status.getCode());
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+            listener = next.startCall(tracedCall, headers);
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                    super.onMessage(message);
+                }
+            }
+
+            @Override
+            public void onHalfClose() {
+                try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                    super.onHalfClose();
+                }
+            }
+
+            @Override
+            public void onReady() {
+                try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                    super.onReady();
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                Deadline deadline = Context.current().getDeadline();
+                finish(span, finished, deadline != null && deadline.isExpired()
+                        ? Status.Code.DEADLINE_EXCEEDED
+                        : Status.Code.CANCELLED);
+                try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                    super.onCancel();
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                    super.onComplete();
+                }
+            }
+        };
+    }
+
+    static void finish(Span span, AtomicBoolean finished, Status.Code code) {
+        if (finished.compareAndSet(false, true)) {
+            span.setTag(STATUS_TAG, code.name());
+            if (code != Status.Code.OK) {
+                Tags.ERROR.set(span, true);
+            }
+            span.finish();
+        }
+    }
+
+    @Override
+    public int getPriority() {
+        // traces the calls as a whole, including the other interceptors
+        return Integer.MAX_VALUE - 50;
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.grpc.runtime.tracing;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import io.grpc.Metadata;
+import io.opentracing.propagation.TextMap;
+
+/**
+ * Propagates the span contexts in the ASCII headers of the calls.
+ */
+final class MetadataTextMap implements TextMap {
+
+    private final Metadata metadata;
+
+    MetadataTextMap(Metadata metadata) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator() {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        for (String key : metadata.keys()) {
+            if (key.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                continue;
+            }
+            String value = metadata.get(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER));
+            if (value != null) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+            }
+        }
+        return entries.iterator();
+    }
+
+    @Override
+    public void put(String key, String value) {
+        Metadata.Key<String> metadataKey = Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER);
+        metadata.discardAll(metadataKey);
+        metadata.put(metadataKey, value);
+    }
+}
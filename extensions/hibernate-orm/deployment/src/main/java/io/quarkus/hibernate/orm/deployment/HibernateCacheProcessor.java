@@ -1,8 +1,14 @@
 package io.quarkus.hibernate.orm.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.hibernate.orm.runtime.cache.InfinispanSharedCacheStore;
+import io.quarkus.hibernate.orm.runtime.cache.SharedCacheStore;
 
 /**
  * TODO: is this the correct place for this? Should the cache have its own extension?
@@ -22,4 +28,24 @@ public final class HibernateCacheProcessor {
         reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, classes));
     }
 
+    @BuildStep
+    public void distributedCache(HibernateOrmConfig hibernateOrmConfig, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!hibernateOrmConfig.isDistributedCacheEnabled()) {
+            return;
+        }
+
+        // the store is looked up programmatically by the region factory
+        unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(SharedCacheStore.class));
+
+        if (capabilities.isPresent(Capability.INFINISPAN_CLIENT)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(InfinispanSharedCacheStore.class));
+            // client listeners are introspected by the Hot Rod client
+            reflectiveClass.produce(
+                    new ReflectiveClassBuildItem(true, false, InfinispanSharedCacheStore.InvalidationListener.class));
+        }
+    }
+
 }
@@ -46,12 +46,32 @@ public class HibernateOrmConfig {
     @ConfigItem(name = "metrics.enabled")
     public boolean metricsEnabled;
 
+    /**
+     * Per-request query accounting configuration.
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public HibernateOrmConfigQueryAccounting queryAccounting;
+
     public boolean isAnyPropertySet() {
         return defaultPersistenceUnit.isAnyPropertySet() ||
                 !persistenceUnits.isEmpty() ||
                 log.isAnyPropertySet() ||
                 statistics.isPresent() ||
-                metricsEnabled;
+                metricsEnabled ||
+                queryAccounting.isAnyPropertySet();
+    }
+
+    public boolean isDistributedCacheEnabled() {
+        if (defaultPersistenceUnit.distributedCache.enabled) {
+            return true;
+        }
+        for (HibernateOrmConfigPersistenceUnit persistenceUnit : persistenceUnits.values()) {
+            if (persistenceUnit.distributedCache.enabled) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @ConfigGroup
@@ -69,4 +89,28 @@ public class HibernateOrmConfig {
             return bindParam;
         }
     }
+
+    @ConfigGroup
+    public static class HibernateOrmConfigQueryAccounting {
+
+        /**
+         * Whether the SQL statements and lazy loads performed while serving each request are counted.
+         * <p>
+         * Associations lazily loaded one by one too many times in a single request are logged as possible N+1 select
+         * issues and, if Micrometer metrics are enabled, the counts are published as histograms per endpoint.
+         */
+        @ConfigItem
+        public boolean enabled;
+
+        /**
+         * The number of lazy loads of the same association in a single request from which a possible N+1 select issue
+         * is logged.
+         */
+        @ConfigItem(defaultValue = "10")
+        public int nPlusOneThreshold;
+
+        public boolean isAnyPropertySet() {
+            return enabled || nPlusOneThreshold != 10;
+        }
+    }
 }
@@ -162,6 +162,13 @@ public class HibernateOrmConfigPersistenceUnit {
     @ConfigItem(defaultValue = "true")
     public boolean secondLevelCachingEnabled;
 
+    /**
+     * Distributed 2nd level cache configuration.
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public HibernateOrmConfigPersistenceUnitDistributedCache distributedCache;
+
     /**
      * Defines the method for multi-tenancy (DATABASE, NONE, SCHEMA). The complete list of allowed values is available in the
      * https://docs.jboss.org/hibernate/stable/orm/javadocs/org/hibernate/MultiTenancyStrategy.html[Hibernate ORM JavaDoc].
@@ -194,6 +201,7 @@ public class HibernateOrmConfigPersistenceUnit {
                 log.isAnyPropertySet() ||
                 !cache.isEmpty() ||
                 !secondLevelCachingEnabled ||
+                distributedCache.isAnyPropertySet() ||
                 multitenant.isPresent() ||
                 multitenantSchemaDatasource.isPresent() ||
                 fetch.isAnyPropertySet();
@@ -419,6 +427,48 @@ public class HibernateOrmConfigPersistenceUnit {
         public OptionalLong objectCount;
     }
 
+    @ConfigGroup
+    public static class HibernateOrmConfigPersistenceUnitDistributedCache {
+        /**
+         * Whether the 2nd level cache is shared by all the instances of the application instead of being local to each
+         * of them.
+         * <p>
+         * Entries are stored in a remote cache, provided by the infinispan-client extension unless the application
+         * provides its own `io.quarkus.hibernate.orm.runtime.cache.SharedCacheStore` bean, and each instance keeps a
+         * local near cache which is invalidated whenever an entry is changed by any instance.
+         * The `cache."region".memory.object-count` setting bounds the size of the near cache of a region, and
+         * `cache."region".expiration.max-idle` applies to the entries of the remote cache.
+         *
+         * @asciidoclet
+         */
+        @ConfigItem
+        public boolean enabled;
+
+        /**
+         * The name of the remote cache.
+         * <p>
+         * Defaults to `hibernate-second-level-cache`, suffixed by the name of the persistence unit for named
+         * persistence units.
+         *
+         * @asciidoclet
+         */
+        @ConfigItem
+        public Optional<String> remoteCache;
+
+        /**
+         * The maximum time an entry of the remote cache is kept without being accessed, for the regions which don't
+         * define their own `cache."region".expiration.max-idle`.
+         *
+         * @asciidoclet
+         */
+        @ConfigItem(defaultValue = "1H")
+        public Duration maxIdle;
+
+        public boolean isAnyPropertySet() {
+            return enabled || remoteCache.isPresent() || !Duration.ofHours(1).equals(maxIdle);
+        }
+    }
+
     @ConfigGroup
     public static class HibernateOrmConfigPersistenceUnitFetch {
         /**
@@ -113,14 +113,18 @@ import io.quarkus.hibernate.orm.runtime.JPAConfigSupport;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.RequestScopedEntityManagerHolder;
 import io.quarkus.hibernate.orm.runtime.TransactionEntityManagers;
+import io.quarkus.hibernate.orm.runtime.accounting.QueryAccountingIntegrator;
+import io.quarkus.hibernate.orm.runtime.accounting.RequestQueryStatistics;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDefinition;
 import io.quarkus.hibernate.orm.runtime.boot.scan.QuarkusScanner;
+import io.quarkus.hibernate.orm.runtime.cache.DistributedRegionFactory;
 import io.quarkus.hibernate.orm.runtime.dialect.QuarkusH2Dialect;
 import io.quarkus.hibernate.orm.runtime.dialect.QuarkusPostgreSQL10Dialect;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.tenant.DataSourceTenantConnectionResolver;
 import io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionResolver;
 import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import net.bytebuddy.description.type.TypeDescription;
@@ -213,6 +217,16 @@ public final class HibernateOrmProcessor {
         }
     }
 
+    @BuildStep
+    public void registerQueryAccountingEndpointFilter(Capabilities capabilities, HibernateOrmConfig hibernateOrmConfig,
+            BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        if (hibernateOrmConfig.queryAccounting.enabled && capabilities.isPresent(Capability.RESTEASY)) {
+            // the statistics of a JAX-RS request are published for the path template of its resource method
+            providers.produce(new ResteasyJaxrsProviderBuildItem(
+                    "io.quarkus.hibernate.orm.runtime.accounting.QueryAccountingEndpointFilter"));
+        }
+    }
+
     @BuildStep
     List<HotDeploymentWatchedFileBuildItem> hotDeploymentWatchedFiles(LaunchModeBuildItem launchMode) {
         List<HotDeploymentWatchedFileBuildItem> watchedFiles = new ArrayList<>();
@@ -364,6 +378,7 @@ public final class HibernateOrmProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder,
+            HibernateOrmConfig hibernateOrmConfig,
             Capabilities capabilities,
             JpaEntitiesBuildItem domainObjects,
             List<NonJpaModelBuildItem> nonJpaModelBuildItems,
@@ -401,6 +416,10 @@ public final class HibernateOrmProcessor {
         for (String integratorClassName : ServiceUtil.classNamesNamedIn(classLoader, INTEGRATOR_SERVICE_FILE)) {
             integratorClasses.add((Class<? extends Integrator>) recorderContext.classProxy(integratorClassName));
         }
+        if (hibernateOrmConfig.queryAccounting.enabled) {
+            integratorClasses.add(QueryAccountingIntegrator.class);
+            recorder.enableQueryAccounting(hibernateOrmConfig.queryAccounting.nPlusOneThreshold);
+        }
 
         List<QuarkusPersistenceUnitDefinition> finalStagePUDescriptors = new ArrayList<>();
         for (PersistenceUnitDescriptorBuildItem pud : persistenceUnitDescriptorBuildItems) {
@@ -452,6 +471,10 @@ public final class HibernateOrmProcessor {
             unremovableClasses.add(TransactionEntityManagers.class);
         }
         unremovableClasses.add(RequestScopedEntityManagerHolder.class);
+        if (hibernateOrmConfig.queryAccounting.enabled) {
+            // looked up programmatically by the Hibernate ORM listeners
+            unremovableClasses.add(RequestQueryStatistics.class);
+        }
 
         additionalBeans.produce(AdditionalBeanBuildItem.builder().setUnremovable()
                 .addBeanClasses(unremovableClasses.toArray(new Class<?>[unremovableClasses.size()]))
@@ -850,6 +873,18 @@ public final class HibernateOrmProcessor {
         // Caching
         if (persistenceUnitConfig.secondLevelCachingEnabled) {
             Properties p = descriptor.getProperties();
+            if (persistenceUnitConfig.distributedCache.enabled) {
+                // entries are serialized to be sent to the shared tier
+                p.put(USE_DIRECT_REFERENCE_CACHE_ENTRIES, Boolean.FALSE);
+                p.setProperty(AvailableSettings.CACHE_REGION_FACTORY, DistributedRegionFactory.class.getName());
+                p.setProperty(DistributedRegionFactory.REMOTE_CACHE,
+                        persistenceUnitConfig.distributedCache.remoteCache.orElse(
+                                PersistenceUnitUtil.isDefaultPersistenceUnit(persistenceUnitName)
+                                        ? "hibernate-second-level-cache"
+                                        : "hibernate-second-level-cache-" + persistenceUnitName));
+                p.setProperty(DistributedRegionFactory.DEFAULT_MAX_IDLE,
+                        String.valueOf(persistenceUnitConfig.distributedCache.maxIdle.getSeconds()));
+            }
             //Only set these if the user isn't making an explicit choice:
             p.putIfAbsent(USE_DIRECT_REFERENCE_CACHE_ENTRIES, Boolean.TRUE);
             p.putIfAbsent(USE_SECOND_LEVEL_CACHE, Boolean.TRUE);
@@ -36,5 +36,18 @@ public final class HibernateOrmMetricsProcessor {
             }
             datasourceMetrics.produce(buildItem);
         }
+
+        // IF the query accounting is enabled, publish its per endpoint histograms with Micrometer
+        if (config.queryAccounting.enabled && metricsConfiguration.isPresent()
+                && metricsConfiguration.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            datasourceMetrics.produce(
+                    new MetricsFactoryConsumerBuildItem(metricsRecorder.registerQueryAccountingMetrics()));
+        }
+
+        // IF the distributed 2nd level cache is enabled, publish its per region hit and miss counters
+        if (config.metricsEnabled && config.isDistributedCacheEnabled() && metricsConfiguration.isPresent()) {
+            datasourceMetrics.produce(
+                    new MetricsFactoryConsumerBuildItem(metricsRecorder.registerDistributedCacheMetrics()));
+        }
     }
 }
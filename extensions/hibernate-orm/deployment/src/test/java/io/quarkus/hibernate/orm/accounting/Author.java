@@ -0,0 +1,20 @@
+package io.quarkus.hibernate.orm.accounting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+
+@Entity
+public class Author {
+
+    @Id
+    public Long id;
+
+    public String name;
+
+    @OneToMany(mappedBy = "author")
+    public List<Book> books = new ArrayList<>();
+}
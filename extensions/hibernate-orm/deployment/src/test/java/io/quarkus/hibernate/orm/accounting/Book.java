@@ -0,0 +1,18 @@
+package io.quarkus.hibernate.orm.accounting;
+
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+@Entity
+public class Book {
+
+    @Id
+    public Long id;
+
+    public String title;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    public Author author;
+}
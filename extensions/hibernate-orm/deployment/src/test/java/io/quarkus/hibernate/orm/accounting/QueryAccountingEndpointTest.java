@@ -0,0 +1,54 @@
+package io.quarkus.hibernate.orm.accounting;
+
+import static org.hamcrest.Matchers.is;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.accounting.RequestQueryStatistics;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class QueryAccountingEndpointTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Author.class, Book.class, AuthorResource.class)
+                    .addAsResource("query-accounting-import.sql", "import.sql")
+                    .addAsResource("application-query-accounting.properties", "application.properties"));
+
+    @Test
+    public void testEndpointIsThePathTemplateOfTheResourceMethod() {
+        RestAssured.get("/authors/1/books").then().statusCode(200).body(is("GET /authors/{id}/books"));
+        RestAssured.get("/authors/2/books").then().statusCode(200).body(is("GET /authors/{id}/books"));
+    }
+
+    @Path("/authors")
+    public static class AuthorResource {
+
+        @Inject
+        EntityManager entityManager;
+
+        @Inject
+        RequestQueryStatistics statistics;
+
+        @GET
+        @Path("/{id}/books")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String books(@PathParam("id") Long id) {
+            entityManager.find(Author.class, id).books.size();
+            return statistics.getEndpoint();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.hibernate.orm.accounting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.runtime.accounting.RequestQueryStatistics;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QueryAccountingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Author.class, Book.class)
+                    .addAsResource("query-accounting-import.sql", "import.sql")
+                    .addAsResource("application-query-accounting.properties", "application.properties"));
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    RequestQueryStatistics statistics;
+
+    @BeforeEach
+    public void activateRequestContext() {
+        Arc.container().requestContext().activate();
+    }
+
+    @AfterEach
+    public void terminateRequestContext() {
+        Arc.container().requestContext().terminate();
+    }
+
+    @Test
+    public void testLazyLoadsAreCounted() {
+        List<Author> authors = entityManager.createQuery("from Author", Author.class).getResultList();
+        for (Author author : authors) {
+            assertEquals(2, author.books.size());
+        }
+
+        // one query for the authors, then one per collection
+        assertEquals(4, statistics.getStatements());
+        assertEquals(3, statistics.getLazyLoads());
+        assertEquals(3, statistics.getLazyLoadsByAssociation().get(Author.class.getName() + ".books").intValue());
+    }
+
+    @Test
+    public void testFetchJoinIsNotALazyLoad() {
+        List<Author> authors = entityManager
+                .createQuery("select distinct a from Author a left join fetch a.books", Author.class)
+                .getResultList();
+        for (Author author : authors) {
+            assertEquals(2, author.books.size());
+        }
+
+        assertEquals(1, statistics.getStatements());
+        assertEquals(0, statistics.getLazyLoads());
+        assertTrue(statistics.getLazyLoadsByAssociation().isEmpty());
+    }
+}
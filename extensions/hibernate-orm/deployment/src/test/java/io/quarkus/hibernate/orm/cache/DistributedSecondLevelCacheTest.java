@@ -0,0 +1,93 @@
+package io.quarkus.hibernate.orm.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.UserTransaction;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.cache.DistributedCacheStatistics;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class DistributedSecondLevelCacheTest {
+
+    private static final String REMOTE_CACHE = "hibernate-second-level-cache";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Country.class, InMemorySharedCacheStore.class)
+                    .addAsResource("application-distributed-cache.properties", "application.properties"));
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Inject
+    InMemorySharedCacheStore store;
+
+    @Test
+    public void testSharedAndNearCache() throws Exception {
+        inTransaction(() -> {
+            entityManager.persist(new Country(1L, "Belgium"));
+            return null;
+        });
+
+        DistributedCacheStatistics statistics = DistributedCacheStatistics.getRegion(Country.class.getName());
+        assertNotNull(statistics);
+        assertEquals(1L, statistics.getPuts());
+        assertTrue(store.keys(REMOTE_CACHE).stream().anyMatch(key -> key.startsWith(Country.class.getName() + "#")));
+
+        // the entry written by this instance is read from the shared tier once, then from the near cache
+        assertEquals("Belgium", findCountryName(1L));
+        assertEquals(1L, statistics.getSharedCacheHits());
+        assertEquals("Belgium", findCountryName(1L));
+        assertEquals(1L, statistics.getNearCacheHits());
+
+        // an entry changed by another instance is read from the shared tier again
+        store.touchAll(REMOTE_CACHE);
+        assertEquals("Belgium", findCountryName(1L));
+        assertEquals(2L, statistics.getSharedCacheHits());
+        assertEquals(1L, statistics.getNearCacheHits());
+
+        // evicting the region doesn't need to remove the entries from the shared tier
+        entityManager.getEntityManagerFactory().getCache().evict(Country.class);
+        long misses = statistics.getMisses();
+        assertEquals("Belgium", findCountryName(1L));
+        assertEquals(misses + 1, statistics.getMisses());
+
+        // each eviction moves the region to a new generation
+        String generationKey = Country.class.getName() + "#generation";
+        assertEquals("1", new String(store.get(REMOTE_CACHE, generationKey), StandardCharsets.UTF_8));
+        entityManager.getEntityManagerFactory().getCache().evict(Country.class);
+        assertEquals("2", new String(store.get(REMOTE_CACHE, generationKey), StandardCharsets.UTF_8));
+    }
+
+    private String findCountryName(Long id) throws Exception {
+        return inTransaction(() -> entityManager.find(Country.class, id).getName());
+    }
+
+    private <T> T inTransaction(Callable<T> work) throws Exception {
+        transaction.begin();
+        try {
+            T result = work.call();
+            transaction.commit();
+            return result;
+        } catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        }
+    }
+}
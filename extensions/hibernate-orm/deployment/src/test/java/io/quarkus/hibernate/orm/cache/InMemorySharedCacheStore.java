@@ -0,0 +1,94 @@
+package io.quarkus.hibernate.orm.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.inject.Singleton;
+
+import io.quarkus.hibernate.orm.runtime.cache.SharedCacheStore;
+
+/**
+ * Stands in for the remote server, notifying the listeners synchronously like a server would asynchronously.
+ */
+@Singleton
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Map<String, byte[]>> caches = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        return cache(cacheName).get(key);
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, long maxIdleMillis) {
+        cache(cacheName).put(key, value);
+        notifyListeners(cacheName, key);
+    }
+
+    @Override
+    public void remove(String cacheName, String key) {
+        cache(cacheName).remove(key);
+        notifyListeners(cacheName, key);
+    }
+
+    @Override
+    public boolean replace(String cacheName, String key, byte[] expected, byte[] value) {
+        Map<String, byte[]> cache = cache(cacheName);
+        boolean replaced;
+        if (expected == null) {
+            replaced = cache.putIfAbsent(key, value) == null;
+        } else {
+            // the values are arrays, compare their content
+            replaced = cache.computeIfPresent(key,
+                    (k, current) -> Arrays.equals(current, expected) ? value : current) == value;
+        }
+        if (replaced) {
+            notifyListeners(cacheName, key);
+        }
+        return replaced;
+    }
+
+    @Override
+    public void addInvalidationListener(String cacheName, Consumer<String> listener) {
+        listeners(cacheName).add(listener);
+    }
+
+    @Override
+    public void removeInvalidationListener(String cacheName, Consumer<String> listener) {
+        listeners(cacheName).remove(listener);
+    }
+
+    public List<String> keys(String cacheName) {
+        return new ArrayList<>(cache(cacheName).keySet());
+    }
+
+    /**
+     * Simulates another instance rewriting all the entries of the given cache.
+     */
+    public void touchAll(String cacheName) {
+        for (String key : keys(cacheName)) {
+            notifyListeners(cacheName, key);
+        }
+    }
+
+    private void notifyListeners(String cacheName, String key) {
+        for (Consumer<String> listener : listeners(cacheName)) {
+            listener.accept(key);
+        }
+    }
+
+    private Map<String, byte[]> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+    }
+
+    private List<Consumer<String>> listeners(String cacheName) {
+        return listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>());
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.hibernate.orm.readreplicas;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class Fruit {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    public Fruit() {
+    }
+
+    public Fruit(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
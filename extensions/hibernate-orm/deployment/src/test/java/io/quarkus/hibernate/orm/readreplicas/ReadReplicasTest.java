@@ -0,0 +1,100 @@
+package io.quarkus.hibernate.orm.readreplicas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.agroal.ReadOnly;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the queries of a {@link ReadOnly} method go through the connection provider of Hibernate ORM to the
+ * replica, which holds other rows than the primary datasource.
+ */
+public class ReadReplicasTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Fruit.class, FruitService.class)
+                    .addAsResource("application-read-replicas.properties", "application.properties"));
+
+    @Inject
+    FruitService fruitService;
+
+    @BeforeEach
+    public void populate() throws SQLException {
+        // the schema is only created on the primary datasource
+        try (Connection connection = DataSources.readReplicasFromName(DataSourceUtil.DEFAULT_DATASOURCE_NAME)
+                .getReplicas().get(0).getDataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists Fruit");
+            statement.execute("create table Fruit (id bigint not null, name varchar(255), primary key (id))");
+            statement.execute("insert into Fruit (id, name) values (1, 'replica-apple')");
+        }
+        fruitService.replace(new Fruit(1L, "primary-apple"));
+    }
+
+    @Test
+    public void testReadOnlyMethodRunsOnReplica() {
+        assertThat(fruitService.readOnlyNames()).containsExactly("replica-apple");
+        assertThat(fruitService.readOnlyUrl()).contains("mem:replica");
+    }
+
+    @Test
+    public void testOtherMethodRunsOnPrimary() {
+        assertThat(fruitService.names()).containsExactly("primary-apple");
+    }
+
+    @ApplicationScoped
+    public static class FruitService {
+
+        @Inject
+        EntityManager entityManager;
+
+        @Transactional
+        public void replace(Fruit fruit) {
+            entityManager.createQuery("delete from Fruit").executeUpdate();
+            entityManager.persist(fruit);
+        }
+
+        @Transactional
+        public List<String> names() {
+            return queryNames();
+        }
+
+        @ReadOnly
+        @Transactional
+        public List<String> readOnlyNames() {
+            return queryNames();
+        }
+
+        @ReadOnly
+        @Transactional
+        public String readOnlyUrl() {
+            return entityManager.unwrap(Session.class)
+                    .doReturningWork(connection -> connection.getMetaData().getURL());
+        }
+
+        private List<String> queryNames() {
+            return entityManager.createQuery("select f.name from Fruit f order by f.id", String.class).getResultList();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+INSERT INTO Author(id, name) VALUES (1, 'Jules Verne');
+INSERT INTO Author(id, name) VALUES (2, 'Victor Hugo');
+INSERT INTO Author(id, name) VALUES (3, 'Alexandre Dumas');
+INSERT INTO Book(id, title, author_id) VALUES (1, 'Twenty Thousand Leagues Under the Seas', 1);
+INSERT INTO Book(id, title, author_id) VALUES (2, 'Around the World in Eighty Days', 1);
+INSERT INTO Book(id, title, author_id) VALUES (3, 'Les Miserables', 2);
+INSERT INTO Book(id, title, author_id) VALUES (4, 'The Hunchback of Notre-Dame', 2);
+INSERT INTO Book(id, title, author_id) VALUES (5, 'The Three Musketeers', 3);
+INSERT INTO Book(id, title, author_id) VALUES (6, 'The Count of Monte Cristo', 3);
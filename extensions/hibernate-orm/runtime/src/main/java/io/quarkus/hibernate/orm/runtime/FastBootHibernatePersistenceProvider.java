@@ -22,11 +22,14 @@ import org.hibernate.service.internal.ProvidedService;
 import org.jboss.logging.Logger;
 
 import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.agroal.runtime.ReadReplicas;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.hibernate.orm.runtime.boot.FastBootEntityManagerFactoryBuilder;
 import io.quarkus.hibernate.orm.runtime.boot.registry.PreconfiguredServiceRegistryBuilder;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProviderInitiator;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrations;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
 import io.quarkus.hibernate.orm.runtime.recording.RecordedState;
@@ -285,6 +288,11 @@ public final class FastBootHibernatePersistenceProvider implements PersistencePr
         }
 
         runtimeSettingsBuilder.put(AvailableSettings.DATASOURCE, dataSourceHandle.get());
+
+        ReadReplicas readReplicas = DataSources.readReplicasFromName(dataSource);
+        if (readReplicas != null) {
+            runtimeSettingsBuilder.put(QuarkusConnectionProviderInitiator.READ_REPLICAS, readReplicas);
+        }
     }
 
     private final ProviderUtil providerUtil = new ProviderUtil() {
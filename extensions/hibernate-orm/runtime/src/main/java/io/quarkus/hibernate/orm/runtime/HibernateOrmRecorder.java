@@ -17,6 +17,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.arc.runtime.BeanContainerListener;
+import io.quarkus.hibernate.orm.runtime.accounting.QueryAccounting;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDefinition;
 import io.quarkus.hibernate.orm.runtime.entitymanager.ForwardingEntityManager;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
@@ -45,6 +46,10 @@ public class HibernateOrmRecorder {
         Hibernate.featureInit(enabled);
     }
 
+    public void enableQueryAccounting(int nPlusOneThreshold) {
+        QueryAccounting.enable(nPlusOneThreshold);
+    }
+
     public BeanContainerListener initMetadata(List<QuarkusPersistenceUnitDefinition> parsedPersistenceXmlDescriptors,
             Scanner scanner, Collection<Class<? extends Integrator>> additionalIntegrators,
             PreGeneratedProxies proxyDefinitions) {
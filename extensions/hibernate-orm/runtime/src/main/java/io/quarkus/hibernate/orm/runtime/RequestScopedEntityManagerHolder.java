@@ -8,6 +8,8 @@ import javax.enterprise.context.RequestScoped;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
+import io.quarkus.hibernate.orm.runtime.accounting.QueryAccounting;
+
 /**
  * Bean that is used to manage request scoped entity managers
  */
@@ -17,7 +19,13 @@ public class RequestScopedEntityManagerHolder {
     private final Map<String, EntityManager> entityManagers = new HashMap<>();
 
     public EntityManager getOrCreateEntityManager(String name, EntityManagerFactory factory) {
-        return entityManagers.computeIfAbsent(name, (n) -> factory.createEntityManager());
+        return entityManagers.computeIfAbsent(name, (n) -> {
+            EntityManager entityManager = factory.createEntityManager();
+            if (QueryAccounting.isEnabled()) {
+                QueryAccounting.attach(entityManager);
+            }
+            return entityManager;
+        });
     }
 
     @PreDestroy
@@ -0,0 +1,112 @@
+package io.quarkus.hibernate.orm.runtime.accounting;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+
+/**
+ * Entry point of the per-request query accounting.
+ * <p>
+ * Entity managers created while a request context is active get a {@link QueryAccountingSessionListener} counting the
+ * JDBC statements, and the {@link QueryAccountingIntegrator} listeners count the lazy loads of each association. When
+ * the request ends, the totals are published and the associations which were lazily loaded one by one too many times
+ * are reported as possible N+1 select issues.
+ */
+public final class QueryAccounting {
+
+    private static final Logger log = Logger.getLogger(QueryAccounting.class);
+
+    static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private static volatile boolean enabled;
+    private static volatile int nPlusOneThreshold;
+    private static volatile boolean resolveHttpEndpoint;
+    private static volatile Consumer<RequestQueryStatistics> statisticsConsumer;
+
+    // endpoint -> associations already reported, to avoid logging the same issue for every request
+    private static final Map<String, Set<String>> reported = new ConcurrentHashMap<>();
+
+    private QueryAccounting() {
+    }
+
+    public static void enable(int nPlusOneThreshold) {
+        QueryAccounting.nPlusOneThreshold = nPlusOneThreshold;
+        try {
+            Class.forName("io.quarkus.vertx.http.runtime.CurrentVertxRequest", false,
+                    Thread.currentThread().getContextClassLoader());
+            resolveHttpEndpoint = true;
+        } catch (ClassNotFoundException e) {
+            resolveHttpEndpoint = false;
+        }
+        reported.clear();
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers the consumer publishing the statistics of each request, typically as metrics.
+     */
+    public static void setStatisticsConsumer(Consumer<RequestQueryStatistics> consumer) {
+        statisticsConsumer = consumer;
+    }
+
+    /**
+     * Makes the given entity manager report its JDBC statements to the current request, if any.
+     */
+    public static void attach(EntityManager entityManager) {
+        RequestQueryStatistics statistics = current();
+        if (statistics != null) {
+            entityManager.unwrap(Session.class).addEventListeners(new QueryAccountingSessionListener(statistics));
+        }
+    }
+
+    /**
+     * @return the statistics of the current request, or {@code null} if the accounting is disabled or there is no active
+     *         request context
+     */
+    static RequestQueryStatistics current() {
+        if (!enabled) {
+            return null;
+        }
+        ArcContainer container = Arc.container();
+        if (container == null || !container.requestContext().isActive()) {
+            return null;
+        }
+        return container.instance(RequestQueryStatistics.class).get();
+    }
+
+    static String resolveEndpoint() {
+        String endpoint = resolveHttpEndpoint ? VertxEndpointResolver.resolve() : null;
+        return endpoint == null ? UNKNOWN_ENDPOINT : endpoint;
+    }
+
+    static void report(RequestQueryStatistics statistics) {
+        Consumer<RequestQueryStatistics> consumer = statisticsConsumer;
+        if (consumer != null) {
+            consumer.accept(statistics);
+        }
+        for (Map.Entry<String, Integer> entry : statistics.getLazyLoadsByAssociation().entrySet()) {
+            if (entry.getValue() >= nPlusOneThreshold
+                    && reported.computeIfAbsent(statistics.getEndpoint(), k -> ConcurrentHashMap.newKeySet())
+                            .add(entry.getKey())) {
+                log.warnf("Possible N+1 select issue on endpoint %s: association %s was lazily loaded %d times while "
+                        + "serving a single request, each time with its own SQL query (%d queries in total for this request). "
+                        + "Consider setting 'quarkus.hibernate-orm.fetch.batch-size', annotating the association with "
+                        + "@BatchSize or loading it with a 'join fetch' in the originating query.",
+                        statistics.getEndpoint(), entry.getKey(), entry.getValue(), statistics.getStatements());
+            }
+        }
+    }
+}
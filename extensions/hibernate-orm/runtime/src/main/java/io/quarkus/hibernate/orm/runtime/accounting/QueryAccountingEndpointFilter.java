@@ -0,0 +1,57 @@
+package io.quarkus.hibernate.orm.runtime.accounting;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+
+/**
+ * Sets the endpoint of the query statistics of a JAX-RS request to the path template of the matched resource method,
+ * e.g. {@code GET /items/{id}}, so that the number of endpoints stays bounded.
+ */
+public class QueryAccountingEndpointFilter implements ContainerRequestFilter {
+
+    private final Map<Method, String> templates = new ConcurrentHashMap<>();
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        RequestQueryStatistics statistics = QueryAccounting.current();
+        if (statistics == null) {
+            return;
+        }
+        Method method = resourceInfo.getResourceMethod();
+        if (method == null) {
+            return;
+        }
+        String template = templates.computeIfAbsent(method,
+                m -> template(resourceInfo.getResourceClass().getAnnotation(Path.class), m.getAnnotation(Path.class)));
+        statistics.setEndpoint(requestContext.getMethod() + " " + template);
+    }
+
+    private static String template(Path classPath, Path methodPath) {
+        StringBuilder template = new StringBuilder();
+        appendSegments(template, classPath);
+        appendSegments(template, methodPath);
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static void appendSegments(StringBuilder template, Path path) {
+        if (path == null) {
+            return;
+        }
+        String value = path.value();
+        int start = value.startsWith("/") ? 1 : 0;
+        int end = value.endsWith("/") ? value.length() - 1 : value.length();
+        if (start < end) {
+            template.append('/').append(value, start, end);
+        }
+    }
+}
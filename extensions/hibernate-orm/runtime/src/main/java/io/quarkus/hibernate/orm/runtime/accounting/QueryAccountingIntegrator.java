@@ -0,0 +1,70 @@
+package io.quarkus.hibernate.orm.runtime.accounting;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers the listeners counting the lazy loads of each association for the per-request query accounting.
+ * <p>
+ * Only the loads which hit the database are counted: collections and proxies already initialized by batch fetching
+ * or a fetch join do not trigger any event or are found in the persistence context.
+ */
+public final class QueryAccountingIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        EventListenerRegistry registry = serviceRegistry.getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.INIT_COLLECTION, new CollectionLoadListener());
+        // must run before the default listener puts the entity in the persistence context
+        registry.prependListeners(EventType.LOAD, new ProxyLoadListener());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    private static final class CollectionLoadListener implements InitializeCollectionEventListener {
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+            RequestQueryStatistics statistics = QueryAccounting.current();
+            if (statistics != null) {
+                statistics.lazyLoad(event.getCollection().getRole());
+            }
+        }
+    }
+
+    private static final class ProxyLoadListener implements LoadEventListener {
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+            // proxies being initialized, and eager to-one associations not loaded by the query itself
+            if (loadType != IMMEDIATE_LOAD && loadType != INTERNAL_LOAD_EAGER) {
+                return;
+            }
+            RequestQueryStatistics statistics = QueryAccounting.current();
+            if (statistics == null) {
+                return;
+            }
+            EventSource session = event.getSession();
+            EntityPersister persister = session.getFactory().getMetamodel().entityPersister(event.getEntityClassName());
+            EntityKey key = session.generateEntityKey(event.getEntityId(), persister);
+            if (session.getPersistenceContext().getEntity(key) == null) {
+                statistics.lazyLoad(persister.getEntityName() + " (to-one)");
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkus.hibernate.orm.runtime.accounting;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Counts the JDBC statements executed by a session on behalf of a request.
+ */
+final class QueryAccountingSessionListener extends BaseSessionEventListener {
+
+    private final RequestQueryStatistics statistics;
+
+    QueryAccountingSessionListener(RequestQueryStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statistics.statementExecuted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statistics.statementExecuted();
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkus.hibernate.orm.runtime.accounting;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+
+/**
+ * Accumulates the SQL statements and lazy loads performed by Hibernate ORM while serving the current request.
+ * <p>
+ * A request is processed by a single thread at a time, so no synchronization is needed here.
+ */
+@RequestScoped
+public class RequestQueryStatistics {
+
+    private String endpoint;
+    private int statements;
+    private int lazyLoads;
+    private final Map<String, Integer> lazyLoadsByAssociation = new HashMap<>();
+
+    void statementExecuted() {
+        resolveEndpoint();
+        statements++;
+    }
+
+    void lazyLoad(String association) {
+        resolveEndpoint();
+        lazyLoads++;
+        lazyLoadsByAssociation.merge(association, 1, Integer::sum);
+    }
+
+    private void resolveEndpoint() {
+        // resolved while the request is in flight, the HTTP request may already be gone when this bean is destroyed
+        if (endpoint == null) {
+            endpoint = QueryAccounting.resolveEndpoint();
+        }
+    }
+
+    void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint == null ? QueryAccounting.UNKNOWN_ENDPOINT : endpoint;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getLazyLoads() {
+        return lazyLoads;
+    }
+
+    /**
+     * @return the number of lazy loads per association, collections are identified by their role
+     *         (e.g. {@code org.acme.Author.books}) and to-one associations by their target entity
+     *         (e.g. {@code org.acme.Author (to-one)})
+     */
+    public Map<String, Integer> getLazyLoadsByAssociation() {
+        return Collections.unmodifiableMap(lazyLoadsByAssociation);
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (statements > 0 || lazyLoads > 0) {
+            QueryAccounting.report(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.hibernate.orm.runtime.accounting;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Delay reference to vertx-http dependencies
+ */
+final class VertxEndpointResolver {
+
+    // path template stored by the Micrometer JAX-RS and Servlet filters: /items/{id}
+    private static final String HTTP_REQUEST_PATH = "HTTP_REQUEST_PATH";
+
+    private VertxEndpointResolver() {
+    }
+
+    /**
+     * Only used when the endpoint was not set from the matched JAX-RS resource method by
+     * {@link QueryAccountingEndpointFilter}.
+     *
+     * @return the HTTP method and path template of the current request, or {@code null} if there is no current HTTP
+     *         request or its path template is unknown; raw paths, and the paths of the Vert.x routes which may match
+     *         many endpoints, are not used
+     */
+    static String resolve() {
+        InstanceHandle<CurrentVertxRequest> handle = Arc.container().instance(CurrentVertxRequest.class);
+        if (!handle.isAvailable()) {
+            return null;
+        }
+        RoutingContext routingContext = handle.get().getCurrent();
+        if (routingContext == null) {
+            return null;
+        }
+        String path = routingContext.get(HTTP_REQUEST_PATH);
+        return path == null ? null : routingContext.request().rawMethod() + " " + path;
+    }
+}
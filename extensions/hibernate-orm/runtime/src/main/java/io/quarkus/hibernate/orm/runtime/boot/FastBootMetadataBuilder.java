@@ -71,6 +71,7 @@ import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
 import io.quarkus.hibernate.orm.runtime.BuildTimeSettings;
 import io.quarkus.hibernate.orm.runtime.IntegrationSettings;
+import io.quarkus.hibernate.orm.runtime.cache.DistributedRegionFactory;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrations;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.proxies.ProxyDefinitions;
@@ -238,6 +239,11 @@ public class FastBootMetadataBuilder {
         if (!cfg.containsKey(AvailableSettings.ORDER_UPDATES)) {
             cfg.put(AvailableSettings.ORDER_UPDATES, Boolean.TRUE.toString());
         }
+        //When JDBC batching is enabled, order inserts so that the inserts of an entity are grouped in the same batch
+        //(unless it was disabled)
+        if (cfg.containsKey(AvailableSettings.STATEMENT_BATCH_SIZE) && !cfg.containsKey(AvailableSettings.ORDER_INSERTS)) {
+            cfg.put(AvailableSettings.ORDER_INSERTS, Boolean.TRUE.toString());
+        }
         //Agroal already does disable auto-commit, so Hibernate ORM should trust that:
         cfg.put(AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, Boolean.TRUE.toString());
 
@@ -290,8 +296,11 @@ public class FastBootMetadataBuilder {
             }
         }
 
-        cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
-                QuarkusInfinispanRegionFactory.class.getName());
+        if (!DistributedRegionFactory.class.getName()
+                .equals(cfg.get(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY))) {
+            cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
+                    QuarkusInfinispanRegionFactory.class.getName());
+        }
 
         HibernateOrmIntegrations.contributeBootProperties((k, v) -> cfg.put(k, v));
 
@@ -0,0 +1,91 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Hit and miss counters of a region of the distributed 2nd level cache.
+ */
+public final class DistributedCacheStatistics {
+
+    private static final Map<String, DistributedCacheStatistics> regions = new ConcurrentHashMap<>();
+    private static Consumer<DistributedCacheStatistics> regionListener;
+
+    private final String regionName;
+    private final LongAdder nearCacheHits = new LongAdder();
+    private final LongAdder sharedCacheHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    private DistributedCacheStatistics(String regionName) {
+        this.regionName = regionName;
+    }
+
+    static synchronized DistributedCacheStatistics forRegion(String regionName) {
+        DistributedCacheStatistics statistics = regions.get(regionName);
+        if (statistics == null) {
+            statistics = new DistributedCacheStatistics(regionName);
+            regions.put(regionName, statistics);
+            if (regionListener != null) {
+                regionListener.accept(statistics);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Passes the statistics of all the existing regions, and of the regions created later on, to the given consumer.
+     */
+    public static synchronized void forEachRegion(Consumer<DistributedCacheStatistics> consumer) {
+        regionListener = consumer;
+        regions.values().forEach(consumer);
+    }
+
+    public static DistributedCacheStatistics getRegion(String regionName) {
+        return regions.get(regionName);
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    /**
+     * @return the number of lookups served by the local near cache
+     */
+    public long getNearCacheHits() {
+        return nearCacheHits.sum();
+    }
+
+    /**
+     * @return the number of lookups served by the shared tier
+     */
+    public long getSharedCacheHits() {
+        return sharedCacheHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getPuts() {
+        return puts.sum();
+    }
+
+    void nearCacheHit() {
+        nearCacheHits.increment();
+    }
+
+    void sharedCacheHit() {
+        sharedCacheHits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void put() {
+        puts.increment();
+    }
+}
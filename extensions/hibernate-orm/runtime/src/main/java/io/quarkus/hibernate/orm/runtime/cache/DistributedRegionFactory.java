@@ -0,0 +1,116 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * A 2nd level cache shared by all the instances of the application: entries are stored in a {@link SharedCacheStore},
+ * fronted by a local near cache per region which is invalidated whenever an entry changes in the shared tier.
+ * <p>
+ * The update timestamps region never uses the near cache, so that query cache results are always validated against
+ * the latest changes made by any instance.
+ */
+public final class DistributedRegionFactory extends RegionFactoryTemplate {
+
+    public static final String REMOTE_CACHE = "hibernate.cache.distributed.remote-cache";
+    public static final String DEFAULT_MAX_IDLE = "hibernate.cache.distributed.default-max-idle";
+
+    // same per region settings as the local cache
+    private static final String MAX_IDLE_SUFFIX = ".expiration.max-idle";
+    private static final String OBJECT_COUNT_SUFFIX = ".memory.object-count";
+    private static final String CACHE_PREFIX = "hibernate.cache.";
+
+    private static final String DEFAULT_REMOTE_CACHE = "hibernate-second-level-cache";
+    private static final long DEFAULT_MAX_IDLE_SECONDS = TimeUnit.HOURS.toSeconds(1);
+    private static final int DEFAULT_NEAR_CACHE_SIZE = 10_000;
+
+    private final Map<String, DistributedStorageAccess> regions = new ConcurrentHashMap<>();
+    private final Consumer<String> invalidationListener = this::invalidate;
+
+    private SharedCacheStore store;
+    private String cacheName;
+    private Map<?, ?> configValues;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, @SuppressWarnings("rawtypes") Map configValues) {
+        InstanceHandle<SharedCacheStore> handle = Arc.container().instance(SharedCacheStore.class);
+        if (!handle.isAvailable()) {
+            throw new CacheException("The distributed 2nd level cache requires a " + SharedCacheStore.class.getName()
+                    + " bean: add the infinispan-client extension or provide your own implementation");
+        }
+        this.store = handle.get();
+        this.cacheName = ConfigurationHelper.getString(REMOTE_CACHE, configValues, DEFAULT_REMOTE_CACHE);
+        this.configValues = configValues;
+        store.addInvalidationListener(cacheName, invalidationListener);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        store.removeInvalidationListener(cacheName, invalidationListener);
+        for (DistributedStorageAccess region : regions.values()) {
+            region.release();
+        }
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createStorageAccess(regionConfig.getRegionName(), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, true);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, false);
+    }
+
+    private DistributedStorageAccess createStorageAccess(String regionName, boolean nearCache) {
+        if (regionName.indexOf(DistributedStorageAccess.SEPARATOR) != -1) {
+            throw new CacheException("The name of a region of the distributed 2nd level cache cannot contain '"
+                    + DistributedStorageAccess.SEPARATOR + "': " + regionName);
+        }
+        long maxIdleSeconds = ConfigurationHelper.getLong(CACHE_PREFIX + regionName + MAX_IDLE_SUFFIX, configValues,
+                (int) ConfigurationHelper.getLong(DEFAULT_MAX_IDLE, configValues, (int) DEFAULT_MAX_IDLE_SECONDS));
+        int nearCacheSize = nearCache
+                ? ConfigurationHelper.getInt(CACHE_PREFIX + regionName + OBJECT_COUNT_SUFFIX, configValues,
+                        DEFAULT_NEAR_CACHE_SIZE)
+                : 0;
+        DistributedStorageAccess storageAccess = new DistributedStorageAccess(regionName, store, cacheName,
+                maxIdleSeconds > 0 ? TimeUnit.SECONDS.toMillis(maxIdleSeconds) : -1, nearCacheSize);
+        regions.put(regionName, storageAccess);
+        return storageAccess;
+    }
+
+    private void invalidate(String remoteKey) {
+        int separator = remoteKey.indexOf(DistributedStorageAccess.SEPARATOR);
+        if (separator == -1) {
+            return;
+        }
+        DistributedStorageAccess region = regions.get(remoteKey.substring(0, separator));
+        if (region != null) {
+            region.invalidate(remoteKey);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * Storage of a region of the distributed 2nd level cache.
+ * <p>
+ * Entries are stored in the {@link SharedCacheStore} under {@code <region>#<generation>#<serialized key>}, evicting the
+ * whole region increments the generation stored under {@code <region>#generation} so that no remote scan is needed.
+ * Values read from the shared tier are kept in a bounded near cache until an invalidation for their key is received.
+ */
+final class DistributedStorageAccess implements DomainDataStorageAccess {
+
+    static final char SEPARATOR = '#';
+
+    private final String regionName;
+    private final SharedCacheStore store;
+    private final String cacheName;
+    private final long maxIdleMillis;
+    private final int nearCacheSize;
+    private final DistributedCacheStatistics statistics;
+    private final String generationKey;
+
+    // null when the region must always read from the shared tier
+    private final ConcurrentHashMap<String, Object> nearCache;
+    // incremented on each invalidation, so that values read concurrently with an invalidation are not cached locally
+    private final AtomicLong invalidations = new AtomicLong();
+    // null when the generation must be read from the shared tier again
+    private volatile String keyPrefix;
+
+    DistributedStorageAccess(String regionName, SharedCacheStore store, String cacheName, long maxIdleMillis,
+            int nearCacheSize) {
+        this.regionName = regionName;
+        this.store = store;
+        this.cacheName = cacheName;
+        this.maxIdleMillis = maxIdleMillis;
+        this.nearCacheSize = nearCacheSize;
+        this.statistics = DistributedCacheStatistics.forRegion(regionName);
+        this.generationKey = regionName + SEPARATOR + "generation";
+        this.nearCache = nearCacheSize > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    String getRegionName() {
+        return regionName;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        String remoteKey = remoteKey(key);
+        if (nearCache != null) {
+            Object value = nearCache.get(remoteKey);
+            if (value != null) {
+                statistics.nearCacheHit();
+                return value;
+            }
+        }
+        long invalidationCount = invalidations.get();
+        byte[] bytes = store.get(cacheName, remoteKey);
+        if (bytes == null) {
+            statistics.miss();
+            return null;
+        }
+        statistics.sharedCacheHit();
+        Object value = SerializationHelper.deserialize(bytes, Thread.currentThread().getContextClassLoader());
+        if (nearCache != null && invalidations.get() == invalidationCount) {
+            if (nearCache.size() >= nearCacheSize) {
+                // approximate eviction, good enough to bound the memory used
+                Iterator<String> iterator = nearCache.keySet().iterator();
+                if (iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+            nearCache.put(remoteKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        String remoteKey = remoteKey(key);
+        store.put(cacheName, remoteKey, SerializationHelper.serialize((Serializable) value), maxIdleMillis);
+        statistics.put();
+        invalidate(remoteKey);
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        String remoteKey = remoteKey(key);
+        return (nearCache != null && nearCache.containsKey(remoteKey)) || store.get(cacheName, remoteKey) != null;
+    }
+
+    @Override
+    public void evictData(Object key) {
+        String remoteKey = remoteKey(key);
+        store.remove(cacheName, remoteKey);
+        invalidate(remoteKey);
+    }
+
+    @Override
+    public void evictData() {
+        // instances may evict the region concurrently, each eviction must move to a new generation
+        byte[] current;
+        byte[] next;
+        do {
+            current = store.get(cacheName, generationKey);
+            next = Long.toString(generation(current) + 1).getBytes(StandardCharsets.UTF_8);
+        } while (!store.replace(cacheName, generationKey, current, next));
+        invalidate(generationKey);
+    }
+
+    @Override
+    public void release() {
+        if (nearCache != null) {
+            nearCache.clear();
+        }
+    }
+
+    /**
+     * Called for each key changed in the shared tier, by this instance or another one.
+     */
+    void invalidate(String remoteKey) {
+        invalidations.incrementAndGet();
+        if (remoteKey.equals(generationKey)) {
+            // the listeners must not block, the new generation is read lazily
+            keyPrefix = null;
+            if (nearCache != null) {
+                nearCache.clear();
+            }
+        } else if (nearCache != null) {
+            nearCache.remove(remoteKey);
+        }
+    }
+
+    private String remoteKey(Object key) {
+        return keyPrefix() + Base64.getEncoder().encodeToString(SerializationHelper.serialize((Serializable) key));
+    }
+
+    private String keyPrefix() {
+        String prefix = keyPrefix;
+        if (prefix == null) {
+            long invalidationCount = invalidations.get();
+            prefix = regionName + SEPARATOR + readGeneration() + SEPARATOR;
+            if (invalidations.get() == invalidationCount) {
+                keyPrefix = prefix;
+            }
+        }
+        return prefix;
+    }
+
+    private long readGeneration() {
+        return generation(store.get(cacheName, generationKey));
+    }
+
+    private static long generation(byte[] value) {
+        return value == null ? 0 : Long.parseLong(new String(value, StandardCharsets.UTF_8));
+    }
+}
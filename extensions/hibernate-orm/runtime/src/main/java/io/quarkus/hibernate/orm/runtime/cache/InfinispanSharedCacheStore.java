@@ -0,0 +1,134 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryCreated;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.commons.api.CacheContainerAdmin;
+import org.infinispan.commons.configuration.BasicConfiguration;
+import org.infinispan.commons.configuration.XMLStringConfiguration;
+
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * {@link SharedCacheStore} backed by the Infinispan server the infinispan-client extension is connected to.
+ * <p>
+ * The remote caches are created as distributed caches if they don't exist yet, and the invalidations are received as
+ * Hot Rod client events.
+ */
+@Singleton
+@DefaultBean
+public class InfinispanSharedCacheStore implements SharedCacheStore {
+
+    private static final String CACHE_CONFIGURATION = "<infinispan><cache-container>"
+            + "<distributed-cache name=\"%s\"><encoding media-type=\"application/octet-stream\"/></distributed-cache>"
+            + "</cache-container></infinispan>";
+
+    @Inject
+    RemoteCacheManager cacheManager;
+
+    private final Map<String, RemoteCache<String, byte[]>> caches = new ConcurrentHashMap<>();
+    private final Map<Consumer<String>, InvalidationListener> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        return cache(cacheName).get(key);
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, long maxIdleMillis) {
+        cache(cacheName).put(key, value, -1, TimeUnit.MILLISECONDS, maxIdleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void remove(String cacheName, String key) {
+        cache(cacheName).remove(key);
+    }
+
+    @Override
+    public boolean replace(String cacheName, String key, byte[] expected, byte[] value) {
+        RemoteCache<String, byte[]> cache = cache(cacheName);
+        if (expected == null) {
+            // the previous value is only returned with this flag
+            return cache.withFlags(Flag.FORCE_RETURN_VALUE).putIfAbsent(key, value) == null;
+        }
+        MetadataValue<byte[]> current = cache.getWithMetadata(key);
+        if (current == null || !Arrays.equals(current.getValue(), expected)) {
+            return false;
+        }
+        // fails if the entry was modified since it was read
+        return cache.replaceWithVersion(key, value, current.getVersion());
+    }
+
+    @Override
+    public void addInvalidationListener(String cacheName, Consumer<String> listener) {
+        InvalidationListener invalidationListener = new InvalidationListener(listener);
+        listeners.put(listener, invalidationListener);
+        cache(cacheName).addClientListener(invalidationListener);
+    }
+
+    @Override
+    public void removeInvalidationListener(String cacheName, Consumer<String> listener) {
+        InvalidationListener invalidationListener = listeners.remove(listener);
+        if (invalidationListener != null) {
+            cache(cacheName).removeClientListener(invalidationListener);
+        }
+    }
+
+    private RemoteCache<String, byte[]> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> {
+            BasicConfiguration configuration = new XMLStringConfiguration(String.format(CACHE_CONFIGURATION, name));
+            return cacheManager.administration()
+                    .withFlags(CacheContainerAdmin.AdminFlag.VOLATILE)
+                    .getOrCreateCache(name, configuration);
+        });
+    }
+
+    @ClientListener
+    public static class InvalidationListener {
+
+        private final Consumer<String> listener;
+
+        InvalidationListener(Consumer<String> listener) {
+            this.listener = listener;
+        }
+
+        @ClientCacheEntryCreated
+        public void created(ClientCacheEntryCreatedEvent<String> event) {
+            listener.accept(event.getKey());
+        }
+
+        @ClientCacheEntryModified
+        public void modified(ClientCacheEntryModifiedEvent<String> event) {
+            listener.accept(event.getKey());
+        }
+
+        @ClientCacheEntryRemoved
+        public void removed(ClientCacheEntryRemovedEvent<String> event) {
+            listener.accept(event.getKey());
+        }
+
+        @ClientCacheEntryExpired
+        public void expired(ClientCacheEntryExpiredEvent<String> event) {
+            listener.accept(event.getKey());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * The shared tier of the distributed 2nd level cache, a remote key/value store common to all the instances of the
+ * application.
+ * <p>
+ * An implementation backed by the Infinispan server of the infinispan-client extension is provided, applications may
+ * provide their own as a CDI bean.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * @return the value of the given key, or {@code null} if there is none
+     */
+    byte[] get(String cacheName, String key);
+
+    /**
+     * @param maxIdleMillis the time after which the entry expires if it is not accessed, or {@code -1} if it should not
+     *        expire
+     */
+    void put(String cacheName, String key, byte[] value, long maxIdleMillis);
+
+    void remove(String cacheName, String key);
+
+    /**
+     * Atomically sets the value of the given key, if its current value is the expected one.
+     *
+     * @param expected the expected current value, or {@code null} if the key is expected to have no value
+     * @return {@code true} if the value was set, {@code false} if the current value is not the expected one
+     */
+    boolean replace(String cacheName, String key, byte[] expected, byte[] value);
+
+    /**
+     * Registers a listener notified with the key of each entry created, modified, removed or expired in the given cache,
+     * whichever instance of the application made the change.
+     */
+    void addInvalidationListener(String cacheName, Consumer<String> listener);
+
+    void removeInvalidationListener(String cacheName, Consumer<String> listener);
+}
@@ -9,17 +9,31 @@ import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.service.UnknownUnwrapTypeException;
 
 import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.ReadReplicas;
 
 public class QuarkusConnectionProvider implements ConnectionProvider {
 
     private final AgroalDataSource dataSource;
+    private final ReadReplicas readReplicas;
 
     public QuarkusConnectionProvider(final AgroalDataSource dataSource) {
+        this(dataSource, null);
+    }
+
+    /**
+     * @param readReplicas the read replicas of the datasource, to which the connections are routed during
+     *        {@link io.quarkus.agroal.ReadOnly} methods, or {@code null}
+     */
+    public QuarkusConnectionProvider(final AgroalDataSource dataSource, final ReadReplicas readReplicas) {
         this.dataSource = dataSource;
+        this.readReplicas = readReplicas;
     }
 
     @Override
     public Connection getConnection() throws SQLException {
+        if (readReplicas != null) {
+            return readReplicas.getConnection();
+        }
         return dataSource.getConnection();
     }
 
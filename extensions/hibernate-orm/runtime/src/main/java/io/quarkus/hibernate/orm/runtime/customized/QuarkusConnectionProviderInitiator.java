@@ -11,11 +11,17 @@ import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.ReadReplicas;
 
 public final class QuarkusConnectionProviderInitiator implements StandardServiceInitiator<ConnectionProvider> {
 
     public static final QuarkusConnectionProviderInitiator INSTANCE = new QuarkusConnectionProviderInitiator();
 
+    /**
+     * The {@link ReadReplicas} of the datasource, to which the read-only work is routed.
+     */
+    public static final String READ_REPLICAS = "hibernate.quarkus.read-replicas";
+
     @Override
     public Class<ConnectionProvider> getServiceInitiated() {
         return ConnectionProvider.class;
@@ -40,7 +46,7 @@ public final class QuarkusConnectionProviderInitiator implements StandardService
                 throw new HibernateException(
                         "A Datasource was configured as Connection Pool, but it's not the Agroal connection pool. In Quarkus, you need to use Agroal.");
             }
-            return new QuarkusConnectionProvider(ds);
+            return new QuarkusConnectionProvider(ds, (ReadReplicas) configurationValues.get(READ_REPLICAS));
         }
 
         //When not using the Quarkus specific Datasource, delegate to traditional bootstrap so to not break
@@ -25,6 +25,7 @@ import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 
 import io.quarkus.hibernate.orm.runtime.RequestScopedEntityManagerHolder;
+import io.quarkus.hibernate.orm.runtime.accounting.QueryAccounting;
 import io.quarkus.runtime.BlockingOperationControl;
 
 public class TransactionScopedEntityManager implements EntityManager {
@@ -55,6 +56,9 @@ public class TransactionScopedEntityManager implements EntityManager {
                 return new EntityManagerResult(em, false, true);
             }
             EntityManager newEm = emf.createEntityManager();
+            if (QueryAccounting.isEnabled()) {
+                QueryAccounting.attach(newEm);
+            }
             newEm.joinTransaction();
             tsr.putResource(transactionKey, newEm);
             tsr.registerInterposedSynchronization(new Synchronization() {
@@ -8,6 +8,8 @@ import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.accounting.QueryAccounting;
+import io.quarkus.hibernate.orm.runtime.cache.DistributedCacheStatistics;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -17,6 +19,8 @@ import io.quarkus.runtime.metrics.MetricsFactory;
 @Recorder
 public class HibernateMetricsRecorder {
     private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+    private static final String REQUESTS_DESCRIPTION = "Lookups in the distributed 2nd level cache, by result: "
+            + "served by the local near cache, served by the shared cache, or not found";
 
     /* RUNTIME_INIT if Micrometer Metrics is present */
     public Consumer<MetricsFactory> registerMicrometerMetrics() {
@@ -34,6 +38,44 @@ public class HibernateMetricsRecorder {
         };
     }
 
+    /* RUNTIME_INIT if Micrometer Metrics is present and the query accounting is enabled */
+    public Consumer<MetricsFactory> registerQueryAccountingMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                QueryAccounting.setStatisticsConsumer(HibernateMicrometerMetrics::recordRequestStatistics);
+            }
+        };
+    }
+
+    /* RUNTIME_INIT if a metrics extension is present and the distributed 2nd level cache is enabled */
+    public Consumer<MetricsFactory> registerDistributedCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                DistributedCacheStatistics.forEachRegion(statistics -> {
+                    String region = statistics.getRegionName();
+                    metricsFactory.builder("hibernate.cache.distributed.requests")
+                            .description(REQUESTS_DESCRIPTION)
+                            .tag("region", region).tag("result", "near-hit")
+                            .buildCounter(statistics, DistributedCacheStatistics::getNearCacheHits);
+                    metricsFactory.builder("hibernate.cache.distributed.requests")
+                            .description(REQUESTS_DESCRIPTION)
+                            .tag("region", region).tag("result", "shared-hit")
+                            .buildCounter(statistics, DistributedCacheStatistics::getSharedCacheHits);
+                    metricsFactory.builder("hibernate.cache.distributed.requests")
+                            .description(REQUESTS_DESCRIPTION)
+                            .tag("region", region).tag("result", "miss")
+                            .buildCounter(statistics, DistributedCacheStatistics::getMisses);
+                    metricsFactory.builder("hibernate.cache.distributed.puts")
+                            .description("Entries written to the shared cache")
+                            .tag("region", region)
+                            .buildCounter(statistics, DistributedCacheStatistics::getPuts);
+                });
+            }
+        };
+    }
+
     /* RUNTIME_INIT if MP Metrics is present */
     public Consumer<MetricsFactory> registerMPMetrics() {
         return new Consumer<MetricsFactory>() {
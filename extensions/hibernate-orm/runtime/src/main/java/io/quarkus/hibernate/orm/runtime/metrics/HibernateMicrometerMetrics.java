@@ -1,16 +1,26 @@
 package io.quarkus.hibernate.orm.runtime.metrics;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.hibernate.SessionFactory;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.jpa.HibernateMetrics;
 import io.micrometer.core.instrument.binder.jpa.HibernateQueryMetrics;
+import io.quarkus.hibernate.orm.runtime.accounting.RequestQueryStatistics;
 
 /**
  * Delay reference to micrometer dependencies
  */
 public class HibernateMicrometerMetrics {
+    private static final String ENDPOINT_TAG_NAME = "endpoint";
+
+    private static final Map<String, DistributionSummary> statementsPerEndpoint = new ConcurrentHashMap<>();
+    private static final Map<String, DistributionSummary> lazyLoadsPerEndpoint = new ConcurrentHashMap<>();
+
     /**
      * Register Micrometer meter binders
      *
@@ -29,4 +39,27 @@ public class HibernateMicrometerMetrics {
                 Metrics.globalRegistry, sessionFactory,
                 puName, Tags.empty());
     }
+
+    /**
+     * Record the query accounting of a request in per endpoint histograms
+     *
+     * @param statistics statistics of the request
+     */
+    static void recordRequestStatistics(RequestQueryStatistics statistics) {
+        String endpoint = statistics.getEndpoint();
+        statementsPerEndpoint.computeIfAbsent(endpoint, e -> DistributionSummary
+                .builder("hibernate.request.statements")
+                .description("Number of SQL statements executed per request")
+                .tag(ENDPOINT_TAG_NAME, e)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry))
+                .record(statistics.getStatements());
+        lazyLoadsPerEndpoint.computeIfAbsent(endpoint, e -> DistributionSummary
+                .builder("hibernate.request.lazy.loads")
+                .description("Number of lazy loads of entities and collections hitting the database per request")
+                .tag(ENDPOINT_TAG_NAME, e)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry))
+                .record(statistics.getLazyLoads());
+    }
 }
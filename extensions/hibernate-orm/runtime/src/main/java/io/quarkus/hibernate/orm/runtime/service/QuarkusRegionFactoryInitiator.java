@@ -12,6 +12,8 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
+import io.quarkus.hibernate.orm.runtime.cache.DistributedRegionFactory;
+
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
     public static final QuarkusRegionFactoryInitiator INSTANCE = new QuarkusRegionFactoryInitiator();
@@ -44,6 +46,11 @@ public final class QuarkusRegionFactoryInitiator implements StandardServiceIniti
             }
         }
 
+        if (DistributedRegionFactory.class.getName()
+                .equals(configurationValues.get(AvailableSettings.CACHE_REGION_FACTORY))) {
+            return new DistributedRegionFactory();
+        }
+
         return new QuarkusInfinispanRegionFactory();
     }
 
@@ -0,0 +1,50 @@
+package io.quarkus.hibernate.validator.test;
+
+import static org.hamcrest.Matchers.is;
+
+import javax.validation.constraints.Min;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * The resource methods are invoked through generated invokers, which must validate the parameters too.
+ */
+public class JaxRsParameterValidationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap
+            .create(JavaArchive.class)
+            .addClasses(ValidatedResource.class));
+
+    @Test
+    public void testValidParameter() {
+        RestAssured.get("/validated/1").then().statusCode(200).body(is("1"));
+    }
+
+    @Test
+    public void testInvalidParameter() {
+        RestAssured.get("/validated/0").then().statusCode(400);
+    }
+
+    @Path("/validated")
+    public static class ValidatedResource {
+
+        @GET
+        @Path("/{id}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get(@PathParam("id") @Min(1) int id) {
+            return String.valueOf(id);
+        }
+    }
+}
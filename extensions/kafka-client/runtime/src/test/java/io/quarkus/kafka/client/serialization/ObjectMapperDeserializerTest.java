@@ -0,0 +1,22 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.nio.charset.StandardCharsets;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ObjectMapperDeserializerTest {
+
+    @Test
+    public void shouldDeserializeBytes() {
+        ObjectMapperDeserializer<Fruit> deserializer = new ObjectMapperDeserializer<>(Fruit.class);
+
+        Fruit fruit = deserializer.deserialize("fruits", "{\"name\":\"apple\"}".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThat(fruit.name).isEqualTo("apple");
+        Assertions.assertThat(deserializer.deserialize("fruits", null)).isNull();
+    }
+
+    public static class Fruit {
+        public String name;
+    }
+}
@@ -12,4 +12,17 @@ public class KafkaStreamsBuildTimeConfig {
      */
     @ConfigItem(name = "health.enabled", defaultValue = "true")
     public boolean healthEnabled;
+
+    /**
+     * Whether or not the interactive query endpoint, serving the content of the key-value state stores over HTTP, is
+     * enabled.
+     */
+    @ConfigItem(name = "interactive-query.enabled", defaultValue = "false")
+    public boolean interactiveQueryEnabled;
+
+    /**
+     * The path of the interactive query endpoint.
+     */
+    @ConfigItem(name = "interactive-query.path", defaultValue = "/kafka-streams")
+    public String interactiveQueryPath;
 }
@@ -3,6 +3,7 @@ package io.quarkus.kafka.streams.deployment;
 import static io.quarkus.kafka.streams.runtime.KafkaStreamsPropertiesUtil.buildKafkaStreamsProperties;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Properties;
 
 import javax.inject.Singleton;
@@ -20,6 +21,8 @@ import org.rocksdb.util.Environment;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -31,11 +34,17 @@ import io.quarkus.deployment.builditem.nativeimage.JniRuntimeAccessBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsProducer;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsSupport;
+import io.quarkus.kafka.streams.runtime.query.InteractiveQueries;
+import io.quarkus.kafka.streams.runtime.query.InteractiveQueryRoutes;
+import io.quarkus.kafka.streams.runtime.rocksdb.QuarkusRocksDBConfigSetter;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 
 class KafkaStreamsProcessor {
@@ -68,6 +77,7 @@ class KafkaStreamsProcessor {
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, DefaultPartitionGrouper.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, DefaultProductionExceptionHandler.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, FailOnInvalidTimestamp.class));
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, QuarkusRocksDBConfigSetter.class));
     }
 
     private void registerClassesThatClientMaySpecify(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
@@ -167,6 +177,37 @@ class KafkaStreamsProcessor {
         recorder.loadRocksDb();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void registerInteractiveQueryEndpoint(KafkaStreamsRecorder recorder, KafkaStreamsBuildTimeConfig buildTimeConfig,
+            Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (!buildTimeConfig.interactiveQueryEnabled) {
+            return;
+        }
+        // the routes are added to the router of the vertx-http extension, which is an optional dependency
+        if (!capabilities.isPresent(Capability.VERTX_HTTP)) {
+            throw new ConfigurationException("The Kafka Streams interactive query endpoint is enabled by"
+                    + " quarkus.kafka-streams.interactive-query.enabled but the quarkus-vertx-http extension, which"
+                    + " serves it, is missing: add the quarkus-vertx-http extension, or disable the endpoint");
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(InteractiveQueries.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(InteractiveQueryRoutes.class));
+
+        String path = buildTimeConfig.interactiveQueryPath.endsWith("/") ? buildTimeConfig.interactiveQueryPath
+                : buildTimeConfig.interactiveQueryPath + "/";
+        recorder.setInteractiveQueryPath(path);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerRocksDbMetrics(KafkaStreamsRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        // the meters are only registered for the stores with statistics, when statistics-enabled is set
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            recorder.registerRocksDbMicrometerMetrics();
+        }
+    }
+
     @BuildStep
     void addHealthChecks(KafkaStreamsBuildTimeConfig buildTimeConfig, BuildProducer<HealthBuildItem> healthChecks) {
         healthChecks.produce(
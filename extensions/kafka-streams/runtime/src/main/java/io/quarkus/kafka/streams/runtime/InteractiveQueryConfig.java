@@ -0,0 +1,42 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class InteractiveQueryConfig {
+
+    /**
+     * The timeout of the requests forwarded to the instance hosting a key
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration forwardTimeout;
+
+    /**
+     * The maximum number of connections kept open to each other instance of the application
+     */
+    @ConfigItem(defaultValue = "8")
+    public int maxConnectionsPerInstance;
+
+    /**
+     * The configuration of the queried state stores
+     */
+    @ConfigItem
+    @ConfigDocSection
+    @ConfigDocMapKey("store-name")
+    public Map<String, InteractiveQueryStoreConfig> stores;
+
+    @Override
+    public String toString() {
+        return "InteractiveQueryConfig{" +
+                "forwardTimeout=" + forwardTimeout +
+                ", maxConnectionsPerInstance=" + maxConnectionsPerInstance +
+                ", stores=" + stores.keySet() +
+                '}';
+    }
+}
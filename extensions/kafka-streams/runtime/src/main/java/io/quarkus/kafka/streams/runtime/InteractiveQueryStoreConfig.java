@@ -0,0 +1,20 @@
+package io.quarkus.kafka.streams.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class InteractiveQueryStoreConfig {
+
+    /**
+     * The type of the keys of the store, which the keys of the queries are converted to
+     */
+    @ConfigItem(defaultValue = "string")
+    public KeyType keyType;
+
+    public enum KeyType {
+        STRING,
+        LONG,
+        INTEGER
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.kafka.streams.processor.StateRestoreListener;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Unremovable;
+import io.quarkus.kafka.streams.runtime.rocksdb.QuarkusRocksDBConfigSetter;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.Startup;
 
@@ -57,6 +58,7 @@ public class KafkaStreamsProducer {
     private final ExecutorService executorService;
     private final KafkaStreams kafkaStreams;
     private final KafkaStreamsTopologyManager kafkaStreamsTopologyManager;
+    private final StreamsMetadataCache streamsMetadataCache;
     private final Admin kafkaAdminClient;
 
     @Inject
@@ -70,6 +72,7 @@ public class KafkaStreamsProducer {
             this.executorService = null;
             this.kafkaStreams = null;
             this.kafkaStreamsTopologyManager = null;
+            this.streamsMetadataCache = null;
             this.kafkaAdminClient = null;
             return;
         }
@@ -79,11 +82,18 @@ public class KafkaStreamsProducer {
         String bootstrapServersConfig = asString(runtimeConfig.bootstrapServers);
         Properties kafkaStreamsProperties = getStreamsProperties(buildTimeProperties, bootstrapServersConfig, runtimeConfig);
         this.kafkaAdminClient = Admin.create(getAdminClientConfig(kafkaStreamsProperties));
+        if (QuarkusRocksDBConfigSetter.class.getName()
+                .equals(kafkaStreamsProperties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG))) {
+            QuarkusRocksDBConfigSetter.configure(runtimeConfig.rocksdb);
+        }
 
         this.executorService = Executors.newSingleThreadExecutor();
 
-        this.kafkaStreams = initializeKafkaStreams(kafkaStreamsProperties, runtimeConfig, kafkaAdminClient, topology.get(),
-                kafkaClientSupplier, stateListener, globalStateRestoreListener, executorService);
+        this.kafkaStreams = createKafkaStreams(kafkaStreamsProperties, topology.get(), kafkaClientSupplier);
+        this.streamsMetadataCache = new StreamsMetadataCache(kafkaStreams,
+                stateListener.isUnsatisfied() ? null : stateListener.get());
+        initializeKafkaStreams(kafkaStreams, runtimeConfig, kafkaAdminClient, streamsMetadataCache,
+                globalStateRestoreListener, executorService);
         this.kafkaStreamsTopologyManager = new KafkaStreamsTopologyManager(kafkaAdminClient);
     }
 
@@ -103,6 +113,12 @@ public class KafkaStreamsProducer {
         return kafkaStreamsTopologyManager;
     }
 
+    @Produces
+    @Singleton
+    public StreamsMetadataCache streamsMetadataCache() {
+        return streamsMetadataCache;
+    }
+
     void onStop(@Observes ShutdownEvent event) {
         shutdown = true;
         if (executorService != null) {
@@ -115,23 +131,23 @@ public class KafkaStreamsProducer {
         if (kafkaAdminClient != null) {
             kafkaAdminClient.close();
         }
+        QuarkusRocksDBConfigSetter.shutdown();
     }
 
-    private static KafkaStreams initializeKafkaStreams(Properties kafkaStreamsProperties,
-            KafkaStreamsRuntimeConfig runtimeConfig, Admin adminClient, Topology topology,
-            Instance<KafkaClientSupplier> kafkaClientSupplier,
-            Instance<StateListener> stateListener, Instance<StateRestoreListener> globalStateRestoreListener,
-            ExecutorService executorService) {
-        KafkaStreams kafkaStreams;
+    private static KafkaStreams createKafkaStreams(Properties kafkaStreamsProperties, Topology topology,
+            Instance<KafkaClientSupplier> kafkaClientSupplier) {
         if (kafkaClientSupplier.isUnsatisfied()) {
-            kafkaStreams = new KafkaStreams(topology, kafkaStreamsProperties);
+            return new KafkaStreams(topology, kafkaStreamsProperties);
         } else {
-            kafkaStreams = new KafkaStreams(topology, kafkaStreamsProperties, kafkaClientSupplier.get());
+            return new KafkaStreams(topology, kafkaStreamsProperties, kafkaClientSupplier.get());
         }
+    }
 
-        if (!stateListener.isUnsatisfied()) {
-            kafkaStreams.setStateListener(stateListener.get());
-        }
+    private static void initializeKafkaStreams(KafkaStreams kafkaStreams, KafkaStreamsRuntimeConfig runtimeConfig,
+            Admin adminClient, StateListener stateListener, Instance<StateRestoreListener> globalStateRestoreListener,
+            ExecutorService executorService) {
+        // the metadata cache notifies the state listener of the application, if any
+        kafkaStreams.setStateListener(stateListener);
         if (!globalStateRestoreListener.isUnsatisfied()) {
             kafkaStreams.setGlobalStateRestoreListener(globalStateRestoreListener.get());
         }
@@ -152,8 +168,6 @@ public class KafkaStreamsProducer {
                 }
             }
         });
-
-        return kafkaStreams;
     }
 
     /**
@@ -234,6 +248,18 @@ public class KafkaStreamsProducer {
             setProperty(ssl.secureRandomImplementation, streamsProperties, SslConfigs.SSL_SECURE_RANDOM_IMPLEMENTATION_CONFIG);
         }
 
+        // rocksdb
+        if (runtimeConfig.rocksdb.isConfigured()) {
+            Object configSetter = streamsProperties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+            if (configSetter == null) {
+                streamsProperties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG,
+                        QuarkusRocksDBConfigSetter.class.getName());
+            } else {
+                LOGGER.warn("The RocksDB config setter " + configSetter
+                        + " is configured, the quarkus.kafka-streams.rocksdb configuration is ignored");
+            }
+        }
+
         return streamsProperties;
     }
 
@@ -5,6 +5,9 @@ import java.util.function.Supplier;
 
 import org.rocksdb.RocksDB;
 
+import io.quarkus.kafka.streams.runtime.query.InteractiveQueryRoutes;
+import io.quarkus.kafka.streams.runtime.rocksdb.QuarkusRocksDBConfigSetter;
+import io.quarkus.kafka.streams.runtime.rocksdb.RocksDbMicrometerMetrics;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -22,4 +25,12 @@ public class KafkaStreamsRecorder {
             }
         };
     }
+
+    public void registerRocksDbMicrometerMetrics() {
+        RocksDbMicrometerMetrics.bind(QuarkusRocksDBConfigSetter.statistics());
+    }
+
+    public void setInteractiveQueryPath(String path) {
+        InteractiveQueryRoutes.setPath(path);
+    }
 }
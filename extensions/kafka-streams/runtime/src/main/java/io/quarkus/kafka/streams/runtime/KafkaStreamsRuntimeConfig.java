@@ -73,6 +73,16 @@ public class KafkaStreamsRuntimeConfig {
      */
     public SslConfig ssl;
 
+    /**
+     * The interactive query endpoint config
+     */
+    public InteractiveQueryConfig interactiveQuery;
+
+    /**
+     * RocksDB state stores config
+     */
+    public RocksDbConfig rocksdb;
+
     @Override
     public String toString() {
         return "KafkaStreamsRuntimeConfig{" +
@@ -84,6 +94,8 @@ public class KafkaStreamsRuntimeConfig {
                 ", schemaRegistryUrl=" + schemaRegistryUrl +
                 ", sasl=" + sasl +
                 ", ssl=" + ssl +
+                ", interactiveQuery=" + interactiveQuery +
+                ", rocksdb=" + rocksdb +
                 '}';
     }
 
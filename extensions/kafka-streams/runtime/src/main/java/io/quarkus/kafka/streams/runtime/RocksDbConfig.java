@@ -0,0 +1,93 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class RocksDbConfig {
+
+    /**
+     * The memory profile of the RocksDB state stores.
+     * <p>
+     * With {@code default}, each store has its own block cache and memtables, as configured by Kafka Streams, so the
+     * memory used grows with the number of stores and partitions hosted by the instance.
+     * With {@code bounded}, all the stores share a block cache, and a write buffer manager counting the memtables against
+     * this cache, so that the off-heap memory used by the stores is bounded by {@code total-memory}.
+     */
+    @ConfigItem(defaultValue = "default")
+    public Profile profile;
+
+    /**
+     * The off-heap memory shared by the block cache and the memtables of all the stores, with the {@code bounded}
+     * profile
+     */
+    @ConfigItem(defaultValue = "256M")
+    public MemorySize totalMemory;
+
+    /**
+     * The fraction of {@code total-memory} which the memtables can use, with the {@code bounded} profile
+     */
+    @ConfigItem(defaultValue = "0.5")
+    public double writeBufferRatio;
+
+    /**
+     * The fraction of the block cache reserved for the index and filter blocks, with the {@code bounded} profile
+     */
+    @ConfigItem(defaultValue = "0.1")
+    public double indexFilterBlockRatio;
+
+    /**
+     * The size of a memtable of a store
+     */
+    @ConfigItem
+    public Optional<MemorySize> writeBufferSize;
+
+    /**
+     * The maximum number of memtables of a store
+     */
+    @ConfigItem
+    public Optional<Integer> maxWriteBuffers;
+
+    /**
+     * The size of the data blocks of a store
+     */
+    @ConfigItem
+    public Optional<MemorySize> blockSize;
+
+    /**
+     * Whether the RocksDB statistics of the stores are collected, and exposed as metrics when the Micrometer extension
+     * is present. Collecting them slows RocksDB down by 5 to 10%.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean statisticsEnabled;
+
+    /**
+     * @return whether the stores are configured by Quarkus, rather than left to the defaults of Kafka Streams
+     */
+    public boolean isConfigured() {
+        return profile != Profile.DEFAULT || writeBufferSize.isPresent() || maxWriteBuffers.isPresent()
+                || blockSize.isPresent() || statisticsEnabled;
+    }
+
+    @Override
+    public String toString() {
+        return "RocksDbConfig{" +
+                "profile=" + profile +
+                ", totalMemory=" + totalMemory.asLongValue() +
+                ", writeBufferRatio=" + writeBufferRatio +
+                ", indexFilterBlockRatio=" + indexFilterBlockRatio +
+                ", writeBufferSize=" + writeBufferSize.map(MemorySize::asLongValue) +
+                ", maxWriteBuffers=" + maxWriteBuffers +
+                ", blockSize=" + blockSize.map(MemorySize::asLongValue) +
+                ", statisticsEnabled=" + statisticsEnabled +
+                '}';
+    }
+
+    public enum Profile {
+        DEFAULT,
+        BOUNDED
+    }
+}
@@ -0,0 +1,49 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KafkaStreams.StateListener;
+import org.apache.kafka.streams.state.StreamsMetadata;
+
+/**
+ * Caches the instances hosting each state store, until the next state change of the Kafka Streams pipeline, such as a
+ * rebalance, which may move the partitions of the stores to other instances.
+ */
+public class StreamsMetadataCache implements StateListener {
+
+    private final KafkaStreams kafkaStreams;
+    private final StateListener delegate;
+
+    private volatile Map<String, Collection<StreamsMetadata>> metadata = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate the state listener of the application, may be {@code null}
+     */
+    public StreamsMetadataCache(KafkaStreams kafkaStreams, StateListener delegate) {
+        this.kafkaStreams = kafkaStreams;
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return the metadata of the instances hosting the store
+     */
+    public Collection<StreamsMetadata> allMetadataForStore(String storeName) {
+        if (kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            // the assignment of the partitions is not stable yet
+            return kafkaStreams.allMetadataForStore(storeName);
+        }
+        // a concurrent state change replaces the map, so stale metadata is not kept
+        return metadata.computeIfAbsent(storeName, kafkaStreams::allMetadataForStore);
+    }
+
+    @Override
+    public void onChange(KafkaStreams.State newState, KafkaStreams.State oldState) {
+        metadata = new ConcurrentHashMap<>();
+        if (delegate != null) {
+            delegate.onChange(newState, oldState);
+        }
+    }
+}
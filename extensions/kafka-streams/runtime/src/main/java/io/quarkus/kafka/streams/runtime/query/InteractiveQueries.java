@@ -0,0 +1,189 @@
+package io.quarkus.kafka.streams.runtime.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.StreamsMetadata;
+
+import io.quarkus.kafka.streams.runtime.InteractiveQueryStoreConfig;
+import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
+import io.quarkus.kafka.streams.runtime.StreamsMetadataCache;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Queries the key-value state stores of the Kafka Streams pipeline, locally, and tells which instance of the application
+ * hosts the keys which are not hosted locally.
+ * <p>
+ * The instances are identified by their {@code application.server}; when it is not set, the application is considered
+ * to be the only instance.
+ */
+@Singleton
+public class InteractiveQueries {
+
+    private final KafkaStreams kafkaStreams;
+    private final StreamsMetadataCache streamsMetadataCache;
+    private final KafkaStreamsRuntimeConfig runtimeConfig;
+    private final Vertx vertx;
+    private final HostInfo self;
+
+    private volatile HttpClient httpClient;
+
+    @Inject
+    public InteractiveQueries(KafkaStreams kafkaStreams, StreamsMetadataCache streamsMetadataCache,
+            KafkaStreamsRuntimeConfig runtimeConfig, Vertx vertx) {
+        this.kafkaStreams = kafkaStreams;
+        this.streamsMetadataCache = streamsMetadataCache;
+        this.runtimeConfig = runtimeConfig;
+        this.vertx = vertx;
+        this.self = runtimeConfig.applicationServer.map(
+                endpoint -> new HostInfo(Utils.getHost(endpoint), Utils.getPort(endpoint))).orElse(null);
+    }
+
+    /**
+     * @throws NumberFormatException if the key cannot be converted to the key type of the store
+     */
+    public Object toKey(String storeName, String key) {
+        switch (keyType(storeName)) {
+            case LONG:
+                return Long.valueOf(key);
+            case INTEGER:
+                return Integer.valueOf(key);
+            default:
+                return key;
+        }
+    }
+
+    /**
+     * @return the instance hosting the key, {@code null} if it is hosted locally
+     * @throws InvalidStateStoreException if the store is unknown, or being migrated
+     */
+    public HostInfo remoteHostOf(String storeName, Object key) {
+        if (self == null || kafkaStreams == null) {
+            return null;
+        }
+        KeyQueryMetadata metadata = kafkaStreams.queryMetadataForKey(storeName, key, keySerializer(storeName));
+        if (metadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(metadata)) {
+            throw new InvalidStateStoreException("The host of the key is not available in store " + storeName);
+        }
+        return self.equals(metadata.getActiveHost()) ? null : metadata.getActiveHost();
+    }
+
+    /**
+     * @return the other instances hosting a part of the store
+     */
+    public List<HostInfo> remoteHostsOf(String storeName) {
+        if (self == null || kafkaStreams == null) {
+            return new ArrayList<>();
+        }
+        Collection<StreamsMetadata> allMetadata = streamsMetadataCache.allMetadataForStore(storeName);
+        List<HostInfo> hosts = new ArrayList<>(allMetadata.size());
+        for (StreamsMetadata metadata : allMetadata) {
+            if (!self.equals(metadata.hostInfo())) {
+                hosts.add(metadata.hostInfo());
+            }
+        }
+        return hosts;
+    }
+
+    /**
+     * @return the value of the key in the local store, {@code null} if absent
+     */
+    public Object get(String storeName, Object key) {
+        return store(storeName).get(key);
+    }
+
+    /**
+     * @param from the first key of the range, {@code null} for all the keys
+     * @param to the last key of the range, {@code null} for all the keys
+     * @return the entries of the local store in the range, which must be closed
+     */
+    public KeyValueIterator<Object, Object> range(String storeName, Object from, Object to) {
+        ReadOnlyKeyValueStore<Object, Object> store = store(storeName);
+        return from == null || to == null ? store.all() : store.range(from, to);
+    }
+
+    /**
+     * Sends a request to another instance, over a connection reused across the requests.
+     */
+    public void request(HostInfo host, String uri, Handler<HttpClientResponse> responseHandler,
+            Handler<Throwable> failureHandler) {
+        HttpClientRequest request = httpClient().request(HttpMethod.GET, host.port(), host.host(), uri);
+        request.setTimeout(runtimeConfig.interactiveQuery.forwardTimeout.toMillis());
+        request.handler(responseHandler);
+        request.exceptionHandler(failureHandler);
+        request.end();
+    }
+
+    @PreDestroy
+    void close() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    private HttpClient httpClient() {
+        HttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    client = httpClient = vertx.createHttpClient(new HttpClientOptions()
+                            .setKeepAlive(true)
+                            .setMaxPoolSize(runtimeConfig.interactiveQuery.maxConnectionsPerInstance));
+                }
+            }
+        }
+        return client;
+    }
+
+    private ReadOnlyKeyValueStore<Object, Object> store(String storeName) {
+        return kafkaStreams().store(StoreQueryParameters.fromNameAndType(storeName,
+                QueryableStoreTypes.keyValueStore()));
+    }
+
+    private KafkaStreams kafkaStreams() {
+        if (kafkaStreams == null) {
+            throw new InvalidStateStoreException("There is no Kafka Streams topology");
+        }
+        return kafkaStreams;
+    }
+
+    private InteractiveQueryStoreConfig.KeyType keyType(String storeName) {
+        InteractiveQueryStoreConfig storeConfig = runtimeConfig.interactiveQuery.stores.get(storeName);
+        return storeConfig == null ? InteractiveQueryStoreConfig.KeyType.STRING : storeConfig.keyType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Serializer<Object> keySerializer(String storeName) {
+        switch (keyType(storeName)) {
+            case LONG:
+                return (Serializer<Object>) (Serializer<?>) Serdes.Long().serializer();
+            case INTEGER:
+                return (Serializer<Object>) (Serializer<?>) Serdes.Integer().serializer();
+            default:
+                return (Serializer<Object>) (Serializer<?>) Serdes.String().serializer();
+        }
+    }
+}
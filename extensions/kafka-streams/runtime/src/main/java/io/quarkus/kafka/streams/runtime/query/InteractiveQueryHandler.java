@@ -0,0 +1,179 @@
+package io.quarkus.kafka.streams.runtime.query;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the content of the key-value state stores:
+ * <ul>
+ * <li>{@code GET <path>/<store>/<key>} returns the value of the key as JSON, forwarding the request to the instance
+ * hosting the key if needed,</li>
+ * <li>{@code GET <path>/<store>[?from=<key>&to=<key>]} streams the entries of the store, or of a range of keys, as
+ * newline-delimited JSON, the local entries first, then the entries hosted by each other instance.</li>
+ * </ul>
+ * The requests forwarded to the other instances have a {@code local=true} parameter, so that they are served locally.
+ */
+public class InteractiveQueryHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOGGER = Logger.getLogger(InteractiveQueryHandler.class.getName());
+
+    static final String LOCAL_PARAM = "local";
+
+    private static final String JSON = "application/json";
+    private static final String NDJSON = "application/x-ndjson";
+
+    private volatile InteractiveQueries queries;
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        String storeName = ctx.pathParam("store");
+        String key = ctx.pathParam("key");
+        boolean local = Boolean.parseBoolean(ctx.request().getParam(LOCAL_PARAM));
+        try {
+            if (key != null) {
+                get(ctx, storeName, queries().toKey(storeName, key), local);
+            } else {
+                range(ctx, storeName, ctx.request().getParam("from"), ctx.request().getParam("to"), local);
+            }
+        } catch (NumberFormatException e) {
+            ctx.response().setStatusCode(400).end("Invalid key: " + e.getMessage());
+        } catch (InvalidStateStoreException e) {
+            if (ctx.response().headWritten()) {
+                // a part of the entries was sent already, the response is interrupted so that it is not seen as complete
+                LOGGER.warnf(e, "Unable to stream the entries of store %s", storeName);
+                ctx.response().close();
+            } else {
+                ctx.response().setStatusCode(503).end(e.getMessage());
+            }
+        }
+    }
+
+    private void get(RoutingContext ctx, String storeName, Object key, boolean local) {
+        HostInfo host = local ? null : queries().remoteHostOf(storeName, key);
+        if (host != null) {
+            queries().request(host, localUri(ctx), remote -> remote.bodyHandler(body -> {
+                HttpServerResponse response = ctx.response().setStatusCode(remote.statusCode());
+                String contentType = remote.getHeader(HttpHeaders.CONTENT_TYPE);
+                if (contentType != null) {
+                    response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+                }
+                response.end(body);
+            }), failure -> forwardFailed(ctx, host, failure));
+            return;
+        }
+        Object value = queries().get(storeName, key);
+        if (value == null) {
+            ctx.response().setStatusCode(404).end();
+        } else {
+            ctx.response().putHeader(HttpHeaders.CONTENT_TYPE, JSON).end(Json.encodeToBuffer(value));
+        }
+    }
+
+    private void range(RoutingContext ctx, String storeName, String from, String to, boolean local) {
+        if ((from == null) != (to == null)) {
+            ctx.response().setStatusCode(400).end("Both or none of the from and to parameters must be set");
+            return;
+        }
+        Object fromKey = from == null ? null : queries().toKey(storeName, from);
+        Object toKey = to == null ? null : queries().toKey(storeName, to);
+        List<HostInfo> hosts = local ? null : queries().remoteHostsOf(storeName);
+
+        HttpServerResponse response = ctx.response();
+        try (KeyValueIterator<Object, Object> entries = queries().range(storeName, fromKey, toKey)) {
+            response.setChunked(true).putHeader(HttpHeaders.CONTENT_TYPE, NDJSON);
+            while (entries.hasNext() && !response.closed()) {
+                KeyValue<Object, Object> entry = entries.next();
+                Map<String, Object> line = new LinkedHashMap<>(2);
+                line.put("key", entry.key);
+                line.put("value", entry.value);
+                write(response, Json.encodeToBuffer(line).appendString("\n"));
+            }
+        }
+        if (hosts == null || hosts.isEmpty()) {
+            response.end();
+        } else {
+            forwardRange(ctx, hosts.iterator());
+        }
+    }
+
+    private void forwardRange(RoutingContext ctx, Iterator<HostInfo> hosts) {
+        if (!hosts.hasNext() || ctx.response().closed()) {
+            ctx.response().end();
+            return;
+        }
+        HostInfo host = hosts.next();
+        queries().request(host, localUri(ctx), remote -> {
+            if (remote.statusCode() != 200) {
+                forwardFailed(ctx, host, new IllegalStateException("Unexpected status " + remote.statusCode()));
+                return;
+            }
+            remote.pipe().endOnComplete(false).to(ctx.response(), piped -> {
+                if (piped.succeeded()) {
+                    forwardRange(ctx, hosts);
+                } else {
+                    forwardFailed(ctx, host, piped.cause());
+                }
+            });
+        }, failure -> forwardFailed(ctx, host, failure));
+    }
+
+    private static void forwardFailed(RoutingContext ctx, HostInfo host, Throwable failure) {
+        LOGGER.warnf(failure, "Unable to forward the interactive query %s to %s:%d", ctx.request().uri(), host.host(),
+                host.port());
+        if (ctx.response().headWritten()) {
+            ctx.response().close();
+        } else {
+            ctx.response().setStatusCode(502).end();
+        }
+    }
+
+    /**
+     * Writes to the response from a worker thread, waiting for the response to be drained when the client reads slower
+     * than the store is iterated.
+     */
+    private static void write(HttpServerResponse response, Buffer buffer) {
+        response.write(buffer);
+        while (response.writeQueueFull() && !response.closed()) {
+            CountDownLatch drained = new CountDownLatch(1);
+            response.drainHandler(ignored -> drained.countDown());
+            try {
+                drained.await(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.close();
+                return;
+            }
+        }
+    }
+
+    private static String localUri(RoutingContext ctx) {
+        String uri = ctx.request().uri();
+        return uri + (uri.indexOf('?') < 0 ? '?' : '&') + LOCAL_PARAM + "=true";
+    }
+
+    private InteractiveQueries queries() {
+        InteractiveQueries queries = this.queries;
+        if (queries == null) {
+            queries = this.queries = Arc.container().instance(InteractiveQueries.class).get();
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkus.kafka.streams.runtime.query;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import io.vertx.ext.web.Router;
+
+/**
+ * Adds the routes of the interactive query endpoint to the router of the vertx-http extension.
+ * <p>
+ * Only registered as a bean when the endpoint is enabled, as the vertx-http extension is an optional dependency.
+ */
+@ApplicationScoped
+public class InteractiveQueryRoutes {
+
+    private static volatile String path;
+
+    /**
+     * @param path the path of the endpoint, ending with a slash
+     */
+    public static void setPath(String path) {
+        InteractiveQueryRoutes.path = path;
+    }
+
+    void addRoutes(@Observes Router router) {
+        InteractiveQueryHandler handler = new InteractiveQueryHandler();
+        // the stores are read on worker threads, as reading RocksDB blocks
+        router.get(path + ":store").blockingHandler(handler, false);
+        router.get(path + ":store/:key").blockingHandler(handler, false);
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.kafka.streams.runtime.rocksdb;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.WriteBufferManager;
+
+import io.quarkus.kafka.streams.runtime.RocksDbConfig;
+
+/**
+ * Applies the {@code quarkus.kafka-streams.rocksdb} configuration to the RocksDB state stores.
+ * <p>
+ * Kafka Streams instantiates this class for each store, so the configuration, and the block cache and write buffer
+ * manager shared by all the stores with the {@code bounded} profile, are held statically, from {@link #configure} until
+ * {@link #shutdown}.
+ */
+public class QuarkusRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    private static final RocksDbStatistics STATISTICS = new RocksDbStatistics();
+
+    private static volatile RocksDbConfig config;
+    private static volatile Cache cache;
+    private static volatile WriteBufferManager writeBufferManager;
+
+    public static synchronized void configure(RocksDbConfig rocksDbConfig) {
+        shutdown();
+        config = rocksDbConfig;
+        if (rocksDbConfig.profile == RocksDbConfig.Profile.BOUNDED) {
+            long totalMemory = rocksDbConfig.totalMemory.asLongValue();
+            cache = new LRUCache(totalMemory, -1, false, rocksDbConfig.indexFilterBlockRatio);
+            // the memtables are counted against the cache, so that both are bounded by the total memory
+            writeBufferManager = new WriteBufferManager((long) (totalMemory * rocksDbConfig.writeBufferRatio), cache);
+        }
+    }
+
+    /**
+     * Releases the shared block cache and write buffer manager, once all the stores are closed.
+     */
+    public static synchronized void shutdown() {
+        if (writeBufferManager != null) {
+            writeBufferManager.close();
+            writeBufferManager = null;
+        }
+        if (cache != null) {
+            cache.close();
+            cache = null;
+        }
+    }
+
+    /**
+     * @return the statistics of the stores, collected when {@code statistics-enabled} is set
+     */
+    public static RocksDbStatistics statistics() {
+        return STATISTICS;
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        RocksDbConfig rocksDbConfig = config;
+        if (rocksDbConfig == null) {
+            return;
+        }
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        if (cache != null) {
+            tableConfig.setBlockCache(cache);
+            // the index and filter blocks are cached too, otherwise they are held outside of the bounded memory
+            tableConfig.setCacheIndexAndFilterBlocks(true);
+            tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+            tableConfig.setPinTopLevelIndexAndFilter(true);
+            options.setWriteBufferManager(writeBufferManager);
+        }
+        if (rocksDbConfig.blockSize.isPresent()) {
+            tableConfig.setBlockSize(rocksDbConfig.blockSize.get().asLongValue());
+        }
+        if (rocksDbConfig.writeBufferSize.isPresent()) {
+            options.setWriteBufferSize(rocksDbConfig.writeBufferSize.get().asLongValue());
+        }
+        if (rocksDbConfig.maxWriteBuffers.isPresent()) {
+            options.setMaxWriteBufferNumber(rocksDbConfig.maxWriteBuffers.get());
+        }
+        options.setTableFormatConfig(tableConfig);
+
+        if (rocksDbConfig.statisticsEnabled) {
+            Statistics statistics = new Statistics();
+            statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+            options.setStatistics(statistics);
+            STATISTICS.add(storeName, options, statistics);
+        }
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the shared cache and write buffer manager outlive the stores
+        Statistics statistics = STATISTICS.remove(options);
+        if (statistics != null) {
+            statistics.close();
+        }
+    }
+}
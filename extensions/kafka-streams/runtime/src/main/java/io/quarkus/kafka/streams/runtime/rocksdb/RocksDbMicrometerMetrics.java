@@ -0,0 +1,59 @@
+package io.quarkus.kafka.streams.runtime.rocksdb;
+
+import org.rocksdb.TickerType;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Delay reference to micrometer dependencies
+ */
+public class RocksDbMicrometerMetrics {
+
+    private static final String STORE_TAG_NAME = "store";
+
+    /**
+     * Registers the meters of each store with statistics, once opened
+     */
+    public static void bind(RocksDbStatistics statistics) {
+        statistics.onStore(storeName -> register(Metrics.globalRegistry, statistics, storeName));
+    }
+
+    private static void register(MeterRegistry registry, RocksDbStatistics statistics, String storeName) {
+        Tags tags = Tags.of(STORE_TAG_NAME, storeName);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.block.cache.hits",
+                "Number of block reads served by the block cache", TickerType.BLOCK_CACHE_HIT);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.block.cache.misses",
+                "Number of block reads missing the block cache", TickerType.BLOCK_CACHE_MISS);
+        Gauge.builder("kafka.streams.rocksdb.block.cache.hit.ratio", statistics, s -> s.blockCacheHitRatio(storeName))
+                .description("Ratio of the block reads served by the block cache")
+                .tags(tags)
+                .register(registry);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.memtable.hits",
+                "Number of reads served by the memtables", TickerType.MEMTABLE_HIT);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.memtable.misses",
+                "Number of reads missing the memtables", TickerType.MEMTABLE_MISS);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.written.bytes",
+                "Number of bytes written to the store", TickerType.BYTES_WRITTEN);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.read.bytes",
+                "Number of bytes read from the store", TickerType.BYTES_READ);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.compaction.read.bytes",
+                "Number of bytes read by the compactions", TickerType.COMPACT_READ_BYTES);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.compaction.written.bytes",
+                "Number of bytes written by the compactions", TickerType.COMPACT_WRITE_BYTES);
+        counter(registry, statistics, storeName, tags, "kafka.streams.rocksdb.write.stall.micros",
+                "Time the writes were stalled, waiting for flushes or compactions, in microseconds",
+                TickerType.STALL_MICROS);
+    }
+
+    private static void counter(MeterRegistry registry, RocksDbStatistics statistics, String storeName, Tags tags,
+            String name, String description, TickerType ticker) {
+        FunctionCounter.builder(name, statistics, s -> s.count(storeName, ticker))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
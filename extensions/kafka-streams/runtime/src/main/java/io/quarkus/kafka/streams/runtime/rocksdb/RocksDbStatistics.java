@@ -0,0 +1,116 @@
+package io.quarkus.kafka.streams.runtime.rocksdb;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.rocksdb.Options;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/**
+ * The RocksDB statistics of the state stores, summed per store.
+ * <p>
+ * A store is made of a RocksDB instance per partition, and of a RocksDB instance per segment for the window and
+ * session stores, which are all summed. The counts of the closed instances, e.g. when a partition moves to another
+ * instance of the application, are kept, so that the sums never decrease.
+ */
+public class RocksDbStatistics {
+
+    /**
+     * The counted tickers.
+     */
+    public static final TickerType[] TICKERS = {
+            TickerType.BLOCK_CACHE_HIT,
+            TickerType.BLOCK_CACHE_MISS,
+            TickerType.MEMTABLE_HIT,
+            TickerType.MEMTABLE_MISS,
+            TickerType.BYTES_WRITTEN,
+            TickerType.BYTES_READ,
+            TickerType.COMPACT_READ_BYTES,
+            TickerType.COMPACT_WRITE_BYTES,
+            TickerType.STALL_MICROS
+    };
+
+    private static final Pattern SEGMENT_SUFFIX = Pattern.compile("\\.\\d+$");
+
+    private final ConcurrentMap<Options, Instance> instances = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, long[]> closedCounts = new ConcurrentHashMap<>();
+
+    private volatile Consumer<String> storeListener;
+
+    /**
+     * @param listener notified of the name of each store, once, including the stores already opened
+     */
+    public synchronized void onStore(Consumer<String> listener) {
+        this.storeListener = listener;
+        for (String storeName : closedCounts.keySet()) {
+            listener.accept(storeName);
+        }
+    }
+
+    /**
+     * @return the count of the ticker, summed over the instances of the store
+     */
+    public synchronized long count(String storeName, TickerType ticker) {
+        int index = indexOf(ticker);
+        long[] closed = closedCounts.get(storeName);
+        long count = closed == null ? 0 : closed[index];
+        for (Instance instance : instances.values()) {
+            if (instance.storeName.equals(storeName)) {
+                count += instance.statistics.getTickerCount(ticker);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the ratio of the block reads served by the block cache, {@code NaN} before the first read
+     */
+    public double blockCacheHitRatio(String storeName) {
+        long hits = count(storeName, TickerType.BLOCK_CACHE_HIT);
+        long misses = count(storeName, TickerType.BLOCK_CACHE_MISS);
+        return hits + misses == 0 ? Double.NaN : (double) hits / (hits + misses);
+    }
+
+    synchronized void add(String instanceName, Options options, Statistics statistics) {
+        String storeName = SEGMENT_SUFFIX.matcher(instanceName).replaceFirst("");
+        instances.put(options, new Instance(storeName, statistics));
+        if (closedCounts.putIfAbsent(storeName, new long[TICKERS.length]) == null && storeListener != null) {
+            storeListener.accept(storeName);
+        }
+    }
+
+    synchronized Statistics remove(Options options) {
+        Instance instance = instances.remove(options);
+        if (instance == null) {
+            return null;
+        }
+        long[] closed = closedCounts.get(instance.storeName);
+        for (int i = 0; i < TICKERS.length; i++) {
+            closed[i] += instance.statistics.getTickerCount(TICKERS[i]);
+        }
+        return instance.statistics;
+    }
+
+    private static int indexOf(TickerType ticker) {
+        for (int i = 0; i < TICKERS.length; i++) {
+            if (TICKERS[i] == ticker) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Ticker " + ticker + " is not counted");
+    }
+
+    private static final class Instance {
+
+        private final String storeName;
+        private final Statistics statistics;
+
+        Instance(String storeName, Statistics statistics) {
+            this.storeName = storeName;
+            this.statistics = statistics;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.kafka.streams.runtime.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Optional;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.StreamsMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import io.quarkus.kafka.streams.runtime.InteractiveQueryConfig;
+import io.quarkus.kafka.streams.runtime.InteractiveQueryStoreConfig;
+import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
+import io.quarkus.kafka.streams.runtime.StreamsMetadataCache;
+
+public class InteractiveQueriesTest {
+
+    private static final HostInfo SELF = new HostInfo("host1", 8080);
+    private static final HostInfo OTHER = new HostInfo("host2", 8080);
+
+    @Mock
+    private KafkaStreams streams;
+
+    private StreamsMetadataCache metadataCache;
+    private KafkaStreamsRuntimeConfig config;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        metadataCache = new StreamsMetadataCache(streams, null);
+        config = new KafkaStreamsRuntimeConfig();
+        config.applicationServer = Optional.of("host1:8080");
+        config.interactiveQuery = new InteractiveQueryConfig();
+        config.interactiveQuery.forwardTimeout = Duration.ofSeconds(10);
+        config.interactiveQuery.stores = new HashMap<>();
+        InteractiveQueryStoreConfig counts = new InteractiveQueryStoreConfig();
+        counts.keyType = InteractiveQueryStoreConfig.KeyType.LONG;
+        config.interactiveQuery.stores.put("counts", counts);
+    }
+
+    @Test
+    public void shouldConvertKeysToTheKeyTypeOfTheStore() {
+        InteractiveQueries queries = new InteractiveQueries(streams, metadataCache, config, null);
+        assertThat(queries.toKey("counts", "42")).isEqualTo(42L);
+        assertThat(queries.toKey("names", "42")).isEqualTo("42");
+        assertThatThrownBy(() -> queries.toKey("counts", "a")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void shouldTellTheRemoteHostOfAKey() {
+        mockKeyMetadata("local", new KeyQueryMetadata(SELF, Collections.emptySet(), 0));
+        mockKeyMetadata("remote", new KeyQueryMetadata(OTHER, Collections.emptySet(), 1));
+        mockKeyMetadata("migrating", KeyQueryMetadata.NOT_AVAILABLE);
+        InteractiveQueries queries = new InteractiveQueries(streams, metadataCache, config, null);
+
+        assertThat(queries.remoteHostOf("names", "local")).isNull();
+        assertThat(queries.remoteHostOf("names", "remote")).isEqualTo(OTHER);
+        assertThatThrownBy(() -> queries.remoteHostOf("names", "migrating"))
+                .isInstanceOf(InvalidStateStoreException.class);
+    }
+
+    @Test
+    public void shouldServeEverythingLocallyWithoutApplicationServer() {
+        config.applicationServer = Optional.empty();
+        InteractiveQueries queries = new InteractiveQueries(streams, metadataCache, config, null);
+
+        assertThat(queries.remoteHostOf("names", "key")).isNull();
+        assertThat(queries.remoteHostsOf("names")).isEmpty();
+        Mockito.verifyNoInteractions(streams);
+    }
+
+    @Test
+    public void shouldCacheTheHostsOfAStoreUntilTheNextStateChange() {
+        StreamsMetadata self = metadata(SELF);
+        StreamsMetadata other = metadata(OTHER);
+        Mockito.when(streams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        Mockito.when(streams.allMetadataForStore("names")).thenReturn(Arrays.asList(self, other));
+        InteractiveQueries queries = new InteractiveQueries(streams, metadataCache, config, null);
+
+        assertThat(queries.remoteHostsOf("names")).containsExactly(OTHER);
+        assertThat(queries.remoteHostsOf("names")).containsExactly(OTHER);
+        Mockito.verify(streams, Mockito.times(1)).allMetadataForStore("names");
+
+        metadataCache.onChange(KafkaStreams.State.REBALANCING, KafkaStreams.State.RUNNING);
+        assertThat(queries.remoteHostsOf("names")).containsExactly(OTHER);
+        Mockito.verify(streams, Mockito.times(2)).allMetadataForStore("names");
+    }
+
+    @Test
+    public void shouldNotCacheTheHostsOfAStoreWhileRebalancing() {
+        Mockito.when(streams.state()).thenReturn(KafkaStreams.State.REBALANCING);
+        Mockito.when(streams.allMetadataForStore("names")).thenReturn(Collections.emptyList());
+        InteractiveQueries queries = new InteractiveQueries(streams, metadataCache, config, null);
+
+        queries.remoteHostsOf("names");
+        queries.remoteHostsOf("names");
+        Mockito.verify(streams, Mockito.times(2)).allMetadataForStore("names");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockKeyMetadata(String key, KeyQueryMetadata metadata) {
+        Mockito.when(streams.queryMetadataForKey(ArgumentMatchers.eq("names"), ArgumentMatchers.eq(key),
+                ArgumentMatchers.any(Serializer.class))).thenReturn(metadata);
+    }
+
+    private static StreamsMetadata metadata(HostInfo host) {
+        StreamsMetadata metadata = Mockito.mock(StreamsMetadata.class);
+        Mockito.when(metadata.hostInfo()).thenReturn(host);
+        return metadata;
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.kafka.streams.runtime.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.TickerType;
+
+import io.quarkus.kafka.streams.runtime.RocksDbConfig;
+import io.quarkus.runtime.configuration.MemorySize;
+
+public class QuarkusRocksDBConfigSetterTest {
+
+    @BeforeAll
+    public static void loadRocksDb() {
+        RocksDB.loadLibrary();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        QuarkusRocksDBConfigSetter.shutdown();
+    }
+
+    @Test
+    public void shouldApplyTheStoreSettings() {
+        RocksDbConfig config = config(RocksDbConfig.Profile.BOUNDED);
+        config.blockSize = Optional.of(new MemorySize(BigInteger.valueOf(16 * 1024)));
+        config.writeBufferSize = Optional.of(new MemorySize(BigInteger.valueOf(8 * 1024 * 1024)));
+        config.maxWriteBuffers = Optional.of(2);
+        QuarkusRocksDBConfigSetter.configure(config);
+
+        try (Options options = new Options().setTableFormatConfig(new BlockBasedTableConfig())) {
+            QuarkusRocksDBConfigSetter configSetter = new QuarkusRocksDBConfigSetter();
+            configSetter.setConfig("store", options, Collections.emptyMap());
+
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+            assertThat(tableConfig.blockSize()).isEqualTo(16 * 1024);
+            assertThat(tableConfig.cacheIndexAndFilterBlocks()).isTrue();
+            assertThat(options.writeBufferSize()).isEqualTo(8 * 1024 * 1024);
+            assertThat(options.maxWriteBufferNumber()).isEqualTo(2);
+            configSetter.close("store", options);
+        }
+    }
+
+    @Test
+    public void shouldSumTheStatisticsOfTheInstancesOfAStore() {
+        RocksDbConfig config = config(RocksDbConfig.Profile.DEFAULT);
+        config.statisticsEnabled = true;
+        QuarkusRocksDBConfigSetter.configure(config);
+        RocksDbStatistics statistics = QuarkusRocksDBConfigSetter.statistics();
+        List<String> stores = new CopyOnWriteArrayList<>();
+        statistics.onStore(stores::add);
+
+        try (Options segment1 = new Options().setTableFormatConfig(new BlockBasedTableConfig());
+                Options segment2 = new Options().setTableFormatConfig(new BlockBasedTableConfig())) {
+            QuarkusRocksDBConfigSetter configSetter = new QuarkusRocksDBConfigSetter();
+            configSetter.setConfig("windows.1600000000000", segment1, Collections.emptyMap());
+            configSetter.setConfig("windows.1600000060000", segment2, Collections.emptyMap());
+
+            // the segments of a window store are counted as a single store
+            assertThat(stores).containsExactly("windows");
+            assertThat(statistics.count("windows", TickerType.BYTES_WRITTEN)).isZero();
+            assertThat(statistics.blockCacheHitRatio("windows")).isNaN();
+
+            configSetter.close("windows.1600000000000", segment1);
+            configSetter.close("windows.1600000060000", segment2);
+            assertThat(statistics.count("windows", TickerType.BYTES_WRITTEN)).isZero();
+        }
+    }
+
+    private static RocksDbConfig config(RocksDbConfig.Profile profile) {
+        RocksDbConfig config = new RocksDbConfig();
+        config.profile = profile;
+        config.totalMemory = new MemorySize(BigInteger.valueOf(64 * 1024 * 1024));
+        config.writeBufferRatio = 0.5;
+        config.indexFilterBlockRatio = 0.1;
+        config.writeBufferSize = Optional.empty();
+        config.maxWriteBuffers = Optional.empty();
+        config.blockSize = Optional.empty();
+        return config;
+    }
+}
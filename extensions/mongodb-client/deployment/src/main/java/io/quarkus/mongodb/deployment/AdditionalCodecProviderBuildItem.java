@@ -0,0 +1,21 @@
+package io.quarkus.mongodb.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Registers a codec provider contributed by an extension.
+ * <p>
+ * These providers come after the ones of the application, so that the application can still override their codecs.
+ */
+public final class AdditionalCodecProviderBuildItem extends MultiBuildItem {
+
+    private final String codecProviderClassName;
+
+    public AdditionalCodecProviderBuildItem(String codecProviderClassName) {
+        this.codecProviderClassName = codecProviderClassName;
+    }
+
+    public String getCodecProviderClassName() {
+        return codecProviderClassName;
+    }
+}
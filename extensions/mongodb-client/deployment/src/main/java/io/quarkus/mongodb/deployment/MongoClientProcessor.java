@@ -64,10 +64,16 @@ public class MongoClientProcessor {
     private static final DotName REACTIVE_MONGO_CLIENT = DotName.createSimple(ReactiveMongoClient.class.getName());
 
     @BuildStep
-    CodecProviderBuildItem collectCodecProviders(CombinedIndexBuildItem indexBuildItem) {
+    CodecProviderBuildItem collectCodecProviders(CombinedIndexBuildItem indexBuildItem,
+            List<AdditionalCodecProviderBuildItem> additionalCodecProviders) {
         Collection<ClassInfo> codecProviderClasses = indexBuildItem.getIndex()
                 .getAllKnownImplementors(DotName.createSimple(CodecProvider.class.getName()));
         List<String> names = codecProviderClasses.stream().map(ci -> ci.name().toString()).collect(Collectors.toList());
+        for (AdditionalCodecProviderBuildItem additionalCodecProvider : additionalCodecProviders) {
+            // the provider may be indexed too, but it must come after the ones of the application
+            names.remove(additionalCodecProvider.getCodecProviderClassName());
+            names.add(additionalCodecProvider.getCodecProviderClassName());
+        }
         return new CodecProviderBuildItem(names);
     }
 
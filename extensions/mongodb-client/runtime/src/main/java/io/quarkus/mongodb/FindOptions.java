@@ -16,6 +16,7 @@ public class FindOptions {
     private Bson filter;
     private int limit;
     private int skip;
+    private int batchSize;
     private long maxTime;
     private TimeUnit maxTimeUnit;
     private Bson projection;
@@ -124,6 +125,19 @@ public class FindOptions {
         return this;
     }
 
+    /**
+     * Sets the number of documents to return per batch.
+     * The next batch is only fetched when the documents of the current one have been requested downstream, so this
+     * bounds the number of documents held in memory while streaming large results.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public FindOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     /**
      * The server normally times out idle cursors after an inactivity period (10 minutes)
      * to prevent excess memory use. Set this option to prevent that.
@@ -261,6 +275,9 @@ public class FindOptions {
         if (skip > 0) {
             publisher = publisher.skip(skip);
         }
+        if (batchSize > 0) {
+            publisher = publisher.batchSize(batchSize);
+        }
         if (maxTime > 0) {
             publisher = publisher.maxTime(maxTime, maxTimeUnit);
         }
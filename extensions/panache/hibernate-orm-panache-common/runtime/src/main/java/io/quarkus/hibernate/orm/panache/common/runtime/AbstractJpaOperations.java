@@ -1,9 +1,13 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
@@ -12,6 +16,12 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.PostInsertIdentifierGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jboss.logging.Logger;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
@@ -21,6 +31,10 @@ import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
 
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
+    // the entities already checked for batching, to warn only once
+    private static final Set<String> CHECKED_BATCHED_ENTITIES = ConcurrentHashMap.newKeySet();
+
     protected abstract PanacheQueryType createPanacheQuery(EntityManager em, String query, String orderBy,
             Object paramsArrayOrMap);
 
@@ -74,6 +88,66 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void persistInBatches(Iterable<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    public void persistInBatches(Stream<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    private void persistInBatches(Iterator<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        if (!entities.hasNext()) {
+            return;
+        }
+        // get the first entity to be able to retrieve the entity manager with it
+        Object entity = entities.next();
+        EntityManager em = getEntityManager(entity.getClass());
+        Session session = em.unwrap(Session.class);
+        Integer previousJdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        long start = System.nanoTime();
+        long count = 0;
+        try {
+            while (true) {
+                checkBatchable(session, entity.getClass());
+                persist(em, entity);
+                if (++count % batchSize == 0) {
+                    // send the batch and detach its entities, so that the persistence context does not grow
+                    em.flush();
+                    em.clear();
+                }
+                if (!entities.hasNext()) {
+                    break;
+                }
+                entity = entities.next();
+            }
+            em.flush();
+            em.clear();
+        } finally {
+            session.setJdbcBatchSize(previousJdbcBatchSize);
+        }
+        if (LOG.isDebugEnabled()) {
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            LOG.debugf("Persisted %d entities in batches of %d in %d ms (%d entities/s)", count, batchSize, elapsedMillis,
+                    count * 1000 / elapsedMillis);
+        }
+    }
+
+    private static void checkBatchable(Session session, Class<?> entityClass) {
+        if (CHECKED_BATCHED_ENTITIES.add(entityClass.getName())) {
+            EntityPersister persister = session.getSessionFactory().unwrap(SessionFactoryImplementor.class).getMetamodel()
+                    .entityPersister(entityClass);
+            if (persister.getIdentifierGenerator() instanceof PostInsertIdentifierGenerator) {
+                LOG.warnf("The id of entity %s is generated by the database on insert, which prevents its inserts from being"
+                        + " batched: consider using a sequence", entityClass.getName());
+            }
+        }
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(entity);
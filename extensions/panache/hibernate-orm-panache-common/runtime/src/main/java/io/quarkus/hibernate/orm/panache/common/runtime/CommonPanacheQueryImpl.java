@@ -2,12 +2,19 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
@@ -15,6 +22,8 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.engine.spi.RowSelection;
 
@@ -239,6 +248,87 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    public <T extends Entity> Stream<T> batchStream(int batchSize) {
+        ScrollableResults results = scroll(batchSize);
+        Iterator<T> iterator = new Iterator<T>() {
+            private int count;
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                if (hasNext == null) {
+                    // the previous batch must be released before the next row is loaded in the persistence context
+                    if (count > 0 && count % batchSize == 0) {
+                        endBatch();
+                    }
+                    hasNext = results.next();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = null;
+                count++;
+                return currentRow(results);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(results::close);
+    }
+
+    public <T extends Entity> void forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+        ScrollableResults results = scroll(batchSize);
+        try {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (results.next()) {
+                batch.add(currentRow(results));
+                if (batch.size() == batchSize) {
+                    consumer.accept(batch);
+                    endBatch();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+                endBatch();
+            }
+        } finally {
+            results.close();
+        }
+    }
+
+    private ScrollableResults scroll(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero, got " + batchSize);
+        }
+        org.hibernate.query.Query<?> hibernateQuery = createQuery().unwrap(org.hibernate.query.Query.class);
+        hibernateQuery.setFetchSize(batchSize);
+        try (NonThrowingCloseable c = applyFilters()) {
+            return hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T currentRow(ScrollableResults results) {
+        Object[] row = results.get();
+        return (T) (row.length == 1 ? row[0] : row);
+    }
+
+    /**
+     * Writes the changes made to the current batch, if any, and detaches its entities so that they can be garbage
+     * collected.
+     */
+    private void endBatch() {
+        if (em.isJoinedToTransaction()) {
+            em.flush();
+        }
+        em.clear();
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
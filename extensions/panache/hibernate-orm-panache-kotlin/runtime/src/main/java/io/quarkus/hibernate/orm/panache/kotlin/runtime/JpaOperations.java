@@ -258,6 +258,14 @@ public class JpaOperations {
         delegate.persist(entities);
     }
 
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        delegate.persistInBatches(entities, batchSize);
+    }
+
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        delegate.persistInBatches(entities, batchSize);
+    }
+
     public static void setRollbackOnly() {
         delegate.setRollbackOnly();
     }
@@ -14,6 +14,8 @@ import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
@@ -160,6 +162,17 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @NotNull
+    @Override
+    public Stream<Entity> batchStream(int batchSize) {
+        return delegate.batchStream(batchSize);
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, @NotNull Function1<? super List<? extends Entity>, Unit> consumer) {
+        delegate.forEachBatch(batchSize, consumer::invoke);
+    }
+
     @Override
     public Entity firstResult() {
         return delegate.firstResult();
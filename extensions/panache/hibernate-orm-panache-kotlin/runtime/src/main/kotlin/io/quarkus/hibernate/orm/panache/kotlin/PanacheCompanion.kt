@@ -512,6 +512,34 @@ interface PanacheCompanion<Entity : PanacheEntityBase, Id: Any> {
         JpaOperations.persist(firstEntity, *entities)
     }
 
+    /**
+     * Persist all given entities in batches: the inserts are sent to the database with JDBC batching, and every
+     * [batchSize] entities the persistence context is flushed and cleared, so that its size does not grow with
+     * the number of entities. The given entities, and all the other entities of the persistence context, are detached
+     * once persisted.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted per batch
+     * @see [PanacheCompanion.persist]
+     */
+    fun persistInBatches(entities: Iterable<Entity>, batchSize: Int) {
+        JpaOperations.persistInBatches(entities, batchSize)
+    }
+
+    /**
+     * Persist all given entities in batches: the inserts are sent to the database with JDBC batching, and every
+     * [batchSize] entities the persistence context is flushed and cleared, so that its size does not grow with
+     * the number of entities. The given entities, and all the other entities of the persistence context, are detached
+     * once persisted.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted per batch
+     * @see [PanacheCompanion.persist]
+     */
+    fun persistInBatches(entities: Stream<Entity>, batchSize: Int) {
+        JpaOperations.persistInBatches(entities, batchSize)
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
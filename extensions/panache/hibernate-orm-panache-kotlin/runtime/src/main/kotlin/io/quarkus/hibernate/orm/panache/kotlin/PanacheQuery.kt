@@ -222,6 +222,38 @@ interface PanacheQuery<Entity: Any> {
      */
     fun stream(): Stream<Entity>
 
+    /**
+     * Returns the current page of results as a Stream backed by a forward-only database cursor, suitable for
+     * iterating over a very large number of results with a bounded memory usage.
+     *
+     * Results are fetched from the database `batchSize` rows at a time, and every `batchSize` results the persistence
+     * context is flushed, if a transaction is active, and cleared: entities from previous batches, as well as any other
+     * entity loaded in the current persistence context, become detached.
+     * The returned stream must be closed to release the database cursor. Queries fetching collections with a
+     * `join fetch` are not supported.
+     *
+     * @param batchSize the JDBC fetch size and the number of results after which the persistence context is cleared.
+     * @return the current page of results as a Stream.
+     * @see [PanacheQuery.stream]
+     * @see [PanacheQuery.forEachBatch]
+     */
+    fun batchStream(batchSize: Int): Stream<Entity>
+
+    /**
+     * Passes the current page of results to the given consumer in batches of `batchSize` results read from a
+     * forward-only database cursor, suitable for processing a very large number of results with a bounded memory usage.
+     *
+     * After each batch is consumed, the persistence context is flushed, if a transaction is active, so the changes made
+     * by the consumer to the entities of the batch are written, and cleared: entities from previous batches, as well as
+     * any other entity loaded in the current persistence context, become detached.
+     * Queries fetching collections with a `join fetch` are not supported.
+     *
+     * @param batchSize the JDBC fetch size and the maximum number of results passed to each call of the consumer.
+     * @param consumer the consumer of each batch of results.
+     * @see [PanacheQuery.batchStream]
+     */
+    fun forEachBatch(batchSize: Int, consumer: (List<Entity>) -> Unit)
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
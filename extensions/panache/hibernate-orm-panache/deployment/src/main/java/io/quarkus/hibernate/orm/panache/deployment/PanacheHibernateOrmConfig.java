@@ -0,0 +1,18 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "hibernate-orm-panache")
+public class PanacheHibernateOrmConfig {
+
+    /**
+     * Whether the constant query strings passed to the Panache entity and repository methods (such as
+     * {@code find("name = ?1", name)}) are expanded at build time and compiled into the Hibernate ORM query plan cache
+     * when the application starts, so the first request using them doesn't have to parse them.
+     * <p>
+     * A query that Hibernate ORM cannot compile stops the application at startup.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean prewarmQueries;
+}
@@ -1,5 +1,8 @@
 package io.quarkus.hibernate.orm.panache.deployment;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -18,11 +21,14 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 
+import io.quarkus.agroal.spi.JdbcDataSourceSchemaReadyBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.builder.BuildException;
+import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -33,9 +39,11 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateEnhancersRegisteredBuildItem;
+import io.quarkus.hibernate.orm.deployment.JpaEntitiesBuildItem;
 import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
@@ -203,6 +211,64 @@ public final class PanacheHibernateResourceProcessor {
         recordPanacheEntityPersistenceUnits(recorder, jpaModelPersistenceUnitMapping, panacheEntities);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void prewarmQueries(PanacheHibernateOrmRecorder recorder,
+            PanacheHibernateOrmConfig config,
+            CombinedIndexBuildItem index,
+            ApplicationArchivesBuildItem applicationArchives,
+            JpaEntitiesBuildItem jpaEntities,
+            List<PanacheEntityClassBuildItem> entityClasses,
+            BeanContainerBuildItem beanContainer,
+            List<JdbcDataSourceSchemaReadyBuildItem> schemaReady) throws IOException {
+        if (!config.prewarmQueries) {
+            return;
+        }
+        Set<String> jpaEntityClassNames = jpaEntities.getEntityClassNames();
+        Map<String, String> ownerToEntity = new HashMap<>();
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            String entityClassName = entityClass.get().name().toString();
+            if (jpaEntityClassNames.contains(entityClassName)) {
+                ownerToEntity.put(entityClassName.replace('.', '/'), entityClassName);
+            }
+        }
+        for (DotName repositoryInterface : Arrays.asList(DOTNAME_PANACHE_REPOSITORY_BASE, DOTNAME_PANACHE_REPOSITORY)) {
+            for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(repositoryInterface)) {
+                if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY)) {
+                    continue;
+                }
+                List<org.jboss.jandex.Type> typeParameters = JandexUtil
+                        .resolveTypeParameters(classInfo.name(), repositoryInterface, index.getIndex());
+                String entityClassName = typeParameters.get(0).name().toString();
+                if (jpaEntityClassNames.contains(entityClassName)) {
+                    ownerToEntity.put(classInfo.name().toString().replace('.', '/'), entityClassName);
+                }
+            }
+        }
+        if (ownerToEntity.isEmpty()) {
+            return;
+        }
+
+        PanacheQueryScanner scanner = new PanacheQueryScanner(ownerToEntity);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ApplicationArchive archive : applicationArchives.getAllApplicationArchives()) {
+            for (ClassInfo classInfo : archive.getIndex().getKnownClasses()) {
+                try (InputStream stream = IoUtil.readClass(classLoader, classInfo.name().toString())) {
+                    if (stream != null) {
+                        scanner.scan(IoUtil.readBytes(stream));
+                    }
+                }
+            }
+        }
+        if (!scanner.getErrors().isEmpty()) {
+            throw new IllegalStateException("Invalid Panache queries (set quarkus.hibernate-orm-panache.prewarm-queries"
+                    + " to false to skip this check):\n\t- " + String.join("\n\t- ", scanner.getErrors()));
+        }
+        if (!scanner.getQueries().isEmpty()) {
+            recorder.prewarmQueries(scanner.getQueries());
+        }
+    }
+
     @BuildStep
     ValidationPhaseBuildItem.ValidationErrorBuildItem validate(ValidationPhaseBuildItem validationPhase,
             CombinedIndexBuildItem index) throws BuildException {
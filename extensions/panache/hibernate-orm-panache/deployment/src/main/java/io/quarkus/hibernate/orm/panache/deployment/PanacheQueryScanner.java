@@ -0,0 +1,223 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+/**
+ * Finds the constant query strings passed to the Panache entity and repository methods and expands them the same way
+ * {@link PanacheJpaUtil} does at runtime.
+ * <p>
+ * The expanded HQL is not parsed here: it is compiled by the HQL parser of Hibernate ORM when the application starts,
+ * see {@code PanacheHibernateOrmRecorder#prewarmQueries}.
+ */
+final class PanacheQueryScanner {
+
+    private static final String STRING_DESCRIPTOR = Type.getDescriptor(String.class);
+    private static final String SORT_DESCRIPTOR = Type.getDescriptor(Sort.class);
+    private static final String OBJECT_ARRAY_DESCRIPTOR = Type.getDescriptor(Object[].class);
+
+    enum Kind {
+        FIND,
+        COUNT,
+        DELETE,
+        UPDATE
+    }
+
+    private static final Map<String, Kind> METHODS = new HashMap<>();
+
+    static {
+        METHODS.put("find", Kind.FIND);
+        METHODS.put("list", Kind.FIND);
+        METHODS.put("stream", Kind.FIND);
+        METHODS.put("count", Kind.COUNT);
+        METHODS.put("exists", Kind.COUNT);
+        METHODS.put("delete", Kind.DELETE);
+        METHODS.put("update", Kind.UPDATE);
+    }
+
+    // internal name of the entity or repository class -> entity class name
+    private final Map<String, String> ownerToEntity;
+    // entity class name -> expanded query -> location of the first use
+    private final Map<String, Map<String, String>> queries = new HashMap<>();
+    private final List<String> errors = new ArrayList<>();
+
+    PanacheQueryScanner(Map<String, String> ownerToEntity) {
+        this.ownerToEntity = ownerToEntity;
+    }
+
+    Map<String, Map<String, String>> getQueries() {
+        return queries;
+    }
+
+    List<String> getErrors() {
+        return errors;
+    }
+
+    void scan(byte[] classBytes) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (!hasPanacheQueryCall(method)) {
+                continue;
+            }
+            Frame<SourceValue>[] frames;
+            try {
+                frames = new Analyzer<>(new SourceInterpreter()).analyze(classNode.name, method);
+            } catch (AnalyzerException e) {
+                // not something we can reason about, the queries will be checked at runtime as usual
+                continue;
+            }
+            InsnList instructions = method.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                AbstractInsnNode instruction = instructions.get(i);
+                if (frames[i] != null && isPanacheQueryCall(instruction)) {
+                    visitCall(classNode, method, frames, (MethodInsnNode) instruction, frames[i]);
+                }
+            }
+        }
+    }
+
+    private boolean hasPanacheQueryCall(MethodNode method) {
+        for (AbstractInsnNode instruction : method.instructions.toArray()) {
+            if (isPanacheQueryCall(instruction)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPanacheQueryCall(AbstractInsnNode instruction) {
+        if (!(instruction instanceof MethodInsnNode)) {
+            return false;
+        }
+        MethodInsnNode call = (MethodInsnNode) instruction;
+        if (!METHODS.containsKey(call.name) || !ownerToEntity.containsKey(call.owner)) {
+            return false;
+        }
+        Type[] arguments = Type.getArgumentTypes(call.desc);
+        return arguments.length > 0 && STRING_DESCRIPTOR.equals(arguments[0].getDescriptor());
+    }
+
+    private void visitCall(ClassNode classNode, MethodNode method, Frame<SourceValue>[] frames, MethodInsnNode call,
+            Frame<SourceValue> frame) {
+        Type[] arguments = Type.getArgumentTypes(call.desc);
+        int firstArgument = frame.getStackSize() - arguments.length;
+        AbstractInsnNode querySource = singleSource(frame.getStack(firstArgument));
+        if (!(querySource instanceof LdcInsnNode) || !(((LdcInsnNode) querySource).cst instanceof String)) {
+            // not a constant query
+            return;
+        }
+        String query = (String) ((LdcInsnNode) querySource).cst;
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            // named queries are already compiled by Hibernate ORM when it starts
+            return;
+        }
+
+        boolean sorted = arguments.length > 1 && SORT_DESCRIPTOR.equals(arguments[1].getDescriptor());
+        int paramsIndex = sorted ? 2 : 1;
+        int paramCount = -1;
+        if (arguments.length > paramsIndex && OBJECT_ARRAY_DESCRIPTOR.equals(arguments[paramsIndex].getDescriptor())) {
+            paramCount = arrayLength(method.instructions, frames, frame.getStack(firstArgument + paramsIndex));
+        }
+        if (paramCount == -1 && isShorthand(query)) {
+            // the expansion depends on the number of parameters, which we don't know
+            return;
+        }
+
+        String entityName = ownerToEntity.get(call.owner);
+        String location = classNode.name.replace('/', '.') + "#" + method.name + lineNumber(call);
+        String hql;
+        try {
+            hql = expand(METHODS.get(call.name), entityName, query, Math.max(paramCount, 0));
+        } catch (PanacheQueryException e) {
+            errors.add(location + ": " + e.getMessage());
+            return;
+        }
+        if (!sorted) {
+            // the ORDER BY clause of the sorted variants is only known at runtime
+            queries.computeIfAbsent(entityName, k -> new HashMap<>()).putIfAbsent(hql, location);
+        }
+    }
+
+    static String expand(Kind kind, String entityName, String query, int paramCount) {
+        switch (kind) {
+            case FIND:
+                return PanacheJpaUtil.createFindQuery(entityName, query, paramCount);
+            case COUNT:
+                return PanacheJpaUtil.createCountQuery(entityName, query, paramCount);
+            case DELETE:
+                return PanacheJpaUtil.createDeleteQuery(entityName, query, paramCount);
+            case UPDATE:
+                return PanacheJpaUtil.createUpdateQuery(entityName, query, paramCount);
+            default:
+                throw new IllegalArgumentException(kind.toString());
+        }
+    }
+
+    private static boolean isShorthand(String query) {
+        String trimmed = query.trim();
+        return !trimmed.isEmpty() && trimmed.indexOf(' ') == -1 && trimmed.indexOf('=') == -1;
+    }
+
+    private static int arrayLength(InsnList instructions, Frame<SourceValue>[] frames, SourceValue array) {
+        AbstractInsnNode arraySource = singleSource(array);
+        if (arraySource == null || arraySource.getOpcode() != Opcodes.ANEWARRAY) {
+            return -1;
+        }
+        Frame<SourceValue> frame = frames[instructions.indexOf(arraySource)];
+        return intConstant(singleSource(frame.getStack(frame.getStackSize() - 1)));
+    }
+
+    private static int intConstant(AbstractInsnNode instruction) {
+        if (instruction == null) {
+            return -1;
+        }
+        int opcode = instruction.getOpcode();
+        if (opcode >= Opcodes.ICONST_0 && opcode <= Opcodes.ICONST_5) {
+            return opcode - Opcodes.ICONST_0;
+        }
+        if (opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH) {
+            return ((IntInsnNode) instruction).operand;
+        }
+        if (instruction instanceof LdcInsnNode && ((LdcInsnNode) instruction).cst instanceof Integer) {
+            return (Integer) ((LdcInsnNode) instruction).cst;
+        }
+        return -1;
+    }
+
+    private static AbstractInsnNode singleSource(SourceValue value) {
+        return value.insns.size() == 1 ? value.insns.iterator().next() : null;
+    }
+
+    private static String lineNumber(AbstractInsnNode instruction) {
+        for (AbstractInsnNode node = instruction; node != null; node = node.getPrevious()) {
+            if (node instanceof LineNumberNode) {
+                return ":" + ((LineNumberNode) node).line;
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BatchStreamingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Item.class, ItemRepository.class, ItemService.class)
+                    .addAsResource("application.properties"));
+
+    @Inject
+    ItemService service;
+
+    @Test
+    public void testBatches() {
+        service.createItems(25);
+        // 0 + 1 + ... + 24
+        assertEquals(300, service.sumNumbers());
+
+        // changes made to each batch are flushed before the persistence context is cleared
+        assertEquals(Arrays.asList(10, 10, 5), service.incrementInBatches(10));
+        assertEquals(325, service.sumNumbers());
+
+        assertTrue(service.streamAndCheckDetached(7));
+
+        assertThrows(IllegalArgumentException.class, () -> service.incrementInBatches(0));
+    }
+}
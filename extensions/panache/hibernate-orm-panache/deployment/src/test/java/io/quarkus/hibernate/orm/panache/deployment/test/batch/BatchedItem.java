@@ -0,0 +1,22 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+
+/**
+ * An entity whose ids are allocated by blocks, so that persisting it does not call the sequence for each entity.
+ */
+@Entity
+public class BatchedItem extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(generator = "batchedItemSeq")
+    @SequenceGenerator(name = "batchedItemSeq", allocationSize = 50)
+    public Long id;
+
+    public int number;
+}
@@ -0,0 +1,9 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+@ApplicationScoped
+public class BatchedItemRepository implements PanacheRepositoryBase<BatchedItem, Long> {
+}
@@ -0,0 +1,54 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.hibernate.Session;
+
+@ApplicationScoped
+public class BulkPersistService {
+
+    @Inject
+    BatchedItemRepository repository;
+
+    /**
+     * Persists {@code count} items in batches, through the entity or the repository.
+     *
+     * @return the number of entities in the persistence context each time an item is about to be persisted
+     */
+    @Transactional
+    public List<Integer> persistInBatches(boolean withRepository, int count, int batchSize) {
+        Session session = repository.getEntityManager().unwrap(Session.class);
+        List<Integer> managedEntities = new ArrayList<>();
+        List<BatchedItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BatchedItem item = new BatchedItem();
+            item.number = i;
+            items.add(item);
+        }
+        Stream<BatchedItem> stream = items.stream()
+                .peek(item -> managedEntities.add(session.getStatistics().getEntityCount()));
+        if (withRepository) {
+            repository.persistInBatches(stream, batchSize);
+        } else {
+            BatchedItem.persistInBatches(stream::iterator, batchSize);
+        }
+        return managedEntities;
+    }
+
+    @Transactional
+    public long countItems() {
+        return repository.count();
+    }
+
+    @Transactional
+    public long sumNumbers() {
+        return repository.getEntityManager().createQuery("select sum(number) from BatchedItem", Long.class)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkPersistTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BatchedItem.class, BatchedItemRepository.class, BulkPersistService.class)
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Inject
+    BulkPersistService service;
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testPersistInBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (boolean withRepository : new boolean[] { false, true }) {
+            statistics.clear();
+            List<Integer> managedEntities = service.persistInBatches(withRepository, 25, 10);
+
+            // the persistence context is cleared after each batch
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                expected.add(i % 10);
+            }
+            assertEquals(expected, managedEntities);
+
+            assertEquals(25, statistics.getEntityInsertCount());
+            // an insert statement is prepared for each of the 3 JDBC batches, the sequence is called at most twice,
+            // while each insert would be prepared without batching
+            long preparedStatements = statistics.getPrepareStatementCount();
+            assertTrue(preparedStatements <= 5, () -> preparedStatements + " prepared statements");
+        }
+
+        assertEquals(50, service.countItems());
+        // 2 * (0 + 1 + ... + 24)
+        assertEquals(600, service.sumNumbers());
+
+        assertThrows(IllegalArgumentException.class, () -> service.persistInBatches(false, 1, 0));
+    }
+}
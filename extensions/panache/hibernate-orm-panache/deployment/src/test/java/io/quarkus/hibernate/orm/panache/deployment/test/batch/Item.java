@@ -0,0 +1,11 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class Item extends PanacheEntity {
+
+    public int number;
+}
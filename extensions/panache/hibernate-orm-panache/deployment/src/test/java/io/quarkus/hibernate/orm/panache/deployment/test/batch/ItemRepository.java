@@ -0,0 +1,9 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+
+@ApplicationScoped
+public class ItemRepository implements PanacheRepository<Item> {
+}
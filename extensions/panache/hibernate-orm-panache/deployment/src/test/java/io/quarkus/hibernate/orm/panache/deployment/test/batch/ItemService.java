@@ -0,0 +1,57 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import io.quarkus.panache.common.Sort;
+
+@ApplicationScoped
+public class ItemService {
+
+    @Inject
+    ItemRepository repository;
+
+    @Transactional
+    public void createItems(int count) {
+        for (int i = 0; i < count; i++) {
+            Item item = new Item();
+            item.number = i;
+            item.persist();
+        }
+    }
+
+    @Transactional
+    public List<Integer> incrementInBatches(int batchSize) {
+        List<Integer> batchSizes = new ArrayList<>();
+        Item.<Item> findAll(Sort.by("number")).forEachBatch(batchSize, batch -> {
+            batchSizes.add(batch.size());
+            for (Item item : batch) {
+                item.number++;
+            }
+        });
+        return batchSizes;
+    }
+
+    @Transactional
+    public long sumNumbers() {
+        return Item.getEntityManager().createQuery("select sum(number) from Item", Long.class).getSingleResult();
+    }
+
+    @Transactional
+    public boolean streamAndCheckDetached(int batchSize) {
+        Item first;
+        long count;
+        try (Stream<Item> items = repository.findAll(Sort.by("number")).batchStream(batchSize)) {
+            List<Item> seen = new ArrayList<>();
+            items.forEach(seen::add);
+            first = seen.get(0);
+            count = seen.size();
+        }
+        return count == repository.count() && !repository.getEntityManager().contains(first);
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import java.util.List;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class Book extends PanacheEntity {
+
+    public String title;
+    public int pages;
+
+    public static List<Book> findByTitle(String title) {
+        return list("title", title);
+    }
+
+    public static List<Book> findLongerThan(int pages) {
+        return list("pages > ?1 order by title", pages);
+    }
+
+    public static List<Book> findWithSameTitle() {
+        return list("from Book b where exists (select o from Book o where o.title = b.title and o.id <> b.id)");
+    }
+
+    public static long countByTitle(String title) {
+        return count("title = ?1", title);
+    }
+
+    public static int rename(String title, String newTitle, int newPages) {
+        return update("title = ?1, pages = ?2 where title = ?3", newTitle, newPages, title);
+    }
+}
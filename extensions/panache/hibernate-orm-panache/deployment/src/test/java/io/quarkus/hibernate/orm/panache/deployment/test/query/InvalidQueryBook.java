@@ -0,0 +1,17 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import java.util.List;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class InvalidQueryBook extends PanacheEntity {
+
+    public String title;
+
+    public static List<InvalidQueryBook> findByTitle(String title) {
+        return list("title = = ?1", title);
+    }
+}
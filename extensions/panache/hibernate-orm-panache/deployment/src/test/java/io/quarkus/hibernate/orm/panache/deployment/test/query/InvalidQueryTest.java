@@ -0,0 +1,35 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(InvalidQueryBook.class)
+                    .addAsResource("application.properties"))
+            .assertException(t -> {
+                Throwable rootCause = t;
+                while (rootCause.getCause() != null) {
+                    rootCause = rootCause.getCause();
+                }
+                assertEquals(IllegalStateException.class, rootCause.getClass());
+                assertTrue(rootCause.getMessage().contains(InvalidQueryBook.class.getName() + "#findByTitle"),
+                        rootCause.getMessage());
+            });
+
+    @Test
+    void shouldThrow() {
+        fail("The application should have failed to start because of the invalid query");
+    }
+}
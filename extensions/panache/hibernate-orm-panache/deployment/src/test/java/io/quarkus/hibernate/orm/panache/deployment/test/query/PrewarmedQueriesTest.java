@@ -0,0 +1,58 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.UserTransaction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrewarmedQueriesTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Book.class)
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testQueriesAreInThePlanCache() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // forget the compilations of the startup
+        statistics.clear();
+
+        transaction.begin();
+        try {
+            assertEquals(0, Book.findByTitle("Quarkus").size());
+            assertEquals(0, Book.findLongerThan(100).size());
+            // a subquery, which Hibernate ORM parses
+            assertEquals(0, Book.findWithSameTitle().size());
+            assertEquals(0, Book.countByTitle("Quarkus"));
+            // several assignments
+            assertEquals(0, Book.rename("Quarkus", "Quarkus in Action", 300));
+        } finally {
+            transaction.rollback();
+        }
+
+        // the query strings built by Panache were all compiled at startup
+        assertEquals(0, statistics.getQueryPlanCacheMissCount());
+        // a query plan is looked up when the query is created, and again when it is executed
+        assertTrue(statistics.getQueryPlanCacheHitCount() >= 5, () -> statistics.getQueryPlanCacheHitCount() + " hits");
+    }
+}
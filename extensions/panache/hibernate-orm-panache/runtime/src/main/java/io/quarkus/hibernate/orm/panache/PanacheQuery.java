@@ -3,6 +3,7 @@ package io.quarkus.hibernate.orm.panache;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javax.persistence.LockModeType;
@@ -242,6 +243,39 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} backed by a forward-only database cursor, suitable for
+     * iterating over a very large number of results with a bounded memory usage.
+     * <p>
+     * Results are fetched from the database <code>batchSize</code> rows at a time, and every <code>batchSize</code>
+     * results the persistence context is flushed, if a transaction is active, and cleared: entities from previous
+     * batches, as well as any other entity loaded in the current persistence context, become detached.
+     * The returned stream must be closed to release the database cursor. Queries fetching collections with a
+     * <code>join fetch</code> are not supported.
+     *
+     * @param batchSize the JDBC fetch size and the number of results after which the persistence context is cleared.
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     * @see #forEachBatch(int, Consumer)
+     */
+    public <T extends Entity> Stream<T> batchStream(int batchSize);
+
+    /**
+     * Passes the current page of results to the given consumer in batches of <code>batchSize</code> results read from
+     * a forward-only database cursor, suitable for processing a very large number of results with a bounded memory
+     * usage.
+     * <p>
+     * After each batch is consumed, the persistence context is flushed, if a transaction is active, so the changes
+     * made by the consumer to the entities of the batch are written, and cleared: entities from previous batches, as
+     * well as any other entity loaded in the current persistence context, become detached.
+     * Queries fetching collections with a <code>join fetch</code> are not supported.
+     *
+     * @param batchSize the JDBC fetch size and the maximum number of results passed to each call of the consumer.
+     * @param consumer the consumer of each batch of results.
+     * @see #batchStream(int)
+     */
+    public <T extends Entity> void forEachBatch(int batchSize, Consumer<List<T>> consumer);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -746,6 +746,40 @@ public interface PanacheRepositoryBase<Entity, Id> {
         JpaOperations.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities in batches: the inserts are sent to the database with JDBC batching, and every
+     * <code>batchSize</code> entities the persistence context is flushed and cleared, so that its size does not grow with
+     * the number of entities. The given entities, and all the other entities of the persistence context, are detached
+     * once persisted.
+     * <p>
+     * A warning is logged if the id generation strategy of an entity prevents its inserts from being batched.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted per batch
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    public default void persistInBatches(Iterable<Entity> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches: the inserts are sent to the database with JDBC batching, and every
+     * <code>batchSize</code> entities the persistence context is flushed and cleared, so that its size does not grow with
+     * the number of entities. The given entities, and all the other entities of the persistence context, are detached
+     * once persisted.
+     * <p>
+     * A warning is logged if the id generation strategy of an entity prevents its inserts from being batched.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted per batch
+     * @see #persist(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    public default void persistInBatches(Stream<Entity> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      * 
@@ -53,6 +53,10 @@ public class JpaOperations {
         JpaOperations.entityToPersistenceUnit = Collections.unmodifiableMap(entityToPersistenceUnit);
     }
 
+    static String getPersistenceUnitName(String entityClassName) {
+        return entityToPersistenceUnit.get(entityClassName);
+    }
+
     //
     // Instance methods
     public static void persist(Object entity) {
@@ -75,6 +79,14 @@ public class JpaOperations {
         delegate.persist(entities);
     }
 
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        delegate.persistInBatches(entities, batchSize);
+    }
+
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        delegate.persistInBatches(entities, batchSize);
+    }
+
     public static void delete(Object entity) {
         delegate.delete(entity);
     }
@@ -1,12 +1,55 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class PanacheHibernateOrmRecorder {
+
+    private static final Logger LOG = Logger.getLogger(PanacheHibernateOrmRecorder.class);
+
     public void setEntityToPersistenceUnit(Map<String, String> entityToPersistenceUnit) {
         JpaOperations.setEntityToPersistenceUnit(entityToPersistenceUnit);
     }
+
+    /**
+     * Compiles the queries found at build time into the query plan cache of the persistence unit of their entity, so
+     * that the first execution of each query doesn't have to parse it.
+     *
+     * @param queriesByEntity the expanded queries of each entity, with the location they are used at
+     */
+    public void prewarmQueries(Map<String, Map<String, String>> queriesByEntity) {
+        JPAConfig jpaConfig = Arc.container().instance(JPAConfig.class).get();
+        List<String> errors = new ArrayList<>();
+        int count = 0;
+        for (Map.Entry<String, Map<String, String>> entityQueries : queriesByEntity.entrySet()) {
+            String persistenceUnitName = JpaOperations.getPersistenceUnitName(entityQueries.getKey());
+            QueryPlanCache queryPlanCache = jpaConfig.getEntityManagerFactory(
+                    persistenceUnitName != null ? persistenceUnitName : PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)
+                    .unwrap(SessionFactoryImplementor.class).getQueryPlanCache();
+            for (Map.Entry<String, String> query : entityQueries.getValue().entrySet()) {
+                try {
+                    queryPlanCache.getHQLQueryPlan(query.getKey(), false, Collections.emptyMap());
+                    count++;
+                } catch (RuntimeException e) {
+                    errors.add(query.getValue() + ": query '" + query.getKey() + "' is invalid: " + e.getMessage());
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid Panache queries:\n\t- " + String.join("\n\t- ", errors));
+        }
+        LOG.debugf("Compiled %d Panache queries", count);
+    }
 }
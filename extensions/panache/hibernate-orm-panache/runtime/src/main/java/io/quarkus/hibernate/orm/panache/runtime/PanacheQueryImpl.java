@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
@@ -154,6 +155,16 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> batchStream(int batchSize) {
+        return delegate.batchStream(batchSize);
+    }
+
+    @Override
+    public <T extends Entity> void forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+        delegate.forEachBatch(batchSize, consumer);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
@@ -2,19 +2,29 @@ package io.quarkus.hibernate.reactive.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import javax.persistence.EntityManagerFactory;
 import javax.persistence.LockModeType;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.Filter;
 import org.hibernate.internal.util.LockModeConverter;
 import org.hibernate.reactive.mutiny.Mutiny;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
@@ -24,6 +34,13 @@ import io.smallrye.mutiny.Uni;
 
 public class CommonPanacheQueryImpl<Entity> {
 
+    // match FROM entityName (WHERE condition)?
+    private static final Pattern ENTITY_QUERY_PATTERN = Pattern.compile(
+            "^\\s*FROM\\s+([\\w.$]+)(?:\\s+WHERE\\s+(.*?))?\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final String LAST_ID_PARAMETER = "panacheLastId";
+
+
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
@@ -229,6 +246,207 @@ public class CommonPanacheQueryImpl<Entity> {
         });
     }
 
+    public <T extends Entity> Multi<T> batchStream(int batchSize) {
+        return this.<T> batches(batchSize)
+                .onItem().transformToMulti(batch -> Multi.createFrom().iterable(batch)).concatenate();
+    }
+
+    public <T extends Entity> Uni<Void> forEachBatch(int batchSize, Function<List<T>, Uni<Void>> work) {
+        return this.<T> batches(batchSize)
+                .onItem().transformToUni(batch -> em.withTransaction(tx -> work.apply(batch)).map(v -> batch)).concatenate()
+                .collectItems().last()
+                .onItem().ignore().andContinueWithNull();
+    }
+
+    private <T> Multi<List<T>> batches(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero, got " + batchSize);
+        }
+        KeysetQuery keysetQuery = keysetQuery();
+        if (keysetQuery == null) {
+            throw new PanacheQueryException("Reading a query in batches requires an unsorted query of the form"
+                    + " 'FROM Entity [WHERE condition]' on an entity with a single identifier, as the batches are read"
+                    + " in identifier order, got: " + query + (orderBy != null ? orderBy : ""));
+        }
+        return batches(keysetQuery, batchSize);
+    }
+
+    /**
+     * Reads the current page of results one batch at a time, the next batch being only read when requested downstream.
+     * As Hibernate Reactive has no database cursors, each batch is read by its own query, sorted on the entity
+     * identifier and starting after the identifier of the last result of the previous batch, so that the cost of a
+     * batch does not depend on its position and rows inserted, updated or deleted before the current position do not
+     * make later batches skip or repeat results.
+     */
+    private <T> Multi<List<T>> batches(KeysetQuery keysetQuery, int batchSize) {
+        int firstResult;
+        int maxResults;
+        if (range != null) {
+            firstResult = range.getStartIndex();
+            // range is 0 based, so we add 1
+            maxResults = range.getLastIndex() - range.getStartIndex() + 1;
+        } else if (page != null) {
+            firstResult = page.index * page.size;
+            maxResults = page.size;
+        } else {
+            firstResult = 0;
+            maxResults = -1;
+        }
+        BatchCursor cursor = new BatchCursor(firstResult, maxResults);
+        Iterable<BatchCursor> cursors = () -> new Iterator<BatchCursor>() {
+            @Override
+            public boolean hasNext() {
+                return !cursor.exhausted;
+            }
+
+            @Override
+            public BatchCursor next() {
+                return cursor;
+            }
+        };
+        return Multi.createFrom().iterable(cursors)
+                // the query of a batch depends on the previous batch, so it is only created once that batch is read
+                .onItem().transformToUni(
+                        c -> Uni.createFrom().deferred(() -> this.<T> batch(keysetQuery, c, batchSize)))
+                .concatenate()
+                .transform().byTakingItemsWhile(batch -> !batch.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Uni<List<T>> batch(KeysetQuery keysetQuery, BatchCursor cursor, int batchSize) {
+        if (cursor.exhausted || cursor.remaining == 0) {
+            cursor.exhausted = true;
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        int maxResults = cursor.remaining < 0 ? batchSize : Math.min(batchSize, cursor.remaining);
+        Mutiny.Query<?> jpaQuery;
+        if (cursor.lastId == null) {
+            jpaQuery = keysetQuery.createQuery(null);
+            if (cursor.firstResult > 0) {
+                jpaQuery.setFirstResult(cursor.firstResult);
+            }
+        } else {
+            // the entities of the previous batch are detached, so that the session does not grow with the results
+            em.clear();
+            jpaQuery = keysetQuery.createQuery(cursor.lastId);
+        }
+        jpaQuery.setMaxResults(maxResults);
+        return applyFilters(em, () -> jpaQuery.getResultList().map(list -> {
+            if (list.size() < maxResults) {
+                cursor.exhausted = true;
+            }
+            if (!list.isEmpty()) {
+                cursor.lastId = keysetQuery.getIdentifier(list.get(list.size() - 1));
+            }
+            if (cursor.remaining > 0) {
+                cursor.remaining -= list.size();
+            }
+            return (List<T>) list;
+        }));
+    }
+
+    /**
+     * Returns the query which reads this query in batches, or null if this query cannot be read in identifier order:
+     * named queries, projections, sorted queries, queries with an alias or on an entity with a composite identifier.
+     */
+    private KeysetQuery keysetQuery() {
+        if (orderBy != null || PanacheJpaUtil.isNamedQuery(query)) {
+            return null;
+        }
+        Matcher matcher = ENTITY_QUERY_PATTERN.matcher(query);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String entityName = matcher.group(1);
+        String condition = matcher.group(2);
+        if (condition != null && condition.toLowerCase().contains(" order by ")) {
+            return null;
+        }
+        EntityManagerFactory emf = Arc.container().instance(EntityManagerFactory.class).get();
+        for (EntityType<?> entityType : emf.getMetamodel().getEntities()) {
+            if ((entityType.getJavaType().getName().equals(entityName) || entityType.getName().equals(entityName))
+                    && entityType.hasSingleIdAttribute()) {
+                for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+                    if (attribute.isId()) {
+                        return new KeysetQuery(emf.getPersistenceUnitUtil(), entityName, condition, attribute.getName());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private class KeysetQuery {
+        private final PersistenceUnitUtil persistenceUnitUtil;
+        private final String entityName;
+        private final String condition;
+        private final String idName;
+
+        KeysetQuery(PersistenceUnitUtil persistenceUnitUtil, String entityName, String condition, String idName) {
+            this.persistenceUnitUtil = persistenceUnitUtil;
+            this.entityName = entityName;
+            this.condition = condition;
+            this.idName = idName;
+        }
+
+        @SuppressWarnings("unchecked")
+        Mutiny.Query<?> createQuery(Object lastId) {
+            StringBuilder keysetQuery = new StringBuilder("FROM ").append(entityName);
+            String lastIdParameter = null;
+            if (lastId != null) {
+                if (paramsArrayOrMap instanceof Map) {
+                    lastIdParameter = ":" + LAST_ID_PARAMETER;
+                } else {
+                    Object[] params = (Object[]) paramsArrayOrMap;
+                    lastIdParameter = "?" + ((params == null ? 0 : params.length) + 1);
+                }
+            }
+            if (condition != null && lastIdParameter != null) {
+                keysetQuery.append(" WHERE (").append(condition).append(") AND ").append(idName).append(" > ")
+                        .append(lastIdParameter);
+            } else if (condition != null) {
+                keysetQuery.append(" WHERE ").append(condition);
+            } else if (lastIdParameter != null) {
+                keysetQuery.append(" WHERE ").append(idName).append(" > ").append(lastIdParameter);
+            }
+            keysetQuery.append(" ORDER BY ").append(idName);
+
+            Mutiny.Query<?> jpaQuery = em.createQuery(keysetQuery.toString());
+            if (paramsArrayOrMap instanceof Map) {
+                AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) paramsArrayOrMap);
+                if (lastId != null) {
+                    jpaQuery.setParameter(LAST_ID_PARAMETER, lastId);
+                }
+            } else {
+                Object[] params = (Object[]) paramsArrayOrMap;
+                AbstractJpaOperations.bindParameters(jpaQuery, params);
+                if (lastId != null) {
+                    jpaQuery.setParameter((params == null ? 0 : params.length) + 1, lastId);
+                }
+            }
+            if (lockModeType != null) {
+                jpaQuery.setLockMode(LockModeConverter.convertToLockMode(lockModeType));
+            }
+            return jpaQuery;
+        }
+
+        Object getIdentifier(Object entity) {
+            return persistenceUnitUtil.getIdentifier(entity);
+        }
+    }
+
+    private static class BatchCursor {
+        private final int firstResult;
+        private volatile int remaining;
+        private volatile Object lastId;
+        private volatile boolean exhausted;
+
+        BatchCursor(int firstResult, int remaining) {
+            this.firstResult = firstResult;
+            this.remaining = remaining;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> firstResult() {
         Mutiny.Query<?> jpaQuery = createQuery(em, 1);
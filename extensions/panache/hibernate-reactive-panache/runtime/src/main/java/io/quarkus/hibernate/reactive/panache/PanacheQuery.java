@@ -2,6 +2,7 @@ package io.quarkus.hibernate.reactive.panache;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.persistence.LockModeType;
@@ -13,6 +14,7 @@ import org.hibernate.annotations.FilterDef;
 
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -235,6 +237,8 @@ public interface PanacheQuery<Entity> {
 
     /**
      * Returns the current page of results as a {@link Stream}.
+     * <p>
+     * The results are read by a single query; use {@link #batchStream(int)} to read them a batch of rows at a time.
      * 
      * @return the current page of results as a {@link Stream}.
      * @see #list()
@@ -243,6 +247,45 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Multi<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Multi} which reads the results from the database
+     * <code>batchSize</code> rows at a time, the next batch being only read when its results are requested downstream,
+     * suitable for iterating over a very large number of results with a bounded memory usage.
+     * <p>
+     * The results are read in identifier order, each batch by its own query starting after the identifier of the last
+     * result of the previous batch, so the query must be an unsorted query of the form
+     * <code>FROM Entity [WHERE condition]</code> on an entity with a single identifier. Before each batch is read, the
+     * session is cleared: entities from previous batches, as well as any other entity loaded in the current session,
+     * become detached.
+     *
+     * @param batchSize the number of results read by each query.
+     * @return the current page of results as a {@link Multi}.
+     * @throws PanacheQueryException if the query cannot be read in identifier order
+     * @see #stream()
+     * @see #forEachBatch(int, Function)
+     */
+    public <T extends Entity> Multi<T> batchStream(int batchSize);
+
+    /**
+     * Passes the current page of results to the given work in batches of <code>batchSize</code> results, each batch
+     * being processed in its own transaction, suitable for processing a very large number of results with a bounded
+     * memory usage.
+     * <p>
+     * The results are read in identifier order, each batch by its own query starting after the identifier of the last
+     * result of the previous batch, so the query must be an unsorted query of the form
+     * <code>FROM Entity [WHERE condition]</code> on an entity with a single identifier. The work may update or delete
+     * the results of its batch without making the next batches skip any result. The transaction of a batch is
+     * committed, and the session cleared, before the next batch is read.
+     *
+     * @param batchSize the maximum number of results passed to each call of the work.
+     * @param work the work applied to each batch of results, in its own transaction.
+     * @return a {@link Uni} completed once all the batches have been processed, or failed with the failure of the first
+     *         failed batch, whose transaction is rolled back.
+     * @throws PanacheQueryException if the query cannot be read in identifier order
+     * @see #batchStream(int)
+     */
+    public <T extends Entity> Uni<Void> forEachBatch(int batchSize, Function<List<T>, Uni<Void>> work);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -3,6 +3,7 @@ package io.quarkus.hibernate.reactive.panache.runtime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import javax.persistence.LockModeType;
 
@@ -154,6 +155,16 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Multi<T> batchStream(int batchSize) {
+        return delegate.batchStream(batchSize);
+    }
+
+    @Override
+    public <T extends Entity> Uni<Void> forEachBatch(int batchSize, Function<List<T>, Uni<Void>> work) {
+        return delegate.forEachBatch(batchSize, work);
+    }
+
     @Override
     public <T extends Entity> Uni<T> firstResult() {
         return delegate.firstResult();
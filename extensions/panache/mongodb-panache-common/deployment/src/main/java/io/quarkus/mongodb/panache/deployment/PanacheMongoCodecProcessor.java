@@ -0,0 +1,417 @@
+package io.quarkus.mongodb.panache.deployment;
+
+import static org.jboss.jandex.DotName.createSimple;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonWriter;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.bean.JavaBeanUtil;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.mongodb.deployment.AdditionalCodecProviderBuildItem;
+import io.quarkus.mongodb.panache.PanacheMongoRecorder;
+import io.quarkus.mongodb.panache.runtime.PanacheCodecProvider;
+import io.quarkus.mongodb.panache.runtime.PanacheEntityCodec;
+
+/**
+ * Generates a {@link PanacheEntityCodec} for each MongoDB entity whose persistent state only consists of public fields,
+ * so that they are encoded and decoded without the reflection of the driver's <code>PojoCodec</code>.
+ * <p>
+ * The other entities, for instance the ones with accessors, generic fields or a discriminator, keep using the
+ * <code>PojoCodec</code>.
+ */
+public final class PanacheMongoCodecProcessor {
+
+    private static final Logger LOGGER = Logger.getLogger(PanacheMongoCodecProcessor.class);
+
+    private static final String BSON_ANNOTATIONS_PACKAGE = "org.bson.codecs.pojo.annotations.";
+    private static final String ID = "_id";
+    private static final String CODEC_SUFFIX = "_PanacheCodec";
+
+    private static final Set<DotName> VALUE_TYPES = new HashSet<>(Arrays.asList(
+            createSimple(String.class.getName()),
+            createSimple(Boolean.class.getName()),
+            createSimple(Byte.class.getName()),
+            createSimple(Character.class.getName()),
+            createSimple(Short.class.getName()),
+            createSimple(Integer.class.getName()),
+            createSimple(Long.class.getName()),
+            createSimple(Float.class.getName()),
+            createSimple(Double.class.getName()),
+            createSimple(java.math.BigDecimal.class.getName()),
+            createSimple(java.util.Date.class.getName()),
+            createSimple(java.util.UUID.class.getName()),
+            createSimple(java.time.Instant.class.getName()),
+            createSimple(java.time.LocalDate.class.getName()),
+            createSimple(java.time.LocalDateTime.class.getName()),
+            createSimple(java.time.LocalTime.class.getName()),
+            createSimple(org.bson.types.ObjectId.class.getName()),
+            createSimple(org.bson.types.Decimal128.class.getName()),
+            createSimple(org.bson.types.Binary.class.getName()),
+            createSimple(org.bson.Document.class.getName())));
+
+    private static final MethodDescriptor IS_PRESENT = MethodDescriptor.ofMethod(PanacheEntityCodec.class, "isPresent",
+            boolean.class, Object.class);
+    private static final MethodDescriptor IS_PRESENT_VALUE = MethodDescriptor.ofMethod(PanacheEntityCodec.class,
+            "isPresentValue", boolean.class, Object.class);
+    private static final MethodDescriptor ENCODE_PROPERTY = MethodDescriptor.ofMethod(PanacheEntityCodec.class,
+            "encodeProperty", void.class, BsonWriter.class, EncoderContext.class, int.class, Object.class);
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void generateEntityCodecs(List<PropertyMappingClassBuildStep> propertyMappingClasses, CombinedIndexBuildItem index,
+            PanacheMongoRecorder recorder,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<AdditionalCodecProviderBuildItem> codecProviders) {
+        Set<String> entityClasses = new LinkedHashSet<>();
+        for (PropertyMappingClassBuildStep propertyMappingClass : propertyMappingClasses) {
+            entityClasses.add(propertyMappingClass.getClassName());
+        }
+
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        Map<String, String> entityCodecs = new HashMap<>();
+        for (String entityClass : entityClasses) {
+            ClassInfo classInfo = index.getIndex().getClassByName(createSimple(entityClass));
+            if (classInfo == null) {
+                continue;
+            }
+            List<Property> properties = collectProperties(classInfo, index.getIndex());
+            if (properties == null) {
+                LOGGER.debugf("The entity %s will be encoded by the PojoCodec", entityClass);
+                continue;
+            }
+            String codecClass = entityClass + CODEC_SUFFIX;
+            generateCodec(classOutput, codecClass, classInfo, properties);
+            entityCodecs.put(entityClass, codecClass);
+        }
+
+        if (entityCodecs.isEmpty()) {
+            return;
+        }
+        recorder.setEntityCodecs(entityCodecs);
+        codecProviders.produce(new AdditionalCodecProviderBuildItem(PanacheCodecProvider.class.getName()));
+        // the codecs are instantiated by the provider
+        reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, entityCodecs.values().toArray(new String[0])));
+    }
+
+    /**
+     * @return the persistent fields of the entity, starting with the id if any, or null if a codec cannot be generated
+     */
+    private List<Property> collectProperties(ClassInfo entity, IndexView index) {
+        if (!Modifier.isPublic(entity.flags()) || Modifier.isAbstract(entity.flags()) || Modifier.isInterface(entity.flags())
+                || entity.typeParameters().size() > 0) {
+            return null;
+        }
+        MethodInfo constructor = entity.method("<init>");
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return null;
+        }
+
+        // superclasses first, like the PojoCodec
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = entity;
+        while (current != null && !current.name().equals(JandexUtil.DOTNAME_OBJECT)) {
+            if (current.classAnnotation(createSimple(BSON_ANNOTATIONS_PACKAGE + "BsonDiscriminator")) != null) {
+                return null;
+            }
+            hierarchy.add(0, current);
+            DotName superName = current.superName();
+            current = index.getClassByName(superName);
+            if (current == null && !superName.equals(JandexUtil.DOTNAME_OBJECT)) {
+                // we can't know the fields of a superclass which is not indexed
+                return null;
+            }
+        }
+
+        Set<String> methodNames = new HashSet<>();
+        boolean hasBsonId = false;
+        for (ClassInfo classInfo : hierarchy) {
+            for (Map.Entry<DotName, List<AnnotationInstance>> annotations : classInfo.annotations().entrySet()) {
+                if (!annotations.getKey().toString().startsWith(BSON_ANNOTATIONS_PACKAGE)) {
+                    continue;
+                }
+                for (AnnotationInstance annotation : annotations.getValue()) {
+                    if (annotation.target().kind() == AnnotationTarget.Kind.METHOD
+                            || annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                        // mapped accessors or creators
+                        return null;
+                    }
+                    if (annotation.name().toString().equals(BSON_ANNOTATIONS_PACKAGE + "BsonId")) {
+                        hasBsonId = true;
+                    }
+                }
+            }
+            for (MethodInfo method : classInfo.methods()) {
+                methodNames.add(method.name());
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (ClassInfo classInfo : hierarchy) {
+            for (FieldInfo field : classInfo.fields()) {
+                short flags = field.flags();
+                if (Modifier.isStatic(flags) || Modifier.isTransient(flags)
+                        || field.hasAnnotation(BasePanacheMongoResourceProcessor.BSON_IGNORE)) {
+                    continue;
+                }
+                if (!Modifier.isPublic(flags) || Modifier.isFinal(flags) || !isSupportedType(field.type(), index)) {
+                    return null;
+                }
+                String capitalized = JavaBeanUtil.capitalize(field.name());
+                if (methodNames.contains("get" + capitalized) || methodNames.contains("is" + capitalized)
+                        || methodNames.contains("set" + capitalized)) {
+                    // the PojoCodec would go through the accessors
+                    return null;
+                }
+                for (AnnotationInstance annotation : field.annotations()) {
+                    String annotationName = annotation.name().toString();
+                    if (annotationName.startsWith(BSON_ANNOTATIONS_PACKAGE)
+                            && !annotation.name().equals(BasePanacheMongoResourceProcessor.BSON_ID)
+                            && !annotation.name().equals(BasePanacheMongoResourceProcessor.BSON_PROPERTY)) {
+                        return null;
+                    }
+                }
+
+                String name = field.name();
+                AnnotationInstance bsonProperty = field.annotation(BasePanacheMongoResourceProcessor.BSON_PROPERTY);
+                if (field.hasAnnotation(BasePanacheMongoResourceProcessor.BSON_ID)
+                        || (!hasBsonId && bsonProperty == null && name.equals("id"))) {
+                    name = ID;
+                } else if (bsonProperty != null && bsonProperty.value() != null) {
+                    name = bsonProperty.value().asString();
+                }
+                if (!names.add(name)) {
+                    return null;
+                }
+
+                Property property = new Property(field, name);
+                if (name.equals(ID)) {
+                    properties.add(0, property);
+                } else {
+                    properties.add(property);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private boolean isSupportedType(Type type, IndexView index) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return true;
+        }
+        if (type.kind() != Type.Kind.CLASS) {
+            // generic types need the type data of the PojoCodec
+            return false;
+        }
+        if (VALUE_TYPES.contains(type.name())) {
+            return true;
+        }
+        // embedded documents, which are handled by the registry
+        ClassInfo classInfo = index.getClassByName(type.name());
+        return classInfo != null && !Modifier.isAbstract(classInfo.flags()) && !Modifier.isInterface(classInfo.flags())
+                && !classInfo.superName().equals(createSimple(Enum.class.getName()));
+    }
+
+    private void generateCodec(ClassOutput classOutput, String codecClass, ClassInfo entity, List<Property> properties) {
+        String entityClass = entity.name().toString();
+        boolean hasId = !properties.isEmpty() && properties.get(0).name.equals(ID);
+
+        try (ClassCreator classCreator = ClassCreator.builder()
+                .className(codecClass)
+                .superClass(PanacheEntityCodec.class)
+                .classOutput(classOutput)
+                .build()) {
+
+            // public Entity_PanacheCodec(CodecRegistry registry)
+            try (MethodCreator constructor = classCreator.getMethodCreator("<init>", void.class, CodecRegistry.class)) {
+                constructor.setModifiers(Modifier.PUBLIC);
+                ResultHandle names = constructor.newArray(String.class, properties.size());
+                ResultHandle types = constructor.newArray(Class.class, properties.size());
+                for (int i = 0; i < properties.size(); i++) {
+                    Property property = properties.get(i);
+                    constructor.writeArrayValue(names, i, constructor.load(property.name));
+                    constructor.writeArrayValue(types, i, constructor.loadClass(property.boxedTypeName()));
+                }
+                constructor.invokeSpecialMethod(
+                        MethodDescriptor.ofConstructor(PanacheEntityCodec.class, CodecRegistry.class, Class.class, Class.class,
+                                String[].class, Class[].class),
+                        constructor.getThis(), constructor.getMethodParam(0), constructor.loadClass(entityClass),
+                        hasId ? constructor.loadClass(properties.get(0).boxedTypeName()) : constructor.loadNull(),
+                        names, types);
+                constructor.returnValue(null);
+            }
+
+            // protected Object newInstance()
+            try (MethodCreator newInstance = classCreator.getMethodCreator("newInstance", Object.class)) {
+                newInstance.setModifiers(Modifier.PROTECTED);
+                newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(entityClass)));
+            }
+
+            // protected Object getId(Object entity)
+            try (MethodCreator getId = classCreator.getMethodCreator("getId", Object.class, Object.class)) {
+                getId.setModifiers(Modifier.PROTECTED);
+                if (hasId) {
+                    ResultHandle entityHandle = getId.checkCast(getId.getMethodParam(0), entityClass);
+                    getId.returnValue(properties.get(0).read(getId, entityHandle));
+                } else {
+                    getId.returnValue(getId.loadNull());
+                }
+            }
+
+            // protected void setId(Object entity, Object id)
+            try (MethodCreator setId = classCreator.getMethodCreator("setId", void.class, Object.class, Object.class)) {
+                setId.setModifiers(Modifier.PROTECTED);
+                if (hasId) {
+                    ResultHandle entityHandle = setId.checkCast(setId.getMethodParam(0), entityClass);
+                    properties.get(0).write(setId, entityHandle, setId.getMethodParam(1));
+                }
+                setId.returnValue(null);
+            }
+
+            // protected void encodeProperties(BsonWriter writer, Object entity, EncoderContext encoderContext)
+            try (MethodCreator encode = classCreator.getMethodCreator("encodeProperties", void.class, BsonWriter.class,
+                    Object.class, EncoderContext.class)) {
+                encode.setModifiers(Modifier.PROTECTED);
+                ResultHandle entityHandle = encode.checkCast(encode.getMethodParam(1), entityClass);
+                for (int i = 0; i < properties.size(); i++) {
+                    // encodeProperty(writer, encoderContext, i, entity.field)
+                    encode.invokeVirtualMethod(ENCODE_PROPERTY, encode.getThis(), encode.getMethodParam(0),
+                            encode.getMethodParam(2), encode.load(i), properties.get(i).read(encode, entityHandle));
+                }
+                encode.returnValue(null);
+            }
+
+            // protected void setProperties(Object entity, Object[] values)
+            try (MethodCreator set = classCreator.getMethodCreator("setProperties", void.class, Object.class,
+                    Object[].class)) {
+                set.setModifiers(Modifier.PROTECTED);
+                ResultHandle entityHandle = set.checkCast(set.getMethodParam(0), entityClass);
+                for (int i = 0; i < properties.size(); i++) {
+                    Property property = properties.get(i);
+                    // if (isPresent(values[i])) entity.field = values[i]
+                    ResultHandle value = set.readArrayValue(set.getMethodParam(1), i);
+                    ResultHandle present = set.invokeStaticMethod(property.isPrimitive() ? IS_PRESENT_VALUE : IS_PRESENT,
+                            value);
+                    try (BytecodeCreator presentBranch = set.ifNonZero(present).trueBranch()) {
+                        property.write(presentBranch, entityHandle, value);
+                    }
+                }
+                set.returnValue(null);
+            }
+        }
+    }
+
+    private static final class Property {
+
+        private static final Map<PrimitiveType.Primitive, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+        private static final Map<PrimitiveType.Primitive, Class<?>> BOXED_TYPES = new HashMap<>();
+
+        static {
+            register(PrimitiveType.Primitive.BOOLEAN, boolean.class, Boolean.class);
+            register(PrimitiveType.Primitive.BYTE, byte.class, Byte.class);
+            register(PrimitiveType.Primitive.CHAR, char.class, Character.class);
+            register(PrimitiveType.Primitive.SHORT, short.class, Short.class);
+            register(PrimitiveType.Primitive.INT, int.class, Integer.class);
+            register(PrimitiveType.Primitive.LONG, long.class, Long.class);
+            register(PrimitiveType.Primitive.FLOAT, float.class, Float.class);
+            register(PrimitiveType.Primitive.DOUBLE, double.class, Double.class);
+        }
+
+        private static void register(PrimitiveType.Primitive primitive, Class<?> primitiveType, Class<?> boxedType) {
+            PRIMITIVE_TYPES.put(primitive, primitiveType);
+            BOXED_TYPES.put(primitive, boxedType);
+        }
+
+        final FieldInfo field;
+        final String name;
+
+        Property(FieldInfo field, String name) {
+            this.field = field;
+            this.name = name;
+        }
+
+        boolean isPrimitive() {
+            return field.type().kind() == Type.Kind.PRIMITIVE;
+        }
+
+        String boxedTypeName() {
+            return isPrimitive() ? boxedType().getName() : field.type().name().toString();
+        }
+
+        /**
+         * Reads the field, boxing primitive values.
+         */
+        ResultHandle read(BytecodeCreator creator, ResultHandle entity) {
+            ResultHandle value = creator.readInstanceField(FieldDescriptor.of(field), entity);
+            if (isPrimitive()) {
+                Class<?> boxedType = boxedType();
+                Class<?> primitiveType = primitiveType();
+                value = creator.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(boxedType, "valueOf", boxedType, primitiveType), value);
+            }
+            return value;
+        }
+
+        /**
+         * Writes the field, unboxing primitive values.
+         */
+        void write(BytecodeCreator creator, ResultHandle entity, ResultHandle value) {
+            ResultHandle fieldValue;
+            if (isPrimitive()) {
+                Class<?> boxedType = boxedType();
+                Class<?> primitiveType = primitiveType();
+                fieldValue = creator.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(boxedType, primitiveType.getName() + "Value", primitiveType),
+                        creator.checkCast(value, boxedType));
+            } else {
+                fieldValue = creator.checkCast(value, field.type().name().toString());
+            }
+            creator.writeInstanceField(FieldDescriptor.of(field), entity, fieldValue);
+        }
+
+        private Class<?> boxedType() {
+            return BOXED_TYPES.get(field.type().asPrimitiveType().primitive());
+        }
+
+        private Class<?> primitiveType() {
+            return PRIMITIVE_TYPES.get(field.type().asPrimitiveType().primitive());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.mongodb.panache;
+
+/**
+ * Options of the bulk writes of entities, which are split in chunks bounded by their number of documents and their
+ * encoded size.
+ * <p>
+ * Ordered bulk writes stop at the first failure and write one chunk at a time, unordered bulk writes attempt all the
+ * documents and can write several chunks concurrently.
+ * Failures are reported by a {@link PanacheBulkWriteException}.
+ */
+public final class BulkOptions {
+
+    public static final int DEFAULT_MAX_DOCUMENTS = 1_000;
+    public static final int DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+    private final boolean ordered;
+    private int maxDocuments = DEFAULT_MAX_DOCUMENTS;
+    private int maxBytes = DEFAULT_MAX_BYTES;
+    private int concurrency = 1;
+
+    private BulkOptions(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    /**
+     * @return options of a bulk write which stops at the first failed document
+     */
+    public static BulkOptions ordered() {
+        return new BulkOptions(true);
+    }
+
+    /**
+     * @return options of a bulk write which attempts all the documents, whatever the failures
+     */
+    public static BulkOptions unordered() {
+        return new BulkOptions(false);
+    }
+
+    /**
+     * @param maxDocuments the maximum number of documents of a chunk
+     * @return these options
+     */
+    public BulkOptions maxDocuments(int maxDocuments) {
+        if (maxDocuments < 1) {
+            throw new IllegalArgumentException("The maximum number of documents of a chunk must be positive");
+        }
+        this.maxDocuments = maxDocuments;
+        return this;
+    }
+
+    /**
+     * @param maxBytes the maximum encoded size of a chunk, a chunk always contains at least one document
+     * @return these options
+     */
+    public BulkOptions maxBytes(int maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("The maximum size of a chunk must be positive");
+        }
+        this.maxBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * @param concurrency the maximum number of chunks being written at the same time
+     * @return these options
+     */
+    public BulkOptions concurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The concurrency must be positive");
+        }
+        if (ordered && concurrency > 1) {
+            throw new IllegalArgumentException("Only unordered bulk writes can write chunks concurrently");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getMaxDocuments() {
+        return maxDocuments;
+    }
+
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
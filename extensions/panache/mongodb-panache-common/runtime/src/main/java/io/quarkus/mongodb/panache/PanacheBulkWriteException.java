@@ -0,0 +1,74 @@
+package io.quarkus.mongodb.panache;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when chunks of a bulk write failed, see {@link BulkOptions}.
+ * <p>
+ * The other chunks were written: with an unordered bulk write, all the chunks were attempted, with an ordered one, the
+ * chunks after the failed one were not written.
+ */
+public class PanacheBulkWriteException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ChunkFailure> failures;
+    private final long writtenDocuments;
+
+    public PanacheBulkWriteException(List<ChunkFailure> failures, long writtenDocuments) {
+        super(failures.size() + " chunk(s) of the bulk write failed, the first one with: "
+                + failures.get(0).getCause().getMessage(), failures.get(0).getCause());
+        this.failures = Collections.unmodifiableList(failures);
+        this.writtenDocuments = writtenDocuments;
+    }
+
+    /**
+     * @return the failed chunks, in the order of the entities
+     */
+    public List<ChunkFailure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the number of documents of the chunks which were successfully written
+     */
+    public long getWrittenDocuments() {
+        return writtenDocuments;
+    }
+
+    public static final class ChunkFailure {
+
+        private final int offset;
+        private final int size;
+        private final Throwable cause;
+
+        public ChunkFailure(int offset, int size, Throwable cause) {
+            this.offset = offset;
+            this.size = size;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the index of the first entity of the chunk among all the written entities
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return the number of entities of the chunk
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the failure of the chunk, usually a <code>MongoBulkWriteException</code> whose write errors are indexed
+         *         from the start of the chunk
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+    }
+}
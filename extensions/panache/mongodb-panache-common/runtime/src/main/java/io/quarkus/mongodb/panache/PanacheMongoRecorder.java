@@ -3,6 +3,7 @@ package io.quarkus.mongodb.panache;
 import java.util.Map;
 
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
+import io.quarkus.mongodb.panache.runtime.PanacheCodecProvider;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +11,8 @@ public class PanacheMongoRecorder {
     public void setReplacementCache(Map<String, Map<String, String>> replacementMap) {
         MongoPropertyUtil.setReplacementCache(replacementMap);
     }
+
+    public void setEntityCodecs(Map<String, String> entityCodecs) {
+        PanacheCodecProvider.setEntityCodecs(entityCodecs);
+    }
 }
@@ -31,6 +31,9 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     private Collation collation;
 
+    private Integer batchSize;
+    private boolean noCursorTimeout;
+
     public CommonReactivePanacheQueryImpl(ReactiveMongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
         this.collection = collection;
         this.mongoQuery = mongoQuery;
@@ -46,6 +49,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         this.count = previousQuery.count;
         this.range = previousQuery.range;
         this.collation = previousQuery.collation;
+        this.batchSize = previousQuery.batchSize;
+        this.noCursorTimeout = previousQuery.noCursorTimeout;
     }
 
     // Builder
@@ -143,6 +148,16 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> withNoCursorTimeout(boolean noCursorTimeout) {
+        this.noCursorTimeout = noCursorTimeout;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
     // Results
 
     @SuppressWarnings("unchecked")
@@ -215,6 +230,12 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         if (this.collation != null) {
             options.collation(collation);
         }
+        if (this.batchSize != null) {
+            options.batchSize(batchSize);
+        }
+        if (this.noCursorTimeout) {
+            options.noCursorTimeout(true);
+        }
         return options;
     }
 
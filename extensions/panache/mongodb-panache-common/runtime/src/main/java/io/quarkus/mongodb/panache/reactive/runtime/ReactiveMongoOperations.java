@@ -6,6 +6,7 @@ import static io.quarkus.mongodb.panache.runtime.BeanUtils.getDatabaseName;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,17 +20,21 @@ import org.bson.BsonDocumentWriter;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.EncoderContext;
 import org.jboss.logging.Logger;
 
+import com.mongodb.MongoException;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.WriteModel;
 
+import io.quarkus.mongodb.panache.BulkOptions;
 import io.quarkus.mongodb.panache.MongoEntity;
 import io.quarkus.mongodb.panache.binder.NativeQueryBinder;
 import io.quarkus.mongodb.panache.binder.PanacheQlQueryBinder;
+import io.quarkus.mongodb.panache.runtime.BulkChunks;
 import io.quarkus.mongodb.reactive.ReactiveMongoClient;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
 import io.quarkus.mongodb.reactive.ReactiveMongoDatabase;
@@ -37,6 +42,7 @@ import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.MultiFlatten;
 
 @SuppressWarnings({ "rawtypes", "unchecked", "Convert2MethodRef" })
 public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
@@ -197,10 +203,25 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
         });
     }
 
+    public Uni<Void> persist(Iterable<?> entities, BulkOptions options) {
+        return Uni.createFrom().deferred(() -> bulkWrite(entities.iterator(), options, false));
+    }
+
+    public Uni<Void> persist(Stream<?> entities, BulkOptions options) {
+        return Uni.createFrom().deferred(() -> bulkWrite(entities.iterator(), options, false));
+    }
+
+    public Uni<Void> persistOrUpdate(Iterable<?> entities, BulkOptions options) {
+        return Uni.createFrom().deferred(() -> bulkWrite(entities.iterator(), options, true));
+    }
+
+    public Uni<Void> persistOrUpdate(Stream<?> entities, BulkOptions options) {
+        return Uni.createFrom().deferred(() -> bulkWrite(entities.iterator(), options, true));
+    }
+
     public Uni<Void> delete(Object entity) {
         ReactiveMongoCollection collection = mongoCollection(entity);
-        BsonDocument document = getBsonDocument(collection, entity);
-        BsonValue id = document.get(ID);
+        BsonValue id = getId(collection, entity);
         BsonDocument query = new BsonDocument().append(ID, id);
         return collection.deleteOne(query).onItem().ignore().andContinueWithNull();
     }
@@ -235,13 +256,14 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     private Uni<Void> update(ReactiveMongoCollection collection, Object entity) {
-        //we transform the entity as a document first
-        BsonDocument document = getBsonDocument(collection, entity);
+        //we transform the entity as a document first, unless its codec gives access to its id
+        BsonDocument document = getBsonDocumentIfNeeded(collection, entity);
 
         //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
+        BsonValue id = document != null ? document.get(ID) : getId(collection, entity);
         BsonDocument query = new BsonDocument().append(ID, id);
-        return collection.replaceOne(query, entity).onItem().ignore().andContinueWithNull();
+        //the already encoded document is written as is
+        return collection.replaceOne(query, document != null ? document : entity).onItem().ignore().andContinueWithNull();
     }
 
     private Uni<Void> update(ReactiveMongoCollection collection, List<Object> entities) {
@@ -250,38 +272,40 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
     }
 
     private Uni<Void> persistOrUpdate(ReactiveMongoCollection collection, Object entity) {
-        //we transform the entity as a document first
-        BsonDocument document = getBsonDocument(collection, entity);
+        //we transform the entity as a document first, unless its codec gives access to its id
+        BsonDocument document = getBsonDocumentIfNeeded(collection, entity);
 
         //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
+        BsonValue id = document != null ? document.get(ID) : getId(collection, entity);
         if (id == null) {
             //insert with autogenerated ID
             return collection.insertOne(entity).onItem().ignore().andContinueWithNull();
         } else {
             //insert with user provided ID or update
             BsonDocument query = new BsonDocument().append(ID, id);
-            return collection.replaceOne(query, entity, new ReplaceOptions().upsert(true))
+            //the already encoded document is written as is
+            return collection.replaceOne(query, document != null ? document : entity, new ReplaceOptions().upsert(true))
                     .onItem().ignore().andContinueWithNull();
         }
     }
 
     private Uni<Void> persistOrUpdate(ReactiveMongoCollection collection, List<Object> entities) {
-        //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write
+        //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write,
+        //see BulkOptions for unordered and chunked bulk writes
         List<WriteModel> bulk = new ArrayList<>();
         for (Object entity : entities) {
-            //we transform the entity as a document first
-            BsonDocument document = getBsonDocument(collection, entity);
+            //we transform the entity as a document first, unless its codec gives access to its id
+            BsonDocument document = getBsonDocumentIfNeeded(collection, entity);
 
             //then we get its id field and create a new Document with only this one that will be our replace query
-            BsonValue id = document.get(ID);
+            BsonValue id = document != null ? document.get(ID) : getId(collection, entity);
             if (id == null) {
                 //insert with autogenerated ID
                 bulk.add(new InsertOneModel(entity));
             } else {
-                //insert with user provided ID or update
+                //insert with user provided ID or update, the already encoded document is written as is
                 BsonDocument query = new BsonDocument().append(ID, id);
-                bulk.add(new ReplaceOneModel(query, entity,
+                bulk.add(new ReplaceOneModel(query, document != null ? document : entity,
                         new ReplaceOptions().upsert(true)));
             }
         }
@@ -289,13 +313,67 @@ public abstract class ReactiveMongoOperations<QueryType, UpdateType> {
         return collection.bulkWrite(bulk).onItem().ignore().andContinueWithNull();
     }
 
-    private BsonDocument getBsonDocument(ReactiveMongoCollection collection, Object entity) {
-        BsonDocument document = new BsonDocument();
+    private Uni<Void> bulkWrite(Iterator<?> entities, BulkOptions options, boolean upsert) {
+        if (!entities.hasNext()) {
+            return nullUni();
+        }
+        // get the first entity to be able to retrieve the collection with it
+        Object firstEntity = entities.next();
+        ReactiveMongoCollection collection = mongoCollection(firstEntity);
+        BulkChunks chunks = new BulkChunks(firstEntity, entities, collection.getCodecRegistry(), options, upsert);
+
+        MultiFlatten<BulkChunks.Chunk, BulkChunks.Chunk> writes = Multi.createFrom().iterable(() -> chunks)
+                .onItem().transformToUni(chunk -> writeChunk(collection, chunks, chunk));
+        Multi<BulkChunks.Chunk> written = options.getConcurrency() == 1 ? writes.concatenate()
+                : writes.merge(options.getConcurrency());
+        return written.collectItems().last()
+                .onItem().transform(last -> {
+                    chunks.throwIfFailed();
+                    return null;
+                });
+    }
+
+    private Uni<BulkChunks.Chunk> writeChunk(ReactiveMongoCollection collection, BulkChunks chunks,
+            BulkChunks.Chunk chunk) {
+        if (chunks.isStopped()) {
+            // a chunk pulled while the previous one was being written is not written after its failure
+            return Uni.createFrom().item(chunk);
+        }
+        return collection.bulkWrite(chunk.getWrites(), chunks.getBulkWriteOptions())
+                .onItem().transform(result -> {
+                    chunks.succeeded(chunk);
+                    return chunk;
+                })
+                .onFailure(MongoException.class).recoverWithItem(failure -> {
+                    chunks.failed(chunk, failure);
+                    return chunk;
+                });
+    }
+
+    /**
+     * @return the entity encoded as a document, or null if its id can be read from its {@link CollectibleCodec}
+     */
+    private BsonDocument getBsonDocumentIfNeeded(ReactiveMongoCollection collection, Object entity) {
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
+        if (codec instanceof CollectibleCodec) {
+            return null;
+        }
+        BsonDocument document = new BsonDocument();
         codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
         return document;
     }
 
+    private BsonValue getId(ReactiveMongoCollection collection, Object entity) {
+        Codec codec = collection.getCodecRegistry().get(entity.getClass());
+        if (codec instanceof CollectibleCodec) {
+            CollectibleCodec collectibleCodec = (CollectibleCodec) codec;
+            return collectibleCodec.documentHasId(entity) ? collectibleCodec.getDocumentId(entity) : null;
+        }
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document.get(ID);
+    }
+
     private ReactiveMongoCollection mongoCollection(Object entity) {
         Class<?> entityClass = entity.getClass();
         return mongoCollection(entityClass);
@@ -0,0 +1,175 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+
+import io.quarkus.mongodb.panache.BulkOptions;
+import io.quarkus.mongodb.panache.PanacheBulkWriteException;
+
+/**
+ * Splits the entities of a bulk write in chunks, lazily so that only the chunks being written are kept in memory, and
+ * gathers the outcome of the chunks.
+ * <p>
+ * Each entity is encoded once, the encoded document being both measured and written, and its id is generated if
+ * missing, like an insert would do.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class BulkChunks implements Iterator<BulkChunks.Chunk> {
+
+    private static final String ID = "_id";
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().isEncodingCollectibleDocument(true)
+            .build();
+
+    private final Iterator<?> entities;
+    private final CodecRegistry codecRegistry;
+    private final BulkOptions options;
+    private final boolean upsert;
+
+    private final List<PanacheBulkWriteException.ChunkFailure> failures = new ArrayList<>();
+    private long writtenDocuments;
+
+    private WriteModel pendingWrite;
+    private int pendingSize;
+    private int offset;
+
+    /**
+     * @param firstEntity the first entity, which was used to find the collection
+     * @param otherEntities the remaining entities
+     * @param upsert whether the entities with an id replace the existing documents, instead of being inserted
+     */
+    public BulkChunks(Object firstEntity, Iterator<?> otherEntities, CodecRegistry codecRegistry, BulkOptions options,
+            boolean upsert) {
+        this.entities = otherEntities;
+        this.codecRegistry = codecRegistry;
+        this.options = options;
+        this.upsert = upsert;
+        encode(firstEntity);
+    }
+
+    public com.mongodb.client.model.BulkWriteOptions getBulkWriteOptions() {
+        return new com.mongodb.client.model.BulkWriteOptions().ordered(options.isOrdered());
+    }
+
+    public synchronized void succeeded(Chunk chunk) {
+        writtenDocuments += chunk.getWrites().size();
+    }
+
+    public synchronized void failed(Chunk chunk, Throwable failure) {
+        failures.add(new PanacheBulkWriteException.ChunkFailure(chunk.getOffset(), chunk.getWrites().size(), failure));
+    }
+
+    /**
+     * @return whether an ordered bulk write stopped at a failed chunk
+     */
+    public synchronized boolean isStopped() {
+        return options.isOrdered() && !failures.isEmpty();
+    }
+
+    /**
+     * @throws PanacheBulkWriteException if chunks failed
+     */
+    public synchronized void throwIfFailed() {
+        if (!failures.isEmpty()) {
+            failures.sort(Comparator.comparingInt(PanacheBulkWriteException.ChunkFailure::getOffset));
+            throw new PanacheBulkWriteException(new ArrayList<>(failures), writtenDocuments);
+        }
+    }
+
+    /**
+     * @return whether there are chunks left to write, an ordered bulk write stopping at its first failed chunk
+     */
+    @Override
+    public boolean hasNext() {
+        if (isStopped()) {
+            return false;
+        }
+        return pendingWrite != null || entities.hasNext();
+    }
+
+    @Override
+    public Chunk next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<WriteModel> writes = new ArrayList<>();
+        long bytes = 0;
+        while (writes.size() < options.getMaxDocuments()) {
+            if (pendingWrite == null) {
+                if (!entities.hasNext()) {
+                    break;
+                }
+                encode(entities.next());
+            }
+            if (!writes.isEmpty() && bytes + pendingSize > options.getMaxBytes()) {
+                // the pending write will start the next chunk
+                break;
+            }
+            writes.add(pendingWrite);
+            bytes += pendingSize;
+            pendingWrite = null;
+        }
+        Chunk chunk = new Chunk(offset, writes);
+        offset += writes.size();
+        return chunk;
+    }
+
+    private void encode(Object entity) {
+        Codec codec = codecRegistry.get(entity.getClass());
+        // without a collectible codec, an id generated by the encoding will lead to an upsert which inserts anyway
+        boolean hasId = !(codec instanceof CollectibleCodec) || ((CollectibleCodec) codec).documentHasId(entity);
+
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, entity, ENCODER_CONTEXT);
+        }
+        RawBsonDocument document = new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+        pendingSize = buffer.getPosition();
+
+        BsonValue id = upsert && hasId ? document.get(ID) : null;
+        if (id == null) {
+            pendingWrite = new InsertOneModel(document);
+        } else {
+            pendingWrite = new ReplaceOneModel(new BsonDocument(ID, id), document, new ReplaceOptions().upsert(true));
+        }
+    }
+
+    public static final class Chunk {
+
+        private final int offset;
+        private final List<WriteModel> writes;
+
+        Chunk(int offset, List<WriteModel> writes) {
+            this.offset = offset;
+            this.writes = writes;
+        }
+
+        /**
+         * @return the index of the first entity of the chunk
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        public List<WriteModel> getWrites() {
+            return writes;
+        }
+    }
+}
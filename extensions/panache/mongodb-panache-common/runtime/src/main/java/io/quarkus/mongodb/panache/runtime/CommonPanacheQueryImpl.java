@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -31,6 +34,9 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Collation collation;
 
+    private Integer batchSize;
+    private boolean noCursorTimeout;
+
     public CommonPanacheQueryImpl(MongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
         this.collection = collection;
         this.mongoQuery = mongoQuery;
@@ -46,6 +52,8 @@ public class CommonPanacheQueryImpl<Entity> {
         this.count = previousQuery.count;
         this.range = previousQuery.range;
         this.collation = previousQuery.collation;
+        this.batchSize = previousQuery.batchSize;
+        this.noCursorTimeout = previousQuery.noCursorTimeout;
     }
 
     public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
@@ -139,6 +147,16 @@ public class CommonPanacheQueryImpl<Entity> {
         return (CommonPanacheQueryImpl<T>) this;
     }
 
+    public <T extends Entity> CommonPanacheQueryImpl<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
+    public <T extends Entity> CommonPanacheQueryImpl<T> withNoCursorTimeout(boolean noCursorTimeout) {
+        this.noCursorTimeout = noCursorTimeout;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
     // Results
 
     @SuppressWarnings("unchecked")
@@ -156,15 +174,7 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     private <T extends Entity> List<T> list(Integer limit) {
         List<T> list = new ArrayList<>();
-        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
-        if (this.projections != null) {
-            find.projection(projections);
-        }
-        if (this.collation != null) {
-            find.collation(collation);
-        }
-        manageOffsets(find, limit);
-        MongoCursor<T> cursor = find.sort(sort).iterator();
+        MongoCursor<T> cursor = find(limit).iterator();
 
         try {
             while (cursor.hasNext()) {
@@ -177,9 +187,21 @@ public class CommonPanacheQueryImpl<Entity> {
         return list;
     }
 
+    /**
+     * Without a batch size, the documents are read in a list, so that the stream does not need to be closed.
+     * <p>
+     * With a batch size, the documents are decoded while the stream is consumed, the cursor fetching the next batch only
+     * when the current one has been consumed. The cursor is released when all the documents were read or when the stream
+     * is closed.
+     */
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
-        return (Stream<T>) list().stream();
+        if (batchSize == null) {
+            return (Stream<T>) list().stream();
+        }
+        MongoCursor<T> cursor = find(null).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
     }
 
     public <T extends Entity> T firstResult() {
@@ -209,6 +231,24 @@ public class CommonPanacheQueryImpl<Entity> {
         return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
     }
 
+    private FindIterable find(Integer limit) {
+        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
+        if (this.projections != null) {
+            find.projection(projections);
+        }
+        if (this.collation != null) {
+            find.collation(collation);
+        }
+        if (this.batchSize != null) {
+            find.batchSize(batchSize);
+        }
+        if (this.noCursorTimeout) {
+            find.noCursorTimeout(true);
+        }
+        manageOffsets(find, limit);
+        return find.sort(sort);
+    }
+
     private void manageOffsets(FindIterable find, Integer limit) {
         if (range != null) {
             find.skip(range.getStartIndex());
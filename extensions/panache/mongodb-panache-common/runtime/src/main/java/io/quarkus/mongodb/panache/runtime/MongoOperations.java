@@ -4,12 +4,21 @@ import static io.quarkus.mongodb.panache.runtime.BeanUtils.beanName;
 import static io.quarkus.mongodb.panache.runtime.BeanUtils.clientFromArc;
 import static io.quarkus.mongodb.panache.runtime.BeanUtils.getDatabaseName;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -19,9 +28,11 @@ import org.bson.BsonDocumentWriter;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.EncoderContext;
 import org.jboss.logging.Logger;
 
+import com.mongodb.MongoException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
@@ -31,6 +42,7 @@ import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 
+import io.quarkus.mongodb.panache.BulkOptions;
 import io.quarkus.mongodb.panache.MongoEntity;
 import io.quarkus.mongodb.panache.binder.NativeQueryBinder;
 import io.quarkus.mongodb.panache.binder.PanacheQlQueryBinder;
@@ -42,6 +54,17 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     public final String ID = "_id";
     private static final Logger LOGGER = Logger.getLogger(MongoOperations.class);
 
+    private static final ThreadFactory BULK_WRITE_THREADS = new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "mongodb-panache-bulk-write-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
     private final Map<String, String> defaultDatabaseName = new ConcurrentHashMap<>();
 
     protected abstract QueryType createQuery(MongoCollection<?> collection, Document query, Document sortDoc);
@@ -178,10 +201,25 @@ public abstract class MongoOperations<QueryType, UpdateType> {
         }
     }
 
+    public void persist(Iterable<?> entities, BulkOptions options) {
+        bulkWrite(entities.iterator(), options, false);
+    }
+
+    public void persist(Stream<?> entities, BulkOptions options) {
+        bulkWrite(entities.iterator(), options, false);
+    }
+
+    public void persistOrUpdate(Iterable<?> entities, BulkOptions options) {
+        bulkWrite(entities.iterator(), options, true);
+    }
+
+    public void persistOrUpdate(Stream<?> entities, BulkOptions options) {
+        bulkWrite(entities.iterator(), options, true);
+    }
+
     public void delete(Object entity) {
         MongoCollection collection = mongoCollection(entity);
-        BsonDocument document = getBsonDocument(collection, entity);
-        BsonValue id = document.get(ID);
+        BsonValue id = getId(collection, entity);
         BsonDocument query = new BsonDocument().append(ID, id);
         collection.deleteOne(query);
     }
@@ -212,13 +250,14 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     private void update(MongoCollection collection, Object entity) {
-        //we transform the entity as a document first
-        BsonDocument document = getBsonDocument(collection, entity);
+        //we transform the entity as a document first, unless its codec gives access to its id
+        BsonDocument document = getBsonDocumentIfNeeded(collection, entity);
 
         //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
+        BsonValue id = document != null ? document.get(ID) : getId(collection, entity);
         BsonDocument query = new BsonDocument().append(ID, id);
-        collection.replaceOne(query, entity);
+        //the already encoded document is written as is
+        collection.replaceOne(query, document != null ? document : entity);
     }
 
     private void update(MongoCollection collection, List<Object> entities) {
@@ -228,37 +267,39 @@ public abstract class MongoOperations<QueryType, UpdateType> {
     }
 
     private void persistOrUpdate(MongoCollection collection, Object entity) {
-        //we transform the entity as a document first
-        BsonDocument document = getBsonDocument(collection, entity);
+        //we transform the entity as a document first, unless its codec gives access to its id
+        BsonDocument document = getBsonDocumentIfNeeded(collection, entity);
 
         //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
+        BsonValue id = document != null ? document.get(ID) : getId(collection, entity);
         if (id == null) {
             //insert with autogenerated ID
             collection.insertOne(entity);
         } else {
             //insert with user provided ID or update
             BsonDocument query = new BsonDocument().append(ID, id);
-            collection.replaceOne(query, entity, new ReplaceOptions().upsert(true));
+            //the already encoded document is written as is
+            collection.replaceOne(query, document != null ? document : entity, new ReplaceOptions().upsert(true));
         }
     }
 
     private void persistOrUpdate(MongoCollection collection, List<Object> entities) {
-        //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write
+        //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write,
+        //see BulkOptions for unordered and chunked bulk writes
         List<WriteModel> bulk = new ArrayList<>();
         for (Object entity : entities) {
-            //we transform the entity as a document first
-            BsonDocument document = getBsonDocument(collection, entity);
+            //we transform the entity as a document first, unless its codec gives access to its id
+            BsonDocument document = getBsonDocumentIfNeeded(collection, entity);
 
             //then we get its id field and create a new Document with only this one that will be our replace query
-            BsonValue id = document.get(ID);
+            BsonValue id = document != null ? document.get(ID) : getId(collection, entity);
             if (id == null) {
                 //insert with autogenerated ID
                 bulk.add(new InsertOneModel(entity));
             } else {
-                //insert with user provided ID or update
+                //insert with user provided ID or update, the already encoded document is written as is
                 BsonDocument query = new BsonDocument().append(ID, id);
-                bulk.add(new ReplaceOneModel(query, entity,
+                bulk.add(new ReplaceOneModel(query, document != null ? document : entity,
                         new ReplaceOptions().upsert(true)));
             }
         }
@@ -266,13 +307,87 @@ public abstract class MongoOperations<QueryType, UpdateType> {
         collection.bulkWrite(bulk);
     }
 
-    private BsonDocument getBsonDocument(MongoCollection collection, Object entity) {
-        BsonDocument document = new BsonDocument();
+    private void bulkWrite(Iterator<?> entities, BulkOptions options, boolean upsert) {
+        if (!entities.hasNext()) {
+            return;
+        }
+        // get the first entity to be able to retrieve the collection with it
+        Object firstEntity = entities.next();
+        MongoCollection collection = mongoCollection(firstEntity);
+        BulkChunks chunks = new BulkChunks(firstEntity, entities, collection.getCodecRegistry(), options, upsert);
+
+        if (options.getConcurrency() == 1) {
+            while (chunks.hasNext()) {
+                writeChunk(collection, chunks, chunks.next());
+            }
+        } else {
+            // the caller, usually a worker thread, blocks while the chunks are written, so they are written by
+            // threads of their own rather than by the worker pool, which could run out of threads to write them
+            ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency(), BULK_WRITE_THREADS);
+            try {
+                // the oldest chunk is awaited before writing a new one when the maximum of chunks are in flight
+                Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+                while (chunks.hasNext()) {
+                    if (inFlight.size() == options.getConcurrency()) {
+                        await(inFlight.poll());
+                    }
+                    BulkChunks.Chunk chunk = chunks.next();
+                    inFlight.add(CompletableFuture.runAsync(() -> writeChunk(collection, chunks, chunk), executor));
+                }
+                while (!inFlight.isEmpty()) {
+                    await(inFlight.poll());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+        chunks.throwIfFailed();
+    }
+
+    private void writeChunk(MongoCollection collection, BulkChunks chunks, BulkChunks.Chunk chunk) {
+        try {
+            collection.bulkWrite(chunk.getWrites(), chunks.getBulkWriteOptions());
+            chunks.succeeded(chunk);
+        } catch (MongoException e) {
+            chunks.failed(chunk, e);
+        }
+    }
+
+    private void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the entity encoded as a document, or null if its id can be read from its {@link CollectibleCodec}
+     */
+    private BsonDocument getBsonDocumentIfNeeded(MongoCollection collection, Object entity) {
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
+        if (codec instanceof CollectibleCodec) {
+            return null;
+        }
+        BsonDocument document = new BsonDocument();
         codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
         return document;
     }
 
+    private BsonValue getId(MongoCollection collection, Object entity) {
+        Codec codec = collection.getCodecRegistry().get(entity.getClass());
+        if (codec instanceof CollectibleCodec) {
+            CollectibleCodec collectibleCodec = (CollectibleCodec) codec;
+            return collectibleCodec.documentHasId(entity) ? collectibleCodec.getDocumentId(entity) : null;
+        }
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document.get(ID);
+    }
+
     private MongoCollection mongoCollection(Object entity) {
         Class<?> entityClass = entity.getClass();
         return mongoCollection(entityClass);
@@ -0,0 +1,39 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.Map;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Provides the {@link PanacheEntityCodec} generated at build time for the MongoDB entities.
+ */
+public final class PanacheCodecProvider implements CodecProvider {
+
+    // will be replaced at augmentation phase
+    private static volatile Map<String, String> entityCodecs = Collections.emptyMap();
+
+    public static void setEntityCodecs(Map<String, String> entityCodecs) {
+        PanacheCodecProvider.entityCodecs = entityCodecs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        String codecClassName = entityCodecs.get(clazz.getName());
+        if (codecClassName == null) {
+            return null;
+        }
+        try {
+            Class<?> codecClass = Class.forName(codecClassName, true, clazz.getClassLoader());
+            Constructor<?> constructor = codecClass.getConstructor(CodecRegistry.class);
+            return (Codec<T>) constructor.newInstance(registry);
+        } catch (ReflectiveOperationException e) {
+            throw new CodecConfigurationException("Unable to create the codec " + codecClassName, e);
+        }
+    }
+}
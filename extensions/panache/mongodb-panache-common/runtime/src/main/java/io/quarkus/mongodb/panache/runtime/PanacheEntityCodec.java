@@ -0,0 +1,175 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+
+/**
+ * Base class of the codecs generated at build time for the MongoDB entities whose persistent state only consists of
+ * public fields, replacing the reflective <code>PojoCodec</code> of the driver.
+ * <p>
+ * The generated subclasses only read and write the fields of the entity, the values are encoded and decoded by the
+ * codecs of the registry for their declared type.
+ * The id of the entity, if any, is the first property.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public abstract class PanacheEntityCodec<T> implements CollectibleCodec<T> {
+
+    private static final String ID = "_id";
+    // marks the properties which are missing from the decoded document, so that they keep their initial value
+    private static final Object ABSENT = new Object();
+
+    private final CodecRegistry registry;
+    private final Class<T> entityClass;
+    private final Class<?> idClass;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final Map<String, Integer> indexes;
+    // resolved lazily as the entity may reference itself
+    private final Codec[] codecs;
+
+    protected PanacheEntityCodec(CodecRegistry registry, Class<T> entityClass, Class<?> idClass, String[] names,
+            Class<?>[] types) {
+        this.registry = registry;
+        this.entityClass = entityClass;
+        this.idClass = idClass;
+        this.names = names;
+        this.types = types;
+        this.codecs = new Codec[names.length];
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+    }
+
+    /**
+     * @return a new instance of the entity
+     */
+    protected abstract T newInstance();
+
+    /**
+     * @return the value of the id field, or null if the entity has no id field
+     */
+    protected abstract Object getId(T entity);
+
+    protected abstract void setId(T entity, Object id);
+
+    /**
+     * Calls {@link #encodeProperty(BsonWriter, EncoderContext, int, Object)} for each field of the entity.
+     */
+    protected abstract void encodeProperties(BsonWriter writer, T entity, EncoderContext encoderContext);
+
+    /**
+     * Assigns the fields of the entity whose value {@link #isPresent(Object)}.
+     */
+    protected abstract void setProperties(T entity, Object[] values);
+
+    protected final void encodeProperty(BsonWriter writer, EncoderContext encoderContext, int index, Object value) {
+        if (value != null) {
+            writer.writeName(names[index]);
+            encoderContext.encodeWithChildContext(codec(index), writer, value);
+        }
+    }
+
+    /**
+     * @return whether the value was part of the decoded document, it is null if it was a BSON null
+     */
+    protected static boolean isPresent(Object value) {
+        return value != ABSENT;
+    }
+
+    /**
+     * @return whether the value can be assigned to a primitive field
+     */
+    protected static boolean isPresentValue(Object value) {
+        return value != ABSENT && value != null;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T entity, EncoderContext encoderContext) {
+        if (encoderContext.isEncodingCollectibleDocument()) {
+            generateIdIfAbsentFromDocument(entity);
+        }
+        writer.writeStartDocument();
+        encodeProperties(writer, entity, encoderContext);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        Object[] values = new Object[names.length];
+        Arrays.fill(values, ABSENT);
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer index = indexes.get(reader.readName());
+            if (index == null) {
+                reader.skipValue();
+            } else if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                values[index] = null;
+            } else {
+                values[index] = decoderContext.decodeWithChildContext(codec(index), reader);
+            }
+        }
+        reader.readEndDocument();
+
+        T entity = newInstance();
+        setProperties(entity, values);
+        return entity;
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return entityClass;
+    }
+
+    @Override
+    public T generateIdIfAbsentFromDocument(T entity) {
+        // same as the PojoCodec: only ObjectId ids are generated
+        if (idClass == ObjectId.class && getId(entity) == null) {
+            setId(entity, new ObjectId());
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(T entity) {
+        return idClass != null && getId(entity) != null;
+    }
+
+    @Override
+    public BsonValue getDocumentId(T entity) {
+        Object id = idClass != null ? getId(entity) : null;
+        if (id == null) {
+            throw new IllegalStateException("The entity " + entityClass.getName() + " does not have an id");
+        }
+        BsonDocument document = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        encodeProperty(writer, EncoderContext.builder().build(), 0, id);
+        writer.writeEndDocument();
+        return document.get(ID);
+    }
+
+    private Codec codec(int index) {
+        Codec codec = codecs[index];
+        if (codec == null) {
+            codec = registry.get(types[index]);
+            codecs[index] = codec;
+        }
+        return codec;
+    }
+}
@@ -98,6 +98,18 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return this;
     }
 
+    @Override
+    public ReactivePanacheQuery<Entity> withBatchSize(int batchSize) {
+        delegate.withBatchSize(batchSize);
+        return this;
+    }
+
+    @Override
+    public ReactivePanacheQuery<Entity> withNoCursorTimeout(boolean noCursorTimeout) {
+        delegate.withNoCursorTimeout(noCursorTimeout);
+        return this;
+    }
+
     @Override
     public Uni<Long> count() {
         return delegate.count();
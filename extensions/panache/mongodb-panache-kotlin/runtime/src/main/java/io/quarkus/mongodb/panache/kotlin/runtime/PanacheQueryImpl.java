@@ -95,6 +95,18 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return this;
     }
 
+    @Override
+    public PanacheQuery<Entity> withBatchSize(int batchSize) {
+        delegate.withBatchSize(batchSize);
+        return this;
+    }
+
+    @Override
+    public PanacheQuery<Entity> withNoCursorTimeout(boolean noCursorTimeout) {
+        delegate.withNoCursorTimeout(noCursorTimeout);
+        return this;
+    }
+
     // Results
 
     @Override
@@ -137,6 +137,27 @@ interface PanacheQuery<Entity> {
      * @return this query, modified
      */
     fun withCollation(collation: Collation): PanacheQuery<Entity>
+
+    /**
+     * Define the number of documents fetched per batch by the cursor of this query, to bound the number of documents held
+     * in memory while streaming large results. The [stream] of a query with a batch size must be closed.
+     *
+     * @param batchSize the batch size to be used for this query.
+     * @return this query, modified
+     * @see .stream
+     */
+    fun withBatchSize(batchSize: Int): PanacheQuery<Entity>
+
+    /**
+     * Define whether the cursor of this query is prevented from being timed out by the server after an inactivity period,
+     * which is needed when the results are slowly consumed. Such a cursor is only released by the server once all the
+     * results are read or the cursor is closed, so the [stream] must always be closed.
+     *
+     * @param noCursorTimeout true to disable the cursor timeout.
+     * @return this query, modified
+     */
+    fun withNoCursorTimeout(noCursorTimeout: Boolean): PanacheQuery<Entity>
+
     // Results
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
@@ -160,6 +181,10 @@ interface PanacheQuery<Entity> {
     /**
      * Returns the current page of results as a [Stream].
      *
+     * When a batch size is set with [withBatchSize], the results are read from the cursor while the stream is consumed:
+     * the stream must then be closed, for example with [use], to release the cursor when it is not fully consumed.
+     * Otherwise, the results are read in a list before the stream is returned.
+     *
      * @return the current page of results as a [Stream].
      * @see .list
      * @see .page
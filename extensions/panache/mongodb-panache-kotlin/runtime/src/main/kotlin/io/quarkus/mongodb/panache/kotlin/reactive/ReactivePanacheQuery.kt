@@ -138,6 +138,25 @@ interface ReactivePanacheQuery<Entity> {
      */
     fun withCollation(collation: Collation): ReactivePanacheQuery<Entity>
 
+    /**
+     * Define the number of documents fetched per batch by the cursor of this query, to bound the number of documents held
+     * in memory while streaming large results.
+     *
+     * @param batchSize the batch size to be used for this query.
+     * @return this query, modified
+     * @see .stream
+     */
+    fun withBatchSize(batchSize: Int): ReactivePanacheQuery<Entity>
+
+    /**
+     * Define whether the cursor of this query is prevented from being timed out by the server after an inactivity period,
+     * which is needed when the results are slowly consumed.
+     *
+     * @param noCursorTimeout true to disable the cursor timeout.
+     * @return this query, modified
+     */
+    fun withNoCursorTimeout(noCursorTimeout: Boolean): ReactivePanacheQuery<Entity>
+
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
      * query with `SELECT COUNT(*)` and a query equivalent to the current query, minus
@@ -0,0 +1,121 @@
+package io.quarkus.mongodb.panache.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+
+import io.quarkus.mongodb.panache.BulkOptions;
+import io.quarkus.mongodb.panache.PanacheBulkWriteException;
+import io.quarkus.mongodb.panache.codec.Address;
+import io.quarkus.mongodb.panache.codec.Person;
+import io.quarkus.mongodb.panache.runtime.BulkChunks;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkChunksTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Person.class, Address.class)
+                    .addAsResource("application.properties"));
+
+    @Test
+    public void testChunksByDocuments() {
+        List<Person> persons = persons(25);
+        BulkChunks chunks = chunks(persons, BulkOptions.unordered().maxDocuments(10), false);
+
+        List<BulkChunks.Chunk> all = drain(chunks);
+        assertEquals(3, all.size());
+        assertEquals(0, all.get(0).getOffset());
+        assertEquals(10, all.get(0).getWrites().size());
+        assertEquals(20, all.get(2).getOffset());
+        assertEquals(5, all.get(2).getWrites().size());
+        assertTrue(all.get(0).getWrites().get(0) instanceof InsertOneModel);
+        // ids are generated while encoding, like an insert does
+        persons.forEach(person -> assertNotNull(person.id));
+    }
+
+    @Test
+    public void testChunksByBytes() {
+        BulkChunks chunks = chunks(persons(10), BulkOptions.unordered().maxBytes(1), false);
+
+        // a chunk always contains at least one document
+        List<BulkChunks.Chunk> all = drain(chunks);
+        assertEquals(10, all.size());
+        all.forEach(chunk -> assertEquals(1, chunk.getWrites().size()));
+    }
+
+    @Test
+    public void testUpsert() {
+        List<Person> persons = persons(2);
+        persons.get(0).id = new ObjectId();
+        BulkChunks chunks = chunks(persons, BulkOptions.ordered(), true);
+
+        BulkChunks.Chunk chunk = chunks.next();
+        assertTrue(chunk.getWrites().get(0) instanceof ReplaceOneModel);
+        assertTrue(chunk.getWrites().get(1) instanceof InsertOneModel);
+    }
+
+    @Test
+    public void testFailures() {
+        BulkChunks chunks = chunks(persons(30), BulkOptions.ordered().maxDocuments(10), false);
+        chunks.succeeded(chunks.next());
+        chunks.failed(chunks.next(), new MongoException("failed"));
+
+        // an ordered bulk write stops at its first failed chunk
+        assertTrue(chunks.isStopped());
+        assertFalse(chunks.hasNext());
+        PanacheBulkWriteException exception = assertThrows(PanacheBulkWriteException.class, chunks::throwIfFailed);
+        assertEquals(10, exception.getWrittenDocuments());
+        assertEquals(1, exception.getFailures().size());
+        assertEquals(10, exception.getFailures().get(0).getOffset());
+        assertEquals(10, exception.getFailures().get(0).getSize());
+    }
+
+    @Test
+    public void testOptions() {
+        assertThrows(IllegalArgumentException.class, () -> BulkOptions.ordered().concurrency(2));
+        assertThrows(IllegalArgumentException.class, () -> BulkOptions.unordered().maxDocuments(0));
+        assertEquals(4, BulkOptions.unordered().concurrency(4).getConcurrency());
+    }
+
+    private static BulkChunks chunks(List<Person> persons, BulkOptions options, boolean upsert) {
+        CodecRegistry codecRegistry = Person.mongoCollection().getCodecRegistry();
+        Iterator<Person> iterator = persons.iterator();
+        return new BulkChunks(iterator.next(), iterator, codecRegistry, options, upsert);
+    }
+
+    private static List<BulkChunks.Chunk> drain(BulkChunks chunks) {
+        List<BulkChunks.Chunk> all = new ArrayList<>();
+        chunks.forEachRemaining(all::add);
+        return all;
+    }
+
+    private static List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new Person();
+            person.name = "Person " + i;
+            person.age = i;
+            persons.add(person);
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,6 @@
+package io.quarkus.mongodb.panache.codec;
+
+public class Address {
+    public String street;
+    public String city;
+}
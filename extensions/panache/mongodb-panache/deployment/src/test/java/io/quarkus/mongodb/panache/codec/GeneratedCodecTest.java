@@ -0,0 +1,97 @@
+package io.quarkus.mongodb.panache.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.mongodb.panache.runtime.PanacheEntityCodec;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedCodecTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Person.class, PersonWithAccessors.class, Address.class)
+                    .addAsResource("application.properties"));
+
+    @Test
+    public void testEncodeDecode() {
+        Codec<Person> codec = Person.mongoCollection().getCodecRegistry().get(Person.class);
+        assertTrue(codec instanceof PanacheEntityCodec);
+
+        Person person = new Person();
+        person.id = new ObjectId();
+        person.name = "Stef";
+        person.age = 42;
+        person.email = "stef@example.com";
+        person.birthDate = LocalDate.of(1978, 6, 1);
+        person.address = new Address();
+        person.address.city = "Lyon";
+        person.transientValue = "transient";
+        person.ignoredValue = "ignored";
+
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), person, EncoderContext.builder().build());
+        assertEquals(new BsonObjectId(person.id), document.get("_id"));
+        assertEquals(new BsonString("Stef"), document.get("name"));
+        assertEquals(new BsonInt32(42), document.get("age"));
+        assertEquals(new BsonString("stef@example.com"), document.get("mail"));
+        assertEquals(new BsonString("Lyon"), document.getDocument("address").get("city"));
+        // null values are not written, like with the PojoCodec
+        assertFalse(document.containsKey("score"));
+        assertFalse(document.containsKey("transientValue"));
+        assertFalse(document.containsKey("ignoredValue"));
+
+        Person decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals(person.id, decoded.id);
+        assertEquals("Stef", decoded.name);
+        assertEquals(42, decoded.age);
+        assertNull(decoded.score);
+        assertEquals("stef@example.com", decoded.email);
+        assertEquals(person.birthDate, decoded.birthDate);
+        assertEquals("Lyon", decoded.address.city);
+        assertNull(decoded.transientValue);
+        assertNull(decoded.ignoredValue);
+    }
+
+    @Test
+    public void testId() {
+        CollectibleCodec<Person> codec = (CollectibleCodec<Person>) Person.mongoCollection().getCodecRegistry()
+                .get(Person.class);
+
+        Person person = new Person();
+        assertFalse(codec.documentHasId(person));
+        codec.generateIdIfAbsentFromDocument(person);
+        assertNotNull(person.id);
+        assertTrue(codec.documentHasId(person));
+        assertEquals(new BsonObjectId(person.id), codec.getDocumentId(person));
+    }
+
+    @Test
+    public void testEntityWithAccessorsUsesPojoCodec() {
+        Codec<PersonWithAccessors> codec = PersonWithAccessors.mongoCollection().getCodecRegistry()
+                .get(PersonWithAccessors.class);
+        assertFalse(codec instanceof PanacheEntityCodec);
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.mongodb.panache.codec;
+
+import java.time.LocalDate;
+
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+public class Person extends PanacheMongoEntity {
+    public String name;
+    public int age;
+    public Long score;
+    @BsonProperty("mail")
+    public String email;
+    public LocalDate birthDate;
+    public Address address;
+    public transient String transientValue;
+    @BsonIgnore
+    public String ignoredValue;
+}
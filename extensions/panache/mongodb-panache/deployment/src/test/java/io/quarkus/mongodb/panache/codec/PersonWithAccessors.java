@@ -0,0 +1,15 @@
+package io.quarkus.mongodb.panache.codec;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+public class PersonWithAccessors extends PanacheMongoEntity {
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
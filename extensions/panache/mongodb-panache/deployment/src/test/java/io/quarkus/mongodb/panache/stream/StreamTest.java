@@ -0,0 +1,71 @@
+package io.quarkus.mongodb.panache.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.mongodb.panache.MongoTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamTest extends MongoTestBase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MongoTestBase.class, StreamedBook.class))
+            .overrideConfigKey("quarkus.mongodb.connection-string", "mongodb://localhost:27018")
+            .overrideConfigKey("quarkus.mongodb.database", "test");
+
+    @BeforeEach
+    public void persistBooks() {
+        StreamedBook.deleteAll();
+        for (int i = 0; i < 10; i++) {
+            new StreamedBook("book-" + i).persist();
+        }
+    }
+
+    @Test
+    public void testStreamWithoutBatchSizeNeedsNoClose() {
+        long openCursors = openCursors();
+        Optional<StreamedBook> first = StreamedBook.findAll().<StreamedBook> stream().findFirst();
+        assertTrue(first.isPresent());
+        // the documents were read in a list
+        assertEquals(openCursors, openCursors());
+    }
+
+    @Test
+    public void testStreamWithBatchSizeReleasesTheCursorOnClose() {
+        long openCursors = openCursors();
+        Stream<StreamedBook> books = StreamedBook.findAll().withBatchSize(2).stream();
+        assertTrue(books.findFirst().isPresent());
+        // only the first batch was fetched, the cursor is kept open until the stream is closed
+        assertEquals(openCursors + 1, openCursors());
+        books.close();
+        assertEquals(openCursors, openCursors());
+    }
+
+    @Test
+    public void testStreamWithBatchSizeReadsAllTheDocuments() {
+        long openCursors = openCursors();
+        try (Stream<StreamedBook> books = StreamedBook.findAll().withBatchSize(3).stream()) {
+            assertEquals(10, books.count());
+        }
+        assertEquals(openCursors, openCursors());
+    }
+
+    private static long openCursors() {
+        Document status = StreamedBook.mongoDatabase().runCommand(new Document("serverStatus", 1));
+        Document metrics = status.get("metrics", Document.class);
+        Document open = metrics.get("cursor", Document.class).get("open", Document.class);
+        return ((Number) open.get("total")).longValue();
+    }
+}
@@ -0,0 +1,14 @@
+package io.quarkus.mongodb.panache.stream;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+public class StreamedBook extends PanacheMongoEntity {
+    public String title;
+
+    public StreamedBook() {
+    }
+
+    StreamedBook(String title) {
+        this.title = title;
+    }
+}
@@ -802,6 +802,32 @@ public abstract class PanacheMongoEntityBase {
         operations.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities, in chunks written according to the given options.
+     *
+     * @param entities the entities to insert
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persist(Iterable)
+     * @see #persist(Stream, BulkOptions)
+     */
+    public static void persist(Iterable<?> entities, BulkOptions options) {
+        operations.persist(entities, options);
+    }
+
+    /**
+     * Insert all given entities, in chunks written according to the given options.
+     *
+     * @param entities the entities to insert
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persist(Stream)
+     * @see #persist(Iterable, BulkOptions)
+     */
+    public static void persist(Stream<?> entities, BulkOptions options) {
+        operations.persist(entities, options);
+    }
+
     /**
      * Update all given entities.
      *
@@ -874,6 +900,32 @@ public abstract class PanacheMongoEntityBase {
         operations.persistOrUpdate(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities or update them if they already exist, in chunks written according to the given options.
+     *
+     * @param entities the entities to persist or update
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persistOrUpdate(Iterable)
+     * @see #persistOrUpdate(Stream, BulkOptions)
+     */
+    public static void persistOrUpdate(Iterable<?> entities, BulkOptions options) {
+        operations.persistOrUpdate(entities, options);
+    }
+
+    /**
+     * Persist all given entities or update them if they already exist, in chunks written according to the given options.
+     *
+     * @param entities the entities to persist or update
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persistOrUpdate(Stream)
+     * @see #persistOrUpdate(Iterable, BulkOptions)
+     */
+    public static void persistOrUpdate(Stream<?> entities, BulkOptions options) {
+        operations.persistOrUpdate(entities, options);
+    }
+
     /**
      * Update all entities of this type by the given update document, with optional indexed parameters.
      * The returned {@link PanacheUpdate} object will allow to restrict on which document the update should be applied.
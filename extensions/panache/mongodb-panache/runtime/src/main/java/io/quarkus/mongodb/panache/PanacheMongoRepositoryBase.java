@@ -808,6 +808,32 @@ public interface PanacheMongoRepositoryBase<Entity, Id> {
         operations.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities, in chunks written according to the given options.
+     *
+     * @param entities the entities to insert
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persist(Iterable)
+     * @see #persist(Stream, BulkOptions)
+     */
+    public default void persist(Iterable<Entity> entities, BulkOptions options) {
+        operations.persist(entities, options);
+    }
+
+    /**
+     * Insert all given entities, in chunks written according to the given options.
+     *
+     * @param entities the entities to insert
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persist(Stream)
+     * @see #persist(Iterable, BulkOptions)
+     */
+    public default void persist(Stream<Entity> entities, BulkOptions options) {
+        operations.persist(entities, options);
+    }
+
     /**
      * Update all given entities.
      *
@@ -880,6 +906,32 @@ public interface PanacheMongoRepositoryBase<Entity, Id> {
         operations.persistOrUpdate(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities or update them if they already exist, in chunks written according to the given options.
+     *
+     * @param entities the entities to persist or update
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persistOrUpdate(Iterable)
+     * @see #persistOrUpdate(Stream, BulkOptions)
+     */
+    public default void persistOrUpdate(Iterable<Entity> entities, BulkOptions options) {
+        operations.persistOrUpdate(entities, options);
+    }
+
+    /**
+     * Persist all given entities or update them if they already exist, in chunks written according to the given options.
+     *
+     * @param entities the entities to persist or update
+     * @param options the options of the bulk write
+     * @throws PanacheBulkWriteException if chunks of the bulk write failed
+     * @see #persistOrUpdate(Stream)
+     * @see #persistOrUpdate(Iterable, BulkOptions)
+     */
+    public default void persistOrUpdate(Stream<Entity> entities, BulkOptions options) {
+        operations.persistOrUpdate(entities, options);
+    }
+
     /**
      * Update all entities of this type by the given update document, with optional indexed parameters.
      * The returned {@link PanacheUpdate} object will allow to restrict on which documents the update should be applied.
@@ -144,6 +144,26 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> withCollation(Collation collation);
 
+    /**
+     * Define the number of documents fetched per batch by the cursor of this query, to bound the number of documents held
+     * in memory while streaming large results. The {@link #stream()} of a query with a batch size must be closed.
+     *
+     * @param batchSize the batch size to be used for this query.
+     * @return this query, modified
+     * @see #stream()
+     */
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize);
+
+    /**
+     * Define whether the cursor of this query is prevented from being timed out by the server after an inactivity period,
+     * which is needed when the results are slowly consumed. Such a cursor is only released by the server once all the
+     * results are read or the cursor is closed, so the {@link #stream()} must always be closed.
+     *
+     * @param noCursorTimeout true to disable the cursor timeout.
+     * @return this query, modified
+     */
+    public <T extends Entity> PanacheQuery<T> withNoCursorTimeout(boolean noCursorTimeout);
+
     // Results
 
     /**
@@ -167,6 +187,11 @@ public interface PanacheQuery<Entity> {
 
     /**
      * Returns the current page of results as a {@link Stream}.
+     * <p>
+     * When a batch size is set with {@link #withBatchSize(int)}, the results are read from the cursor while the stream is
+     * consumed: the stream must then be closed, for example with a try-with-resources statement, to release the cursor
+     * when it is not fully consumed (e.g. with {@code findFirst()}, {@code anyMatch()} or {@code limit()}). Otherwise,
+     * the results are read in a list before the stream is returned.
      * 
      * @return the current page of results as a {@link Stream}.
      * @see #list()
@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 
 import org.bson.Document;
 
+import io.quarkus.mongodb.panache.BulkOptions;
 import io.quarkus.mongodb.panache.PanacheUpdate;
 import io.quarkus.mongodb.panache.reactive.runtime.JavaReactiveMongoOperations;
 import io.quarkus.mongodb.panache.reactive.runtime.ReactiveMongoOperations;
@@ -815,6 +816,34 @@ public abstract class ReactivePanacheMongoEntityBase {
         return operations.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities, in chunks written according to the given options.
+     *
+     * @param entities the entities to insert
+     * @param options the options of the bulk write
+     * @return a {@link Uni} failing with a {@link io.quarkus.mongodb.panache.PanacheBulkWriteException} if
+     *         chunks of the bulk write failed
+     * @see #persist(Iterable)
+     * @see #persist(Stream, BulkOptions)
+     */
+    public static Uni<Void> persist(Iterable<?> entities, BulkOptions options) {
+        return operations.persist(entities, options);
+    }
+
+    /**
+     * Insert all given entities, in chunks written according to the given options.
+     *
+     * @param entities the entities to insert
+     * @param options the options of the bulk write
+     * @return a {@link Uni} failing with a {@link io.quarkus.mongodb.panache.PanacheBulkWriteException} if
+     *         chunks of the bulk write failed
+     * @see #persist(Stream)
+     * @see #persist(Iterable, BulkOptions)
+     */
+    public static Uni<Void> persist(Stream<?> entities, BulkOptions options) {
+        return operations.persist(entities, options);
+    }
+
     /**
      * Update all given entities.
      *
@@ -887,6 +916,34 @@ public abstract class ReactivePanacheMongoEntityBase {
         return operations.persistOrUpdate(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities or update them if they already exist, in chunks written according to the given options.
+     *
+     * @param entities the entities to persist or update
+     * @param options the options of the bulk write
+     * @return a {@link Uni} failing with a {@link io.quarkus.mongodb.panache.PanacheBulkWriteException} if
+     *         chunks of the bulk write failed
+     * @see #persistOrUpdate(Iterable)
+     * @see #persistOrUpdate(Stream, BulkOptions)
+     */
+    public static Uni<Void> persistOrUpdate(Iterable<?> entities, BulkOptions options) {
+        return operations.persistOrUpdate(entities, options);
+    }
+
+    /**
+     * Persist all given entities or update them if they already exist, in chunks written according to the given options.
+     *
+     * @param entities the entities to persist or update
+     * @param options the options of the bulk write
+     * @return a {@link Uni} failing with a {@link io.quarkus.mongodb.panache.PanacheBulkWriteException} if
+     *         chunks of the bulk write failed
+     * @see #persistOrUpdate(Stream)
+     * @see #persistOrUpdate(Iterable, BulkOptions)
+     */
+    public static Uni<Void> persistOrUpdate(Stream<?> entities, BulkOptions options) {
+        return operations.persistOrUpdate(entities, options);
+    }
+
     /**
      * Update all entities of this type by the given update document, with optional indexed parameters.
      * The returned {@link PanacheUpdate} object will allow to restrict on which document the update should be applied.
@@ -146,6 +146,25 @@ public interface ReactivePanacheQuery<Entity> {
      */
     public <T extends Entity> ReactivePanacheQuery<T> withCollation(Collation collation);
 
+    /**
+     * Define the number of documents fetched per batch by the cursor of this query, to bound the number of documents held
+     * in memory while streaming large results.
+     *
+     * @param batchSize the batch size to be used for this query.
+     * @return this query, modified
+     * @see #stream()
+     */
+    public <T extends Entity> ReactivePanacheQuery<T> withBatchSize(int batchSize);
+
+    /**
+     * Define whether the cursor of this query is prevented from being timed out by the server after an inactivity period,
+     * which is needed when the results are slowly consumed.
+     *
+     * @param noCursorTimeout true to disable the cursor timeout.
+     * @return this query, modified
+     */
+    public <T extends Entity> ReactivePanacheQuery<T> withNoCursorTimeout(boolean noCursorTimeout);
+
     // Results
 
     /**
@@ -97,6 +97,18 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize) {
+        delegate.withBatchSize(batchSize);
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> withNoCursorTimeout(boolean noCursorTimeout) {
+        delegate.withNoCursorTimeout(noCursorTimeout);
+        return (PanacheQuery<T>) this;
+    }
+
     // Results
 
     @Override
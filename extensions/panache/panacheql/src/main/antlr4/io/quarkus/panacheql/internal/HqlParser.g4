@@ -39,7 +39,7 @@ updateStatement
 	;
 
 setClause
-	: SET assignment+
+	: SET assignment (COMMA assignment)*
 	;
 
 assignment
@@ -6,8 +6,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -124,13 +126,19 @@ public class ResteasyCommonProcessor {
     @Record(STATIC_INIT)
     @BuildStep
     ResteasyInjectionReadyBuildItem setupResteasyInjection(List<ProxyUnwrapperBuildItem> proxyUnwrappers,
+            List<ResteasyEndpointInvokerBuildItem> endpointInvokers,
             BeanContainerBuildItem beanContainerBuildItem,
             ResteasyInjectorFactoryRecorder recorder) {
         List<Function<Object, Object>> unwrappers = new ArrayList<>();
         for (ProxyUnwrapperBuildItem i : proxyUnwrappers) {
             unwrappers.add(i.getUnwrapper());
         }
-        RuntimeValue<InjectorFactory> injectorFactory = recorder.setup(beanContainerBuildItem.getValue(), unwrappers);
+        Map<String, String> invokers = new HashMap<>();
+        for (ResteasyEndpointInvokerBuildItem i : endpointInvokers) {
+            invokers.put(i.getMethodKey(), i.getInvokerClassName());
+        }
+        RuntimeValue<InjectorFactory> injectorFactory = recorder.setup(beanContainerBuildItem.getValue(), unwrappers,
+                invokers);
         return new ResteasyInjectionReadyBuildItem(injectorFactory);
     }
 
@@ -0,0 +1,29 @@
+package io.quarkus.resteasy.common.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A build time generated invoker for a JAX-RS resource method, used instead of reflection to call the method.
+ */
+public final class ResteasyEndpointInvokerBuildItem extends MultiBuildItem {
+
+    private final String methodKey;
+    private final String invokerClassName;
+
+    /**
+     * @param methodKey the key identifying the resource method, see {@code ResourceMethodKey}
+     * @param invokerClassName the name of the generated {@code EndpointInvoker}
+     */
+    public ResteasyEndpointInvokerBuildItem(String methodKey, String invokerClassName) {
+        this.methodKey = methodKey;
+        this.invokerClassName = invokerClassName;
+    }
+
+    public String getMethodKey() {
+        return methodKey;
+    }
+
+    public String getInvokerClassName() {
+        return invokerClassName;
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.resteasy.common.runtime;
+
+/**
+ * Invokes a JAX-RS resource method without reflection.
+ * <p>
+ * Implementations are generated at build time for each resource method.
+ */
+public interface EndpointInvoker {
+
+    /**
+     * @param resource the resource instance
+     * @param args the injected arguments of the resource method
+     * @return the value returned by the resource method, or {@code null} if it returns {@code void}
+     */
+    Object invoke(Object resource, Object[] args) throws Throwable;
+
+}
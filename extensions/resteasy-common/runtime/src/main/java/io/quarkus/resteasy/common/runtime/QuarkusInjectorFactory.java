@@ -1,6 +1,8 @@
 package io.quarkus.resteasy.common.runtime;
 
 import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -13,10 +15,12 @@ import org.jboss.resteasy.spi.ConstructorInjector;
 import org.jboss.resteasy.spi.Failure;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.MethodInjector;
 import org.jboss.resteasy.spi.PropertyInjector;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.jboss.resteasy.spi.metadata.ResourceClass;
 import org.jboss.resteasy.spi.metadata.ResourceConstructor;
+import org.jboss.resteasy.spi.metadata.ResourceLocator;
 
 import io.quarkus.arc.runtime.BeanContainer;
 
@@ -25,6 +29,7 @@ public class QuarkusInjectorFactory extends InjectorFactoryImpl {
     private static final Logger log = Logger.getLogger("io.quarkus.resteasy.runtime");
     static volatile BeanContainer CONTAINER = null;
     static volatile Function<Object, Object> PROXY_UNWRAPPER;
+    static volatile Map<String, EndpointInvoker> ENDPOINT_INVOKERS = Collections.emptyMap();
 
     @SuppressWarnings("rawtypes")
     @Override
@@ -40,6 +45,21 @@ public class QuarkusInjectorFactory extends InjectorFactoryImpl {
                 super.createConstructor(constructor, providerFactory));
     }
 
+    @Override
+    public MethodInjector createMethodInjector(ResourceLocator method, ResteasyProviderFactory factory) {
+        MethodInjector delegate = super.createMethodInjector(method, factory);
+        if (ENDPOINT_INVOKERS.isEmpty()) {
+            return delegate;
+        }
+        EndpointInvoker invoker = ENDPOINT_INVOKERS
+                .get(ResourceMethodKey.of(method.getResourceClass().getClazz(), method.getMethod()));
+        if (invoker == null) {
+            return delegate;
+        }
+        log.debugf("Create method injector with generated invoker: %s", method.getMethod());
+        return new QuarkusMethodInjector(delegate, invoker, method.getMethod());
+    }
+
     @SuppressWarnings("rawtypes")
     @Override
     public PropertyInjector createPropertyInjector(Class resourceClass, ResteasyProviderFactory providerFactory) {
@@ -0,0 +1,83 @@
+package io.quarkus.resteasy.common.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.resteasy.spi.ApplicationException;
+import org.jboss.resteasy.spi.Failure;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.MethodInjector;
+import org.jboss.resteasy.spi.ValueInjector;
+import org.jboss.resteasy.spi.validation.GeneralValidator;
+import org.jboss.resteasy.spi.validation.GeneralValidatorCDI;
+
+/**
+ * A {@link MethodInjector} that relies on RESTEasy to inject the arguments but invokes the resource method through a
+ * build time generated {@link EndpointInvoker} instead of reflection.
+ * <p>
+ * Like the reflective injector, it validates the arguments with the {@link GeneralValidator} RESTEasy set on the request
+ * when the resource method is constrained.
+ */
+public class QuarkusMethodInjector implements MethodInjector {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final MethodInjector delegate;
+    private final EndpointInvoker invoker;
+    private final Method method;
+
+    public QuarkusMethodInjector(MethodInjector delegate, EndpointInvoker invoker, Method method) {
+        this.delegate = delegate;
+        this.invoker = invoker;
+        this.method = method;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object invoke(HttpRequest request, HttpResponse response, Object target)
+            throws Failure, ApplicationException {
+        Object args = delegate.injectArguments(request, response);
+        if (args instanceof CompletionStage) {
+            return ((CompletionStage<Object[]>) args).thenApply(resolved -> invoke(request, target, resolved));
+        }
+        return invoke(request, target, (Object[]) args);
+    }
+
+    private Object invoke(HttpRequest request, Object target, Object[] args) {
+        if (args == null) {
+            args = NO_ARGS;
+        }
+        // only set by RESTEasy when the resource method is constrained
+        GeneralValidator validator = (GeneralValidator) request.getAttribute(GeneralValidator.class.getName());
+        if (validator != null) {
+            validator.validateAllParameters(request, target, method, args);
+        }
+        try {
+            return invoker.invoke(target, args);
+        } catch (Throwable t) {
+            // same contract as the reflective invocation: the dispatcher unwraps the cause and maps it
+            ApplicationException failure = new ApplicationException(t);
+            if (validator instanceof GeneralValidatorCDI) {
+                // rethrows the violations reported by the validation interceptors
+                ((GeneralValidatorCDI) validator).checkForConstraintViolations(request, failure);
+            }
+            throw failure;
+        }
+    }
+
+    @Override
+    public Object injectArguments(HttpRequest request, HttpResponse response) throws Failure {
+        return delegate.injectArguments(request, response);
+    }
+
+    @Override
+    public ValueInjector[] getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    public boolean expectsBody() {
+        return delegate.expectsBody();
+    }
+}
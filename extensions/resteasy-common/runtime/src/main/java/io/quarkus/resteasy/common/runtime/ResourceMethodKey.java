@@ -0,0 +1,30 @@
+package io.quarkus.resteasy.common.runtime;
+
+import java.lang.reflect.Method;
+
+/**
+ * Identifies a JAX-RS resource method with a key of the form {@code resourceClass#methodName(paramType1,paramType2)}
+ * where the names are the binary names of the erased types, as returned by {@link Class#getName()}.
+ * <p>
+ * The same key is computed at build time from the Jandex index.
+ */
+public final class ResourceMethodKey {
+
+    private ResourceMethodKey() {
+    }
+
+    public static String of(Class<?> resourceClass, Method method) {
+        StringBuilder key = new StringBuilder(resourceClass.getName())
+                .append('#')
+                .append(method.getName())
+                .append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getName());
+        }
+        return key.append(')').toString();
+    }
+}
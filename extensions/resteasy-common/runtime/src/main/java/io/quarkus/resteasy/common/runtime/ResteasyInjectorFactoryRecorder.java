@@ -1,6 +1,8 @@
 package io.quarkus.resteasy.common.runtime;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.jboss.resteasy.spi.InjectorFactory;
@@ -12,8 +14,20 @@ import io.quarkus.runtime.annotations.Recorder;
 @Recorder
 public class ResteasyInjectorFactoryRecorder {
 
-    public RuntimeValue<InjectorFactory> setup(BeanContainer container, List<Function<Object, Object>> propertyUnwrappers) {
+    public RuntimeValue<InjectorFactory> setup(BeanContainer container, List<Function<Object, Object>> propertyUnwrappers,
+            Map<String, String> endpointInvokers) {
         QuarkusInjectorFactory.CONTAINER = container;
+        Map<String, EndpointInvoker> invokers = new HashMap<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (Map.Entry<String, String> entry : endpointInvokers.entrySet()) {
+            try {
+                invokers.put(entry.getKey(),
+                        (EndpointInvoker) classLoader.loadClass(entry.getValue()).getDeclaredConstructor().newInstance());
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to create the endpoint invoker " + entry.getValue(), e);
+            }
+        }
+        QuarkusInjectorFactory.ENDPOINT_INVOKERS = invokers;
         QuarkusInjectorFactory.PROXY_UNWRAPPER = new Function<Object, Object>() {
             @Override
             public Object apply(Object o) {
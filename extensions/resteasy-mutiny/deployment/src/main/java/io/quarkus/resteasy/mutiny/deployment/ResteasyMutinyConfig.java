@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.mutiny.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-mutiny")
+public final class ResteasyMutinyConfig {
+
+    /**
+     * If the {@code Multi} returned by the resource methods producing JSON should be written as a JSON array, item by
+     * item as the items are emitted, instead of being collected in a list which is written once the {@code Multi}
+     * completes.
+     * <p>
+     * This changes how a failing {@code Multi} is reported: once the first items have been written, the status of the
+     * response has already been sent, so a failure results in a `200` response with a truncated JSON array instead of a
+     * `500` response. Only a failure before the first item still results in an error response.
+     * <p>
+     * This is not supported when RESTEasy is deployed on a Servlet container.
+     */
+    @ConfigItem
+    public boolean streamJsonArrays;
+}
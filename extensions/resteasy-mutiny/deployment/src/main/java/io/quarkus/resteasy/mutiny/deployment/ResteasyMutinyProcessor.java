@@ -1,8 +1,15 @@
 package io.quarkus.resteasy.mutiny.deployment;
 
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.mutiny.runtime.MultiEntityProvider;
+import io.quarkus.resteasy.mutiny.runtime.MultiJsonArrayFeature;
 
 public class ResteasyMutinyProcessor {
 
@@ -11,4 +18,19 @@ public class ResteasyMutinyProcessor {
         return new FeatureBuildItem(Feature.RESTEASY_MUTINY);
     }
 
+    @BuildStep
+    void streamMultiAsJsonArray(ResteasyMutinyConfig config, Capabilities capabilities,
+            BuildProducer<ResteasyJaxrsProviderBuildItem> providers,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (!config.streamJsonArrays) {
+            return;
+        }
+        if (capabilities.isPresent(Capability.SERVLET)) {
+            // the JSON arrays are only written element by element by the Vert.x integration
+            return;
+        }
+        providers.produce(new ResteasyJaxrsProviderBuildItem(MultiJsonArrayFeature.class.getName()));
+        // registered per resource method, RESTEasy reads its type argument
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, MultiEntityProvider.class));
+    }
 }
@@ -0,0 +1,33 @@
+package io.quarkus.resteasy.mutiny.test;
+
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Without {@code quarkus.resteasy-mutiny.stream-json-arrays}, the items are collected before the response is written.
+ */
+public class MultiJsonArrayDisabledTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MultiJsonArrayResource.class));
+
+    @Test
+    public void testMulti() {
+        RestAssured.given().queryParam("count", 3).get("/multi-json/items").then().statusCode(200)
+                .body(is("[{\"id\":0},{\"id\":1},{\"id\":2}]"));
+    }
+
+    @Test
+    public void testMultiFailingAfterTheFirstItems() {
+        RestAssured.given().queryParam("after", 2).get("/multi-json/failing").then().statusCode(500);
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.resteasy.mutiny.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.annotations.Stream;
+
+import io.smallrye.mutiny.Multi;
+
+@Path("/multi-json")
+@Produces(MediaType.APPLICATION_JSON)
+public class MultiJsonArrayResource {
+
+    @GET
+    @Path("/items")
+    public Multi<Item> items(@QueryParam("count") int count) {
+        return Multi.createFrom().range(0, count).map(Item::new);
+    }
+
+    @GET
+    @Path("/failing")
+    public Multi<Item> failing(@QueryParam("after") int after) {
+        return Multi.createBy().concatenating().streams(Multi.createFrom().range(0, after).map(Item::new),
+                Multi.createFrom().failure(new IllegalStateException("boom")));
+    }
+
+    @GET
+    @Path("/raw")
+    @Stream
+    public Multi<Item> raw() {
+        return Multi.createFrom().range(0, 2).map(Item::new);
+    }
+
+    public static class Item {
+
+        private int id;
+
+        public Item() {
+        }
+
+        Item(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkus.resteasy.mutiny.test;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+
+public class MultiJsonArrayTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MultiJsonArrayResource.class))
+            .overrideConfigKey("quarkus.resteasy-mutiny.stream-json-arrays", "true");
+
+    @TestHTTPResource("/multi-json/failing?after=2")
+    URL failingAfterItems;
+
+    @Test
+    public void testEmptyMulti() {
+        RestAssured.given().queryParam("count", 0).get("/multi-json/items").then().statusCode(200)
+                .body(is("[]"));
+    }
+
+    @Test
+    public void testMulti() {
+        RestAssured.given().queryParam("count", 3).get("/multi-json/items").then().statusCode(200)
+                .body(is("[{\"id\":0},{\"id\":1},{\"id\":2}]"));
+    }
+
+    @Test
+    public void testLargeMulti() {
+        RestAssured.given().queryParam("count", 50_000).get("/multi-json/items").then().statusCode(200)
+                .body("$", hasSize(50_000))
+                .body("[49999].id", is(49999));
+    }
+
+    @Test
+    public void testStreamAnnotationIsStillRaw() {
+        // the items of a @Stream method are written one after the other, not as an array
+        RestAssured.get("/multi-json/raw").then().statusCode(200)
+                .body(startsWith("{\"id\":0}"));
+    }
+
+    @Test
+    public void testMultiFailingBeforeTheFirstItem() {
+        RestAssured.given().queryParam("after", 0).get("/multi-json/failing").then().statusCode(500);
+    }
+
+    @Test
+    public void testMultiFailingAfterTheFirstItems() throws IOException {
+        // the status was sent with the first item, the failure can only cut the array short
+        HttpURLConnection connection = (HttpURLConnection) failingAfterItems.openConnection();
+        try {
+            assertEquals(200, connection.getResponseCode());
+            String body = readUntilClosed(connection.getInputStream());
+            assertTrue(body.startsWith("[{\"id\":0},{\"id\":1}"), body);
+            assertFalse(body.endsWith("]"), body);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String readUntilClosed(InputStream in) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            // the connection is closed without the last chunk
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.mutiny.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.resteasy.spi.AsyncResponseProvider;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Makes RESTEasy write a {@link Multi} as the entity of the response, rather than collecting its items first.
+ * <p>
+ * Only registered for the resource methods selected by {@link MultiJsonArrayFeature}: being an
+ * {@link AsyncResponseProvider}, it takes precedence over the {@code AsyncStreamProvider} of {@code Multi}.
+ */
+public class MultiEntityProvider implements AsyncResponseProvider<Multi<?>> {
+
+    @Override
+    public CompletionStage<?> toCompletionStage(Multi<?> multi) {
+        return CompletableFuture.completedFuture(multi);
+    }
+}
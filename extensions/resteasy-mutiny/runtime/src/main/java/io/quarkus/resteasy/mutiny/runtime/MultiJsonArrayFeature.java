@@ -0,0 +1,60 @@
+package io.quarkus.resteasy.mutiny.runtime;
+
+import java.lang.reflect.Method;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.annotations.Stream;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Streams the {@link Multi} returned by the resource methods producing JSON as a JSON array.
+ * <p>
+ * Without this feature, RESTEasy collects the items of the {@code Multi} in a list before writing the list. For the
+ * resource methods producing JSON, neither annotated with {@link Stream} nor producing server-sent events, the
+ * {@code Multi} is instead written as the entity of the response, by the body writer of the Vert.x integration which
+ * writes each item as soon as it is emitted.
+ * <p>
+ * Only registered when {@code quarkus.resteasy-mutiny.stream-json-arrays} is enabled: as the status of the response is
+ * sent with the first item, a {@code Multi} failing after its first item produces a truncated array in a {@code 200}
+ * response rather than a {@code 500} response.
+ */
+@Provider
+public class MultiJsonArrayFeature implements DynamicFeature {
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        Method method = resourceInfo.getResourceMethod();
+        if (!Multi.class.equals(method.getReturnType()) || method.isAnnotationPresent(Stream.class)) {
+            return;
+        }
+        Produces produces = method.getAnnotation(Produces.class);
+        if (produces == null) {
+            produces = resourceInfo.getResourceClass().getAnnotation(Produces.class);
+        }
+        if (produces != null && producesJsonOnly(produces)) {
+            context.register(new MultiEntityProvider());
+        }
+    }
+
+    private static boolean producesJsonOnly(Produces produces) {
+        boolean json = false;
+        for (String value : produces.value()) {
+            for (String mediaType : value.split(",")) {
+                String subtype = MediaType.valueOf(mediaType.trim()).getSubtype();
+                if (!"json".equalsIgnoreCase(subtype) && !subtype.endsWith("+json")) {
+                    // e.g. server-sent events, or a media type which may not be written element by element
+                    return false;
+                }
+                json = true;
+            }
+        }
+        return json;
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.resteasy.server.common.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The routes of the JAX-RS root resources, used to decide without matching the request against the deployment
+ * whether it can be handled directly on the IO thread.
+ * <p>
+ * Each route is of the form {@code HTTP_METHOD /path/template}, relative to the JAX-RS root path. Sub-resource
+ * locators use {@code *} as HTTP method and match any path starting with their template.
+ */
+public final class ResteasyIoThreadRoutesBuildItem extends SimpleBuildItem {
+
+    private final Set<String> ioThreadRoutes;
+    private final Set<String> workerRoutes;
+
+    public ResteasyIoThreadRoutesBuildItem(Set<String> ioThreadRoutes, Set<String> workerRoutes) {
+        this.ioThreadRoutes = ioThreadRoutes;
+        this.workerRoutes = workerRoutes;
+    }
+
+    /**
+     * @return the routes of the resource methods allowed to be invoked on the IO thread
+     */
+    public Set<String> getIoThreadRoutes() {
+        return ioThreadRoutes;
+    }
+
+    /**
+     * @return the routes of the other resource methods and of the sub-resource locators
+     */
+    public Set<String> getWorkerRoutes() {
+        return workerRoutes;
+    }
+}
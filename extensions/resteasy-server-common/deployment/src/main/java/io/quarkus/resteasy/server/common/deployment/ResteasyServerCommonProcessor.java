@@ -28,6 +28,7 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.api.validation.ResteasyConstraintViolation;
@@ -54,18 +55,29 @@ import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.Transformation;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
+import io.quarkus.deployment.util.HashUtil;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.Gizmo;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.resteasy.common.deployment.JaxrsProvidersToRegisterBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyCommonProcessor.ResteasyCommonConfig;
+import io.quarkus.resteasy.common.deployment.ResteasyEndpointInvokerBuildItem;
+import io.quarkus.resteasy.common.runtime.EndpointInvoker;
 import io.quarkus.resteasy.common.runtime.QuarkusInjectorFactory;
+import io.quarkus.resteasy.common.runtime.ResourceMethodKey;
 import io.quarkus.resteasy.common.spi.ResteasyDotNames;
 import io.quarkus.resteasy.server.common.runtime.QuarkusResteasyDeployment;
 import io.quarkus.resteasy.server.common.spi.AdditionalJaxRsResourceDefiningAnnotationBuildItem;
@@ -86,6 +98,29 @@ public class ResteasyServerCommonProcessor {
 
     private static final DotName JSONB_ANNOTATION = DotName.createSimple("javax.json.bind.annotation.JsonbAnnotation");
 
+    private static final DotName NON_BLOCKING = DotName.createSimple("io.smallrye.common.annotation.NonBlocking");
+    private static final DotName BLOCKING = DotName.createSimple("io.smallrye.common.annotation.Blocking");
+
+    private static final String ENDPOINT_INVOKER_SUFFIX = "_EndpointInvoker";
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+
+    static {
+        WRAPPERS.put(boolean.class, Boolean.class);
+        WRAPPERS.put(byte.class, Byte.class);
+        WRAPPERS.put(short.class, Short.class);
+        WRAPPERS.put(int.class, Integer.class);
+        WRAPPERS.put(long.class, Long.class);
+        WRAPPERS.put(float.class, Float.class);
+        WRAPPERS.put(double.class, Double.class);
+        WRAPPERS.put(char.class, Character.class);
+    }
+
+    private static final Set<DotName> ASYNC_RETURN_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.util.concurrent.CompletionStage"),
+            DotName.createSimple("java.util.concurrent.CompletableFuture"),
+            DotName.createSimple("io.smallrye.mutiny.Uni")));
+
     private static final DotName[] METHOD_ANNOTATIONS = {
             ResteasyDotNames.GET,
             ResteasyDotNames.HEAD,
@@ -158,6 +193,19 @@ public class ResteasyServerCommonProcessor {
          */
         @ConfigItem(defaultValue = "false")
         boolean ignoreApplicationClasses;
+
+        /**
+         * If this is true then the resource methods returning a {@code Uni}, a {@code CompletionStage} or a
+         * {@code CompletableFuture} are invoked directly on the IO thread instead of being dispatched to a worker thread.
+         * <p>
+         * Methods annotated with {@code io.smallrye.common.annotation.Blocking} are always dispatched to a worker thread.
+         * Independently of this setting, methods annotated with {@code io.smallrye.common.annotation.NonBlocking} are always
+         * invoked on the IO thread.
+         * <p>
+         * This is only supported when RESTEasy runs on top of Vert.x, it has no effect when it runs as a Servlet.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean asyncMethodsOnIoThread;
     }
 
     @BuildStep
@@ -453,6 +501,290 @@ public class ResteasyServerCommonProcessor {
         }
     }
 
+    @BuildStep
+    ResteasyIoThreadRoutesBuildItem ioThreadRoutes(CombinedIndexBuildItem combinedIndexBuildItem) {
+        IndexView index = combinedIndexBuildItem.getIndex();
+        Set<String> ioThreadRoutes = new HashSet<>();
+        Set<String> workerRoutes = new HashSet<>();
+        for (Map.Entry<MethodInfo, List<ClassInfo>> entry : collectResourceMethods(index).entrySet()) {
+            MethodInfo method = entry.getKey();
+            Set<String> routes = isIoThreadMethod(method) ? ioThreadRoutes : workerRoutes;
+            String httpMethod = null;
+            for (DotName methodAnnotation : METHOD_ANNOTATIONS) {
+                if (method.hasAnnotation(methodAnnotation)) {
+                    httpMethod = methodAnnotation.local();
+                    break;
+                }
+            }
+            for (ClassInfo resourceClass : entry.getValue()) {
+                String route = route(index, resourceClass, method);
+                if (route != null) {
+                    routes.add(httpMethod + " " + route);
+                }
+            }
+        }
+        // sub-resource locators match any method and any path under them, their sub-resources are never on the IO thread
+        for (AnnotationInstance path : index.getAnnotations(ResteasyDotNames.PATH)) {
+            if (path.target().kind() != Kind.METHOD) {
+                continue;
+            }
+            MethodInfo method = path.target().asMethod();
+            boolean locator = true;
+            for (DotName methodAnnotation : METHOD_ANNOTATIONS) {
+                if (method.hasAnnotation(methodAnnotation)) {
+                    locator = false;
+                    break;
+                }
+            }
+            if (!locator) {
+                continue;
+            }
+            ClassInfo declaringClass = method.declaringClass();
+            List<ClassInfo> resourceClasses = new ArrayList<>();
+            if (Modifier.isInterface(declaringClass.flags())) {
+                resourceClasses.addAll(index.getAllKnownImplementors(declaringClass.name()));
+            } else {
+                resourceClasses.add(declaringClass);
+                resourceClasses.addAll(index.getAllKnownSubclasses(declaringClass.name()));
+            }
+            for (ClassInfo resourceClass : resourceClasses) {
+                String route = route(index, resourceClass, method);
+                if (route != null) {
+                    workerRoutes.add("* " + route);
+                }
+            }
+        }
+        if (ioThreadRoutes.isEmpty()) {
+            // no need to look up the routes of the requests
+            workerRoutes.clear();
+        } else {
+            log.debugf("JAX-RS routes invoked on the IO thread: %s", ioThreadRoutes);
+        }
+        return new ResteasyIoThreadRoutesBuildItem(ioThreadRoutes, workerRoutes);
+    }
+
+    /**
+     * Returns the path template of the given method of a root resource class, relative to the JAX-RS root path, or
+     * {@code null} if the class is not a root resource class, in which case it is only reached through sub-resource
+     * locators.
+     */
+    private static String route(IndexView index, ClassInfo resourceClass, MethodInfo method) {
+        AnnotationInstance classPath = resourceClass.classAnnotation(ResteasyDotNames.PATH);
+        if (classPath == null) {
+            // RESTEasy also looks for the path on the implemented interfaces
+            for (DotName interfaceName : resourceClass.interfaceNames()) {
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass != null) {
+                    AnnotationInstance interfacePath = interfaceClass.classAnnotation(ResteasyDotNames.PATH);
+                    if (interfacePath != null) {
+                        classPath = interfacePath;
+                        break;
+                    }
+                }
+            }
+            if (classPath == null) {
+                return null;
+            }
+        }
+        StringBuilder route = new StringBuilder();
+        appendPathSegments(route, classPath.value().asString());
+        AnnotationInstance methodPath = method.annotation(ResteasyDotNames.PATH);
+        if (methodPath != null && methodPath.target().kind() == Kind.METHOD) {
+            appendPathSegments(route, methodPath.value().asString());
+        }
+        return route.length() == 0 ? "/" : route.toString();
+    }
+
+    private static void appendPathSegments(StringBuilder route, String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (start < end) {
+            route.append('/').append(path, start, end);
+        }
+    }
+
+    @BuildStep
+    void generateEndpointInvokers(CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ResteasyEndpointInvokerBuildItem> endpointInvokers) {
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        for (Map.Entry<MethodInfo, List<ClassInfo>> entry : collectResourceMethods(combinedIndexBuildItem.getIndex())
+                .entrySet()) {
+            MethodInfo method = entry.getKey();
+            if (!Modifier.isPublic(method.flags()) || !Modifier.isPublic(method.declaringClass().flags())
+                    || method.declaringClass().name().toString().startsWith("java.")) {
+                continue;
+            }
+            String invokerClassName = generateEndpointInvoker(method, classOutput);
+            for (ClassInfo resourceClass : entry.getValue()) {
+                endpointInvokers.produce(new ResteasyEndpointInvokerBuildItem(resourceMethodKey(resourceClass.name(), method),
+                        invokerClassName));
+            }
+        }
+    }
+
+    /**
+     * Generates an {@link EndpointInvoker} that calls the resource method directly.
+     */
+    private String generateEndpointInvoker(MethodInfo method, ClassOutput classOutput) {
+        ClassInfo declaringClass = method.declaringClass();
+        String baseName;
+        if (declaringClass.enclosingClass() != null) {
+            baseName = DotNames.simpleName(declaringClass.enclosingClass()) + "_"
+                    + DotNames.simpleName(declaringClass.name());
+        } else {
+            baseName = DotNames.simpleName(declaringClass.name());
+        }
+        StringBuilder sigBuilder = new StringBuilder();
+        sigBuilder.append(method.name()).append("_").append(method.returnType().name().toString());
+        for (Type i : method.parameters()) {
+            sigBuilder.append(i.name().toString());
+        }
+        String targetPackage = DotNames.packageName(declaringClass.name());
+        String generatedName = (targetPackage.isEmpty() ? "" : targetPackage.replace('.', '/') + "/") + baseName
+                + ENDPOINT_INVOKER_SUFFIX + "_" + method.name() + "_" + HashUtil.sha1(sigBuilder.toString());
+
+        try (ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(EndpointInvoker.class)
+                .build()) {
+            // The descriptor is: Object invoke(Object resource, Object[] args)
+            MethodCreator invoke = invokerCreator.getMethodCreator("invoke", Object.class, Object.class, Object[].class)
+                    .addException(Throwable.class);
+            ResultHandle resource = invoke.checkCast(invoke.getMethodParam(0), declaringClass.name().toString());
+            ResultHandle args = invoke.getMethodParam(1);
+            List<Type> parameters = method.parameters();
+            ResultHandle[] argHandles = new ResultHandle[parameters.size()];
+            for (int i = 0; i < parameters.size(); i++) {
+                ResultHandle arg = invoke.readArrayValue(args, i);
+                argHandles[i] = unboxIfNeeded(invoke, parameters.get(i), arg);
+            }
+            MethodDescriptor descriptor = MethodDescriptor.of(method);
+            ResultHandle result;
+            if (Modifier.isInterface(declaringClass.flags())) {
+                result = invoke.invokeInterfaceMethod(descriptor, resource, argHandles);
+            } else {
+                result = invoke.invokeVirtualMethod(descriptor, resource, argHandles);
+            }
+            Type returnType = method.returnType();
+            if (returnType.kind() == Type.Kind.VOID) {
+                invoke.returnValue(null);
+            } else if (returnType.kind() == Type.Kind.PRIMITIVE) {
+                invoke.returnValue(box(invoke, returnType.asPrimitiveType(), result));
+            } else {
+                invoke.returnValue(result);
+            }
+        }
+        return generatedName.replace('/', '.');
+    }
+
+    private static ResultHandle unboxIfNeeded(MethodCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return creator.checkCast(value, type.name().toString());
+        }
+        Class<?> primitive = primitiveClass(type.asPrimitiveType());
+        Class<?> wrapper = WRAPPERS.get(primitive);
+        return creator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(wrapper, primitive.getName() + "Value", primitive),
+                creator.checkCast(value, wrapper));
+    }
+
+    private static ResultHandle box(MethodCreator creator, PrimitiveType type, ResultHandle value) {
+        Class<?> primitive = primitiveClass(type);
+        Class<?> wrapper = WRAPPERS.get(primitive);
+        return creator.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, primitive), value);
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            case CHAR:
+                return char.class;
+            default:
+                throw new IllegalArgumentException("Unknown primitive type: " + type);
+        }
+    }
+
+    /**
+     * Collects the resource methods, i.e. the methods annotated with a request method designator, together with the
+     * concrete classes they are exposed on.
+     */
+    private static Map<MethodInfo, List<ClassInfo>> collectResourceMethods(IndexView index) {
+        Map<MethodInfo, List<ClassInfo>> resourceMethods = new HashMap<>();
+        for (DotName methodAnnotation : METHOD_ANNOTATIONS) {
+            for (AnnotationInstance annotationInstance : index.getAnnotations(methodAnnotation)) {
+                if (annotationInstance.target().kind() != Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = annotationInstance.target().asMethod();
+                ClassInfo declaringClass = method.declaringClass();
+                List<ClassInfo> resourceClasses = new ArrayList<>();
+                if (Modifier.isInterface(declaringClass.flags())) {
+                    resourceClasses.addAll(index.getAllKnownImplementors(declaringClass.name()));
+                } else {
+                    resourceClasses.add(declaringClass);
+                    resourceClasses.addAll(index.getAllKnownSubclasses(declaringClass.name()));
+                }
+                resourceMethods.put(method, resourceClasses);
+            }
+        }
+        return resourceMethods;
+    }
+
+    private boolean isIoThreadMethod(MethodInfo method) {
+        ClassInfo declaringClass = method.declaringClass();
+        if (method.hasAnnotation(BLOCKING)) {
+            return false;
+        }
+        if (method.hasAnnotation(NON_BLOCKING)) {
+            return true;
+        }
+        if (declaringClass.classAnnotation(BLOCKING) != null) {
+            return false;
+        }
+        if (declaringClass.classAnnotation(NON_BLOCKING) != null) {
+            return true;
+        }
+        return resteasyConfig.asyncMethodsOnIoThread && ASYNC_RETURN_TYPES.contains(method.returnType().name());
+    }
+
+    /**
+     * Must be kept in sync with the key computed at runtime by {@link ResourceMethodKey}.
+     */
+    private static String resourceMethodKey(DotName resourceClass, MethodInfo method) {
+        StringBuilder key = new StringBuilder(resourceClass.toString())
+                .append('#')
+                .append(method.name())
+                .append('(');
+        List<Type> parameters = method.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            // Type.name() returns the erasure of the type, including for arrays and type variables
+            key.append(parameters.get(i).name().toString());
+        }
+        return key.append(')').toString();
+    }
+
     @BuildStep
     void beanDefiningAnnotations(BuildProducer<BeanDefiningAnnotationBuildItem> beanDefiningAnnotations) {
         beanDefiningAnnotations
@@ -17,9 +17,16 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
+import io.quarkus.resteasy.runtime.standalone.BufferBodyWriter;
+import io.quarkus.resteasy.runtime.standalone.FileBodyWriter;
+import io.quarkus.resteasy.runtime.standalone.JsonArrayBodyWriter;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
+import io.quarkus.resteasy.server.common.deployment.ResteasyIoThreadRoutesBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
@@ -43,6 +50,25 @@ public class ResteasyStandaloneBuildStep {
 
     }
 
+    @BuildStep
+    public void zeroCopyProviders(Capabilities capabilities, BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        if (capabilities.isPresent(Capability.SERVLET)) {
+            return;
+        }
+        // these writers hand files and buffers over to Vert.x without copying them
+        providers.produce(new ResteasyJaxrsProviderBuildItem(FileBodyWriter.class.getName()));
+        providers.produce(new ResteasyJaxrsProviderBuildItem(BufferBodyWriter.class.getName()));
+    }
+
+    @BuildStep
+    public void streamingProviders(Capabilities capabilities, BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        if (capabilities.isPresent(Capability.SERVLET)) {
+            return;
+        }
+        // streams and publishers are written as JSON arrays element by element, following the Vert.x write queue
+        providers.produce(new ResteasyJaxrsProviderBuildItem(JsonArrayBodyWriter.class.getName()));
+    }
+
     @BuildStep()
     @Record(STATIC_INIT)
     public void staticInit(ResteasyStandaloneRecorder recorder,
@@ -86,12 +112,15 @@ public class ResteasyStandaloneBuildStep {
             BuildProducer<FeatureBuildItem> feature,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes,
             BuildProducer<RouteBuildItem> routes,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics,
             CoreVertxBuildItem vertx,
             BeanContainerBuildItem beanContainer,
             ResteasyStandaloneBuildItem standalone,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
             ExecutorBuildItem executorBuildItem,
-            HttpConfiguration httpConfiguration) throws Exception {
+            ResteasyIoThreadRoutesBuildItem ioThreadRoutes,
+            HttpConfiguration httpConfiguration,
+            ResteasyVertxConfig vertxConfig) throws Exception {
 
         if (standalone == null) {
             return;
@@ -101,7 +130,11 @@ public class ResteasyStandaloneBuildStep {
         // Handler used for both the default and non-default deployment path (specified as application path or resteasyConfig.path)
         // Routes use the order VertxHttpRecorder.DEFAULT_ROUTE_ORDER + 1 to ensure the default route is called before the resteasy one
         Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
-                executorBuildItem.getExecutorProxy(), httpConfiguration);
+                executorBuildItem.getExecutorProxy(), httpConfiguration, ioThreadRoutes.getIoThreadRoutes(),
+                ioThreadRoutes.getWorkerRoutes(), vertxConfig);
+        if (vertxConfig.adaptiveBuffer.enabled) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerBufferSizeMetrics()));
+        }
         // Exact match for resources matched to the root path
         routes.produce(new RouteBuildItem(
                 new BasicRoute(standalone.deploymentRootPath, VertxHttpRecorder.DEFAULT_ROUTE_ORDER + 1), handler));
@@ -0,0 +1,25 @@
+package io.quarkus.resteasy.test.buffer;
+
+import java.util.Arrays;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+@Path("/adaptive")
+public class AdaptiveBufferResource {
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String get(@QueryParam("size") int size) {
+        return content(size);
+    }
+
+    static String content(int size) {
+        char[] chars = new char[size];
+        Arrays.fill(chars, 'a');
+        return new String(chars);
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.resteasy.test.buffer;
+
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class AdaptiveBufferTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(AdaptiveBufferResource.class))
+            .overrideConfigKey("quarkus.resteasy.vertx.adaptive-buffer.enabled", "true");
+
+    @Test
+    public void testResponsesOfVaryingSize() {
+        for (int size : new int[] { 0, 10, 100_000, 10, 20_000, 5_000, 100_000 }) {
+            for (int i = 0; i < 5; i++) {
+                RestAssured.given().queryParam("size", size).get("/adaptive").then().statusCode(200)
+                        .body(is(AdaptiveBufferResource.content(size)));
+            }
+        }
+    }
+
+    @Test
+    public void testLearnedSizeAvoidsChunking() {
+        for (int i = 0; i < 20; i++) {
+            RestAssured.given().queryParam("size", 20_000).get("/adaptive").then().statusCode(200);
+        }
+        // larger than the default buffer, but it fits in a single learned buffer
+        RestAssured.given().queryParam("size", 20_000).get("/adaptive").then().statusCode(200)
+                .header("Content-Length", "20000");
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.resteasy.test.invoker;
+
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class EndpointInvokerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(InvokerResource.class));
+
+    @Test
+    public void testPrimitiveParametersAndReturnType() {
+        RestAssured.get("/invoker/add/1/2").then().statusCode(200).body(is("3"));
+    }
+
+    @Test
+    public void testArrayParameter() {
+        RestAssured.get("/invoker/greet?names=foo&names=bar").then().statusCode(200).body(is("hello foo,bar"));
+    }
+
+    @Test
+    public void testVoidMethod() {
+        RestAssured.given().body("posted").post("/invoker/post").then().statusCode(204);
+        Assertions.assertEquals("posted", InvokerResource.lastPosted);
+    }
+
+    @Test
+    public void testExceptionIsMapped() {
+        RestAssured.get("/invoker/fail").then().statusCode(400);
+    }
+}
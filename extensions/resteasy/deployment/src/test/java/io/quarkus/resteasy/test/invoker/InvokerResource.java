@@ -0,0 +1,38 @@
+package io.quarkus.resteasy.test.invoker;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+@Path("/invoker")
+public class InvokerResource {
+
+    static volatile String lastPosted;
+
+    @GET
+    @Path("/add/{a}/{b}")
+    public int add(@PathParam("a") int a, @PathParam("b") long b) {
+        return (int) (a + b);
+    }
+
+    @GET
+    @Path("/greet")
+    public String greet(@QueryParam("names") String[] names) {
+        return "hello " + String.join(",", names);
+    }
+
+    @POST
+    @Path("/post")
+    public void post(String body) {
+        lastPosted = body;
+    }
+
+    @GET
+    @Path("/fail")
+    public String fail() {
+        throw new BadRequestException();
+    }
+}
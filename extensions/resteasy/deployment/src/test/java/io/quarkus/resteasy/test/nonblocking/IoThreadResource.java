@@ -0,0 +1,55 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.Context;
+
+@Path("/io-thread")
+public class IoThreadResource {
+
+    @NonBlocking
+    @GET
+    @Path("/non-blocking")
+    public CompletionStage<String> nonBlocking() {
+        return CompletableFuture.completedFuture(Boolean.toString(Context.isOnEventLoopThread()));
+    }
+
+    @GET
+    @Path("/blocking")
+    public CompletionStage<String> blocking() {
+        return CompletableFuture.completedFuture(Boolean.toString(Context.isOnEventLoopThread()));
+    }
+
+    @NonBlocking
+    @GET
+    @Path("/items/{id}")
+    public CompletionStage<String> item(@PathParam("id") String id) {
+        return CompletableFuture.completedFuture(Boolean.toString(Context.isOnEventLoopThread()));
+    }
+
+    @GET
+    @Path("/items/special")
+    public String specialItem() {
+        return Boolean.toString(Context.isOnEventLoopThread());
+    }
+
+    @NonBlocking
+    @GET
+    @Path("/files/{name}.txt")
+    public CompletionStage<String> file(@PathParam("name") String name) {
+        return CompletableFuture.completedFuture(Boolean.toString(Context.isOnEventLoopThread()));
+    }
+
+    @NonBlocking
+    @GET
+    @Path("/orders/{id: \\d+}")
+    public CompletionStage<String> order(@PathParam("id") long id) {
+        return CompletableFuture.completedFuture(Boolean.toString(Context.isOnEventLoopThread()));
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class IoThreadResourceTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(IoThreadResource.class));
+
+    @Test
+    public void testNonBlockingMethodRunsOnIoThread() {
+        RestAssured.get("/io-thread/non-blocking").then().statusCode(200).body(is("true"));
+    }
+
+    @Test
+    public void testDefaultMethodRunsOnWorkerThread() {
+        RestAssured.get("/io-thread/blocking").then().statusCode(200).body(is("false"));
+    }
+
+    @Test
+    public void testTemplatedNonBlockingMethodRunsOnIoThread() {
+        RestAssured.get("/io-thread/items/1").then().statusCode(200).body(is("true"));
+        RestAssured.head("/io-thread/items/1").then().statusCode(200);
+    }
+
+    @Test
+    public void testMoreSpecificBlockingMethodRunsOnWorkerThread() {
+        // the path also matches the template of the non-blocking method, but RESTEasy picks the literal one
+        RestAssured.get("/io-thread/items/special").then().statusCode(200).body(is("false"));
+    }
+
+    @Test
+    public void testNonBlockingMethodWithParameterInSegmentRunsOnIoThread() {
+        RestAssured.get("/io-thread/files/readme.txt").then().statusCode(200).body(is("true"));
+        RestAssured.get("/io-thread/files/readme.md").then().statusCode(404);
+    }
+
+    @Test
+    public void testNonBlockingMethodWithRegularExpressionRunsOnIoThread() {
+        RestAssured.get("/io-thread/orders/42").then().statusCode(200).body(is("true"));
+        RestAssured.get("/io-thread/orders/abc").then().statusCode(404);
+    }
+
+    @Test
+    public void testNotFoundIsStillReported() {
+        RestAssured.get("/io-thread/missing").then().statusCode(404);
+    }
+}
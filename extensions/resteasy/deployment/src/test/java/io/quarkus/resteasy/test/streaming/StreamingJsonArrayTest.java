@@ -0,0 +1,39 @@
+package io.quarkus.resteasy.test.streaming;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StreamingJsonArrayTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StreamingResource.class));
+
+    @Test
+    public void testEmptyStream() {
+        RestAssured.given().queryParam("count", 0).get("/streaming/items").then().statusCode(200)
+                .body(is("[]"));
+    }
+
+    @Test
+    public void testStream() {
+        RestAssured.given().queryParam("count", 3).get("/streaming/items").then().statusCode(200)
+                .body(is("[{\"id\":0,\"name\":\"item-0\"},{\"id\":1,\"name\":\"item-1\"},{\"id\":2,\"name\":\"item-2\"}]"));
+    }
+
+    @Test
+    public void testLargeStream() {
+        RestAssured.given().queryParam("count", 50_000).get("/streaming/items").then().statusCode(200)
+                .body("$", hasSize(50_000))
+                .body("[49999].name", is("item-49999"));
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.resteasy.test.streaming;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+@Path("/streaming")
+@Produces(MediaType.APPLICATION_JSON)
+public class StreamingResource {
+
+    @GET
+    @Path("/items")
+    public Stream<Item> items(@QueryParam("count") int count) {
+        return IntStream.range(0, count).mapToObj(Item::new);
+    }
+
+    public static class Item {
+
+        private int id;
+        private String name;
+
+        public Item() {
+        }
+
+        Item(int id) {
+            this.id = id;
+            this.name = "item-" + id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
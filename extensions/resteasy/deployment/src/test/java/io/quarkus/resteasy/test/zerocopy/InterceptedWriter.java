@@ -0,0 +1,33 @@
+package io.quarkus.resteasy.test.zerocopy;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.ws.rs.NameBinding;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Wraps the entity stream, like a compressing interceptor would, so that the body writers cannot bypass it.
+ */
+@Provider
+@InterceptedWriter.Intercepted
+public class InterceptedWriter implements WriterInterceptor {
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Intercepted {
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        context.setOutputStream(new FilterOutputStream(context.getOutputStream()));
+        context.proceed();
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.resteasy.test.zerocopy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+@javax.ws.rs.Path("/zero-copy")
+@Produces(MediaType.TEXT_PLAIN)
+public class ZeroCopyResource {
+
+    static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+    static final int LARGE_FILE_REPETITIONS = 10_000;
+
+    static java.nio.file.Path createFile() throws IOException {
+        java.nio.file.Path file = Files.createTempFile("zero-copy", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    static java.nio.file.Path createLargeFile() throws IOException {
+        java.nio.file.Path file = Files.createTempFile("zero-copy-large", ".txt");
+        file.toFile().deleteOnExit();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < LARGE_FILE_REPETITIONS; i++) {
+            content.append(CONTENT);
+        }
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @GET
+    @javax.ws.rs.Path("/file")
+    public File file() throws IOException {
+        return createFile().toFile();
+    }
+
+    @GET
+    @javax.ws.rs.Path("/path")
+    public java.nio.file.Path path() throws IOException {
+        return createFile();
+    }
+
+    @GET
+    @javax.ws.rs.Path("/intercepted")
+    @InterceptedWriter.Intercepted
+    public CompletionStage<java.nio.file.Path> intercepted() throws IOException {
+        // written asynchronously, through the stream of the interceptor
+        return CompletableFuture.completedFuture(createLargeFile());
+    }
+
+    @GET
+    @javax.ws.rs.Path("/bytes")
+    public byte[] bytes() {
+        return CONTENT.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GET
+    @javax.ws.rs.Path("/buffer")
+    public Buffer buffer() {
+        return Buffer.buffer(CONTENT);
+    }
+
+    @GET
+    @javax.ws.rs.Path("/byte-buf")
+    public ByteBuf byteBuf() {
+        return Unpooled.copiedBuffer(CONTENT, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.resteasy.test.zerocopy;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ZeroCopyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ZeroCopyResource.class, InterceptedWriter.class, InterceptedWriter.Intercepted.class));
+
+    @Test
+    public void testFile() {
+        RestAssured.get("/zero-copy/file").then().statusCode(200)
+                .header("Content-Length", is("36"))
+                .header("Accept-Ranges", is("bytes"))
+                .body(is(ZeroCopyResource.CONTENT));
+    }
+
+    @Test
+    public void testPath() {
+        RestAssured.get("/zero-copy/path").then().statusCode(200).body(is(ZeroCopyResource.CONTENT));
+    }
+
+    @Test
+    public void testRange() {
+        RestAssured.given().header("Range", "bytes=10-15").get("/zero-copy/file").then().statusCode(206)
+                .header("Content-Range", is("bytes 10-15/36"))
+                .body(is("abcdef"));
+        RestAssured.given().header("Range", "bytes=-3").get("/zero-copy/file").then().statusCode(206)
+                .header("Content-Range", is("bytes 33-35/36"))
+                .body(is("xyz"));
+        RestAssured.given().header("Range", "bytes=30-").get("/zero-copy/path").then().statusCode(206)
+                .body(is("uvwxyz"));
+    }
+
+    @Test
+    public void testUnsatisfiableRange() {
+        RestAssured.given().header("Range", "bytes=100-200").get("/zero-copy/file").then().statusCode(416)
+                .header("Content-Range", is("bytes */36"));
+    }
+
+    @Test
+    public void testInterceptedFileIsCopiedInChunks() {
+        String body = RestAssured.get("/zero-copy/intercepted").then().statusCode(200).extract().asString();
+        assertEquals(ZeroCopyResource.CONTENT.length() * ZeroCopyResource.LARGE_FILE_REPETITIONS, body.length());
+        assertTrue(body.startsWith(ZeroCopyResource.CONTENT));
+        assertTrue(body.endsWith(ZeroCopyResource.CONTENT));
+    }
+
+    @Test
+    public void testBuffers() {
+        RestAssured.get("/zero-copy/bytes").then().statusCode(200)
+                .header("Content-Length", is("36"))
+                .body(is(ZeroCopyResource.CONTENT));
+        RestAssured.get("/zero-copy/buffer").then().statusCode(200).body(is(ZeroCopyResource.CONTENT));
+        RestAssured.get("/zero-copy/byte-buf").then().statusCode(200).body(is(ZeroCopyResource.CONTENT));
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.resteasy.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration of RESTEasy when it runs on top of Vert.x.
+ */
+@ConfigRoot(name = "resteasy.vertx", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class ResteasyVertxConfig {
+
+    /**
+     * Adaptive sizing of the buffers used to write the response body.
+     */
+    @ConfigItem
+    public AdaptiveBufferConfig adaptiveBuffer;
+
+    @ConfigGroup
+    public static class AdaptiveBufferConfig {
+
+        /**
+         * If enabled, the size of the buffers allocated for a response is learned per resource method from the size
+         * of its recent responses, instead of always using the default buffer size.
+         * <p>
+         * A response that fits in a single buffer is sent with a {@code Content-Length} header instead of chunked
+         * encoding. The learned sizes are exposed as metrics when a metrics extension is present.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The minimum size of the buffers allocated for a response.
+         */
+        @ConfigItem(defaultValue = "512")
+        public MemorySize minSize;
+
+        /**
+         * The maximum size of the buffers allocated for a response.
+         */
+        @ConfigItem(defaultValue = "64K")
+        public MemorySize maxSize;
+    }
+}
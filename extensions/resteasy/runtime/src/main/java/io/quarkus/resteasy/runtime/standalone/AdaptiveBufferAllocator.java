@@ -0,0 +1,150 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * A {@link BufferAllocator} that learns, per endpoint, the size of the buffers to allocate for a response.
+ * <p>
+ * The size of the responses of each endpoint is tracked with exponentially weighted moving averages of the size and
+ * of its deviation, the same way TCP estimates round trip times. The buffers are sized to hold the average response
+ * plus twice the deviation, rounded up to a power of two and bounded by the configured minimum and maximum, so that
+ * most responses fit in a single buffer and larger ones are written in few large buffers.
+ */
+public class AdaptiveBufferAllocator implements BufferAllocator {
+
+    private final BufferAllocator delegate;
+    private final int minSize;
+    private final int maxSize;
+    private final ConcurrentMap<Object, SizeEstimate> estimates = new ConcurrentHashMap<>();
+    private volatile MetricsFactory metricsFactory;
+
+    public AdaptiveBufferAllocator(BufferAllocator delegate, int minSize, int maxSize) {
+        this.delegate = delegate;
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer() {
+        return delegate.allocateBuffer();
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(boolean direct) {
+        return delegate.allocateBuffer(direct);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(int bufferSize) {
+        return delegate.allocateBuffer(bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(boolean direct, int bufferSize) {
+        return delegate.allocateBuffer(direct, bufferSize);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return delegate.getBufferSize();
+    }
+
+    @Override
+    public int getBufferSize(Object endpoint) {
+        if (endpoint == null) {
+            return getBufferSize();
+        }
+        SizeEstimate estimate = estimates.get(endpoint);
+        return estimate != null ? estimate.bufferSize : getBufferSize();
+    }
+
+    @Override
+    public void responseWritten(Object endpoint, long size) {
+        if (endpoint == null) {
+            return;
+        }
+        SizeEstimate estimate = estimates.get(endpoint);
+        if (estimate == null) {
+            SizeEstimate newEstimate = new SizeEstimate();
+            estimate = estimates.putIfAbsent(endpoint, newEstimate);
+            if (estimate == null) {
+                estimate = newEstimate;
+                MetricsFactory factory = metricsFactory;
+                if (factory != null) {
+                    registerMetrics(factory, endpoint, estimate);
+                }
+            }
+        }
+        estimate.update(size);
+    }
+
+    /**
+     * Registers a gauge with the learned initial buffer size of every endpoint, including the endpoints discovered
+     * later on.
+     */
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        for (Map.Entry<Object, SizeEstimate> entry : estimates.entrySet()) {
+            registerMetrics(metricsFactory, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void registerMetrics(MetricsFactory metricsFactory, Object endpoint, SizeEstimate estimate) {
+        MetricsFactory.MetricBuilder builder = metricsFactory.builder("resteasy.response.buffer.size")
+                .description("Learned size of the buffers allocated for a response")
+                .unit("bytes");
+        if (endpoint instanceof ResourceMethodInvoker) {
+            ResourceMethodInvoker invoker = (ResourceMethodInvoker) endpoint;
+            // the parameter types tell overloaded methods apart
+            builder.tag("class", invoker.getResourceClass().getName())
+                    .tag("method", signature(invoker.getMethod()));
+        } else {
+            builder.tag("endpoint", endpoint.toString());
+        }
+        builder.buildGauge(estimate, e -> e.bufferSize);
+    }
+
+    static String signature(Method method) {
+        StringJoiner signature = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.add(parameterType.getSimpleName());
+        }
+        return signature.toString();
+    }
+
+    final class SizeEstimate {
+
+        private double mean = -1;
+        private double deviation;
+        volatile int bufferSize = getBufferSize();
+
+        synchronized void update(long size) {
+            if (mean < 0) {
+                mean = size;
+                deviation = size / 2d;
+            } else {
+                // same gains as the TCP round trip time estimator
+                deviation += (Math.abs(size - mean) - deviation) / 4;
+                mean += (size - mean) / 8;
+            }
+            long target = (long) Math.ceil(mean + 2 * deviation);
+            bufferSize = (int) Math.max(minSize, Math.min(maxSize, roundUpToPowerOfTwo(target)));
+        }
+    }
+
+    static long roundUpToPowerOfTwo(long value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Long.highestOneBit(value - 1) << 1;
+    }
+}
@@ -13,4 +13,21 @@ public interface BufferAllocator {
     ByteBuf allocateBuffer(boolean direct, int bufferSize);
 
     int getBufferSize();
+
+    /**
+     * @param endpoint the endpoint the response is written for, may be {@code null}
+     * @return the size of the buffers allocated for the response
+     */
+    default int getBufferSize(Object endpoint) {
+        return getBufferSize();
+    }
+
+    /**
+     * Notifies the allocator that a response has been fully written.
+     *
+     * @param endpoint the endpoint the response was written for, may be {@code null}
+     * @param size the size of the response body
+     */
+    default void responseWritten(Object endpoint, long size) {
+    }
 }
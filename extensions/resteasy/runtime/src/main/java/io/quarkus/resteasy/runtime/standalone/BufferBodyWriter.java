@@ -0,0 +1,88 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A body writer for Vert.x {@link Buffer}, Netty {@link ByteBuf} and {@code byte[]} entities that hands the content
+ * over to Vert.x without copying it into the pooled response buffers.
+ * <p>
+ * The ownership of a {@link ByteBuf} entity is transferred to the response, it is released once written.
+ */
+@Provider
+@Produces(MediaType.WILDCARD)
+@Priority(Priorities.USER - 1)
+public class BufferBodyWriter implements AsyncMessageBodyWriter<Object> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return Buffer.class.isAssignableFrom(type) || ByteBuf.class.isAssignableFrom(type) || type == byte[].class;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        ByteBuf data = toByteBuf(entity);
+        VertxOutputStream stream = ZeroCopySupport.vertxOutputStream(entityStream);
+        if (stream != null) {
+            stream.writeBuffer(data, true);
+            return;
+        }
+        try {
+            data.readBytes(entityStream, data.readableBytes());
+        } finally {
+            data.release();
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        ByteBuf data = toByteBuf(entity);
+        try {
+            VertxOutputStream stream = ZeroCopySupport.vertxOutputStream(entityStream);
+            if (stream != null) {
+                return stream.asyncWriteBuffer(data, true);
+            }
+        } catch (IOException e) {
+            data.release();
+            CompletableFuture<Void> ret = new CompletableFuture<>();
+            ret.completeExceptionally(e);
+            return ret;
+        }
+        byte[] bytes = new byte[data.readableBytes()];
+        data.readBytes(bytes);
+        data.release();
+        return entityStream.asyncWrite(bytes);
+    }
+
+    private static ByteBuf toByteBuf(Object entity) {
+        if (entity instanceof ByteBuf) {
+            return (ByteBuf) entity;
+        }
+        if (entity instanceof Buffer) {
+            // a view of the buffer, not a copy
+            return ((Buffer) entity).getByteBuf();
+        }
+        return Unpooled.wrappedBuffer((byte[]) entity);
+    }
+}
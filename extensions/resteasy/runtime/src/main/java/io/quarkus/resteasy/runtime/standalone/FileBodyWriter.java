@@ -0,0 +1,206 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+/**
+ * A body writer for {@link File} and {@link Path} entities that sends the file with
+ * {@link io.vertx.core.http.HttpServerResponse#sendFile(String, long, long)}, so the content is never copied through
+ * the JAX-RS output stream.
+ * <p>
+ * A single byte range requested with the {@code Range} header is honored. When a writer interceptor wraps the entity
+ * stream the file is copied to the stream instead, one chunk at a time.
+ */
+@Provider
+@Produces(MediaType.WILDCARD)
+@Priority(Priorities.USER - 1)
+public class FileBodyWriter implements AsyncMessageBodyWriter<Object> {
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final String RANGE = "Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final int CHUNK_SIZE = 8192;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return File.class.isAssignableFrom(type) || Path.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        File file = toFile(entity);
+        VertxOutputStream stream = file != null ? ZeroCopySupport.vertxOutputStream(entityStream) : null;
+        if (stream == null) {
+            Files.copy(toPath(entity), entityStream);
+            return;
+        }
+        sendFile(stream, file);
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        try {
+            File file = toFile(entity);
+            VertxOutputStream stream = file != null ? ZeroCopySupport.vertxOutputStream(entityStream) : null;
+            if (stream == null) {
+                return copy(toPath(entity), entityStream);
+            }
+            sendFile(stream, file);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException | RuntimeException e) {
+            CompletableFuture<Void> ret = new CompletableFuture<>();
+            ret.completeExceptionally(e);
+            return ret;
+        }
+    }
+
+    /**
+     * Copies the file to the entity stream, the next chunk being read once the previous one has been written, so that
+     * the file is never loaded in memory.
+     */
+    private static CompletionStage<Void> copy(Path path, AsyncOutputStream entityStream) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        copyChunks(in, new byte[CHUNK_SIZE], entityStream, result);
+        return result.whenComplete((ignored, failure) -> {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // the content has been written already
+            }
+        });
+    }
+
+    private static void copyChunks(InputStream in, byte[] chunk, AsyncOutputStream out, CompletableFuture<Void> result) {
+        // loop while the writes complete synchronously, rather than recursing for each chunk
+        while (true) {
+            int read;
+            try {
+                read = in.read(chunk);
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (read == -1) {
+                result.complete(null);
+                return;
+            }
+            CompletableFuture<Void> write = out.asyncWrite(chunk, 0, read).toCompletableFuture();
+            if (!write.isDone() || write.isCompletedExceptionally()) {
+                write.whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else {
+                        copyChunks(in, chunk, out, result);
+                    }
+                });
+                return;
+            }
+        }
+    }
+
+    private static File toFile(Object entity) {
+        if (entity instanceof File) {
+            return (File) entity;
+        }
+        Path path = (Path) entity;
+        // only files of the default file system can be sent by Vert.x
+        return path.getFileSystem() == FileSystems.getDefault() ? path.toFile() : null;
+    }
+
+    private static Path toPath(Object entity) {
+        return entity instanceof File ? ((File) entity).toPath() : (Path) entity;
+    }
+
+    private static void sendFile(VertxOutputStream stream, File file) throws IOException {
+        VertxHttpResponse response = stream.getResponse();
+        if (!file.isFile()) {
+            throw new WebApplicationException(Response.Status.NOT_FOUND);
+        }
+        long fileLength = file.length();
+        response.getOutputHeaders().putSingle(ACCEPT_RANGES, BYTES_UNIT);
+        String range = response.request.getHeader(RANGE);
+        if (range != null && response.getStatus() == Response.Status.OK.getStatusCode()) {
+            long[] bounds = parseRange(range, fileLength);
+            if (bounds == null) {
+                throw new WebApplicationException(Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(CONTENT_RANGE, BYTES_UNIT + " */" + fileLength)
+                        .build());
+            }
+            if (bounds.length == 2) {
+                long length = bounds[1] - bounds[0] + 1;
+                response.setStatus(Response.Status.PARTIAL_CONTENT.getStatusCode());
+                response.getOutputHeaders().putSingle(CONTENT_RANGE,
+                        BYTES_UNIT + " " + bounds[0] + "-" + bounds[1] + "/" + fileLength);
+                stream.sendFile(file.getPath(), bounds[0], length);
+                return;
+            }
+        }
+        stream.sendFile(file.getPath(), 0, fileLength);
+    }
+
+    /**
+     * Parses a {@code Range} header, only a single range is supported.
+     *
+     * @return the first and last position (inclusive) of the range, an empty array if the header should be ignored or
+     *         {@code null} if the range cannot be satisfied
+     */
+    static long[] parseRange(String range, long fileLength) {
+        if (!range.startsWith(BYTES_UNIT + "=") || range.indexOf(',') != -1) {
+            // unsupported unit or multiple ranges, the whole file is sent
+            return new long[0];
+        }
+        String spec = range.substring(BYTES_UNIT.length() + 1).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return new long[0];
+        }
+        try {
+            long first;
+            long last;
+            if (dash == 0) {
+                // suffix range: the last N bytes
+                long suffixLength = Long.parseLong(spec.substring(1));
+                if (suffixLength == 0) {
+                    return null;
+                }
+                first = Math.max(0, fileLength - suffixLength);
+                last = fileLength - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash));
+                last = dash == spec.length() - 1 ? fileLength - 1
+                        : Math.min(Long.parseLong(spec.substring(dash + 1)), fileLength - 1);
+            }
+            if (first >= fileLength || first > last) {
+                return null;
+            }
+            return new long[] { first, last };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jboss.resteasy.util.Encode;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Decides whether a request can be handled on the IO thread from the routes of the root resources computed at build
+ * time, without matching it against the RESTEasy deployment.
+ * <p>
+ * A request is handled on the IO thread only if it matches the route of a method allowed to run on the IO thread and
+ * no other route: whenever the match is ambiguous, RESTEasy picks the method and the request goes to a worker thread.
+ * The routes are looked up in a {@link RouteTree}, so the cost of a request depends on the depth of its path rather
+ * than on the number of routes.
+ */
+final class IoThreadRouter {
+
+    private static final Pattern MATRIX_PARAMETERS = Pattern.compile(";[^/]*");
+
+    private final String rootPath;
+    private final RouteTree ioThreadRoutes;
+    private final RouteTree workerRoutes;
+
+    IoThreadRouter(String rootPath, Set<String> ioThreadRoutes, Set<String> workerRoutes) {
+        this.rootPath = rootPath.endsWith("/") ? rootPath.substring(0, rootPath.length() - 1) : rootPath;
+        this.ioThreadRoutes = new RouteTree(ioThreadRoutes);
+        this.workerRoutes = new RouteTree(workerRoutes);
+    }
+
+    boolean hasIoThreadRoutes() {
+        return !ioThreadRoutes.isEmpty();
+    }
+
+    boolean isIoThreadRequest(HttpServerRequest request) {
+        String path = request.path();
+        if (path == null || !path.startsWith(rootPath)) {
+            return false;
+        }
+        path = path.substring(rootPath.length());
+        if (!path.isEmpty() && path.charAt(0) != '/') {
+            // a sibling of the root path
+            return false;
+        }
+        if (path.indexOf(';') != -1) {
+            path = MATRIX_PARAMETERS.matcher(path).replaceAll("");
+        }
+        path = Encode.decodePath(path);
+        if (path.isEmpty()) {
+            path = "/";
+        }
+        String method = request.rawMethod();
+        Set<String> ioThreadMethods = ioThreadRoutes.methods(path);
+        if (!ioThreadMethods.contains(method) && !("HEAD".equals(method) && ioThreadMethods.contains("GET"))) {
+            return false;
+        }
+        Set<String> workerMethods = workerRoutes.methods(path);
+        return !workerMethods.contains(method)
+                && !workerMethods.contains(RouteTree.ANY_METHOD)
+                // RESTEasy invokes the GET method for a HEAD request when there is no HEAD method
+                && !("HEAD".equals(method) && workerMethods.contains("GET"));
+    }
+}
@@ -0,0 +1,421 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import javax.annotation.Priority;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
+
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A body writer that serializes {@link Stream} and {@link Publisher} (such as {@code Multi}) entities as a JSON
+ * array, one element at a time.
+ * <p>
+ * Each element is serialized with the JSON {@link MessageBodyWriter} registered for its type (Jackson or JSON-B), so
+ * the whole array is never materialized. When writing asynchronously the next element is only serialized once the
+ * previous one has been accepted by the Vert.x write queue; when writing from a worker thread the blocking output
+ * stream waits for the write queue to drain.
+ */
+@Provider
+@Produces({ MediaType.APPLICATION_JSON, "application/*+json", "text/json" })
+@Priority(Priorities.USER - 1)
+public class JsonArrayBodyWriter implements AsyncMessageBodyWriter<Object> {
+
+    private static final byte[] EMPTY_ARRAY = { '[', ']' };
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return (Stream.class.isAssignableFrom(type) || Publisher.class.isAssignableFrom(type)) && isJson(mediaType);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        ElementSerializer serializer = new ElementSerializer(genericType, annotations, mediaType, httpHeaders);
+        Iterator<?> elements = iterator(entity);
+        try {
+            OutputStream out = new NonClosingOutputStream(entityStream);
+            boolean first = true;
+            while (elements.hasNext()) {
+                out.write(first ? '[' : ',');
+                first = false;
+                serializer.serialize(elements.next(), out);
+            }
+            if (first) {
+                out.write(EMPTY_ARRAY);
+            } else {
+                out.write(']');
+            }
+        } finally {
+            close(entity, elements);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        ElementSerializer serializer = new ElementSerializer(genericType, annotations, mediaType, httpHeaders);
+        if (entity instanceof Publisher) {
+            PublisherWriter writer = new PublisherWriter(serializer, entityStream);
+            ((Publisher<?>) entity).subscribe(writer);
+            return writer.result;
+        }
+        return new StreamWriter(serializer, entityStream, ((Stream<?>) entity)).write();
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        String subtype = mediaType.getSubtype();
+        return "json".equalsIgnoreCase(subtype) || subtype.endsWith("+json");
+    }
+
+    private static Iterator<?> iterator(Object entity) {
+        if (entity instanceof Publisher) {
+            BlockingIterator iterator = new BlockingIterator();
+            ((Publisher<?>) entity).subscribe(iterator);
+            return iterator;
+        }
+        return ((Stream<?>) entity).iterator();
+    }
+
+    private static void close(Object entity, Iterator<?> elements) {
+        if (elements instanceof BlockingIterator) {
+            ((BlockingIterator) elements).cancel();
+        } else {
+            ((Stream<?>) entity).close();
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable t) {
+        CompletableFuture<T> ret = new CompletableFuture<>();
+        ret.completeExceptionally(t);
+        return ret;
+    }
+
+    /**
+     * Serializes a single element with the message body writer registered for its type.
+     */
+    static final class ElementSerializer {
+
+        private final Type elementType;
+        private final Annotation[] annotations;
+        private final MediaType mediaType;
+        private final MultivaluedMap<String, Object> httpHeaders;
+        private final Providers providers;
+        private final Map<Class<?>, MessageBodyWriter<Object>> writers = new HashMap<>();
+
+        ElementSerializer(Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders) {
+            this.elementType = elementType(genericType);
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+            this.httpHeaders = httpHeaders;
+            this.providers = ResteasyContext.getContextData(Providers.class);
+        }
+
+        void serialize(Object element, OutputStream out) throws IOException {
+            if (element == null) {
+                out.write(new byte[] { 'n', 'u', 'l', 'l' });
+                return;
+            }
+            Class<?> elementClass = element.getClass();
+            Type type = elementType != null ? elementType : elementClass;
+            writer(elementClass, type).writeTo(element, elementClass, type, annotations, mediaType, httpHeaders, out);
+        }
+
+        byte[] serialize(Object element, char separator) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(separator);
+            serialize(element, out);
+            return out.toByteArray();
+        }
+
+        @SuppressWarnings("unchecked")
+        private MessageBodyWriter<Object> writer(Class<?> elementClass, Type type) {
+            MessageBodyWriter<Object> writer = writers.get(elementClass);
+            if (writer == null) {
+                writer = (MessageBodyWriter<Object>) providers.getMessageBodyWriter(elementClass, type, annotations,
+                        mediaType);
+                if (writer == null) {
+                    throw new InternalServerErrorException(
+                            "No MessageBodyWriter found for " + elementClass.getName() + " and media type " + mediaType);
+                }
+                writers.put(elementClass, writer);
+            }
+            return writer;
+        }
+
+        private static Type elementType(Type genericType) {
+            if (genericType instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+                if (arguments.length == 1 && (arguments[0] instanceof Class || arguments[0] instanceof ParameterizedType)) {
+                    return arguments[0];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Writes the elements of a {@link Stream}, serializing the next element only when the previous write completed.
+     */
+    static final class StreamWriter {
+
+        private final ElementSerializer serializer;
+        private final AsyncOutputStream out;
+        private final Stream<?> stream;
+        private final Iterator<?> elements;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private boolean first = true;
+
+        StreamWriter(ElementSerializer serializer, AsyncOutputStream out, Stream<?> stream) {
+            this.serializer = serializer;
+            this.out = out;
+            this.stream = stream;
+            this.elements = stream.iterator();
+        }
+
+        CompletionStage<Void> write() {
+            writeMore();
+            return result.whenComplete((v, t) -> stream.close());
+        }
+
+        private void writeMore() {
+            try {
+                // loop while the writes complete immediately, to not grow the stack with every element
+                while (elements.hasNext()) {
+                    CompletableFuture<Void> written = out.asyncWrite(serializer.serialize(elements.next(), first ? '[' : ','))
+                            .toCompletableFuture();
+                    first = false;
+                    if (!written.isDone() || written.isCompletedExceptionally()) {
+                        written.whenComplete((v, t) -> {
+                            if (t != null) {
+                                result.completeExceptionally(t);
+                            } else {
+                                writeMore();
+                            }
+                        });
+                        return;
+                    }
+                }
+                out.asyncWrite(first ? EMPTY_ARRAY : new byte[] { ']' }).whenComplete((v, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(null);
+                    }
+                });
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Requests the elements of a {@link Publisher} one at a time, requesting the next element when the previous write
+     * completed.
+     */
+    static final class PublisherWriter implements Subscriber<Object> {
+
+        private final ElementSerializer serializer;
+        private final AsyncOutputStream out;
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        private Subscription subscription;
+        private boolean first = true;
+
+        PublisherWriter(ElementSerializer serializer, AsyncOutputStream out) {
+            this.serializer = serializer;
+            this.out = out;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Object element) {
+            CompletionStage<Void> written;
+            try {
+                written = out.asyncWrite(serializer.serialize(element, first ? '[' : ','));
+            } catch (Throwable t) {
+                written = failed(t);
+            }
+            first = false;
+            written.whenComplete((v, t) -> {
+                if (t != null) {
+                    subscription.cancel();
+                    result.completeExceptionally(t);
+                } else {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            out.asyncWrite(first ? EMPTY_ARRAY : new byte[] { ']' }).whenComplete((v, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(null);
+                }
+            });
+        }
+    }
+
+    /**
+     * Turns a {@link Publisher} into an iterator for the blocking write path, requesting one element at a time.
+     */
+    static final class BlockingIterator implements Subscriber<Object>, Iterator<Object> {
+
+        private static final Object COMPLETE = new Object();
+        private static final Object NULL = new Object();
+
+        private final BlockingQueue<Object> signals = new ArrayBlockingQueue<>(2);
+        private volatile Subscription subscription;
+        private Object next;
+        private boolean done;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Object element) {
+            signals.offer(element == null ? NULL : element);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            signals.offer(new Failure(t));
+        }
+
+        @Override
+        public void onComplete() {
+            signals.offer(COMPLETE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+            Object signal;
+            try {
+                signal = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new RuntimeException(new InterruptedIOException(e.getMessage()));
+            }
+            if (signal == COMPLETE) {
+                done = true;
+                return false;
+            }
+            if (signal instanceof Failure) {
+                done = true;
+                Throwable cause = ((Failure) signal).cause;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+            next = signal;
+            return true;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object element = next;
+            next = null;
+            subscription.request(1);
+            return element == NULL ? null : element;
+        }
+
+        void cancel() {
+            done = true;
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+
+        private static final class Failure {
+            final Throwable cause;
+
+            Failure(Throwable cause) {
+                this.cause = cause;
+            }
+        }
+    }
+
+    /**
+     * Element writers may close the stream they are given, the array is not finished at that point. Flushing is left
+     * to the output stream, which sends its buffer once full.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkus.resteasy.runtime.standalone;
 
+import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.resteasy.spi.ResteasyDeployment;
@@ -8,8 +10,10 @@ import org.jboss.resteasy.spi.ResteasyDeployment;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -62,6 +66,8 @@ public class ResteasyStandaloneRecorder {
         }
     };
 
+    private static volatile AdaptiveBufferAllocator adaptiveAllocator;
+
     private static ResteasyDeployment deployment;
     private static String contextPath;
 
@@ -87,12 +93,31 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(Supplier<Vertx> vertx,
-            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout) {
+            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout, Set<String> ioThreadRoutes,
+            Set<String> workerRoutes, ResteasyVertxConfig vertxConfig) {
         if (deployment != null) {
-            return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
-                    readTimeout.readTimeout.toMillis());
+            BufferAllocator allocator = ALLOCATOR;
+            if (vertxConfig.adaptiveBuffer.enabled) {
+                allocator = adaptiveAllocator = new AdaptiveBufferAllocator(ALLOCATOR,
+                        (int) Math.min(vertxConfig.adaptiveBuffer.minSize.asLongValue(), Integer.MAX_VALUE),
+                        (int) Math.min(vertxConfig.adaptiveBuffer.maxSize.asLongValue(), Integer.MAX_VALUE));
+            }
+            return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, allocator, executor,
+                    readTimeout.readTimeout.toMillis(), ioThreadRoutes, workerRoutes);
         }
         return null;
     }
 
+    public Consumer<MetricsFactory> registerBufferSizeMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                AdaptiveBufferAllocator allocator = adaptiveAllocator;
+                if (allocator != null) {
+                    allocator.registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+
 }
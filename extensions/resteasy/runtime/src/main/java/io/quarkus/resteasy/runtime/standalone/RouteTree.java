@@ -0,0 +1,215 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A prefix tree of JAX-RS path templates, with a node per path segment, which finds the HTTP methods of the routes
+ * matching a path by walking down its segments instead of matching the path against the expression of every route.
+ * <p>
+ * Literal segments are looked up in a map, and the segments holding parameters are matched one segment at a time.
+ * The templates with a parameter having its own regular expression, which may span several segments, are matched as a
+ * whole against the path, as there are usually few of them.
+ */
+final class RouteTree {
+
+    static final String ANY_METHOD = "*";
+
+    private final Node root = new Node();
+    private final List<Route> regexRoutes = new ArrayList<>();
+
+    /**
+     * @param routes the routes, of the form {@code HTTP_METHOD /path/template}, the sub-resource locators using
+     *        {@link #ANY_METHOD} and matching any path starting with their template
+     */
+    RouteTree(Set<String> routes) {
+        for (String route : routes) {
+            int separator = route.indexOf(' ');
+            String method = route.substring(0, separator);
+            String template = route.substring(separator + 1);
+            if (template.indexOf(':') != -1) {
+                regexRoutes.add(new Route(method, compile(template, ANY_METHOD.equals(method))));
+            } else {
+                add(method, template);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return root.isEmpty() && regexRoutes.isEmpty();
+    }
+
+    /**
+     * @param path a decoded path starting with a slash, relative to the JAX-RS root path
+     * @return the HTTP methods of the routes matching the path, including {@link #ANY_METHOD} if it matches the template
+     *         of a sub-resource locator
+     */
+    Set<String> methods(String path) {
+        Set<String> methods = new HashSet<>();
+        collect(root, segments(path), 0, methods);
+        for (Route route : regexRoutes) {
+            if (!methods.contains(route.method) && route.pattern.matcher(path).matches()) {
+                methods.add(route.method);
+            }
+        }
+        return methods;
+    }
+
+    private void add(String method, String template) {
+        Node node = root;
+        for (String segment : segments(template)) {
+            if (segment.indexOf('{') == -1) {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            } else {
+                Node child = null;
+                for (PatternNode patternNode : node.patterns) {
+                    if (patternNode.segment.equals(segment)) {
+                        child = patternNode;
+                        break;
+                    }
+                }
+                if (child == null) {
+                    PatternNode patternNode = new PatternNode(segment);
+                    node.patterns.add(patternNode);
+                    child = patternNode;
+                }
+                node = child;
+            }
+        }
+        if (ANY_METHOD.equals(method)) {
+            node.locator = true;
+        } else {
+            node.methods.add(method);
+        }
+    }
+
+    private static void collect(Node node, String[] segments, int index, Set<String> methods) {
+        if (node.locator) {
+            // a locator matches its template followed by any path
+            methods.add(ANY_METHOD);
+        }
+        if (index == segments.length) {
+            methods.addAll(node.methods);
+            return;
+        }
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            collect(literal, segments, index + 1, methods);
+        }
+        for (PatternNode patternNode : node.patterns) {
+            if (patternNode.pattern.matcher(segment).matches()) {
+                collect(patternNode, segments, index + 1, methods);
+            }
+        }
+    }
+
+    /**
+     * Splits a path, or a template without regular expressions, in segments, ignoring its leading slash and a single
+     * trailing slash.
+     */
+    private static String[] segments(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.length();
+        if (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (start >= end) {
+            return new String[0];
+        }
+        return path.substring(start, end).split("/", -1);
+    }
+
+    /**
+     * Compiles a JAX-RS path template, starting with a slash, into a regular expression. The expression of a locator
+     * also matches any path starting with its template.
+     */
+    static Pattern compile(String template, boolean locator) {
+        if ("/".equals(template)) {
+            template = "";
+        }
+        return Pattern.compile(expression(template) + (locator ? "(/.*)?" : "/?"));
+    }
+
+    private static String expression(String template) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+            }
+            // the regular expression of a parameter may contain braces itself
+            int depth = 1;
+            int end = i + 1;
+            while (end < template.length() && depth > 0) {
+                char e = template.charAt(end);
+                if (e == '{') {
+                    depth++;
+                } else if (e == '}') {
+                    depth--;
+                }
+                end++;
+            }
+            String parameter = template.substring(i + 1, end - 1);
+            int colon = parameter.indexOf(':');
+            if (colon == -1) {
+                regex.append("([^/]+)");
+            } else {
+                regex.append('(').append(parameter.substring(colon + 1).trim()).append(')');
+            }
+            i = end;
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.toString();
+    }
+
+    private static class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        final List<PatternNode> patterns = new ArrayList<>();
+        final Set<String> methods = new HashSet<>();
+        boolean locator;
+
+        boolean isEmpty() {
+            return literals.isEmpty() && patterns.isEmpty() && methods.isEmpty() && !locator;
+        }
+    }
+
+    /**
+     * A segment holding parameters, such as {@code {id}} or {@code {name}.txt}, each parameter matching a non-empty
+     * part of the segment.
+     */
+    private static final class PatternNode extends Node {
+        final String segment;
+        final Pattern pattern;
+
+        PatternNode(String segment) {
+            this.segment = segment;
+            this.pattern = Pattern.compile(expression(segment));
+        }
+    }
+
+    private static final class Route {
+        final String method;
+        final Pattern pattern;
+
+        Route(String method, Pattern pattern) {
+            this.method = method;
+            this.pattern = pattern;
+        }
+    }
+}
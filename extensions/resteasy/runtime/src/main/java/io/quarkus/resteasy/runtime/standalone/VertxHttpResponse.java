@@ -11,6 +11,7 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.ext.RuntimeDelegate;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.specimpl.MultivaluedMapImpl;
 import org.jboss.resteasy.spi.HttpResponse;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
@@ -23,6 +24,12 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 public class VertxHttpResponse implements HttpResponse {
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
+    /**
+     * The request attribute RESTEasy sets to the matched resource method.
+     */
+    private static final String RESOURCE_METHOD_INVOKER = "org.jboss.resteasy.core.ResourceMethodInvoker";
+
     private int status = 200;
     private OutputStream os;
     private MultivaluedMap<String, Object> outputHeaders;
@@ -78,6 +85,13 @@ public class VertxHttpResponse implements HttpResponse {
         outputHeaders.add(javax.ws.rs.core.HttpHeaders.SET_COOKIE, cookie);
     }
 
+    /**
+     * @return the resource method this response is written for, or {@code null} if it is not known
+     */
+    Object getEndpoint() {
+        return routingContext.get(RESOURCE_METHOD_INVOKER);
+    }
+
     void checkException() throws IOException {
         // todo from old code, do we still need it?
     }
@@ -154,6 +168,27 @@ public class VertxHttpResponse implements HttpResponse {
         }
     }
 
+    /**
+     * Sends a region of a file with {@link HttpServerResponse#sendFile(String, long, long)}, the content is not copied
+     * through the output stream. This commits and ends the response.
+     */
+    public void sendFile(String fileName, long offset, long length) throws IOException {
+        checkException();
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        committed = true;
+        finished = true;
+        response.setStatusCode(getStatus());
+        getOutputHeaders().putSingle(javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH, "" + length);
+        transformHeaders(this, response, providerFactory);
+        response.sendFile(fileName, offset, length, result -> {
+            if (result.failed()) {
+                log.debugf(result.cause(), "Failed to send file %s", fileName);
+            }
+        });
+    }
+
     @Override
     public void flushBuffer() throws IOException {
         checkException();
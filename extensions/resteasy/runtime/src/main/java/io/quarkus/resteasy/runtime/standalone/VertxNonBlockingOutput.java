@@ -0,0 +1,52 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Output used by the resource methods that are invoked on the IO thread.
+ * <p>
+ * Writes issued from the event loop never wait for the write queue to drain, the data is handed over to Vert.x which
+ * queues it. Writes issued from a worker thread (e.g. when an async response is resumed) keep the blocking semantics.
+ */
+public class VertxNonBlockingOutput extends VertxBlockingOutput {
+
+    public VertxNonBlockingOutput(HttpServerRequest request) {
+        super(request);
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (!Context.isOnEventLoopThread()) {
+            super.write(data, last);
+            return;
+        }
+        if (throwable != null) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException(throwable);
+        }
+        try {
+            if (last && data == null) {
+                request.response().end();
+            } else if (last) {
+                request.response().end(createBuffer(data));
+            } else {
+                request.response().write(createBuffer(data));
+            }
+        } catch (Exception e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException("Failed to write", e);
+        } finally {
+            if (last) {
+                terminateResponse();
+            }
+        }
+    }
+}
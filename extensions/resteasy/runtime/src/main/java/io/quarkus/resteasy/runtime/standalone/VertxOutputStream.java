@@ -19,6 +19,8 @@ public class VertxOutputStream extends AsyncOutputStream {
     private final long contentLength;
 
     private boolean closed;
+    // the size of the buffers of this response, learned per endpoint by the allocator
+    private int bufferSize = -1;
 
     /**
      * Construct a new instance. No write timeout is configured.
@@ -31,6 +33,21 @@ public class VertxOutputStream extends AsyncOutputStream {
         this.contentLength = length == null ? -1 : Long.parseLong(length.toString());
     }
 
+    VertxHttpResponse getResponse() {
+        return response;
+    }
+
+    private ByteBuf allocateBuffer() {
+        if (bufferSize == -1) {
+            bufferSize = allocator.getBufferSize(response.getEndpoint());
+        }
+        return allocator.allocateBuffer(bufferSize);
+    }
+
+    private void responseWritten() {
+        allocator.responseWritten(response.getEndpoint(), written);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -61,7 +78,7 @@ public class VertxOutputStream extends AsyncOutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = allocator.allocateBuffer();
+                pooledBuffer = buffer = allocateBuffer();
             }
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
@@ -70,7 +87,7 @@ public class VertxOutputStream extends AsyncOutputStream {
                 idx += toWrite;
                 if (!buffer.isWritable()) {
                     ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = allocator.allocateBuffer();
+                    this.pooledBuffer = buffer = allocateBuffer();
                     response.writeBlocking(tmpBuf, false);
                 }
             }
@@ -120,6 +137,7 @@ public class VertxOutputStream extends AsyncOutputStream {
             return;
         try {
             response.writeBlocking(pooledBuffer, true);
+            responseWritten();
         } catch (Exception e) {
             throw new IOException(e);
         } finally {
@@ -128,6 +146,66 @@ public class VertxOutputStream extends AsyncOutputStream {
         }
     }
 
+    /**
+     * Writes the given buffer as is, it is not copied into a pooled buffer. The ownership of the buffer is transferred
+     * to this stream.
+     */
+    public void writeBuffer(ByteBuf data, boolean last) throws IOException {
+        if (closed) {
+            data.release();
+            throw new IOException("Stream is closed");
+        }
+        int len = data.readableBytes();
+        try {
+            flush();
+            response.writeBlocking(data, last);
+        } catch (IOException e) {
+            if (data.refCnt() > 0) {
+                data.release();
+            }
+            throw e;
+        }
+        this.written += len;
+        if (last) {
+            closed = true;
+            responseWritten();
+        }
+    }
+
+    /**
+     * Sends a region of a file with Vert.x, the content is not copied through this stream. This closes the stream.
+     */
+    public void sendFile(String fileName, long offset, long length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (pooledBuffer != null) {
+            throw new IOException("Content has already been written to the stream");
+        }
+        closed = true;
+        response.sendFile(fileName, offset, length);
+    }
+
+    /**
+     * Non-blocking variant of {@link #writeBuffer(ByteBuf, boolean)}.
+     */
+    public CompletionStage<Void> asyncWriteBuffer(ByteBuf data, boolean last) {
+        int len = data.readableBytes();
+        CompletionStage<Void> ret = asyncFlush().thenCompose(v -> {
+            this.written += len;
+            if (last) {
+                closed = true;
+                responseWritten();
+            }
+            return response.writeNonBlocking(data, last);
+        });
+        return ret.whenComplete((v, t) -> {
+            if (t != null && data.refCnt() > 0) {
+                data.release();
+            }
+        });
+    }
+
     @Override
     public CompletionStage<Void> asyncFlush() {
         return asyncFlush(false);
@@ -167,7 +245,7 @@ public class VertxOutputStream extends AsyncOutputStream {
         ByteBuf buffer = pooledBuffer;
         CompletionStage<Void> ret = CompletableFuture.completedFuture(null);
         if (buffer == null) {
-            pooledBuffer = buffer = allocator.allocateBuffer();
+            pooledBuffer = buffer = allocateBuffer();
         }
         while (rem > 0) {
             int toWrite = Math.min(rem, buffer.writableBytes());
@@ -176,7 +254,7 @@ public class VertxOutputStream extends AsyncOutputStream {
             idx += toWrite;
             if (!buffer.isWritable()) {
                 ByteBuf tmpBuf = buffer;
-                this.pooledBuffer = buffer = allocator.allocateBuffer();
+                this.pooledBuffer = buffer = allocateBuffer();
                 ret = ret.thenCompose(v -> response.writeNonBlocking(tmpBuf, false));
             }
         }
@@ -188,6 +266,7 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (contentLength != -1 && this.written >= contentLength) {
             return asyncFlush(true).thenAccept(v -> {
                 closed = true;
+                responseWritten();
             });
         }
         return CompletableFuture.completedFuture(null);
@@ -3,6 +3,7 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import javax.enterprise.inject.Instance;
@@ -27,6 +28,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -46,12 +48,14 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    protected final IoThreadRouter ioThreadRouter;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
-            BufferAllocator allocator, Executor executor, long readTimeout) {
+            BufferAllocator allocator, Executor executor, long readTimeout, Set<String> ioThreadRoutes,
+            Set<String> workerRoutes) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -60,6 +64,7 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         this.allocator = allocator;
         this.executor = executor;
         this.readTimeout = readTimeout;
+        this.ioThreadRouter = new IoThreadRouter(rootPath, ioThreadRoutes, workerRoutes);
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
@@ -67,6 +72,24 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
     @Override
     public void handle(RoutingContext request) {
+        if (ioThreadRouter.hasIoThreadRoutes() && !BlockingOperationControl.isBlockingAllowed()
+                && ioThreadRouter.isIoThreadRequest(request.request())) {
+            // the body must be available without blocking, otherwise we fall back to the worker thread
+            InputStream is = null;
+            if (request.getBody() != null) {
+                is = new ByteArrayInputStream(request.getBody().getBytes());
+            } else if (!hasBody(request.request())) {
+                is = new ByteArrayInputStream(new byte[0]);
+            }
+            if (is != null) {
+                try {
+                    dispatch(request, is, new VertxNonBlockingOutput(request.request()));
+                } catch (Throwable e) {
+                    request.fail(e);
+                }
+                return;
+            }
+        }
         // have to create input stream here.  Cannot execute in another thread
         // otherwise request handlers may not get set up before request ends
         InputStream is;
@@ -101,6 +124,14 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
     }
 
+    private static boolean hasBody(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            return !contentLength.equals("0");
+        }
+        return request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null;
+    }
+
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
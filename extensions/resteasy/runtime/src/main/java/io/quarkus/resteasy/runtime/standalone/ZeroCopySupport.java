@@ -0,0 +1,42 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.util.CommitHeaderOutputStream;
+
+/**
+ * Helps the body writers to bypass the pooled buffers and hand the content over to Vert.x directly.
+ */
+final class ZeroCopySupport {
+
+    private ZeroCopySupport() {
+    }
+
+    /**
+     * @return the output stream of the current response if the entity stream is directly backed by it, i.e. no writer
+     *         interceptor (such as GZIP encoding) wraps it, or {@code null} otherwise
+     */
+    static VertxOutputStream vertxOutputStream(OutputStream entityStream) throws IOException {
+        HttpResponse response = ResteasyContext.getContextData(HttpResponse.class);
+        if (!(response instanceof VertxHttpResponse)) {
+            return null;
+        }
+        OutputStream stream = entityStream;
+        CommitHeaderOutputStream commitHeaderStream = null;
+        if (stream instanceof CommitHeaderOutputStream) {
+            commitHeaderStream = (CommitHeaderOutputStream) stream;
+            stream = commitHeaderStream.getDelegate();
+        }
+        if (!(stream instanceof VertxOutputStream) || stream != response.getOutputStream()) {
+            return null;
+        }
+        if (commitHeaderStream != null) {
+            // make sure the headers of the JAX-RS response are copied to the Vert.x response
+            commitHeaderStream.commit();
+        }
+        return (VertxOutputStream) stream;
+    }
+}
@@ -1,8 +1,10 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaKeyExtractor;
 
 public class SmallRyeReactiveMessagingKafkaProcessor {
 
@@ -10,4 +12,10 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.SMALLRYE_REACTIVE_MESSAGING_KAFKA);
     }
+
+    @BuildStep
+    AdditionalBeanBuildItem keyExtractor() {
+        // looked up programmatically by the @KeyOrdered methods
+        return AdditionalBeanBuildItem.unremovableOf(KafkaKeyExtractor.class);
+    }
 }
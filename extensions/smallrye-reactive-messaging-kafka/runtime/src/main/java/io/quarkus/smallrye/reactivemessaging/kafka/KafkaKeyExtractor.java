@@ -0,0 +1,25 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.smallrye.reactivemessaging.annotations.KeyOrdered;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+
+/**
+ * Orders the messages of the {@link KeyOrdered} methods by the key of their Kafka record.
+ */
+@DefaultBean
+@Singleton
+public class KafkaKeyExtractor implements KeyOrdered.KeyExtractor {
+
+    @Override
+    public Object extract(Message<?> message) {
+        if (message instanceof KafkaRecord) {
+            return ((KafkaRecord<?, ?>) message).getKey();
+        }
+        return null;
+    }
+}
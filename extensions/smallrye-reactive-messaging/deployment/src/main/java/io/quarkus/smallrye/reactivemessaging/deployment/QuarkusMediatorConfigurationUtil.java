@@ -1,26 +1,33 @@
 package io.quarkus.smallrye.reactivemessaging.deployment;
 
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.ACKNOWLEDGMENT;
+import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.BATCH;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.BLOCKING;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.BROADCAST;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.INCOMING;
+import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.KEY_ORDERED;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.MERGE;
+import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.MESSAGE;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.OUTGOING;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
+import org.reactivestreams.Subscriber;
 
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusMediatorConfiguration;
 import io.smallrye.reactive.messaging.Invoker;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
 import io.smallrye.reactive.messaging.MediatorConfigurationSupport;
 import io.smallrye.reactive.messaging.Shape;
 import io.smallrye.reactive.messaging.annotations.Blocking;
@@ -34,6 +41,10 @@ final class QuarkusMediatorConfigurationUtil {
     static QuarkusMediatorConfiguration create(MethodInfo methodInfo, BeanInfo bean,
             String generatedInvokerName, RecorderContext recorderContext, ClassLoader cl) {
 
+        if (isDispatched(methodInfo)) {
+            return createDispatched(methodInfo, bean, generatedInvokerName, recorderContext);
+        }
+
         Class<?> returnTypeClass = load(methodInfo.returnType().name().toString(), cl);
         Class[] parameterTypeClasses = new Class[methodInfo.parameters().size()];
         for (int i = 0; i < methodInfo.parameters().size(); i++) {
@@ -133,6 +144,68 @@ final class QuarkusMediatorConfigurationUtil {
         return configuration;
     }
 
+    /**
+     * The invoker of a {@code @Batch} or {@code @KeyOrdered} method passes the messages to a
+     * {@link io.quarkus.smallrye.reactivemessaging.runtime.MessageBatcher} or a
+     * {@link io.quarkus.smallrye.reactivemessaging.runtime.KeyOrderedDispatcher}, acknowledging the messages itself. A
+     * batch method is seen by SmallRye Reactive Messaging as a {@code Subscriber<Message<?>> method()} subscriber, the
+     * batcher being notified of the completion of the channel, and a key ordered method as a
+     * {@code CompletionStage<Void> method(Message<?>)} subscriber.
+     */
+    private static QuarkusMediatorConfiguration createDispatched(MethodInfo methodInfo, BeanInfo bean,
+            String generatedInvokerName, RecorderContext recorderContext) {
+        QuarkusMediatorConfiguration configuration = new QuarkusMediatorConfiguration();
+        configuration.setBeanId(bean.getIdentifier());
+        configuration.setMethodName(methodInfo.name());
+        configuration.setInvokerClass((Class<? extends Invoker>) recorderContext.classProxy(generatedInvokerName));
+        boolean batch = methodInfo.hasAnnotation(BATCH);
+        Class<?> returnType = batch ? Subscriber.class : CompletionStage.class;
+        Class<?>[] parameterTypes = batch ? new Class[0] : new Class[] { Message.class };
+        configuration.setReturnType(returnType);
+        configuration.setParameterTypes(parameterTypes);
+
+        List<String> incomingValues = getValues(methodInfo, INCOMING);
+        configuration.setIncomings(incomingValues);
+        configuration.setShape(Shape.SUBSCRIBER);
+        configuration.setConsumption(batch ? MediatorConfiguration.Consumption.STREAM_OF_MESSAGE
+                : MediatorConfiguration.Consumption.MESSAGE);
+        configuration.setProduction(MediatorConfiguration.Production.NONE);
+        configuration.setAcknowledgment(Acknowledgment.Strategy.MANUAL);
+        configuration.setUseBuilderTypes(false);
+
+        MediatorConfigurationSupport mediatorConfigurationSupport = new MediatorConfigurationSupport(
+                fullMethodName(methodInfo), returnType, parameterTypes,
+                new AlwaysInvalidIndexGenericTypeAssignable(), new AlwaysInvalidIndexGenericTypeAssignable());
+        configuration.setMerge(mediatorConfigurationSupport.processMerge(incomingValues, () -> {
+            AnnotationInstance instance = methodInfo.annotation(MERGE);
+            if (instance != null) {
+                AnnotationValue value = instance.value();
+                if (value == null) {
+                    return Merge.Mode.MERGE; // the default value of @Merge
+                }
+                return Merge.Mode.valueOf(value.asEnum());
+            }
+            return null;
+        }));
+        // @Blocking only selects the worker pool calling the method, the invoker itself does not block
+        return configuration;
+    }
+
+    /**
+     * @return whether the method is called by a dispatcher, rather than directly by its invoker
+     */
+    static boolean isDispatched(MethodInfo methodInfo) {
+        return methodInfo.hasAnnotation(BATCH) || methodInfo.hasAnnotation(KEY_ORDERED);
+    }
+
+    /**
+     * @return whether the {@code @Batch} method consumes a {@code List} of messages rather than of payloads
+     */
+    static boolean isBatchOfMessages(MethodInfo methodInfo) {
+        Type element = methodInfo.parameters().get(0).asParameterizedType().arguments().get(0);
+        return element.name().equals(MESSAGE);
+    }
+
     private static Class<?> load(String className, ClassLoader cl) {
         switch (className) {
             case "boolean":
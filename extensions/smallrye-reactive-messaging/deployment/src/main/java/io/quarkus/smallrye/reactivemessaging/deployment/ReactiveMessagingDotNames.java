@@ -1,10 +1,15 @@
 package io.quarkus.smallrye.reactivemessaging.deployment;
 
+import java.util.List;
+
 import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.Outgoing;
 import org.jboss.jandex.DotName;
 
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
+import io.quarkus.smallrye.reactivemessaging.annotations.KeyOrdered;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.annotations.Broadcast;
 import io.smallrye.reactive.messaging.annotations.Channel;
@@ -28,6 +33,11 @@ public final class ReactiveMessagingDotNames {
     static final DotName ACKNOWLEDGMENT = DotName.createSimple(Acknowledgment.class.getName());
     static final DotName MERGE = DotName.createSimple(Merge.class.getName());
     static final DotName BROADCAST = DotName.createSimple(Broadcast.class.getName());
+    static final DotName BATCH = DotName.createSimple(Batch.class.getName());
+    static final DotName KEY_ORDERED = DotName.createSimple(KeyOrdered.class.getName());
+    static final DotName KEY_EXTRACTOR = DotName.createSimple(KeyOrdered.KeyExtractor.class.getName());
+    static final DotName LIST = DotName.createSimple(List.class.getName());
+    static final DotName MESSAGE = DotName.createSimple(Message.class.getName());
 
     // Do not directly reference the MetricDecorator (due to its direct references to MP Metrics, which may not be present)
     static final DotName METRIC_DECORATOR = DotName.createSimple("io.smallrye.reactive.messaging.metrics.MetricDecorator");
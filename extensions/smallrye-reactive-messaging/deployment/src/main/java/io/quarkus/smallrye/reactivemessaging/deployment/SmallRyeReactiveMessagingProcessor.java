@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.enterprise.context.Dependent;
@@ -17,6 +19,7 @@ import javax.enterprise.inject.spi.DeploymentException;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.spi.Connector;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -61,6 +64,9 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.smallrye.reactivemessaging.annotations.KeyOrdered;
+import io.quarkus.smallrye.reactivemessaging.runtime.KeyOrderedDispatcher;
+import io.quarkus.smallrye.reactivemessaging.runtime.MessageBatcher;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusMediatorConfiguration;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
 import io.quarkus.smallrye.reactivemessaging.runtime.ReactiveMessagingConfiguration;
@@ -146,6 +152,10 @@ public class SmallRyeReactiveMessagingProcessor {
                         ReactiveMessagingDotNames.OUTGOING);
                 AnnotationInstance blocking = annotationStore.getAnnotation(method,
                         ReactiveMessagingDotNames.BLOCKING);
+                AnnotationInstance batch = annotationStore.getAnnotation(method,
+                        ReactiveMessagingDotNames.BATCH);
+                AnnotationInstance keyOrdered = annotationStore.getAnnotation(method,
+                        ReactiveMessagingDotNames.KEY_ORDERED);
                 if (incoming != null || outgoing != null) {
                     if (incoming != null && incoming.value().asString().isEmpty()) {
                         validationPhase.getContext().addDeploymentProblem(
@@ -155,6 +165,12 @@ public class SmallRyeReactiveMessagingProcessor {
                         validationPhase.getContext().addDeploymentProblem(
                                 new DeploymentException("Empty @Outgoing annotation on method " + method));
                     }
+                    if (batch != null) {
+                        validateBatch(validationPhase, method, batch, outgoing);
+                    }
+                    if (keyOrdered != null) {
+                        validateKeyOrdered(validationPhase, method, keyOrdered, outgoing, batch);
+                    }
                     // TODO: validate method params and return type?
                     mediatorMethods.produce(new MediatorBuildItem(bean, method));
                     LOGGER.debugf("Found mediator business method %s declared on %s", method, bean);
@@ -162,6 +178,13 @@ public class SmallRyeReactiveMessagingProcessor {
                     validationPhase.getContext().addDeploymentProblem(
                             new DeploymentException(
                                     "@Blocking used on " + method + " which has no @Incoming or @Outgoing annotation"));
+                } else if (batch != null) {
+                    validationPhase.getContext().addDeploymentProblem(
+                            new DeploymentException("@Batch used on " + method + " which has no @Incoming annotation"));
+                } else if (keyOrdered != null) {
+                    validationPhase.getContext().addDeploymentProblem(
+                            new DeploymentException(
+                                    "@KeyOrdered used on " + method + " which has no @Incoming annotation"));
                 }
             }
         }
@@ -240,6 +263,53 @@ public class SmallRyeReactiveMessagingProcessor {
         }
     }
 
+    private void validateBatch(ValidationPhaseBuildItem validationPhase, MethodInfo method, AnnotationInstance batch,
+            AnnotationInstance outgoing) {
+        if (outgoing != null) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@Batch used on " + method + " which has an @Outgoing annotation"));
+        }
+        if (method.parameters().size() != 1
+                || method.parameters().get(0).kind() != Type.Kind.PARAMETERIZED_TYPE
+                || !method.parameters().get(0).name().equals(ReactiveMessagingDotNames.LIST)) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@Batch used on " + method
+                            + " which does not have a single parameter of type List<Payload> or List<Message<Payload>>"));
+        }
+        AnnotationValue maxSize = batch.value("maxSize");
+        if (maxSize != null && maxSize.asInt() < 1) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@Batch used on " + method + " with a maxSize lower than 1"));
+        }
+        AnnotationValue lingerMillis = batch.value("lingerMillis");
+        if (lingerMillis != null && lingerMillis.asLong() < 1) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@Batch used on " + method + " with a lingerMillis lower than 1"));
+        }
+    }
+
+    private void validateKeyOrdered(ValidationPhaseBuildItem validationPhase, MethodInfo method,
+            AnnotationInstance keyOrdered, AnnotationInstance outgoing, AnnotationInstance batch) {
+        if (outgoing != null) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@KeyOrdered used on " + method + " which has an @Outgoing annotation"));
+        }
+        if (batch != null) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@KeyOrdered used on " + method + " which has a @Batch annotation"));
+        }
+        if (method.parameters().size() != 1) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@KeyOrdered used on " + method
+                            + " which does not have a single parameter of type Payload or Message<Payload>"));
+        }
+        AnnotationValue concurrency = keyOrdered.value("concurrency");
+        if (concurrency != null && concurrency.asInt() < 1) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@KeyOrdered used on " + method + " with a concurrency lower than 1"));
+        }
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private void createEmitter(BuildProducer<EmitterBuildItem> emitters, InjectionPointInfo injectionPoint,
             String channelName,
@@ -340,7 +410,9 @@ public class SmallRyeReactiveMessagingProcessor {
             MethodInfo methodInfo = mediatorMethod.getMethod();
             BeanInfo bean = mediatorMethod.getBean();
 
-            String generatedInvokerName = generateInvoker(bean, methodInfo, classOutput);
+            String generatedInvokerName = QuarkusMediatorConfigurationUtil.isDispatched(methodInfo)
+                    ? generateDispatchingInvoker(bean, methodInfo, classOutput)
+                    : generateInvoker(bean, methodInfo, classOutput);
             /*
              * We need to register the invoker's constructor for reflection since it will be called inside smallrye.
              * We could potentially lift this restriction with some extra CDI bean generation but it's probably not worth it
@@ -400,21 +472,7 @@ public class SmallRyeReactiveMessagingProcessor {
      * </pre>
      */
     private String generateInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput) {
-        String baseName;
-        if (bean.getImplClazz().enclosingClass() != null) {
-            baseName = DotNames.simpleName(bean.getImplClazz().enclosingClass()) + "_"
-                    + DotNames.simpleName(bean.getImplClazz().name());
-        } else {
-            baseName = DotNames.simpleName(bean.getImplClazz().name());
-        }
-        StringBuilder sigBuilder = new StringBuilder();
-        sigBuilder.append(method.name()).append("_").append(method.returnType().name().toString());
-        for (Type i : method.parameters()) {
-            sigBuilder.append(i.name().toString());
-        }
-        String targetPackage = DotNames.packageName(bean.getImplClazz().name());
-        String generatedName = targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
-                + HashUtil.sha1(sigBuilder.toString());
+        String generatedName = invokerName(bean, method);
 
         try (ClassCreator invoker = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(Invoker.class)
@@ -462,4 +520,138 @@ public class SmallRyeReactiveMessagingProcessor {
         return generatedName.replace('/', '.');
     }
 
+    /**
+     * Generates an invoker class for a {@code @Batch} or {@code @KeyOrdered} method, which passes the messages to a
+     * dispatcher calling the method, and looks like the following:
+     *
+     * <pre>
+     * public class SomeName implements Invoker, Function {
+     *     private BeanType beanInstance;
+     *     private MessageBatcher dispatcher;
+     *
+     *     public SomeName(Object var1) {
+     *         this.beanInstance = var1;
+     *         this.dispatcher = new MessageBatcher(500, 100L, false, null, "BeanType#doSomething", this);
+     *     }
+     *
+     *     public Object invoke(Object[] args) {
+     *         // a KeyOrderedDispatcher is passed each message instead: return this.dispatcher.add((Message) args[0]);
+     *         return this.dispatcher;
+     *     }
+     *
+     *     public Object apply(Object argument) {
+     *         return this.beanInstance.doSomething((List) argument);
+     *     }
+     * }
+     * </pre>
+     */
+    private String generateDispatchingInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput) {
+        String generatedName = invokerName(bean, method);
+
+        AnnotationInstance blocking = method.annotation(ReactiveMessagingDotNames.BLOCKING);
+        String workerPoolName = blocking == null || blocking.value() == null
+                || blocking.value().asString().equals(Blocking.DEFAULT_WORKER_POOL) ? null : blocking.value().asString();
+        String methodName = method.declaringClass().name() + "#" + method.name();
+        boolean batch = method.hasAnnotation(ReactiveMessagingDotNames.BATCH);
+        Class<?> dispatcherClass = batch ? MessageBatcher.class : KeyOrderedDispatcher.class;
+
+        try (ClassCreator invoker = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(Invoker.class, Function.class)
+                .build()) {
+
+            String beanInstanceType = method.declaringClass().name().toString();
+            FieldDescriptor beanInstanceField = invoker.getFieldCreator("beanInstance", beanInstanceType)
+                    .getFieldDescriptor();
+            FieldDescriptor dispatcherField = invoker.getFieldCreator("dispatcher", dispatcherClass)
+                    .getFieldDescriptor();
+
+            try (MethodCreator ctor = invoker.getMethodCreator("<init>", void.class, Object.class)) {
+                ctor.setModifiers(Modifier.PUBLIC);
+                ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), ctor.getThis());
+                ResultHandle self = ctor.getThis();
+                ctor.writeInstanceField(beanInstanceField, self, ctor.getMethodParam(0));
+                ResultHandle workerPool = workerPoolName == null ? ctor.loadNull() : ctor.load(workerPoolName);
+                ResultHandle dispatcher;
+                if (batch) {
+                    AnnotationInstance annotation = method.annotation(ReactiveMessagingDotNames.BATCH);
+                    AnnotationValue maxSize = annotation.value("maxSize");
+                    AnnotationValue lingerMillis = annotation.value("lingerMillis");
+                    dispatcher = ctor.newInstance(
+                            MethodDescriptor.ofConstructor(MessageBatcher.class, int.class, long.class, boolean.class,
+                                    String.class, String.class, Function.class),
+                            ctor.load(maxSize == null ? 500 : maxSize.asInt()),
+                            ctor.load(lingerMillis == null ? 100L : lingerMillis.asLong()),
+                            ctor.load(QuarkusMediatorConfigurationUtil.isBatchOfMessages(method)),
+                            workerPool, ctor.load(methodName), self);
+                } else {
+                    AnnotationInstance annotation = method.annotation(ReactiveMessagingDotNames.KEY_ORDERED);
+                    AnnotationValue concurrency = annotation.value("concurrency");
+                    AnnotationValue keyExtractor = annotation.value("keyExtractor");
+                    ResultHandle keyExtractorInstance = keyExtractor == null
+                            || keyExtractor.asClass().name().equals(ReactiveMessagingDotNames.KEY_EXTRACTOR)
+                                    ? ctor.loadNull()
+                                    : ctor.newInstance(
+                                            MethodDescriptor.ofConstructor(keyExtractor.asClass().name().toString()));
+                    dispatcher = ctor.newInstance(
+                            MethodDescriptor.ofConstructor(KeyOrderedDispatcher.class, int.class, String.class,
+                                    String.class, String.class, KeyOrdered.KeyExtractor.class, boolean.class,
+                                    Function.class),
+                            ctor.load(concurrency == null ? 16 : concurrency.asInt()),
+                            ctor.load(method.annotation(ReactiveMessagingDotNames.INCOMING).value().asString()),
+                            workerPool, ctor.load(methodName), keyExtractorInstance,
+                            ctor.load(method.parameters().get(0).name().equals(ReactiveMessagingDotNames.MESSAGE)),
+                            self);
+                }
+                ctor.writeInstanceField(dispatcherField, self, dispatcher);
+                ctor.returnValue(null);
+            }
+
+            try (MethodCreator invoke = invoker.getMethodCreator(
+                    MethodDescriptor.ofMethod(generatedName, "invoke", Object.class, Object[].class))) {
+                ResultHandle dispatcher = invoke.readInstanceField(dispatcherField, invoke.getThis());
+                if (batch) {
+                    // the batcher is the subscriber of the channel
+                    invoke.returnValue(dispatcher);
+                } else {
+                    invoke.returnValue(invoke.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(dispatcherClass, "add", CompletionStage.class, Message.class),
+                            dispatcher, invoke.readArrayValue(invoke.getMethodParam(0), 0)));
+                }
+            }
+
+            try (MethodCreator apply = invoker.getMethodCreator(
+                    MethodDescriptor.ofMethod(generatedName, "apply", Object.class, Object.class))) {
+                ResultHandle result = apply.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(beanInstanceType, method.name(),
+                                method.returnType().name().toString(), method.parameters().get(0).name().toString()),
+                        apply.readInstanceField(beanInstanceField, apply.getThis()), apply.getMethodParam(0));
+                if (ReactiveMessagingDotNames.VOID.equals(method.returnType().name())) {
+                    apply.returnValue(apply.loadNull());
+                } else {
+                    apply.returnValue(result);
+                }
+            }
+        }
+
+        return generatedName.replace('/', '.');
+    }
+
+    private static String invokerName(BeanInfo bean, MethodInfo method) {
+        String baseName;
+        if (bean.getImplClazz().enclosingClass() != null) {
+            baseName = DotNames.simpleName(bean.getImplClazz().enclosingClass()) + "_"
+                    + DotNames.simpleName(bean.getImplClazz().name());
+        } else {
+            baseName = DotNames.simpleName(bean.getImplClazz().name());
+        }
+        StringBuilder sigBuilder = new StringBuilder();
+        sigBuilder.append(method.name()).append("_").append(method.returnType().name().toString());
+        for (Type i : method.parameters()) {
+            sigBuilder.append(i.name().toString());
+        }
+        String targetPackage = DotNames.packageName(bean.getImplClazz().name());
+        return targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
+                + HashUtil.sha1(sigBuilder.toString());
+    }
+
 }
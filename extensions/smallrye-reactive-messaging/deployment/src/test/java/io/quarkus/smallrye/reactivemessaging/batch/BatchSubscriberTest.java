@@ -0,0 +1,131 @@
+package io.quarkus.smallrye.reactivemessaging.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+
+public class BatchSubscriberTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Producers.class, PayloadBatchBean.class, MessageBatchBean.class));
+
+    @Inject
+    Producers producers;
+
+    @Inject
+    PayloadBatchBean payloadBatchBean;
+
+    @Inject
+    MessageBatchBean messageBatchBean;
+
+    @Test
+    public void testPayloadBatches() {
+        // the last batch is passed once the channel completes, long before its first message lingered
+        await().atMost(5, TimeUnit.SECONDS).until(() -> payloadBatchBean.batches().size() == 3);
+        assertThat(payloadBatchBean.batches()).containsExactly(
+                Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7), Arrays.asList(8, 9));
+        assertThat(payloadBatchBean.threads()).noneMatch(name -> name.startsWith("vert.x-eventloop"));
+    }
+
+    @Test
+    public void testMessageBatchesAreAcknowledgedByTheMethod() {
+        await().until(() -> producers.acknowledged().size() + producers.negativelyAcknowledged().size() == 6);
+        assertThat(producers.acknowledged()).containsExactlyInAnyOrder("a", "c", "e");
+        assertThat(producers.negativelyAcknowledged()).containsExactlyInAnyOrder("b", "d", "f");
+    }
+
+    @ApplicationScoped
+    public static class Producers {
+
+        private final List<String> acknowledged = new CopyOnWriteArrayList<>();
+        private final List<String> negativelyAcknowledged = new CopyOnWriteArrayList<>();
+
+        @Outgoing("numbers")
+        public Publisher<Integer> numbers() {
+            return Multi.createFrom().range(0, 10);
+        }
+
+        @Outgoing("letters")
+        public Publisher<Message<String>> letters() {
+            return Multi.createFrom().items("a", "b", "c", "d", "e", "f")
+                    .map(letter -> Message.of(letter, () -> {
+                        acknowledged.add(letter);
+                        return CompletableFuture.completedFuture(null);
+                    }, failure -> {
+                        negativelyAcknowledged.add(letter);
+                        return CompletableFuture.completedFuture(null);
+                    }));
+        }
+
+        public List<String> acknowledged() {
+            return acknowledged;
+        }
+
+        public List<String> negativelyAcknowledged() {
+            return negativelyAcknowledged;
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadBatchBean {
+
+        private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Incoming("numbers")
+        @Batch(maxSize = 4, lingerMillis = 60000)
+        public void consume(List<Integer> batch) {
+            threads.add(Thread.currentThread().getName());
+            batches.add(batch);
+        }
+
+        public List<List<Integer>> batches() {
+            return batches;
+        }
+
+        public List<String> threads() {
+            return threads;
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageBatchBean {
+
+        @Incoming("letters")
+        @Batch(maxSize = 3)
+        public CompletionStage<Void> consume(List<Message<String>> batch) {
+            // acknowledges a part of the batch, and rejects the other part
+            List<CompletableFuture<Void>> acknowledgements = batch.stream()
+                    .map(message -> "ace".contains(message.getPayload()) ? message.ack()
+                            : message.nack(new IllegalArgumentException(message.getPayload())))
+                    .map(CompletionStage::toCompletableFuture)
+                    .collect(Collectors.toList());
+            return CompletableFuture.allOf(acknowledgements.toArray(new CompletableFuture[0]));
+        }
+    }
+}
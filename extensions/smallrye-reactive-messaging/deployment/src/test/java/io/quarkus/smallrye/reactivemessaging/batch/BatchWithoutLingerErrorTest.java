@@ -0,0 +1,43 @@
+package io.quarkus.smallrye.reactivemessaging.batch;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BatchWithoutLingerErrorTest {
+
+    @Inject
+    BeanWithoutLinger referenceToForceArcToUseTheBean;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanWithoutLinger.class))
+            .setExpectedException(DeploymentException.class);
+
+    @Test
+    public void runTest() {
+        fail("The expected DeploymentException was not thrown");
+    }
+
+    @ApplicationScoped
+    public static class BeanWithoutLinger {
+        @Incoming("numbers")
+        @Batch(maxSize = 10, lingerMillis = 0)
+        public void consume(List<Integer> batch) {
+        }
+    }
+}
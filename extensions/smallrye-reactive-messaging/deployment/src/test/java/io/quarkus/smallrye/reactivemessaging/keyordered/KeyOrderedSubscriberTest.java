@@ -0,0 +1,107 @@
+package io.quarkus.smallrye.reactivemessaging.keyordered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.smallrye.reactivemessaging.annotations.KeyOrdered;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+
+public class KeyOrderedSubscriberTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Producer.class, KeyOrderedBean.class, FirstLetter.class));
+
+    @Inject
+    KeyOrderedBean bean;
+
+    @Test
+    public void testMessagesWithTheSameKeyAreProcessedInOrder() {
+        await().until(() -> bean.processed() == 40);
+        for (char key = 'a'; key <= 'd'; key++) {
+            List<String> values = bean.valuesOf(String.valueOf(key));
+            assertThat(values).hasSize(10);
+            for (int i = 0; i < 10; i++) {
+                assertThat(values.get(i)).isEqualTo(key + "-" + i);
+            }
+        }
+        // the keys are processed concurrently
+        assertThat(bean.maxConcurrency()).isEqualTo(4);
+    }
+
+    @ApplicationScoped
+    public static class Producer {
+
+        @Outgoing("values")
+        public Publisher<String> values() {
+            return Multi.createFrom().range(0, 40)
+                    .map(i -> (char) ('a' + i % 4) + "-" + i / 4);
+        }
+    }
+
+    @ApplicationScoped
+    public static class KeyOrderedBean {
+
+        private final Map<String, List<String>> values = new ConcurrentHashMap<>();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final CountDownLatch allLanesStarted = new CountDownLatch(4);
+
+        @Incoming("values")
+        @KeyOrdered(concurrency = 4, keyExtractor = FirstLetter.class)
+        public void consume(String value) throws InterruptedException {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            if (value.endsWith("-0")) {
+                // holds the first message of each key until every lane is processing one
+                allLanesStarted.countDown();
+                assertThat(allLanesStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            values.computeIfAbsent(value.substring(0, 1), key -> new CopyOnWriteArrayList<>()).add(value);
+            concurrency.decrementAndGet();
+            processed.incrementAndGet();
+        }
+
+        public int processed() {
+            return processed.get();
+        }
+
+        public List<String> valuesOf(String key) {
+            return values.get(key);
+        }
+
+        public int maxConcurrency() {
+            return maxConcurrency.get();
+        }
+    }
+
+    public static class FirstLetter implements KeyOrdered.KeyExtractor {
+
+        @Override
+        public Object extract(Message<?> message) {
+            return message.getPayload().toString().substring(0, 1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.smallrye.reactivemessaging.keyordered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.smallrye.reactivemessaging.annotations.KeyOrdered;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeyOrderedWithAutoCommitErrorTest {
+
+    @Inject
+    BeanWithAutoCommit referenceToForceArcToUseTheBean;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(KeyOrderedSubscriberTest.Producer.class, BeanWithAutoCommit.class))
+            .overrideConfigKey("mp.messaging.incoming.values.enable.auto.commit", "true")
+            .assertException(t -> {
+                // checked when the mediator is created at startup, the cause may be wrapped
+                Throwable cause = t;
+                while (cause != null && !(cause instanceof ConfigurationException)) {
+                    cause = cause.getCause();
+                }
+                assertThat(cause).isNotNull().hasMessageContaining("with enable.auto.commit=true");
+            });
+
+    @Test
+    public void runTest() {
+        fail("The expected ConfigurationException was not thrown");
+    }
+
+    @ApplicationScoped
+    public static class BeanWithAutoCommit {
+        @Incoming("values")
+        @KeyOrdered(concurrency = 4)
+        public void consume(String value) {
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.smallrye.reactivemessaging.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes an {@code @Incoming} method consume the messages of its channel in batches.
+ * <p>
+ * The method has a single parameter, either a {@code List} of payloads or a {@code List} of
+ * {@link org.eclipse.microprofile.reactive.messaging.Message}s, and returns {@code void}, a {@code CompletionStage}
+ * or a {@code Uni}. A batch is passed to the method once it contains {@link #maxSize()} messages, or once its first
+ * message waited for {@link #lingerMillis()}, the last batch being passed as soon as the channel completes. The method
+ * is called on a worker thread, one batch at a time, while the next batch is collected, so it can block, e.g. to write
+ * the whole batch to a database.
+ * <p>
+ * With a {@code List} of payloads, the messages of a batch are acknowledged together once the method returned, or
+ * negatively acknowledged together if it failed. With a {@code List} of messages, the method acknowledges each message
+ * itself, which allows handling the failure of a part of the batch, the messages being only negatively acknowledged
+ * if the method failed.
+ * <p>
+ * The method can also be annotated with {@link io.smallrye.reactive.messaging.annotations.Blocking} to select the
+ * worker pool calling it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Batch {
+
+    /**
+     * @return the maximum number of messages of a batch
+     */
+    int maxSize() default 500;
+
+    /**
+     * @return the maximum time, in milliseconds, the first message of a batch waits for the batch to be complete, at
+     *         least 1
+     */
+    long lingerMillis() default 100;
+}
@@ -0,0 +1,50 @@
+package io.quarkus.smallrye.reactivemessaging.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * Makes an {@code @Incoming} method process the messages of its channel concurrently, while keeping the messages with
+ * the same key in order.
+ * <p>
+ * The method has a single parameter, a payload or a {@link Message}, and returns {@code void}, a {@code CompletionStage}
+ * or a {@code Uni}. It is called on worker threads, so it can block, and it can also be annotated with
+ * {@link io.smallrye.reactive.messaging.annotations.Blocking} to select the worker pool calling it.
+ * <p>
+ * The messages are spread over {@link #concurrency()} lanes by the hash of their key, each lane processing its messages
+ * one at a time, in order. Messages with different keys may share a lane, and are then processed in order too.
+ * <p>
+ * The messages are acknowledged as soon as they are processed, so out of the order of the channel: with Kafka, a
+ * commit strategy which only commits the offsets once all the previous ones are acknowledged, such as
+ * {@code throttled}, is needed to keep the at-least-once guarantee.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface KeyOrdered {
+
+    /**
+     * @return the maximum number of messages processed at the same time
+     */
+    int concurrency() default 16;
+
+    /**
+     * @return the class extracting the key of the messages, with a public no-argument constructor; by default, the
+     *         {@link KeyExtractor} bean provided by the connector is used, e.g. the record key with Kafka
+     */
+    Class<? extends KeyExtractor> keyExtractor() default KeyExtractor.class;
+
+    /**
+     * Extracts the key of a message.
+     */
+    interface KeyExtractor {
+
+        /**
+         * @return the key of the message, may be {@code null}
+         */
+        Object extract(Message<?> message);
+    }
+}
@@ -0,0 +1,165 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.smallrye.reactivemessaging.annotations.KeyOrdered;
+
+/**
+ * Dispatches the messages of a {@link KeyOrdered} method to lanes chosen by the hash of their key, each lane calling
+ * the method with its messages one at a time, on a worker thread.
+ * <p>
+ * The generated invoker of the method passes each message to {@link #add(Message)}, and the mediator waits for the
+ * returned stage before passing the next message: the stage is completed at once while less than
+ * {@code 2 * concurrency} messages are in flight, and otherwise once one of them has been processed.
+ * <p>
+ * The messages are acknowledged as soon as they are processed, so out of order: the dispatcher can only be created for
+ * a channel which either has no commit strategy or uses the {@code throttled} one, which only commits an offset once
+ * all the previous messages are acknowledged.
+ */
+public class KeyOrderedDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(KeyOrderedDispatcher.class);
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final String workerPoolName;
+    private final String methodName;
+    private final boolean consumesMessages;
+    private final Function<Object, Object> method;
+    private final KeyOrdered.KeyExtractor keyExtractor;
+    private final int maxInFlight;
+
+    private final QuarkusWorkerPoolRegistry workerPoolRegistry;
+
+    private final CompletableFuture<?>[] lanes;
+    private int inFlight;
+    private CompletableFuture<Void> waiting;
+
+    /**
+     * @param channel the channel consumed by the method
+     * @param workerPoolName the worker pool calling the method, {@code null} for the default one
+     * @param keyExtractor the key extractor of the method, {@code null} to use the {@link KeyOrdered.KeyExtractor} bean
+     * @param consumesMessages whether the method is passed the messages, or their payloads
+     * @param method calls the method with a message or a payload, returning the result of the method
+     */
+    public KeyOrderedDispatcher(int concurrency, String channel, String workerPoolName, String methodName,
+            KeyOrdered.KeyExtractor keyExtractor, boolean consumesMessages, Function<Object, Object> method) {
+        checkCommitStrategy(channel, methodName);
+        this.workerPoolName = workerPoolName;
+        this.methodName = methodName;
+        this.consumesMessages = consumesMessages;
+        this.method = method;
+        this.keyExtractor = keyExtractor != null ? keyExtractor : defaultKeyExtractor(methodName);
+        this.maxInFlight = 2 * concurrency;
+        this.workerPoolRegistry = Arc.container().instance(QuarkusWorkerPoolRegistry.class).get();
+        this.lanes = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            lanes[i] = COMPLETED;
+        }
+    }
+
+    private static void checkCommitStrategy(String channel, String methodName) {
+        // read when the mediator is created, so that the runtime configuration of the channel is taken into account
+        Config config = ConfigProvider.getConfig();
+        String prefix = "mp.messaging.incoming." + channel + ".";
+        String connector = config.getOptionalValue(prefix + "connector", String.class).orElse(null);
+        Optional<String> autoCommit = channelAttribute(config, prefix, connector, "enable.auto.commit");
+        if (autoCommit.isPresent() && Boolean.parseBoolean(autoCommit.get().trim())) {
+            // the consumer commits the polled offsets itself, whether the messages were processed or not
+            throw new ConfigurationException("@KeyOrdered method " + methodName + " consumes the channel " + channel
+                    + " with enable.auto.commit=true, disable it and use the throttled commit strategy");
+        }
+        Optional<String> commitStrategy = channelAttribute(config, prefix, connector, "commit-strategy");
+        if (commitStrategy.isPresent() && !"throttled".equalsIgnoreCase(commitStrategy.get().trim())) {
+            // the other strategies do not wait for the messages still processed by the other lanes
+            throw new ConfigurationException("@KeyOrdered method " + methodName + " consumes the channel " + channel
+                    + " with the " + commitStrategy.get().trim()
+                    + " commit strategy, only the throttled commit strategy is supported");
+        }
+    }
+
+    private static Optional<String> channelAttribute(Config config, String prefix, String connector, String attribute) {
+        Optional<String> value = config.getOptionalValue(prefix + attribute, String.class);
+        if (!value.isPresent() && connector != null) {
+            value = config.getOptionalValue("mp.messaging.connector." + connector + "." + attribute, String.class);
+        }
+        return value;
+    }
+
+    private static KeyOrdered.KeyExtractor defaultKeyExtractor(String methodName) {
+        InstanceHandle<KeyOrdered.KeyExtractor> handle = Arc.container().instance(KeyOrdered.KeyExtractor.class);
+        if (handle.isAvailable()) {
+            return handle.get();
+        }
+        LOGGER.warnf("No key extractor is available for %s, its messages are processed one at a time", methodName);
+        return message -> null;
+    }
+
+    public synchronized CompletionStage<Void> add(Message<?> message) {
+        int lane = Math.floorMod(Objects.hashCode(keyExtractor.extract(message)), lanes.length);
+        lanes[lane] = lanes[lane].handle((ignored, failure) -> null)
+                .thenCompose(ignored -> process(message));
+        inFlight++;
+        if (inFlight < maxInFlight) {
+            return COMPLETED;
+        }
+        waiting = new CompletableFuture<>();
+        return waiting;
+    }
+
+    private CompletionStage<Void> process(Message<?> message) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Object argument = consumesMessages ? message : message.getPayload();
+        workerPoolRegistry.<Object> executeWork(promise -> {
+            try {
+                promise.complete(method.apply(argument));
+            } catch (Throwable t) {
+                promise.fail(t);
+            }
+        }, workerPoolName, false)
+                .subscribe().with(
+                        result -> MessageBatcher.toCompletionStage(result)
+                                .whenComplete((ignored, failure) -> processed(message, failure, done)),
+                        failure -> processed(message, failure, done));
+        return done;
+    }
+
+    private void processed(Message<?> message, Throwable failure, CompletableFuture<Void> done) {
+        CompletionStage<Void> acknowledgement;
+        if (failure != null) {
+            LOGGER.errorf(failure, "The processing of a message failed in %s", methodName);
+            acknowledgement = message.nack(failure);
+        } else if (!consumesMessages) {
+            acknowledgement = message.ack();
+        } else {
+            acknowledgement = COMPLETED;
+        }
+        acknowledgement.whenComplete((ignored, ackFailure) -> {
+            if (ackFailure != null) {
+                LOGGER.warnf(ackFailure, "Unable to acknowledge a message of %s", methodName);
+            }
+            CompletableFuture<Void> resumed;
+            synchronized (this) {
+                inFlight--;
+                resumed = waiting;
+                waiting = null;
+            }
+            if (resumed != null) {
+                resumed.complete(null);
+            }
+            done.complete(null);
+        });
+    }
+}
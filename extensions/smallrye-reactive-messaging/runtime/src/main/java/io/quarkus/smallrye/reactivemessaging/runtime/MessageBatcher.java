@@ -0,0 +1,187 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.jboss.logging.Logger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.quarkus.arc.Arc;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.connectors.ExecutionHolder;
+
+/**
+ * Collects the messages of a {@link io.quarkus.smallrye.reactivemessaging.annotations.Batch} method in batches, and
+ * calls the method with each batch.
+ * <p>
+ * The generated invoker of the method returns the batcher, which the mediator subscribes to the channel. The batcher
+ * requests the messages of one batch at a time: the messages of the next batch are only requested once the previous
+ * batch has been processed. So one batch is processed while the next one is collected, and the upstream is
+ * back-pressured when the processing is slower than the collection. The last, partial, batch is passed to the method
+ * as soon as the upstream completes.
+ */
+public class MessageBatcher implements Subscriber<Message<?>> {
+
+    private static final Logger LOGGER = Logger.getLogger(MessageBatcher.class);
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final int maxSize;
+    private final long lingerMillis;
+    private final boolean consumesMessages;
+    private final String workerPoolName;
+    private final String methodName;
+    private final Function<Object, Object> batchMethod;
+
+    private final QuarkusWorkerPoolRegistry workerPoolRegistry;
+    private final ExecutionHolder executionHolder;
+
+    private Subscription subscription;
+    private List<Message<?>> pending;
+    private long lingerTimer = -1;
+    private CompletableFuture<Void> processing = COMPLETED;
+
+    /**
+     * @param consumesMessages whether the method is passed the messages, or their payloads
+     * @param workerPoolName the worker pool calling the method, {@code null} for the default one
+     * @param batchMethod calls the method with a batch, returning the result of the method
+     */
+    public MessageBatcher(int maxSize, long lingerMillis, boolean consumesMessages, String workerPoolName,
+            String methodName, Function<Object, Object> batchMethod) {
+        this.maxSize = maxSize;
+        this.lingerMillis = lingerMillis;
+        this.consumesMessages = consumesMessages;
+        this.workerPoolName = workerPoolName;
+        this.methodName = methodName;
+        this.batchMethod = batchMethod;
+        this.workerPoolRegistry = Arc.container().instance(QuarkusWorkerPoolRegistry.class).get();
+        this.executionHolder = Arc.container().instance(ExecutionHolder.class).get();
+        this.pending = new ArrayList<>(maxSize);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(maxSize);
+    }
+
+    @Override
+    public synchronized void onNext(Message<?> message) {
+        pending.add(message);
+        if (pending.size() >= maxSize) {
+            flush();
+        } else if (pending.size() == 1) {
+            lingerTimer = executionHolder.vertx().getDelegate().setTimer(lingerMillis, this::linger);
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable failure) {
+        LOGGER.errorf(failure, "The channel consumed by %s failed", methodName);
+        if (!pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        // no more messages will complete the current batch
+        if (!pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    private synchronized void linger(long timer) {
+        // the batch of this timer may have been flushed already
+        if (timer != lingerTimer) {
+            return;
+        }
+        if (processing.isDone()) {
+            flush();
+        } else {
+            // keep collecting until the previous batch has been processed, so that batches do not pile up
+            lingerTimer = executionHolder.vertx().getDelegate().setTimer(lingerMillis, this::linger);
+        }
+    }
+
+    /**
+     * Processes the pending batch once the previous batch has been processed, and then requests the next batch.
+     */
+    private void flush() {
+        if (lingerTimer != -1) {
+            executionHolder.vertx().getDelegate().cancelTimer(lingerTimer);
+            lingerTimer = -1;
+        }
+        List<Message<?>> batch = pending;
+        pending = new ArrayList<>(maxSize);
+
+        CompletableFuture<Void> previous = processing;
+        CompletableFuture<Void> current = new CompletableFuture<>();
+        previous.whenComplete((ignored, failure) -> {
+            process(batch, current);
+            subscription.request(batch.size());
+        });
+        processing = current;
+    }
+
+    private void process(List<Message<?>> batch, CompletableFuture<Void> done) {
+        Object argument;
+        if (consumesMessages) {
+            argument = batch;
+        } else {
+            List<Object> payloads = new ArrayList<>(batch.size());
+            for (Message<?> message : batch) {
+                payloads.add(message.getPayload());
+            }
+            argument = payloads;
+        }
+        workerPoolRegistry.<Object> executeWork(promise -> {
+            try {
+                promise.complete(batchMethod.apply(argument));
+            } catch (Throwable t) {
+                promise.fail(t);
+            }
+        }, workerPoolName, true)
+                .subscribe().with(
+                        result -> toCompletionStage(result)
+                                .whenComplete((ignored, failure) -> processed(batch, failure, done)),
+                        failure -> processed(batch, failure, done));
+    }
+
+    static CompletionStage<?> toCompletionStage(Object result) {
+        if (result instanceof CompletionStage) {
+            return (CompletionStage<?>) result;
+        }
+        if (result instanceof Uni) {
+            return ((Uni<?>) result).subscribeAsCompletionStage();
+        }
+        return COMPLETED;
+    }
+
+    private void processed(List<Message<?>> batch, Throwable failure, CompletableFuture<Void> done) {
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(batch.size());
+        if (failure != null) {
+            LOGGER.errorf(failure, "The batch of %d messages failed in %s", batch.size(), methodName);
+            for (Message<?> message : batch) {
+                acknowledgements.add(message.nack(failure).toCompletableFuture());
+            }
+        } else if (!consumesMessages) {
+            for (Message<?> message : batch) {
+                acknowledgements.add(message.ack().toCompletableFuture());
+            }
+        }
+        CompletableFuture.allOf(acknowledgements.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, ackFailure) -> {
+                    if (ackFailure != null) {
+                        LOGGER.warnf(ackFailure, "Unable to acknowledge the batch of %d messages of %s", batch.size(),
+                                methodName);
+                    }
+                    done.complete(null);
+                });
+    }
+}
@@ -1,10 +1,14 @@
 package io.quarkus.it.artemis;
 
+import java.util.concurrent.CompletionStage;
+
 import javax.inject.Inject;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 
+import io.quarkus.artemis.core.runtime.sender.ArtemisSender;
+
 @Path("/artemis")
 public class ArtemisEndpoint {
 
@@ -14,11 +18,20 @@ public class ArtemisEndpoint {
     @Inject
     ArtemisConsumerManager consumer;
 
+    @Inject
+    ArtemisSender sender;
+
     @POST
     public void post(String message) {
         producer.send(message);
     }
 
+    @POST
+    @Path("/sender")
+    public CompletionStage<Void> send(String message) {
+        return sender.send("test-core", message);
+    }
+
     @GET
     public String get() {
         return consumer.receive();
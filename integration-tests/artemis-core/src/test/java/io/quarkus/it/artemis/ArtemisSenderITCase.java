@@ -0,0 +1,8 @@
+package io.quarkus.it.artemis;
+
+import io.quarkus.test.junit.NativeImageTest;
+
+@NativeImageTest
+public class ArtemisSenderITCase extends ArtemisSenderTest {
+
+}
@@ -0,0 +1,47 @@
+package io.quarkus.it.artemis;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.artemis.test.ArtemisTestResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+@QuarkusTest
+@QuarkusTestResource(ArtemisTestResource.class)
+public class ArtemisSenderTest implements ArtemisHelper {
+
+    @Test
+    public void test() throws Exception {
+        Set<String> bodies = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            String body = createBody() + "-" + i;
+            bodies.add(body);
+            // the response is sent once the broker acknowledged the message
+            Response response = RestAssured.with().body(body).post("/artemis/sender");
+            Assertions.assertEquals(Status.NO_CONTENT.getStatusCode(), response.statusCode());
+        }
+
+        try (ClientSession session = createSession()) {
+            session.start();
+            ClientConsumer consumer = session.createConsumer("test-core");
+            Set<String> received = new HashSet<>();
+            for (int i = 0; i < bodies.size(); i++) {
+                ClientMessage message = consumer.receive(1000L);
+                message.acknowledge();
+                received.add(message.getBodyBuffer().readString());
+            }
+            Assertions.assertEquals(bodies, received);
+        }
+    }
+}
@@ -8,9 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -1746,4 +1749,73 @@ public class TestEndpoint {
                             }).map(v -> "OK");
                 }));
     }
+
+    @GET
+    @Path("batches")
+    public Uni<String> testBatches() {
+        List<Beer> beers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Beer beer = new Beer();
+            beer.name = "beer" + i;
+            beers.add(beer);
+        }
+        AtomicInteger processed = new AtomicInteger();
+
+        return Panache.withTransaction(() -> Beer.deleteAll().flatMap(v -> Beer.persist(beers)))
+                .flatMap(v -> collect(Beer.find("name like ?1", "beer%").batchStream(3)))
+                .flatMap(list -> {
+                    // all the results, in identifier order
+                    assertEquals(10, list.size());
+                    for (int i = 0; i < 10; i++) {
+                        assertEquals("beer" + i, ((Beer) list.get(i)).name);
+                    }
+
+                    return collect(Beer.find("name like :name", Parameters.with("name", "beer%")).page(Page.of(1, 4))
+                            .batchStream(3));
+                }).flatMap(list -> {
+                    // only the current page
+                    assertEquals(4, list.size());
+                    assertEquals("beer4", ((Beer) list.get(0)).name);
+                    assertEquals("beer7", ((Beer) list.get(3)).name);
+
+                    return collect(Beer.streamAll());
+                }).flatMap(list -> {
+                    assertEquals(10, list.size());
+
+                    return assertThrows(PanacheQueryException.class,
+                            () -> collect(Beer.findAll(Sort.by("name")).batchStream(3)),
+                            "Sorted queries should not be read in batches");
+                }).flatMap(v -> Beer.find("name like ?1", "beer%").<Beer> forEachBatch(3, batch -> {
+                    processed.addAndGet(batch.size());
+                    // the renamed beers no longer match the query, which must not make the next batches skip any
+                    for (Beer beer : batch) {
+                        beer.name = "renamed" + beer.name;
+                    }
+                    return Uni.createFrom().nullItem();
+                })).flatMap(v -> {
+                    assertEquals(10, processed.get());
+
+                    return Beer.count("name like ?1", "renamedbeer%");
+                }).flatMap(count -> {
+                    assertEquals(10, count);
+                    processed.set(0);
+
+                    return Beer.findAll().<Beer> forEachBatch(4, batch -> {
+                        processed.addAndGet(batch.size());
+                        return Beer.delete("id in ?1", batch.stream().map(beer -> beer.id).collect(Collectors.toList()))
+                                .map(deleted -> {
+                                    assertEquals(batch.size(), deleted);
+                                    return null;
+                                });
+                    });
+                }).flatMap(v -> {
+                    assertEquals(10, processed.get());
+
+                    return Beer.count();
+                }).map(count -> {
+                    assertEquals(0, count);
+
+                    return "OK";
+                });
+    }
 }
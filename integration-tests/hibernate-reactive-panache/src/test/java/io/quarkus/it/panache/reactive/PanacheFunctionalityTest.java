@@ -188,6 +188,11 @@ public class PanacheFunctionalityTest {
         RestAssured.when().get("/test/9036").then().body(is("OK"));
     }
 
+    @Test
+    public void testBatches() {
+        RestAssured.when().get("/test/batches").then().body(is("OK"));
+    }
+
     @DisabledOnNativeImage
     @Transactional
     @Test
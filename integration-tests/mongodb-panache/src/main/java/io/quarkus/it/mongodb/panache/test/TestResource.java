@@ -2,6 +2,7 @@ package io.quarkus.it.mongodb.panache.test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.ws.rs.GET;
@@ -128,6 +129,12 @@ public class TestResource {
         Document countQuery = new Document().append("category", "category1");
         Assertions.assertEquals(5, TestImperativeEntity.count(countQuery));
 
+        // streaming with a batch size
+        PanacheQuery<TestImperativeEntity> batchedQuery = TestImperativeEntity.find("category", "category0");
+        try (Stream<TestImperativeEntity> stream = batchedQuery.withBatchSize(2).withNoCursorTimeout(true).stream()) {
+            Assertions.assertEquals(5, stream.count());
+        }
+
         // update
         List<TestImperativeEntity> list = TestImperativeEntity.list("category = ?1", "category0");
         Assertions.assertEquals(5, list.size());
@@ -490,6 +497,11 @@ public class TestResource {
         Document countQuery = new Document().append("category", "category1");
         Assertions.assertEquals(5, TestReactiveEntity.count(countQuery).await().indefinitely());
 
+        // streaming with a batch size
+        ReactivePanacheQuery<TestReactiveEntity> batchedQuery = TestReactiveEntity.find("category", "category0");
+        Assertions.assertEquals(5, batchedQuery.withBatchSize(2).withNoCursorTimeout(true).stream()
+                .collectItems().asList().await().indefinitely().size());
+
         // update
         List<TestReactiveEntity> list = TestReactiveEntity.<TestReactiveEntity> list("category = ?1", "category0").await()
                 .indefinitely();